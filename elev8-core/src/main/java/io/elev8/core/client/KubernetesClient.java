@@ -9,6 +9,7 @@ import io.elev8.core.http.HttpException;
 import io.elev8.core.http.HttpResponse;
 import io.elev8.core.http.OkHttpClientImpl;
 import io.elev8.core.http.RateLimitingHttpClient;
+import io.elev8.core.http.StreamHandle;
 import io.elev8.core.logs.LogOptions;
 import io.elev8.core.patch.PatchOptions;
 import io.elev8.core.portforward.PortForwardOptions;
@@ -26,6 +27,8 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -34,6 +37,21 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public final class KubernetesClient implements AutoCloseable {
 
+    /**
+     * Accept header for list requests with {@link ListOptions#isMetadataOnly()}. Falls back to the
+     * full objects on servers that do not serve the meta.k8s.io/v1 representation.
+     */
+    public static final String ACCEPT_PARTIAL_OBJECT_METADATA_LIST =
+            "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1,application/json";
+
+    /**
+     * Accept header for watch requests with {@link WatchOptions#isMetadataOnly()}.
+     */
+    public static final String ACCEPT_PARTIAL_OBJECT_METADATA =
+            "application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1,application/json";
+
+    private static final String ACCEPT_JSON = "application/json";
+
     @Getter
     private final KubernetesClientConfig config;
     private final HttpClient httpClient;
@@ -76,7 +94,7 @@ public final class KubernetesClient implements AutoCloseable {
 
             final Map<String, String> headers = new HashMap<>();
             headers.put("Authorization", config.getAuthProvider().getAuthHeader());
-            headers.put("Accept", "application/json");
+            headers.put("Accept", listAccept(options));
 
             final HttpResponse response = httpClient.get(url, headers);
 
@@ -95,6 +113,49 @@ public final class KubernetesClient implements AutoCloseable {
         }
     }
 
+    /**
+     * Execute a GET request to the Kubernetes API and stream the response body to the consumer.
+     * Intended for large list responses that should be decoded incrementally rather than
+     * buffered into memory as a single String.
+     *
+     * @param path the API path (e.g., "/api/v1/namespaces/default/pods")
+     * @param options list options for filtering and pagination (may be null)
+     * @param consumer callback that reads the successful response body
+     * @return the HTTP response; the body is empty when the consumer was invoked
+     * @throws KubernetesClientException if the request fails
+     */
+    public HttpResponse getStreaming(final String path, final ListOptions options,
+                                     final HttpClient.ResponseBodyConsumer consumer)
+            throws KubernetesClientException {
+        try {
+            if (config.getAuthProvider().needsRefresh()) {
+                log.debug("Refreshing authentication token for streaming list");
+                config.getAuthProvider().refresh();
+            }
+
+            final String url = buildListUrl(path, options);
+
+            final Map<String, String> headers = new HashMap<>();
+            headers.put("Authorization", config.getAuthProvider().getAuthHeader());
+            headers.put("Accept", listAccept(options));
+
+            final HttpResponse response = httpClient.getStreaming(url, headers, consumer);
+
+            if (response.isUnauthorized() || response.isForbidden()) {
+                throw new KubernetesClientException(
+                        "Authentication failed: " + response.getStatusCode() + " - " + response.getBody(),
+                        response.getStatusCode());
+            }
+
+            return response;
+
+        } catch (AuthenticationException e) {
+            throw new KubernetesClientException("Failed to authenticate for list operation", e);
+        } catch (HttpException e) {
+            throw new KubernetesClientException("List request failed: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Execute a POST request to the Kubernetes API.
      *
@@ -190,6 +251,99 @@ public final class KubernetesClient implements AutoCloseable {
         return execute("DELETE", path, null);
     }
 
+    /**
+     * Execute a GET request to the Kubernetes API asynchronously.
+     * The request is dispatched without blocking the calling thread; cancelling the
+     * returned future cancels the underlying HTTP call.
+     *
+     * @param path the API path (e.g., "/api/v1/namespaces/default/pods")
+     * @return a future completed with the HTTP response, or exceptionally with a {@link KubernetesClientException}
+     */
+    public CompletableFuture<HttpResponse> getAsync(final String path) {
+        return executeAsync("GET", path, null);
+    }
+
+    /**
+     * Execute a GET request to the Kubernetes API asynchronously with list options for filtering and pagination.
+     *
+     * @param path the API path (e.g., "/api/v1/namespaces/default/pods")
+     * @param options list options for filtering and pagination
+     * @return a future completed with the HTTP response, or exceptionally with a {@link KubernetesClientException}
+     */
+    public CompletableFuture<HttpResponse> getAsync(final String path, final ListOptions options) {
+        if (options == null) {
+            return getAsync(path);
+        }
+        final Map<String, String> headers;
+        try {
+            headers = authenticatedHeaders(listAccept(options));
+        } catch (AuthenticationException e) {
+            return CompletableFuture.failedFuture(
+                    new KubernetesClientException("Failed to authenticate for list operation", e));
+        }
+        return checkResponseAsync(httpClient.getAsync(buildListUrl(path, options), headers), "List request failed: ");
+    }
+
+    /**
+     * Execute a POST request to the Kubernetes API asynchronously.
+     *
+     * @param path the API path
+     * @param body the request body (JSON)
+     * @return a future completed with the HTTP response, or exceptionally with a {@link KubernetesClientException}
+     */
+    public CompletableFuture<HttpResponse> postAsync(final String path, final String body) {
+        return executeAsync("POST", path, body);
+    }
+
+    /**
+     * Execute a PUT request to the Kubernetes API asynchronously.
+     *
+     * @param path the API path
+     * @param body the request body (JSON)
+     * @return a future completed with the HTTP response, or exceptionally with a {@link KubernetesClientException}
+     */
+    public CompletableFuture<HttpResponse> putAsync(final String path, final String body) {
+        return executeAsync("PUT", path, body);
+    }
+
+    /**
+     * Execute a PATCH request to the Kubernetes API asynchronously with patch options.
+     *
+     * @param path the API path
+     * @param options patch options for configuring the patch type and behavior
+     * @param body the patch body (format depends on patch type)
+     * @return a future completed with the HTTP response, or exceptionally with a {@link KubernetesClientException}
+     */
+    public CompletableFuture<HttpResponse> patchAsync(final String path, final PatchOptions options,
+                                                      final String body) {
+        final Map<String, String> headers;
+        try {
+            headers = authenticatedHeaders("application/json");
+        } catch (AuthenticationException e) {
+            return CompletableFuture.failedFuture(
+                    new KubernetesClientException("Failed to authenticate for patch operation", e));
+        }
+
+        if (body != null && options != null && options.getPatchType() != null) {
+            headers.put("Content-Type", options.getPatchType().getContentType());
+        } else if (body != null) {
+            headers.put("Content-Type", "application/strategic-merge-patch+json");
+        }
+
+        return checkResponseAsync(httpClient.patchAsync(buildPatchUrl(path, options), headers, body),
+                "Patch request failed: ");
+    }
+
+    /**
+     * Execute a DELETE request to the Kubernetes API asynchronously.
+     *
+     * @param path the API path
+     * @return a future completed with the HTTP response, or exceptionally with a {@link KubernetesClientException}
+     */
+    public CompletableFuture<HttpResponse> deleteAsync(final String path) {
+        return executeAsync("DELETE", path, null);
+    }
+
     /**
      * Execute a watch request to the Kubernetes API.
      * Watch requests stream resource changes as they occur.
@@ -197,9 +351,10 @@ public final class KubernetesClient implements AutoCloseable {
      * @param path the API path
      * @param options watch options for configuring the watch behavior
      * @param handler the stream handler to process watch events
+     * @return a handle that cancels the watch request when closed
      * @throws KubernetesClientException if the request fails
      */
-    public void watch(final String path, final WatchOptions options, final HttpClient.StreamHandler handler)
+    public StreamHandle watch(final String path, final WatchOptions options, final HttpClient.StreamHandler handler)
             throws KubernetesClientException {
         try {
             if (config.getAuthProvider().needsRefresh()) {
@@ -211,13 +366,16 @@ public final class KubernetesClient implements AutoCloseable {
 
             final Map<String, String> headers = new HashMap<>();
             headers.put("Authorization", config.getAuthProvider().getAuthHeader());
-            headers.put("Accept", "application/json");
+            headers.put("Accept", watchAccept(options));
 
-            httpClient.stream(url, headers, handler);
+            return httpClient.stream(url, headers, handler);
 
         } catch (AuthenticationException e) {
             throw new KubernetesClientException("Failed to authenticate for watch operation", e);
         } catch (HttpException e) {
+            if (e.hasStatusCode()) {
+                throw new KubernetesClientException("Watch request failed: " + e.getMessage(), e.getStatusCode(), e);
+            }
             throw new KubernetesClientException("Watch request failed: " + e.getMessage(), e);
         }
     }
@@ -229,9 +387,10 @@ public final class KubernetesClient implements AutoCloseable {
      * @param path the API path to the pod logs endpoint
      * @param options log options for configuring the log behavior
      * @param handler the stream handler to process log lines
+     * @return a handle that cancels the log request when closed
      * @throws KubernetesClientException if the request fails
      */
-    public void logs(final String path, final LogOptions options, final HttpClient.StreamHandler handler)
+    public StreamHandle logs(final String path, final LogOptions options, final HttpClient.StreamHandler handler)
             throws KubernetesClientException {
         try {
             if (config.getAuthProvider().needsRefresh()) {
@@ -245,7 +404,7 @@ public final class KubernetesClient implements AutoCloseable {
             headers.put("Authorization", config.getAuthProvider().getAuthHeader());
             headers.put("Accept", "text/plain");
 
-            httpClient.stream(url, headers, handler);
+            return httpClient.stream(url, headers, handler);
 
         } catch (AuthenticationException e) {
             throw new KubernetesClientException("Failed to authenticate for log streaming operation", e);
@@ -370,6 +529,10 @@ public final class KubernetesClient implements AutoCloseable {
                 url.append(firstParam ? "?" : "&").append("resourceVersion=").append(options.getResourceVersion());
                 firstParam = false;
             }
+            if (options.getResourceVersionMatch() != null) {
+                url.append(firstParam ? "?" : "&").append("resourceVersionMatch=").append(options.getResourceVersionMatch());
+                firstParam = false;
+            }
         }
 
         return url.toString();
@@ -396,6 +559,12 @@ public final class KubernetesClient implements AutoCloseable {
             if (options.getFieldSelector() != null) {
                 url.append("&fieldSelector=").append(options.getFieldSelector());
             }
+            if (options.getSendInitialEvents() != null && options.getSendInitialEvents()) {
+                url.append("&sendInitialEvents=true");
+            }
+            if (options.getResourceVersionMatch() != null) {
+                url.append("&resourceVersionMatch=").append(options.getResourceVersionMatch());
+            }
         }
 
         return url.toString();
@@ -575,6 +744,81 @@ public final class KubernetesClient implements AutoCloseable {
         }
     }
 
+    private CompletableFuture<HttpResponse> executeAsync(final String method, final String path, final String body) {
+        final Map<String, String> headers;
+        try {
+            headers = authenticatedHeaders("application/json");
+        } catch (AuthenticationException e) {
+            return CompletableFuture.failedFuture(
+                    new KubernetesClientException("Failed to authenticate with Kubernetes API", e));
+        }
+        if (body != null) {
+            headers.put("Content-Type", "application/json");
+        }
+
+        final String url = config.getApiServerUrl() + path;
+
+        final CompletableFuture<HttpResponse> call = switch (method) {
+            case "GET" -> httpClient.getAsync(url, headers);
+            case "POST" -> httpClient.postAsync(url, headers, body);
+            case "PUT" -> httpClient.putAsync(url, headers, body);
+            case "PATCH" -> httpClient.patchAsync(url, headers, body);
+            case "DELETE" -> httpClient.deleteAsync(url, headers);
+            default -> CompletableFuture.failedFuture(
+                    new KubernetesClientException("Unsupported HTTP method: " + method));
+        };
+
+        return checkResponseAsync(call, "HTTP request failed: ");
+    }
+
+    static String listAccept(final ListOptions options) {
+        return options != null && options.isMetadataOnly() ? ACCEPT_PARTIAL_OBJECT_METADATA_LIST : ACCEPT_JSON;
+    }
+
+    static String watchAccept(final WatchOptions options) {
+        return options != null && options.isMetadataOnly() ? ACCEPT_PARTIAL_OBJECT_METADATA : ACCEPT_JSON;
+    }
+
+    private Map<String, String> authenticatedHeaders(final String accept) throws AuthenticationException {
+        if (config.getAuthProvider().needsRefresh()) {
+            log.debug("Refreshing authentication token");
+            config.getAuthProvider().refresh();
+        }
+
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("Authorization", config.getAuthProvider().getAuthHeader());
+        headers.put("Accept", accept);
+        return headers;
+    }
+
+    private CompletableFuture<HttpResponse> checkResponseAsync(final CompletableFuture<HttpResponse> call,
+                                                               final String failurePrefix) {
+        final CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+
+        call.whenComplete((response, error) -> {
+            if (error != null) {
+                final Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                result.completeExceptionally(cause instanceof HttpException
+                        ? new KubernetesClientException(failurePrefix + cause.getMessage(), cause)
+                        : cause);
+            } else if (response.isUnauthorized() || response.isForbidden()) {
+                result.completeExceptionally(new KubernetesClientException(
+                        "Authentication failed: " + response.getStatusCode() + " - " + response.getBody(),
+                        response.getStatusCode()));
+            } else {
+                result.complete(response);
+            }
+        });
+
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return result;
+    }
+
     private HttpClient createHttpClient() {
         HttpClient client = OkHttpClientImpl.builder()
                 .connectTimeout(config.getConnectTimeout())
@@ -582,6 +826,7 @@ public final class KubernetesClient implements AutoCloseable {
                 .certificateAuthority(config.getCertificateAuthority())
                 .skipTlsVerify(config.isSkipTlsVerify())
                 .connectionPoolConfig(config.getConnectionPoolConfig())
+                .streamExecutor(config.getStreamExecutor())
                 .build();
 
         if (config.getRateLimiterConfig() != null) {
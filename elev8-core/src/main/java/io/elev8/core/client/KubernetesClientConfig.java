@@ -8,6 +8,7 @@ import lombok.NonNull;
 import lombok.Value;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 /**
  * Configuration for Kubernetes client.
@@ -39,4 +40,10 @@ public class KubernetesClientConfig {
     ConnectionPoolConfig connectionPoolConfig;
 
     RateLimiterConfig rateLimiterConfig;
+
+    /**
+     * Executor that runs the reader of each watch and log stream.
+     * When not set, every stream is read on its own virtual thread.
+     */
+    Executor streamExecutor;
 }
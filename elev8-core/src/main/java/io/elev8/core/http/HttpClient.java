@@ -1,6 +1,9 @@
 package io.elev8.core.http;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * HTTP client abstraction for Kubernetes API requests.
@@ -17,6 +20,22 @@ public interface HttpClient {
      */
     HttpResponse get(String url, Map<String, String> headers) throws HttpException;
 
+    /**
+     * Execute a GET request and hand the response body to the consumer as a byte stream.
+     * The body is never buffered into a String for successful responses, so large
+     * payloads can be decoded incrementally.
+     * For unsuccessful responses the consumer is not invoked and the error body is
+     * returned in the response as with {@link #get(String, Map)}.
+     *
+     * @param url      the URL to request
+     * @param headers  request headers
+     * @param consumer callback that reads the successful response body
+     * @return the HTTP response (with an empty body if the consumer was invoked)
+     * @throws HttpException if the request fails or the consumer fails to read the body
+     */
+    HttpResponse getStreaming(String url, Map<String, String> headers, ResponseBodyConsumer consumer)
+            throws HttpException;
+
     /**
      * Execute a POST request.
      *
@@ -60,6 +79,59 @@ public interface HttpClient {
      */
     HttpResponse delete(String url, Map<String, String> headers) throws HttpException;
 
+    /**
+     * Execute a GET request asynchronously without blocking the calling thread.
+     * Cancelling the returned future cancels the underlying HTTP call.
+     *
+     * @param url     the URL to request
+     * @param headers request headers
+     * @return a future completed with the HTTP response, or exceptionally with an {@link HttpException}
+     */
+    CompletableFuture<HttpResponse> getAsync(String url, Map<String, String> headers);
+
+    /**
+     * Execute a POST request asynchronously without blocking the calling thread.
+     * Cancelling the returned future cancels the underlying HTTP call.
+     *
+     * @param url     the URL to request
+     * @param headers request headers
+     * @param body    request body
+     * @return a future completed with the HTTP response, or exceptionally with an {@link HttpException}
+     */
+    CompletableFuture<HttpResponse> postAsync(String url, Map<String, String> headers, String body);
+
+    /**
+     * Execute a PUT request asynchronously without blocking the calling thread.
+     * Cancelling the returned future cancels the underlying HTTP call.
+     *
+     * @param url     the URL to request
+     * @param headers request headers
+     * @param body    request body
+     * @return a future completed with the HTTP response, or exceptionally with an {@link HttpException}
+     */
+    CompletableFuture<HttpResponse> putAsync(String url, Map<String, String> headers, String body);
+
+    /**
+     * Execute a PATCH request asynchronously without blocking the calling thread.
+     * Cancelling the returned future cancels the underlying HTTP call.
+     *
+     * @param url     the URL to request
+     * @param headers request headers
+     * @param body    request body
+     * @return a future completed with the HTTP response, or exceptionally with an {@link HttpException}
+     */
+    CompletableFuture<HttpResponse> patchAsync(String url, Map<String, String> headers, String body);
+
+    /**
+     * Execute a DELETE request asynchronously without blocking the calling thread.
+     * Cancelling the returned future cancels the underlying HTTP call.
+     *
+     * @param url     the URL to request
+     * @param headers request headers
+     * @return a future completed with the HTTP response, or exceptionally with an {@link HttpException}
+     */
+    CompletableFuture<HttpResponse> deleteAsync(String url, Map<String, String> headers);
+
     /**
      * Execute a streaming GET request for watch operations.
      * The response body will be streamed line by line to the handler.
@@ -67,9 +139,10 @@ public interface HttpClient {
      * @param url the URL to request
      * @param headers request headers
      * @param handler callback to process each line of the response
+     * @return a handle that cancels the stream when closed
      * @throws HttpException if the request fails
      */
-    void stream(String url, Map<String, String> headers, StreamHandler handler) throws HttpException;
+    StreamHandle stream(String url, Map<String, String> headers, StreamHandler handler) throws HttpException;
 
     /**
      * Close the HTTP client and release resources.
@@ -99,4 +172,18 @@ public interface HttpClient {
          */
         void onClose();
     }
+
+    /**
+     * Consumer for reading a response body directly from the underlying connection.
+     */
+    @FunctionalInterface
+    interface ResponseBodyConsumer {
+        /**
+         * Reads the response body. The stream is closed by the HTTP client once this method returns.
+         *
+         * @param body the response body stream
+         * @throws IOException if reading the body fails
+         */
+        void accept(InputStream body) throws IOException;
+    }
 }
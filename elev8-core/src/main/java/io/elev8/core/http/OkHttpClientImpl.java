@@ -7,6 +7,7 @@ import javax.net.ssl.*;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.security.KeyStore;
 import java.security.cert.Certificate;
@@ -15,6 +16,10 @@ import java.time.Duration;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -25,10 +30,15 @@ public final class OkHttpClientImpl implements HttpClient {
 
     private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
 
+    private static final Executor DEFAULT_STREAM_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("watch-stream-", 0).factory());
+
     private final OkHttpClient okHttpClient;
+    private final Executor streamExecutor;
 
-    private OkHttpClientImpl(final OkHttpClient okHttpClient) {
+    private OkHttpClientImpl(final OkHttpClient okHttpClient, final Executor streamExecutor) {
         this.okHttpClient = okHttpClient;
+        this.streamExecutor = streamExecutor;
     }
 
     @Override
@@ -37,6 +47,31 @@ public final class OkHttpClientImpl implements HttpClient {
         return execute(request);
     }
 
+    @Override
+    public HttpResponse getStreaming(final String url, final Map<String, String> headers,
+                                     final ResponseBodyConsumer consumer) throws HttpException {
+        final Request request = buildRequest(url, headers, null, "GET");
+
+        try (Response response = okHttpClient.newCall(request).execute()) {
+            final int statusCode = response.code();
+            final Map<String, String> responseHeaders = toHeaderMap(response);
+            final ResponseBody body = response.body();
+
+            if (!response.isSuccessful() || body == null) {
+                final String errorBody = body != null ? body.string() : "";
+                return new HttpResponse(statusCode, errorBody, responseHeaders);
+            }
+
+            try (InputStream stream = body.byteStream()) {
+                consumer.accept(stream);
+            }
+
+            return new HttpResponse(statusCode, "", responseHeaders);
+        } catch (IOException e) {
+            throw new HttpException("HTTP request failed: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public HttpResponse post(final String url, final Map<String, String> headers, final String body) throws HttpException {
         final Request request = buildRequest(url, headers, body, "POST");
@@ -62,7 +97,35 @@ public final class OkHttpClientImpl implements HttpClient {
     }
 
     @Override
-    public void stream(final String url, final Map<String, String> headers, final StreamHandler handler)
+    public CompletableFuture<HttpResponse> getAsync(final String url, final Map<String, String> headers) {
+        return executeAsync(buildRequest(url, headers, null, "GET"));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> postAsync(final String url, final Map<String, String> headers,
+                                                     final String body) {
+        return executeAsync(buildRequest(url, headers, body, "POST"));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> putAsync(final String url, final Map<String, String> headers,
+                                                    final String body) {
+        return executeAsync(buildRequest(url, headers, body, "PUT"));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> patchAsync(final String url, final Map<String, String> headers,
+                                                      final String body) {
+        return executeAsync(buildRequest(url, headers, body, "PATCH"));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> deleteAsync(final String url, final Map<String, String> headers) {
+        return executeAsync(buildRequest(url, headers, null, "DELETE"));
+    }
+
+    @Override
+    public StreamHandle stream(final String url, final Map<String, String> headers, final StreamHandler handler)
             throws HttpException {
         final Request request = buildRequest(url, headers, null, "GET");
 
@@ -73,7 +136,8 @@ public final class OkHttpClientImpl implements HttpClient {
             if (!response.isSuccessful()) {
                 final String errorBody = response.body() != null ? response.body().string() : "";
                 response.close();
-                throw new HttpException("Watch request failed with status " + response.code() + ": " + errorBody);
+                throw new HttpException("Watch request failed with status " + response.code() + ": " + errorBody,
+                        response.code());
             }
 
             final ResponseBody body = response.body();
@@ -82,22 +146,43 @@ public final class OkHttpClientImpl implements HttpClient {
                 throw new HttpException("Watch request returned empty response body");
             }
 
-            new Thread(() -> {
+            final String threadName = "watch-stream[" + request.url().encodedPath() + "]";
+            final Runnable streamReader = () -> {
+                final Thread thread = Thread.currentThread();
+                final String previousName = thread.getName();
+                thread.setName(threadName);
+
                 try (BufferedReader reader = new BufferedReader(new InputStreamReader(body.byteStream()))) {
                     String line;
-                    while ((line = reader.readLine()) != null && !Thread.currentThread().isInterrupted()) {
+                    while ((line = reader.readLine()) != null && !call.isCanceled()
+                            && !Thread.currentThread().isInterrupted()) {
                         if (!line.trim().isEmpty()) {
                             handler.onLine(line);
                         }
                     }
                     handler.onClose();
                 } catch (Exception e) {
-                    log.error("Error during watch streaming", e);
-                    handler.onError(e);
+                    if (call.isCanceled()) {
+                        log.debug("Watch stream cancelled: {}", threadName);
+                        handler.onClose();
+                    } else {
+                        log.error("Error during watch streaming", e);
+                        handler.onError(e);
+                    }
                 } finally {
                     response.close();
+                    thread.setName(previousName);
                 }
-            }, "watch-stream-thread").start();
+            };
+
+            try {
+                streamExecutor.execute(streamReader);
+            } catch (RejectedExecutionException e) {
+                response.close();
+                throw new HttpException("Stream executor rejected watch stream: " + e.getMessage(), e);
+            }
+
+            return new CallStreamHandle(call);
 
         } catch (IOException e) {
             throw new HttpException("Failed to initiate watch stream: " + e.getMessage(), e);
@@ -135,15 +220,70 @@ public final class OkHttpClientImpl implements HttpClient {
             final int statusCode = response.code();
             final String responseBody = response.body() != null ? response.body().string() : "";
 
-            final Map<String, String> responseHeaders = new HashMap<>();
-            response.headers().forEach(pair -> responseHeaders.put(pair.getFirst(), pair.getSecond()));
-
-            return new HttpResponse(statusCode, responseBody, responseHeaders);
+            return new HttpResponse(statusCode, responseBody, toHeaderMap(response));
         } catch (IOException e) {
             throw new HttpException("HTTP request failed: " + e.getMessage(), e);
         }
     }
 
+    private CompletableFuture<HttpResponse> executeAsync(final Request request) {
+        final Call call = okHttpClient.newCall(request);
+        final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+
+        future.whenComplete((response, error) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(final Call failedCall, final IOException e) {
+                future.completeExceptionally(new HttpException("HTTP request failed: " + e.getMessage(), e));
+            }
+
+            @Override
+            public void onResponse(final Call completedCall, final Response response) {
+                try (response) {
+                    final String responseBody = response.body() != null ? response.body().string() : "";
+                    future.complete(new HttpResponse(response.code(), responseBody, toHeaderMap(response)));
+                } catch (IOException e) {
+                    future.completeExceptionally(new HttpException("HTTP request failed: " + e.getMessage(), e));
+                }
+            }
+        });
+
+        return future;
+    }
+
+    private Map<String, String> toHeaderMap(final Response response) {
+        final Map<String, String> responseHeaders = new HashMap<>();
+        response.headers().forEach(pair -> responseHeaders.put(pair.getFirst(), pair.getSecond()));
+        return responseHeaders;
+    }
+
+    /**
+     * Stream handle that cancels the OkHttp call backing a watch or log stream.
+     */
+    private static final class CallStreamHandle implements StreamHandle {
+
+        private final Call call;
+
+        private CallStreamHandle(final Call call) {
+            this.call = call;
+        }
+
+        @Override
+        public void close() {
+            call.cancel();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return call.isCanceled();
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -155,6 +295,7 @@ public final class OkHttpClientImpl implements HttpClient {
         private String certificateAuthority;
         private boolean skipTlsVerify = false;
         private ConnectionPoolConfig connectionPoolConfig;
+        private Executor streamExecutor;
 
         public Builder connectTimeout(final Duration connectTimeout) {
             this.connectTimeout = connectTimeout;
@@ -186,6 +327,18 @@ public final class OkHttpClientImpl implements HttpClient {
             return this;
         }
 
+        /**
+         * Sets the executor that reads watch and log streams.
+         * Each stream occupies one task for its whole lifetime. Defaults to one virtual thread per stream.
+         *
+         * @param streamExecutor the executor, or null for the default
+         * @return this builder
+         */
+        public Builder streamExecutor(final Executor streamExecutor) {
+            this.streamExecutor = streamExecutor;
+            return this;
+        }
+
         public OkHttpClientImpl build() {
             final OkHttpClient.Builder builder = new OkHttpClient.Builder()
                     .connectTimeout(connectTimeout.toMillis(), TimeUnit.MILLISECONDS)
@@ -207,7 +360,8 @@ public final class OkHttpClientImpl implements HttpClient {
                 configureCertificateAuthority(builder, certificateAuthority);
             }
 
-            return new OkHttpClientImpl(builder.build());
+            return new OkHttpClientImpl(builder.build(),
+                    streamExecutor != null ? streamExecutor : DEFAULT_STREAM_EXECUTOR);
         }
 
         private void configureTrustAll(final OkHttpClient.Builder builder) {
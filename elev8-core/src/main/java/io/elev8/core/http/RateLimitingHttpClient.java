@@ -3,6 +3,9 @@ package io.elev8.core.http;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * HTTP client decorator that applies rate limiting before sending requests.
@@ -50,6 +53,13 @@ public final class RateLimitingHttpClient implements HttpClient {
         return delegate.get(url, headers);
     }
 
+    @Override
+    public HttpResponse getStreaming(final String url, final Map<String, String> headers,
+                                     final ResponseBodyConsumer consumer) throws HttpException {
+        acquirePermit();
+        return delegate.getStreaming(url, headers, consumer);
+    }
+
     @Override
     public HttpResponse post(final String url, final Map<String, String> headers, final String body)
             throws HttpException {
@@ -78,10 +88,38 @@ public final class RateLimitingHttpClient implements HttpClient {
     }
 
     @Override
-    public void stream(final String url, final Map<String, String> headers, final StreamHandler handler)
+    public CompletableFuture<HttpResponse> getAsync(final String url, final Map<String, String> headers) {
+        return afterPermit(() -> delegate.getAsync(url, headers));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> postAsync(final String url, final Map<String, String> headers,
+                                                     final String body) {
+        return afterPermit(() -> delegate.postAsync(url, headers, body));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> putAsync(final String url, final Map<String, String> headers,
+                                                    final String body) {
+        return afterPermit(() -> delegate.putAsync(url, headers, body));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> patchAsync(final String url, final Map<String, String> headers,
+                                                      final String body) {
+        return afterPermit(() -> delegate.patchAsync(url, headers, body));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> deleteAsync(final String url, final Map<String, String> headers) {
+        return afterPermit(() -> delegate.deleteAsync(url, headers));
+    }
+
+    @Override
+    public StreamHandle stream(final String url, final Map<String, String> headers, final StreamHandler handler)
             throws HttpException {
         acquirePermit();
-        delegate.stream(url, headers, handler);
+        return delegate.stream(url, headers, handler);
     }
 
     @Override
@@ -94,4 +132,39 @@ public final class RateLimitingHttpClient implements HttpClient {
         rateLimiter.acquire();
         log.debug("Rate limiter permit acquired");
     }
+
+    private CompletableFuture<HttpResponse> afterPermit(final Supplier<CompletableFuture<HttpResponse>> request) {
+        final CompletableFuture<Void> permit = rateLimiter.acquireAsync();
+        final CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        final AtomicReference<CompletableFuture<HttpResponse>> inFlight = new AtomicReference<>();
+
+        permit.whenComplete((ignored, error) -> {
+            if (result.isDone()) {
+                return;
+            }
+            final CompletableFuture<HttpResponse> call = request.get();
+            inFlight.set(call);
+            if (result.isCancelled()) {
+                call.cancel(true);
+            }
+            call.whenComplete((response, callError) -> {
+                if (callError != null) {
+                    result.completeExceptionally(callError);
+                } else {
+                    result.complete(response);
+                }
+            });
+        });
+
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                permit.cancel(false);
+                final CompletableFuture<HttpResponse> call = inFlight.get();
+                if (call != null) {
+                    call.cancel(true);
+                }
+            }
+        });
+        return result;
+    }
 }
@@ -4,6 +4,13 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 /**
  * HTTP client decorator that adds retry behavior with exponential backoff.
@@ -56,6 +63,18 @@ public final class RetryingHttpClient implements HttpClient {
         return executeWithRetry(() -> delegate.get(url, headers));
     }
 
+    @Override
+    public HttpResponse getStreaming(final String url, final Map<String, String> headers,
+                                     final ResponseBodyConsumer consumer) throws HttpException {
+        final AtomicBoolean consumed = new AtomicBoolean(false);
+        final ResponseBodyConsumer trackingConsumer = body -> {
+            consumed.set(true);
+            consumer.accept(body);
+        };
+        return executeWithRetry(() -> delegate.getStreaming(url, headers, trackingConsumer),
+                () -> !consumed.get());
+    }
+
     @Override
     public HttpResponse post(final String url, final Map<String, String> headers, final String body)
             throws HttpException {
@@ -80,9 +99,37 @@ public final class RetryingHttpClient implements HttpClient {
     }
 
     @Override
-    public void stream(final String url, final Map<String, String> headers, final StreamHandler handler)
+    public CompletableFuture<HttpResponse> getAsync(final String url, final Map<String, String> headers) {
+        return executeWithRetryAsync(() -> delegate.getAsync(url, headers));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> postAsync(final String url, final Map<String, String> headers,
+                                                     final String body) {
+        return executeWithRetryAsync(() -> delegate.postAsync(url, headers, body));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> putAsync(final String url, final Map<String, String> headers,
+                                                    final String body) {
+        return executeWithRetryAsync(() -> delegate.putAsync(url, headers, body));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> patchAsync(final String url, final Map<String, String> headers,
+                                                      final String body) {
+        return executeWithRetryAsync(() -> delegate.patchAsync(url, headers, body));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> deleteAsync(final String url, final Map<String, String> headers) {
+        return executeWithRetryAsync(() -> delegate.deleteAsync(url, headers));
+    }
+
+    @Override
+    public StreamHandle stream(final String url, final Map<String, String> headers, final StreamHandler handler)
             throws HttpException {
-        delegate.stream(url, headers, handler);
+        return delegate.stream(url, headers, handler);
     }
 
     @Override
@@ -91,6 +138,11 @@ public final class RetryingHttpClient implements HttpClient {
     }
 
     private HttpResponse executeWithRetry(final HttpOperation operation) throws HttpException {
+        return executeWithRetry(operation, () -> true);
+    }
+
+    private HttpResponse executeWithRetry(final HttpOperation operation, final BooleanSupplier retryable)
+            throws HttpException {
         int attempt = 1;
         HttpResponse lastResponse = null;
         HttpException lastException = null;
@@ -108,7 +160,7 @@ public final class RetryingHttpClient implements HttpClient {
                         attempt, config.getMaxRetries() + 1);
 
             } catch (HttpException e) {
-                if (!retryPolicy.shouldRetry(e, attempt)) {
+                if (!retryable.getAsBoolean() || !retryPolicy.shouldRetry(e, attempt)) {
                     throw e;
                 }
 
@@ -132,6 +184,75 @@ public final class RetryingHttpClient implements HttpClient {
         return lastResponse;
     }
 
+    private CompletableFuture<HttpResponse> executeWithRetryAsync(
+            final Supplier<CompletableFuture<HttpResponse>> operation) {
+        final CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        final AtomicReference<CompletableFuture<HttpResponse>> inFlight = new AtomicReference<>();
+
+        result.whenComplete((response, error) -> {
+            final CompletableFuture<HttpResponse> attempt = inFlight.get();
+            if (result.isCancelled() && attempt != null) {
+                attempt.cancel(true);
+            }
+        });
+
+        attemptAsync(operation, 1, result, inFlight);
+        return result;
+    }
+
+    private void attemptAsync(final Supplier<CompletableFuture<HttpResponse>> operation,
+                              final int attempt,
+                              final CompletableFuture<HttpResponse> result,
+                              final AtomicReference<CompletableFuture<HttpResponse>> inFlight) {
+        if (result.isDone()) {
+            return;
+        }
+
+        final CompletableFuture<HttpResponse> call = operation.get();
+        inFlight.set(call);
+        if (result.isCancelled()) {
+            call.cancel(true);
+            return;
+        }
+
+        call.whenComplete((response, error) -> {
+            final boolean attemptsLeft = attempt <= config.getMaxRetries();
+
+            if (error != null) {
+                final Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                if (!attemptsLeft || !(cause instanceof HttpException httpException)
+                        || !retryPolicy.shouldRetry(httpException, attempt)) {
+                    result.completeExceptionally(cause);
+                    return;
+                }
+                log.debug("Async request failed with exception, attempt {}/{}: {}",
+                        attempt, config.getMaxRetries() + 1, cause.getMessage());
+                scheduleRetry(operation, attempt, null, result, inFlight);
+                return;
+            }
+
+            if (response.isSuccessful() || !attemptsLeft || !retryPolicy.shouldRetry(response, attempt)) {
+                result.complete(response);
+                return;
+            }
+
+            log.debug("Async request returned status {}, attempt {}/{}", response.getStatusCode(),
+                    attempt, config.getMaxRetries() + 1);
+            scheduleRetry(operation, attempt, response, result, inFlight);
+        });
+    }
+
+    private void scheduleRetry(final Supplier<CompletableFuture<HttpResponse>> operation,
+                               final int attempt,
+                               final HttpResponse lastResponse,
+                               final CompletableFuture<HttpResponse> result,
+                               final AtomicReference<CompletableFuture<HttpResponse>> inFlight) {
+        final Duration delay = retryPolicy.getDelay(attempt, lastResponse);
+        CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS)
+                .execute(() -> attemptAsync(operation, attempt + 1, result, inFlight));
+    }
+
     private void sleep(final Duration duration) {
         try {
             Thread.sleep(duration.toMillis());
@@ -0,0 +1,23 @@
+package io.elev8.core.http;
+
+/**
+ * Handle to an open streaming HTTP request such as a watch or log stream.
+ * Closing the handle cancels the underlying HTTP call, which releases the connection and
+ * ends the reader immediately instead of waiting for the server to time the request out.
+ * The stream handler then receives {@code onClose()} rather than {@code onError()}.
+ */
+public interface StreamHandle extends AutoCloseable {
+
+    /**
+     * Cancel the stream. Calling this more than once has no effect.
+     */
+    @Override
+    void close();
+
+    /**
+     * Check whether the stream has been cancelled through this handle.
+     *
+     * @return true if {@link #close()} has been called
+     */
+    boolean isClosed();
+}
@@ -3,6 +3,8 @@ package io.elev8.core.http;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -108,6 +110,19 @@ public final class TokenBucketRateLimiter {
         }
     }
 
+    /**
+     * Acquires a token without blocking the calling thread.
+     * When no token is available, the returned future completes once one has been refilled.
+     * Cancelling the future abandons the acquisition without consuming a token.
+     *
+     * @return a future completed when a token has been acquired
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        final CompletableFuture<Void> permit = new CompletableFuture<>();
+        tryAcquireAsync(permit);
+        return permit;
+    }
+
     /**
      * Returns the current number of available tokens (for testing/monitoring).
      *
@@ -123,6 +138,44 @@ public final class TokenBucketRateLimiter {
         }
     }
 
+    private void tryAcquireAsync(final CompletableFuture<Void> permit) {
+        if (permit.isDone()) {
+            return;
+        }
+
+        final long waitMillis;
+        lock.lock();
+        try {
+            refillTokens();
+
+            if (availableTokens >= 1.0) {
+                availableTokens -= 1.0;
+                log.trace("Token acquired via acquireAsync, {} tokens remaining", availableTokens);
+                waitMillis = 0;
+            } else {
+                waitMillis = calculateWaitTime();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (waitMillis > 0) {
+            CompletableFuture.delayedExecutor(waitMillis, TimeUnit.MILLISECONDS)
+                    .execute(() -> tryAcquireAsync(permit));
+        } else if (!permit.complete(null)) {
+            releaseToken();
+        }
+    }
+
+    private void releaseToken() {
+        lock.lock();
+        try {
+            availableTokens = Math.min(burstCapacity, availableTokens + 1.0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     private void refillTokens() {
         final long now = System.currentTimeMillis();
         final long elapsedMillis = now - lastRefillTimestamp;
@@ -10,9 +10,19 @@ import lombok.Getter;
  * and pagination via limit and continue tokens.
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class ListOptions {
 
+    /**
+     * The resourceVersionMatch value requesting the state at exactly the given resourceVersion.
+     */
+    public static final String RESOURCE_VERSION_MATCH_EXACT = "Exact";
+
+    /**
+     * The resourceVersionMatch value requesting state at least as new as the given resourceVersion.
+     */
+    public static final String RESOURCE_VERSION_MATCH_NOT_OLDER_THAN = "NotOlderThan";
+
     /**
      * Label selector to filter resources by labels.
      * Example: "app=myapp,env=prod"
@@ -44,6 +54,18 @@ public class ListOptions {
      */
     private final String resourceVersion;
 
+    /**
+     * How the resourceVersion is matched, for example {@link #RESOURCE_VERSION_MATCH_EXACT}.
+     * Only meaningful together with {@link #resourceVersion}.
+     */
+    private final String resourceVersionMatch;
+
+    /**
+     * If true, the list is requested as a PartialObjectMetadataList: the API server returns only
+     * the metadata of each item, without spec or status.
+     */
+    private final boolean metadataOnly;
+
     /**
      * Creates a default ListOptions instance with no filters or pagination.
      *
@@ -0,0 +1,268 @@
+package io.elev8.core.selector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Type-safe builder for Kubernetes field selector query strings, such as
+ * {@code metadata.namespace=default,status.phase!=Running}.
+ *
+ * <p>Field selectors only support equality ({@code =}, {@code ==}) and inequality ({@code !=})
+ * on a field path. Which paths are available depends on the resource type.
+ *
+ * <pre>{@code
+ * FieldSelectorQuery query = FieldSelectorQuery.builder()
+ *     .equals("spec.nodeName", "node-1")
+ *     .notEquals("status.phase", "Succeeded")
+ *     .build();
+ * }</pre>
+ *
+ * <p>{@link #compile(Function)} turns a query into a matcher for client-side filtering, given a
+ * way to read each field from an object.
+ */
+public final class FieldSelectorQuery {
+
+    private final List<Requirement> requirements;
+
+    private FieldSelectorQuery(final List<Requirement> requirements) {
+        this.requirements = Collections.unmodifiableList(new ArrayList<>(requirements));
+    }
+
+    /**
+     * Returns the selector as a comma-separated query string.
+     *
+     * @return the field selector query string
+     */
+    public String toQueryString() {
+        return requirements.stream()
+                .map(Requirement::toExpression)
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * Returns an unmodifiable list of all requirements in this selector.
+     *
+     * @return the requirements
+     */
+    public List<Requirement> getRequirements() {
+        return requirements;
+    }
+
+    /**
+     * Returns true if this selector has no requirements.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return requirements.isEmpty();
+    }
+
+    /**
+     * Compiles this selector into a matcher. The accessor for each field is looked up once, so
+     * testing an object allocates nothing. As on the API server, a field that is not set compares
+     * as the empty string.
+     *
+     * @param fieldAccessors returns the accessor for a field path, or null if the path is not supported
+     * @param <T> the type of object matched
+     * @return the compiled matcher
+     * @throws IllegalArgumentException if a field path is not supported
+     */
+    public <T> Predicate<T> compile(final Function<String, Function<? super T, String>> fieldAccessors) {
+        final List<Predicate<T>> checks = new ArrayList<>(requirements.size());
+        for (final Requirement requirement : requirements) {
+            final Function<? super T, String> accessor = fieldAccessors.apply(requirement.getField());
+            if (accessor == null) {
+                throw new IllegalArgumentException("Unsupported field selector: " + requirement.getField());
+            }
+            final String value = requirement.getValue();
+            final boolean equal = requirement.getOperator() == Operator.EQUALS;
+            checks.add(object -> {
+                final String actual = accessor.apply(object);
+                return value.equals(actual != null ? actual : "") == equal;
+            });
+        }
+        if (checks.isEmpty()) {
+            return object -> true;
+        }
+        if (checks.size() == 1) {
+            return checks.get(0);
+        }
+        final List<Predicate<T>> compiled = List.copyOf(checks);
+        return object -> {
+            for (int i = 0; i < compiled.size(); i++) {
+                if (!compiled.get(i).test(object)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return toQueryString();
+    }
+
+    /**
+     * Parses a field selector string in the Kubernetes syntax, for example
+     * {@code metadata.name=web,status.phase!=Failed}.
+     *
+     * @param selector the selector string (null or blank for an empty selector)
+     * @return the parsed selector
+     * @throws IllegalArgumentException if the string is not a valid selector
+     */
+    public static FieldSelectorQuery parse(final String selector) {
+        final Builder builder = builder();
+        if (selector == null || selector.isBlank()) {
+            return builder.build();
+        }
+        final SelectorParser parser = new SelectorParser(selector);
+        while (true) {
+            final String field = parser.requiredToken("field path");
+            if (parser.consume("==") || parser.consume("=")) {
+                builder.equals(field, parser.token());
+            } else if (parser.consume("!=")) {
+                builder.notEquals(field, parser.token());
+            } else {
+                throw parser.error("expected '=', '==' or '!='");
+            }
+            if (parser.atEnd()) {
+                return builder.build();
+            }
+            parser.expect(',');
+        }
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a selector with a single equality requirement.
+     *
+     * @param field the field path
+     * @param value the expected value
+     * @return a new FieldSelectorQuery
+     */
+    public static FieldSelectorQuery equals(final String field, final String value) {
+        return builder().equals(field, value).build();
+    }
+
+    /**
+     * Creates a selector with a single not-equals requirement.
+     *
+     * @param field the field path
+     * @param value the excluded value
+     * @return a new FieldSelectorQuery
+     */
+    public static FieldSelectorQuery notEquals(final String field, final String value) {
+        return builder().notEquals(field, value).build();
+    }
+
+    /**
+     * Operators supported by Kubernetes field selectors.
+     */
+    public enum Operator {
+        EQUALS,
+        NOT_EQUALS
+    }
+
+    /**
+     * A single field selector requirement (field, operator, value).
+     */
+    public static final class Requirement {
+        private final String field;
+        private final Operator operator;
+        private final String value;
+
+        private Requirement(final String field, final Operator operator, final String value) {
+            this.field = field;
+            this.operator = operator;
+            this.value = value;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public Operator getOperator() {
+            return operator;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Produces the query string fragment for this requirement.
+         *
+         * @return the selector expression
+         */
+        public String toExpression() {
+            return operator == Operator.EQUALS ? field + "=" + value : field + "!=" + value;
+        }
+    }
+
+    /**
+     * Fluent builder for composing field selector queries.
+     */
+    public static final class Builder {
+        private final List<Requirement> requirements = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds an equality requirement: {@code field=value}.
+         *
+         * @param field the field path
+         * @param value the expected value
+         * @return this builder
+         */
+        public Builder equals(final String field, final String value) {
+            validate(field, value);
+            requirements.add(new Requirement(field, Operator.EQUALS, value));
+            return this;
+        }
+
+        /**
+         * Adds a not-equals requirement: {@code field!=value}.
+         *
+         * @param field the field path
+         * @param value the excluded value
+         * @return this builder
+         */
+        public Builder notEquals(final String field, final String value) {
+            validate(field, value);
+            requirements.add(new Requirement(field, Operator.NOT_EQUALS, value));
+            return this;
+        }
+
+        /**
+         * Builds the immutable {@link FieldSelectorQuery}.
+         *
+         * @return a new FieldSelectorQuery
+         */
+        public FieldSelectorQuery build() {
+            return new FieldSelectorQuery(requirements);
+        }
+
+        private static void validate(final String field, final String value) {
+            if (field == null || field.isEmpty()) {
+                throw new IllegalArgumentException("Field path must not be null or empty");
+            }
+            if (value == null) {
+                throw new IllegalArgumentException("Field value must not be null");
+            }
+        }
+    }
+}
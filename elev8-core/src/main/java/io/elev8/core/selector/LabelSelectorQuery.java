@@ -4,6 +4,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +26,13 @@ import java.util.stream.Collectors;
  *     .exists("managed-by")
  *     .build();
  * }</pre>
+ *
+ * <p>{@link #parse(String)} reads a selector string back into a query, and {@link #compile()} turns
+ * a query into a matcher for evaluating it on the client side:
+ * <pre>{@code
+ * Predicate<Map<String, String>> matcher = LabelSelectorQuery.parse("app=myapp,env in (staging,prod)").compile();
+ * boolean selected = matcher.test(pod.getMetadata().getLabels());
+ * }</pre>
  */
 public final class LabelSelectorQuery {
 
@@ -52,6 +62,55 @@ public final class LabelSelectorQuery {
         return requirements;
     }
 
+    /**
+     * Evaluates this selector against a set of labels, with the semantics of the Kubernetes API:
+     * all requirements must hold, {@code !=} and {@code notin} also match objects that do not
+     * have the label, and an empty selector matches everything.
+     *
+     * @param labels the labels of an object (null is treated as no labels)
+     * @return true if the labels satisfy every requirement
+     */
+    public boolean matches(final Map<String, String> labels) {
+        final Map<String, String> actual = labels != null ? labels : Collections.emptyMap();
+        for (final Requirement requirement : requirements) {
+            if (!requirement.matches(actual)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compiles this selector into a matcher over label maps with the same semantics as
+     * {@link #matches(Map)}. The requirements are turned into individual checks once, so testing
+     * labels allocates nothing. A null label map is treated as no labels.
+     *
+     * @return the compiled matcher
+     */
+    public Predicate<Map<String, String>> compile() {
+        final List<Predicate<Map<String, String>>> checks = new ArrayList<>(requirements.size());
+        for (final Requirement requirement : requirements) {
+            checks.add(requirement.compile());
+        }
+        if (checks.isEmpty()) {
+            return labels -> true;
+        }
+        if (checks.size() == 1) {
+            final Predicate<Map<String, String>> check = checks.get(0);
+            return labels -> check.test(labels != null ? labels : Collections.emptyMap());
+        }
+        final List<Predicate<Map<String, String>>> compiled = List.copyOf(checks);
+        return labels -> {
+            final Map<String, String> actual = labels != null ? labels : Collections.emptyMap();
+            for (int i = 0; i < compiled.size(); i++) {
+                if (!compiled.get(i).test(actual)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
     /**
      * Returns true if this selector has no requirements.
      *
@@ -75,6 +134,45 @@ public final class LabelSelectorQuery {
         return new Builder();
     }
 
+    /**
+     * Parses a label selector string in the Kubernetes syntax, for example
+     * {@code app=myapp,env in (staging,prod),!canary}. Supports {@code =}, {@code ==}, {@code !=},
+     * {@code in}, {@code notin}, existence ({@code key}) and non-existence ({@code !key}).
+     *
+     * @param selector the selector string (null or blank for an empty selector)
+     * @return the parsed selector
+     * @throws IllegalArgumentException if the string is not a valid selector
+     */
+    public static LabelSelectorQuery parse(final String selector) {
+        final Builder builder = builder();
+        if (selector == null || selector.isBlank()) {
+            return builder.build();
+        }
+        final SelectorParser parser = new SelectorParser(selector);
+        while (true) {
+            if (parser.consume("!")) {
+                builder.notExists(parser.requiredToken("label key"));
+            } else {
+                final String key = parser.requiredToken("label key");
+                if (parser.consume("==") || parser.consume("=")) {
+                    builder.equals(key, parser.token());
+                } else if (parser.consume("!=")) {
+                    builder.notEquals(key, parser.token());
+                } else if (parser.consumeWord("notin")) {
+                    builder.notIn(key, parser.valueList());
+                } else if (parser.consumeWord("in")) {
+                    builder.in(key, parser.valueList());
+                } else {
+                    builder.exists(key);
+                }
+            }
+            if (parser.atEnd()) {
+                return builder.build();
+            }
+            parser.expect(',');
+        }
+    }
+
     // --- Static convenience factories ---
 
     /**
@@ -181,6 +279,64 @@ public final class LabelSelectorQuery {
             return values;
         }
 
+        /**
+         * Evaluates this requirement against a set of labels.
+         *
+         * @param labels the labels of an object (must not be null)
+         * @return true if the requirement holds
+         */
+        public boolean matches(final Map<String, String> labels) {
+            final String value = labels.get(key);
+            switch (operator) {
+                case EQUALS:
+                case IN:
+                    return value != null && values.contains(value);
+                case NOT_EQUALS:
+                case NOT_IN:
+                    return value == null || !values.contains(value);
+                case EXISTS:
+                    return labels.containsKey(key);
+                case NOT_EXISTS:
+                    return !labels.containsKey(key);
+                default:
+                    throw new IllegalStateException("Unknown operator: " + operator);
+            }
+        }
+
+        private Predicate<Map<String, String>> compile() {
+            final String requirementKey = key;
+            switch (operator) {
+                case EQUALS:
+                case IN:
+                    if (values.size() == 1) {
+                        final String value = values.get(0);
+                        return labels -> value.equals(labels.get(requirementKey));
+                    }
+                    final Set<String> allowed = Set.copyOf(values);
+                    return labels -> {
+                        final String value = labels.get(requirementKey);
+                        return value != null && allowed.contains(value);
+                    };
+                case NOT_EQUALS:
+                case NOT_IN:
+                    if (values.size() == 1) {
+                        final String value = values.get(0);
+                        return labels -> !value.equals(labels.get(requirementKey));
+                    }
+                    final Set<String> excluded = Set.copyOf(values);
+                    return labels -> {
+                        final String value = labels.get(requirementKey);
+                        return value == null || !excluded.contains(value);
+                    };
+                case EXISTS:
+                    return labels -> labels.containsKey(requirementKey);
+                case NOT_EXISTS:
+                    return labels -> !labels.containsKey(requirementKey);
+                default:
+                    throw new IllegalStateException("Unknown operator: " + operator);
+            }
+        }
+
         /**
          * Produces the query string fragment for this requirement.
          *
@@ -0,0 +1,123 @@
+package io.elev8.core.selector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cursor over a selector string, shared by the label and field selector parsers.
+ * Whitespace between tokens is ignored.
+ */
+final class SelectorParser {
+
+    private final String input;
+    private int position;
+
+    SelectorParser(final String input) {
+        this.input = input;
+    }
+
+    boolean atEnd() {
+        skipWhitespace();
+        return position >= input.length();
+    }
+
+    /**
+     * Consumes the given operator if it comes next.
+     *
+     * @param token the operator
+     * @return true if it was consumed
+     */
+    boolean consume(final String token) {
+        skipWhitespace();
+        if (input.startsWith(token, position)) {
+            position += token.length();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Consumes the given keyword if it comes next as a whole word, followed by whitespace or
+     * an opening parenthesis.
+     *
+     * @param word the keyword
+     * @return true if it was consumed
+     */
+    boolean consumeWord(final String word) {
+        skipWhitespace();
+        final int end = position + word.length();
+        if (input.startsWith(word, position)
+                && end < input.length()
+                && (Character.isWhitespace(input.charAt(end)) || input.charAt(end) == '(')) {
+            position = end;
+            return true;
+        }
+        return false;
+    }
+
+    void expect(final char expected) {
+        skipWhitespace();
+        if (position >= input.length() || input.charAt(position) != expected) {
+            throw error("expected '" + expected + "'");
+        }
+        position++;
+    }
+
+    /**
+     * Reads a key, field path or value. May return an empty string.
+     *
+     * @return the token
+     */
+    String token() {
+        skipWhitespace();
+        final int start = position;
+        while (position < input.length() && isTokenChar(input.charAt(position))) {
+            position++;
+        }
+        return input.substring(start, position);
+    }
+
+    /**
+     * Reads a key or field path, which must not be empty.
+     *
+     * @param what what is expected, for the error message
+     * @return the token
+     */
+    String requiredToken(final String what) {
+        final String token = token();
+        if (token.isEmpty()) {
+            throw error("expected " + what);
+        }
+        return token;
+    }
+
+    /**
+     * Reads a parenthesized, comma-separated list of values.
+     *
+     * @return the values
+     */
+    List<String> valueList() {
+        expect('(');
+        final List<String> values = new ArrayList<>();
+        do {
+            values.add(token());
+        } while (consume(","));
+        expect(')');
+        return values;
+    }
+
+    IllegalArgumentException error(final String message) {
+        return new IllegalArgumentException(
+                "Invalid selector '" + input + "' at position " + position + ": " + message);
+    }
+
+    private void skipWhitespace() {
+        while (position < input.length() && Character.isWhitespace(input.charAt(position))) {
+            position++;
+        }
+    }
+
+    private static boolean isTokenChar(final char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.' || c == '/' || c == ':';
+    }
+}
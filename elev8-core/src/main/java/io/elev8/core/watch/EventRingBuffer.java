@@ -0,0 +1,149 @@
+package io.elev8.core.watch;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bounded ring buffer between the single thread that reads a watch stream and the single thread
+ * that consumes its events.
+ *
+ * <p>The buffer is a preallocated array indexed by two ever-increasing sequences: the producer
+ * publishes a slot by advancing {@code tail}, and a slot is taken by advancing {@code head} with a
+ * compare-and-set. Whoever wins the compare-and-set clears the slot, and the producer only writes
+ * into cleared slots. No lock is taken and no node is allocated per element.</p>
+ *
+ * <p>A thread that finds the buffer empty (consumer) or full (producer) registers itself and parks;
+ * the other side unparks it after the next poll or offer. Registering before re-checking the buffer,
+ * and publishing before reading the registration, rules out lost wake-ups.</p>
+ *
+ * @param <E> the element type
+ */
+final class EventRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final int capacity;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    private volatile Thread waitingConsumer;
+    private volatile Thread waitingProducer;
+
+    EventRingBuffer(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        final int length = Integer.bitCount(capacity) == 1 ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.slots = new AtomicReferenceArray<>(length);
+        this.mask = length - 1;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds an element if there is space. Must only be called by the producer thread.
+     *
+     * @param element the element to add
+     * @return false if the buffer is full
+     */
+    boolean offer(final E element) {
+        final long t = tail.get();
+        if (t - head.get() >= capacity) {
+            return false;
+        }
+        final int index = (int) t & mask;
+        while (slots.get(index) != null) {
+            // the thread that advanced head past this slot has not cleared it yet
+            Thread.onSpinWait();
+        }
+        slots.set(index, element);
+        tail.set(t + 1);
+        unpark(waitingConsumer);
+        return true;
+    }
+
+    /**
+     * Removes the oldest element. Safe to call from the consumer and, to discard the oldest
+     * element when the buffer is full, from the producer at the same time.
+     *
+     * @return the element, or null if the buffer is empty
+     */
+    E poll() {
+        while (true) {
+            final long h = head.get();
+            if (h >= tail.get()) {
+                return null;
+            }
+            final int index = (int) h & mask;
+            final E element = slots.get(index);
+            if (head.compareAndSet(h, h + 1)) {
+                slots.set(index, null);
+                unpark(waitingProducer);
+                return element;
+            }
+        }
+    }
+
+    int size() {
+        final long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+
+    /**
+     * Parks the producer until space is available, {@code stop} returns true, or it is woken up.
+     * May return spuriously; callers re-check in a loop.
+     *
+     * @param stop condition that ends the wait
+     */
+    void awaitSpace(final BooleanSupplier stop) {
+        waitingProducer = Thread.currentThread();
+        try {
+            if (tail.get() - head.get() >= capacity && !stop.getAsBoolean()) {
+                LockSupport.park(this);
+            }
+        } finally {
+            waitingProducer = null;
+        }
+    }
+
+    /**
+     * Parks the consumer until an element is available, {@code stop} returns true, it is woken up
+     * or the timeout elapses. May return spuriously; callers re-check in a loop.
+     *
+     * @param stop condition that ends the wait
+     * @param timeoutNanos the maximum time to wait, or zero or less to wait without a timeout
+     */
+    void awaitElement(final BooleanSupplier stop, final long timeoutNanos) {
+        waitingConsumer = Thread.currentThread();
+        try {
+            if (isEmpty() && !stop.getAsBoolean()) {
+                if (timeoutNanos > 0) {
+                    LockSupport.parkNanos(this, timeoutNanos);
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+        } finally {
+            waitingConsumer = null;
+        }
+    }
+
+    /**
+     * Wakes both sides so that they re-check their stop condition.
+     */
+    void wakeUp() {
+        unpark(waitingConsumer);
+        unpark(waitingProducer);
+    }
+
+    private static void unpark(final Thread thread) {
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.elev8.core.watch;
+
+/**
+ * What a {@link ResourceChangeStream} does with a new event when its buffer is full,
+ * that is, when the consumer has fallen behind the watch.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Block the watch reader until the consumer makes room.
+     * No event is lost, but a consumer that stays behind stalls the socket, and the API server
+     * may eventually drop the watch.
+     */
+    BLOCK,
+
+    /**
+     * Discard the oldest buffered event to make room for the new one.
+     * The reader never blocks; discarded events are counted in
+     * {@link ResourceChangeStream#getDroppedEventCount()}.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Collapse pending UPDATED events for the same namespace/name into the latest one, keeping the
+     * previous state of the first. This applies whenever an update for the object is still buffered,
+     * so under churn the buffer holds at most one pending update per object and memory and latency
+     * are bounded by the number of distinct objects rather than by the event rate. Events of other
+     * types are never collapsed, and order between events of the same object is preserved.
+     * Blocks like {@link #BLOCK} when the buffer is full of distinct objects.
+     */
+    COALESCE_BY_KEY
+}
@@ -2,16 +2,19 @@ package io.elev8.core.watch;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -38,19 +41,39 @@ import java.util.stream.StreamSupport;
  *
  * // Non-blocking poll
  * ResourceChangeEvent<Pod> event = stream.poll(5, TimeUnit.SECONDS);
+ *
+ * // Batches: block for one event, then take whatever else is already buffered
+ * List<ResourceChangeEvent<Pod>> batch = new ArrayList<>();
+ * while (stream.hasNext()) {
+ *     batch.add(stream.next());
+ *     stream.drainTo(batch, 255);
+ *     batch.forEach(this::process);
+ *     batch.clear();
+ * }
  * }</pre>
  *
+ * <p>Events are buffered in a bounded lock-free ring buffer written by the single watch reader
+ * thread and read by a single consumer thread. A consumer waiting for events and a producer
+ * waiting for space are parked and unparked directly rather than polling on a timeout.
+ * The {@link OverflowPolicy} decides what happens when a slow consumer lets the buffer fill up.</p>
+ *
  * @param <T> the type of Kubernetes resource being streamed
  */
 @Slf4j
 public class ResourceChangeStream<T> implements Iterator<ResourceChangeEvent<T>>, AutoCloseable, Iterable<ResourceChangeEvent<T>> {
 
     private static final int DEFAULT_QUEUE_CAPACITY = 1000;
-    private static final long POLL_TIMEOUT_MS = 100;
 
-    private final BlockingQueue<ResourceChangeEvent<T>> eventQueue;
+    /**
+     * Holds {@link ResourceChangeEvent}s, and {@link PendingUpdate}s under {@link OverflowPolicy#COALESCE_BY_KEY}.
+     */
+    private final EventRingBuffer<Object> eventQueue;
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private final AtomicReference<Exception> error = new AtomicReference<>();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final OverflowPolicy overflowPolicy;
+    private final Function<? super T, String> keyFunction;
+    private final Map<String, PendingUpdate<T>> pendingUpdates;
     private final Runnable onClose;
 
     /**
@@ -69,28 +92,89 @@ public class ResourceChangeStream<T> implements Iterator<ResourceChangeEvent<T>>
      * @param onClose callback to invoke when the stream is closed
      */
     public ResourceChangeStream(final int queueCapacity, final Runnable onClose) {
+        this(queueCapacity, OverflowPolicy.BLOCK, null, onClose);
+    }
+
+    /**
+     * Creates a new ResourceChangeStream with a custom queue capacity and overflow policy.
+     *
+     * @param queueCapacity the maximum number of events to buffer
+     * @param overflowPolicy what to do when the queue is full (null for {@link OverflowPolicy#BLOCK})
+     * @param keyFunction identifies the object a resource belongs to, typically namespace/name; required
+     *                    for {@link OverflowPolicy#COALESCE_BY_KEY}, which otherwise behaves like BLOCK
+     * @param onClose callback to invoke when the stream is closed
+     */
+    public ResourceChangeStream(final int queueCapacity,
+                                final OverflowPolicy overflowPolicy,
+                                final Function<? super T, String> keyFunction,
+                                final Runnable onClose) {
         final int effectiveCapacity = queueCapacity > 0 ? queueCapacity : DEFAULT_QUEUE_CAPACITY;
         if (queueCapacity <= 0) {
             log.warn("Invalid queue capacity {}, using default capacity {}", queueCapacity, DEFAULT_QUEUE_CAPACITY);
         }
-        this.eventQueue = new LinkedBlockingQueue<>(effectiveCapacity);
+        this.eventQueue = new EventRingBuffer<>(effectiveCapacity);
+        this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.BLOCK;
+        this.keyFunction = keyFunction;
+        this.pendingUpdates = this.overflowPolicy == OverflowPolicy.COALESCE_BY_KEY && keyFunction != null
+                ? new ConcurrentHashMap<>()
+                : null;
         this.onClose = onClose;
     }
 
     /**
      * Enqueues an event to the stream.
-     * This method is intended for internal use by adapters.
-     * If the queue is full, this method will block until space is available.
+     * This method is intended for internal use by adapters and must be called from a single thread.
+     * If the queue is full, the {@link OverflowPolicy} decides whether this method blocks until space
+     * is available or discards the oldest event.
      *
      * @param event the event to enqueue
      */
     public void enqueue(final ResourceChangeEvent<T> event) {
-        if (!closed.get() && event != null) {
-            try {
-                eventQueue.put(event);
-            } catch (InterruptedException e) {
+        if (event == null || closed.get()) {
+            return;
+        }
+        if (pendingUpdates != null) {
+            enqueueCoalescing(event);
+        } else if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+            while (!eventQueue.offer(event)) {
+                if (eventQueue.poll() != null) {
+                    droppedEvents.incrementAndGet();
+                }
+            }
+        } else {
+            put(event);
+        }
+    }
+
+    private void enqueueCoalescing(final ResourceChangeEvent<T> event) {
+        final String key = keyOf(event);
+        if (key == null) {
+            put(event);
+            return;
+        }
+        if (!event.isUpdated()) {
+            // later updates must not be merged into an update queued before this event
+            pendingUpdates.remove(key);
+            put(event);
+            return;
+        }
+
+        final PendingUpdate<T> pending = pendingUpdates.get(key);
+        if (pending != null && pending.merge(event)) {
+            return;
+        }
+        final PendingUpdate<T> update = new PendingUpdate<>(key, event);
+        pendingUpdates.put(key, update);
+        put(update);
+    }
+
+    private void put(final Object element) {
+        while (!closed.get() && !eventQueue.offer(element)) {
+            eventQueue.awaitSpace(closed::get);
+            if (Thread.interrupted()) {
                 Thread.currentThread().interrupt();
                 log.warn("Interrupted while enqueuing event, event may be lost");
+                return;
             }
         }
     }
@@ -105,6 +189,7 @@ public class ResourceChangeStream<T> implements Iterator<ResourceChangeEvent<T>>
     public void setError(final Exception exception) {
         this.error.set(exception);
         closed.set(true);
+        eventQueue.wakeUp();
     }
 
     /**
@@ -113,6 +198,7 @@ public class ResourceChangeStream<T> implements Iterator<ResourceChangeEvent<T>>
      */
     public void signalClose() {
         closed.set(true);
+        eventQueue.wakeUp();
     }
 
     @Override
@@ -126,18 +212,19 @@ public class ResourceChangeStream<T> implements Iterator<ResourceChangeEvent<T>>
         if (!hasNext()) {
             throw new NoSuchElementException("Stream is closed and no more events are available");
         }
-        try {
-            ResourceChangeEvent<T> event = eventQueue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
-            while (event == null && hasNext()) {
-                event = eventQueue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        while (true) {
+            final ResourceChangeEvent<T> event = pollEvent();
+            if (event != null) {
+                return event;
             }
-            if (event == null) {
+            if (!hasNext()) {
                 throw new NoSuchElementException("Stream is closed and no more events are available");
             }
-            return event;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new WatchStreamException("Interrupted while waiting for event", e);
+            eventQueue.awaitElement(closed::get, 0);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new WatchStreamException("Interrupted while waiting for event", new InterruptedException());
+            }
         }
     }
 
@@ -153,7 +240,45 @@ public class ResourceChangeStream<T> implements Iterator<ResourceChangeEvent<T>>
      */
     public ResourceChangeEvent<T> poll(final long timeout, final TimeUnit unit) throws InterruptedException {
         checkError();
-        return eventQueue.poll(timeout, unit);
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            final ResourceChangeEvent<T> event = pollEvent();
+            if (event != null) {
+                return event;
+            }
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || closed.get()) {
+                return null;
+            }
+            eventQueue.awaitElement(closed::get, remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code maxEvents} buffered events into the given collection without blocking.
+     * Combined with {@link #next()} for the first event, this lets a consumer handle events in
+     * batches and pay the per-event hand-off cost once per batch.
+     *
+     * @param target the collection to add the events to
+     * @param maxEvents the maximum number of events to move
+     * @return the number of events moved
+     * @throws WatchStreamException if an error occurred in the watch stream
+     */
+    public int drainTo(final Collection<? super ResourceChangeEvent<T>> target, final int maxEvents) {
+        checkError();
+        int drained = 0;
+        while (drained < maxEvents) {
+            final ResourceChangeEvent<T> event = pollEvent();
+            if (event == null) {
+                break;
+            }
+            target.add(event);
+            drained++;
+        }
+        return drained;
     }
 
     /**
@@ -236,9 +361,19 @@ public class ResourceChangeStream<T> implements Iterator<ResourceChangeEvent<T>>
         return eventQueue.size();
     }
 
+    /**
+     * Returns the number of events discarded under {@link OverflowPolicy#DROP_OLDEST}.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedEventCount() {
+        return droppedEvents.get();
+    }
+
     @Override
     public void close() {
         if (closed.compareAndSet(false, true)) {
+            eventQueue.wakeUp();
             if (onClose != null) {
                 try {
                     onClose.run();
@@ -249,10 +384,66 @@ public class ResourceChangeStream<T> implements Iterator<ResourceChangeEvent<T>>
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private ResourceChangeEvent<T> pollEvent() {
+        final Object element = eventQueue.poll();
+        if (element instanceof PendingUpdate<?> pending) {
+            final PendingUpdate<T> update = (PendingUpdate<T>) pending;
+            pendingUpdates.remove(update.key, update);
+            return update.take();
+        }
+        return (ResourceChangeEvent<T>) element;
+    }
+
+    private String keyOf(final ResourceChangeEvent<T> event) {
+        final T resource = event.getResource() != null ? event.getResource() : event.getPreviousResource();
+        return resource != null ? keyFunction.apply(resource) : null;
+    }
+
     private void checkError() {
         final Exception e = error.get();
         if (e != null) {
             throw new WatchStreamException("Watch stream error", e);
         }
     }
+
+    /**
+     * A queued UPDATED event that later updates of the same object are merged into until it is consumed.
+     */
+    private static final class PendingUpdate<T> {
+        private final String key;
+        private final AtomicReference<ResourceChangeEvent<T>> latest;
+
+        PendingUpdate(final String key, final ResourceChangeEvent<T> event) {
+            this.key = key;
+            this.latest = new AtomicReference<>(event);
+        }
+
+        /**
+         * Replace the pending event with a newer update, keeping the original previous state.
+         *
+         * @return false if the consumer has already taken the pending event
+         */
+        boolean merge(final ResourceChangeEvent<T> event) {
+            ResourceChangeEvent<T> current = latest.get();
+            while (current != null) {
+                final ResourceChangeEvent<T> merged = ResourceChangeEvent.<T>builder()
+                        .type(ResourceChangeType.UPDATED)
+                        .resource(event.getResource())
+                        .previousResource(current.getPreviousResource())
+                        .resourceVersion(event.getResourceVersion())
+                        .timestamp(event.getTimestamp())
+                        .build();
+                if (latest.compareAndSet(current, merged)) {
+                    return true;
+                }
+                current = latest.get();
+            }
+            return false;
+        }
+
+        ResourceChangeEvent<T> take() {
+            return latest.getAndSet(null);
+        }
+    }
 }
@@ -9,17 +9,24 @@ import lombok.Getter;
  * Allows customization of queue capacity, state tracking, and underlying watch behavior.
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class StreamOptions {
 
     /**
      * The maximum number of events to buffer in the stream queue.
-     * If the consumer is slower than the producer, the producer will block
-     * when the queue is full, providing backpressure.
+     * If the consumer is slower than the producer, the {@link #overflowPolicy} decides what
+     * happens when the queue is full; by default the producer blocks, providing backpressure.
      */
     @Builder.Default
     private final int queueCapacity = 1000;
 
+    /**
+     * What to do when the stream queue is full.
+     * Defaults to {@link OverflowPolicy#BLOCK}.
+     */
+    @Builder.Default
+    private final OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
     /**
      * Whether to track previous resource state for change detection.
      * When enabled, UPDATED events will include the previous state of the resource.
@@ -38,6 +45,7 @@ public class StreamOptions {
     /**
      * Creates a StreamOptions instance with default settings.
      * - Queue capacity: 1000
+     * - Overflow policy: BLOCK
      * - Track previous state: true
      * - Watch options: defaults
      *
@@ -83,6 +91,18 @@ public class StreamOptions {
                 .build();
     }
 
+    /**
+     * Creates a StreamOptions instance with the given overflow policy.
+     *
+     * @param overflowPolicy what to do when the queue is full
+     * @return a new StreamOptions with the specified overflow policy
+     */
+    public static StreamOptions withOverflowPolicy(final OverflowPolicy overflowPolicy) {
+        return StreamOptions.builder()
+                .overflowPolicy(overflowPolicy != null ? overflowPolicy : OverflowPolicy.BLOCK)
+                .build();
+    }
+
     /**
      * Creates a StreamOptions instance with a label selector.
      *
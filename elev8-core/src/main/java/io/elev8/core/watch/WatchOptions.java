@@ -9,8 +9,20 @@ import lombok.Getter;
  * These options control how the watch behaves and what events are received.
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class WatchOptions {
+
+    /**
+     * The resourceVersionMatch value requesting state at least as new as the given resourceVersion.
+     */
+    public static final String RESOURCE_VERSION_MATCH_NOT_OLDER_THAN = "NotOlderThan";
+
+    /**
+     * Annotation set on the BOOKMARK event that marks the end of the initial events
+     * of a watch started with {@code sendInitialEvents=true}.
+     */
+    public static final String INITIAL_EVENTS_END_ANNOTATION = "k8s.io/initial-events-end";
+
     /**
      * The resource version to start watching from.
      * If not specified, watches from the current state.
@@ -45,6 +57,33 @@ public class WatchOptions {
      */
     private final String fieldSelector;
 
+    /**
+     * If true, the watch starts with the current state of all matching resources as ADDED events
+     * (the WatchList streaming list), followed by a BOOKMARK annotated with
+     * {@link #INITIAL_EVENTS_END_ANNOTATION}. Requires {@code allowWatchBookmarks} and
+     * {@code resourceVersionMatch=NotOlderThan}.
+     */
+    private final Boolean sendInitialEvents;
+
+    /**
+     * How the resourceVersion is matched, for example {@link #RESOURCE_VERSION_MATCH_NOT_OLDER_THAN}.
+     */
+    private final String resourceVersionMatch;
+
+    /**
+     * If true, each watch event carries a PartialObjectMetadata: only the metadata of the
+     * object, without spec or status.
+     */
+    private final boolean metadataOnly;
+
+    /**
+     * Number of threads that decode the lines of the watch response concurrently. Events are still
+     * delivered to the watcher one at a time and in stream order. Zero or one decodes each line on the
+     * thread reading the stream. Worthwhile for event-heavy watches, such as Pods or Events on large
+     * clusters, whose decoding saturates a single core.
+     */
+    private final int decodeParallelism;
+
     /**
      * Creates a default WatchOptions instance with standard settings.
      *
@@ -66,6 +105,22 @@ public class WatchOptions {
                 .build();
     }
 
+    /**
+     * Creates a copy of these options that streams the initial state as watch events
+     * ({@code sendInitialEvents=true&resourceVersionMatch=NotOlderThan} with bookmarks enabled).
+     * The resourceVersion is cleared so that the initial state is read from the most recent version.
+     *
+     * @return new WatchOptions requesting initial events
+     */
+    public WatchOptions withInitialEvents() {
+        return toBuilder()
+                .resourceVersion(null)
+                .allowWatchBookmarks(true)
+                .sendInitialEvents(true)
+                .resourceVersionMatch(RESOURCE_VERSION_MATCH_NOT_OLDER_THAN)
+                .build();
+    }
+
     /**
      * Creates a WatchOptions instance with a label selector.
      *
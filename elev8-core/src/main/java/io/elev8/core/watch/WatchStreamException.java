@@ -1,11 +1,18 @@
 package io.elev8.core.watch;
 
+import lombok.Getter;
+
 /**
  * Exception thrown when an error occurs during watch stream operations.
  * This is a runtime exception to allow clean integration with Iterator and Stream APIs.
+ * When the API server ends a watch with an ERROR event, the status code of that event
+ * (for example 410 Gone for an expired resourceVersion) is available from {@link #getStatusCode()}.
  */
+@Getter
 public class WatchStreamException extends RuntimeException {
 
+    private final Integer statusCode;
+
     /**
      * Creates a new WatchStreamException with the specified message.
      *
@@ -13,6 +20,18 @@ public class WatchStreamException extends RuntimeException {
      */
     public WatchStreamException(final String message) {
         super(message);
+        this.statusCode = null;
+    }
+
+    /**
+     * Creates a new WatchStreamException with the specified message and status code.
+     *
+     * @param message the detail message
+     * @param statusCode the status code reported by the API server
+     */
+    public WatchStreamException(final String message, final int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
     }
 
     /**
@@ -23,5 +42,15 @@ public class WatchStreamException extends RuntimeException {
      */
     public WatchStreamException(final String message, final Throwable cause) {
         super(message, cause);
+        this.statusCode = null;
+    }
+
+    /**
+     * Checks whether the API server reported a status code for this error.
+     *
+     * @return true if a status code is available
+     */
+    public boolean hasStatusCode() {
+        return statusCode != null;
     }
 }
@@ -4,6 +4,7 @@ import io.elev8.core.auth.AuthProvider;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -26,6 +27,7 @@ class KubernetesClientConfigTest {
         assertThat(config.getConnectTimeout()).isEqualTo(Duration.ofSeconds(30));
         assertThat(config.getReadTimeout()).isEqualTo(Duration.ofSeconds(30));
         assertThat(config.getNamespace()).isEqualTo("default");
+        assertThat(config.getStreamExecutor()).isNull();
     }
 
     @Test
@@ -33,6 +35,7 @@ class KubernetesClientConfigTest {
         final AuthProvider authProvider = mock(AuthProvider.class);
         final Duration connectTimeout = Duration.ofSeconds(60);
         final Duration readTimeout = Duration.ofSeconds(90);
+        final Executor streamExecutor = Runnable::run;
 
         final KubernetesClientConfig config = KubernetesClientConfig.builder()
                 .apiServerUrl("https://api.example.com")
@@ -42,6 +45,7 @@ class KubernetesClientConfigTest {
                 .connectTimeout(connectTimeout)
                 .readTimeout(readTimeout)
                 .namespace("custom")
+                .streamExecutor(streamExecutor)
                 .build();
 
         assertThat(config.getApiServerUrl()).isEqualTo("https://api.example.com");
@@ -51,6 +55,7 @@ class KubernetesClientConfigTest {
         assertThat(config.getConnectTimeout()).isEqualTo(connectTimeout);
         assertThat(config.getReadTimeout()).isEqualTo(readTimeout);
         assertThat(config.getNamespace()).isEqualTo("custom");
+        assertThat(config.getStreamExecutor()).isSameAs(streamExecutor);
     }
 
     @Test
@@ -3,6 +3,7 @@ package io.elev8.core.client;
 import io.elev8.core.auth.AuthProvider;
 import io.elev8.core.auth.AuthenticationException;
 import io.elev8.core.list.ListOptions;
+import io.elev8.core.watch.WatchOptions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -102,4 +103,23 @@ class KubernetesClientTest {
         assertThat(retrievedConfig).isNotNull();
         assertThat(retrievedConfig.getApiServerUrl()).isEqualTo("https://test-api.example.com");
     }
+
+    @Test
+    void shouldAcceptPlainJsonByDefault() {
+        assertThat(KubernetesClient.listAccept(null)).isEqualTo("application/json");
+        assertThat(KubernetesClient.listAccept(ListOptions.defaults())).isEqualTo("application/json");
+        assertThat(KubernetesClient.watchAccept(null)).isEqualTo("application/json");
+        assertThat(KubernetesClient.watchAccept(WatchOptions.defaults())).isEqualTo("application/json");
+    }
+
+    @Test
+    void shouldAcceptPartialObjectMetadataWhenMetadataOnly() {
+        final ListOptions listOptions = ListOptions.builder().metadataOnly(true).build();
+        final WatchOptions watchOptions = WatchOptions.builder().metadataOnly(true).build();
+
+        assertThat(KubernetesClient.listAccept(listOptions))
+                .isEqualTo("application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1,application/json");
+        assertThat(KubernetesClient.watchAccept(watchOptions))
+                .isEqualTo("application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1,application/json");
+    }
 }
@@ -0,0 +1,160 @@
+package io.elev8.core.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OkHttpClientImplStreamTest {
+
+    private static final String WATCH_PATH = "/api/v1/namespaces/default/pods";
+    private static final String OPEN_PATH = "/api/v1/namespaces/default/configmaps";
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(WATCH_PATH, exchange -> {
+            final byte[] body = "{\"type\":\"ADDED\"}\n\n{\"type\":\"DELETED\"}\n".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext(OPEN_PATH, exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write("{\"type\":\"ADDED\"}\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                Thread.sleep(10_000);
+            } catch (InterruptedException | IOException e) {
+                // client went away
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldReadStreamOnVirtualThreadByDefault() throws Exception {
+        final HttpClient client = OkHttpClientImpl.builder().build();
+        final RecordingHandler handler = new RecordingHandler();
+
+        client.stream(baseUrl + WATCH_PATH + "?watch=true", Map.of(), handler);
+
+        assertThat(handler.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handler.lines).containsExactly("{\"type\":\"ADDED\"}", "{\"type\":\"DELETED\"}");
+        assertThat(handler.virtualThread.get()).isTrue();
+        assertThat(handler.threadName.get()).isEqualTo("watch-stream[" + WATCH_PATH + "]");
+        client.close();
+    }
+
+    @Test
+    void shouldReadStreamOnConfiguredExecutor() throws Exception {
+        final AtomicInteger submitted = new AtomicInteger();
+        final Executor executor = task -> {
+            submitted.incrementAndGet();
+            new Thread(task, "custom-reader").start();
+        };
+        final HttpClient client = OkHttpClientImpl.builder()
+                .streamExecutor(executor)
+                .build();
+        final RecordingHandler handler = new RecordingHandler();
+
+        client.stream(baseUrl + WATCH_PATH, Map.of(), handler);
+
+        assertThat(handler.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(submitted).hasValue(1);
+        assertThat(handler.virtualThread.get()).isFalse();
+        assertThat(handler.threadName.get()).isEqualTo("watch-stream[" + WATCH_PATH + "]");
+        client.close();
+    }
+
+    @Test
+    void shouldFailWhenStreamExecutorRejectsTask() {
+        final Executor rejecting = task -> {
+            throw new RejectedExecutionException("shut down");
+        };
+        final HttpClient client = OkHttpClientImpl.builder()
+                .streamExecutor(rejecting)
+                .build();
+
+        assertThatThrownBy(() -> client.stream(baseUrl + WATCH_PATH, Map.of(), new RecordingHandler()))
+                .isInstanceOf(HttpException.class)
+                .hasMessageContaining("rejected");
+        client.close();
+    }
+
+    @Test
+    void shouldCancelStreamWhenHandleIsClosed() throws Exception {
+        final HttpClient client = OkHttpClientImpl.builder().build();
+        final RecordingHandler handler = new RecordingHandler();
+
+        final StreamHandle handle = client.stream(baseUrl + OPEN_PATH, Map.of(), handler);
+        assertThat(handle.isClosed()).isFalse();
+        assertThat(handler.firstLine.await(5, TimeUnit.SECONDS)).isTrue();
+
+        handle.close();
+
+        assertThat(handle.isClosed()).isTrue();
+        assertThat(handler.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handler.error.get()).isNull();
+        assertThat(handler.lines).containsExactly("{\"type\":\"ADDED\"}");
+        client.close();
+    }
+
+    private static final class RecordingHandler implements HttpClient.StreamHandler {
+
+        private final List<String> lines = new CopyOnWriteArrayList<>();
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private final CountDownLatch firstLine = new CountDownLatch(1);
+        private final AtomicReference<Exception> error = new AtomicReference<>();
+        private final AtomicReference<String> threadName = new AtomicReference<>();
+        private final AtomicReference<Boolean> virtualThread = new AtomicReference<>();
+
+        @Override
+        public void onLine(final String line) {
+            threadName.set(Thread.currentThread().getName());
+            virtualThread.set(Thread.currentThread().isVirtual());
+            lines.add(line);
+            firstLine.countDown();
+        }
+
+        @Override
+        public void onError(final Exception exception) {
+            error.set(exception);
+            closed.countDown();
+        }
+
+        @Override
+        public void onClose() {
+            closed.countDown();
+        }
+    }
+}
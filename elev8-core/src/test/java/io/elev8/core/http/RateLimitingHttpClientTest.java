@@ -6,7 +6,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -209,4 +211,38 @@ class RateLimitingHttpClientTest {
         assertThat(response.isSuccessful()).isTrue();
         verify(delegate, times(1)).get(any(), any());
     }
+
+    @Test
+    void shouldDelegateAsyncGetRequest() {
+        final RateLimiterConfig config = RateLimiterConfig.builder()
+                .requestsPerSecond(1000.0)
+                .burstCapacity(100)
+                .build();
+
+        final HttpClient client = RateLimitingHttpClient.wrap(delegate, config);
+        final HttpResponse successResponse = new HttpResponse(200, "{}", Map.of());
+        when(delegate.getAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(successResponse));
+
+        final CompletableFuture<HttpResponse> response = client.getAsync("http://test", Map.of());
+
+        assertThat(response).succeedsWithin(Duration.ofSeconds(1)).isSameAs(successResponse);
+        verify(delegate, times(1)).getAsync(eq("http://test"), any());
+    }
+
+    @Test
+    void shouldCancelDelegateCallWhenAsyncRequestIsCancelled() {
+        final RateLimiterConfig config = RateLimiterConfig.builder()
+                .requestsPerSecond(1000.0)
+                .burstCapacity(100)
+                .build();
+
+        final HttpClient client = RateLimitingHttpClient.wrap(delegate, config);
+        final CompletableFuture<HttpResponse> inFlight = new CompletableFuture<>();
+        when(delegate.deleteAsync(any(), any())).thenReturn(inFlight);
+
+        final CompletableFuture<HttpResponse> response = client.deleteAsync("http://test", Map.of());
+        response.cancel(true);
+
+        assertThat(inFlight).isCancelled();
+    }
 }
@@ -6,9 +6,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -246,4 +249,57 @@ class RetryingHttpClientTest {
         assertThat(response.isSuccessful()).isTrue();
         verify(delegate, times(2)).get(any(), any());
     }
+
+    @Test
+    void shouldNotRetryStreamingGetAfterBodyWasConsumed() throws HttpException {
+        when(delegate.getStreaming(any(), any(), any())).thenAnswer(invocation -> {
+            final HttpClient.ResponseBodyConsumer consumer = invocation.getArgument(2);
+            consumer.accept(new ByteArrayInputStream(new byte[0]));
+            throw new HttpException("Connection reset");
+        });
+
+        assertThatThrownBy(() -> retryingClient.getStreaming("http://test", Map.of(), body -> { }))
+                .isInstanceOf(HttpException.class);
+
+        verify(delegate, times(1)).getStreaming(any(), any(), any());
+    }
+
+    @Test
+    void shouldRetryAsyncRequestOn503AndEventuallySucceed() {
+        final HttpResponse errorResponse = new HttpResponse(503, "Service Unavailable", Map.of());
+        final HttpResponse successResponse = new HttpResponse(200, "{}", Map.of());
+        when(delegate.getAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(errorResponse))
+                .thenReturn(CompletableFuture.completedFuture(successResponse));
+
+        final CompletableFuture<HttpResponse> response = retryingClient.getAsync("http://test", Map.of());
+
+        assertThat(response).succeedsWithin(Duration.ofSeconds(2)).isSameAs(successResponse);
+        verify(delegate, times(2)).getAsync(any(), any());
+    }
+
+    @Test
+    void shouldRetryAsyncRequestOnConnectionFailureAndFailWhenExhausted() {
+        when(delegate.postAsync(any(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new HttpException("Connection refused", new IOException("Connection refused"))));
+
+        final CompletableFuture<HttpResponse> response = retryingClient.postAsync("http://test", Map.of(), "{}");
+
+        assertThat(response).failsWithin(Duration.ofSeconds(2))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(HttpException.class);
+        verify(delegate, times(4)).postAsync(any(), any(), any());
+    }
+
+    @Test
+    void shouldCancelInFlightAttemptWhenAsyncRequestIsCancelled() {
+        final CompletableFuture<HttpResponse> inFlight = new CompletableFuture<>();
+        when(delegate.putAsync(any(), any(), any())).thenReturn(inFlight);
+
+        final CompletableFuture<HttpResponse> response = retryingClient.putAsync("http://test", Map.of(), "{}");
+        response.cancel(true);
+
+        assertThat(inFlight).isCancelled();
+    }
 }
@@ -3,6 +3,7 @@ package io.elev8.core.http;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -249,4 +250,35 @@ class TokenBucketRateLimiterTest {
 
         assertThat(elapsed).isGreaterThanOrEqualTo(50);
     }
+
+    @Test
+    void shouldCompleteAsyncAcquireImmediatelyWhenTokenAvailable() {
+        final RateLimiterConfig config = RateLimiterConfig.builder()
+                .requestsPerSecond(10.0)
+                .burstCapacity(2)
+                .build();
+
+        final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(config);
+
+        assertThat(limiter.acquireAsync()).isDone();
+        assertThat(limiter.getAvailableTokens()).isCloseTo(1.0, org.assertj.core.data.Offset.offset(0.5));
+    }
+
+    @Test
+    void shouldCompleteAsyncAcquireAfterRefillWithoutBlocking() {
+        final RateLimiterConfig config = RateLimiterConfig.builder()
+                .requestsPerSecond(20.0)
+                .burstCapacity(1)
+                .build();
+
+        final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(config);
+        limiter.acquire();
+
+        final long startTime = System.currentTimeMillis();
+        final CompletableFuture<Void> permit = limiter.acquireAsync();
+        final long callDuration = System.currentTimeMillis() - startTime;
+
+        assertThat(callDuration).isLessThan(25);
+        assertThat(permit).succeedsWithin(Duration.ofSeconds(2));
+    }
 }
@@ -20,6 +20,25 @@ class ListOptionsTest {
             assertThat(options.getLimit()).isNull();
             assertThat(options.getContinueToken()).isNull();
             assertThat(options.getResourceVersion()).isNull();
+            assertThat(options.isMetadataOnly()).isFalse();
+        }
+    }
+
+    @Nested
+    class MetadataOnly {
+
+        @Test
+        void shouldBeKeptByToBuilder() {
+            final ListOptions options = ListOptions.builder()
+                    .labelSelector("app=web")
+                    .metadataOnly(true)
+                    .build();
+
+            final ListOptions copy = options.toBuilder().limit(10).build();
+
+            assertThat(copy.isMetadataOnly()).isTrue();
+            assertThat(copy.getLabelSelector()).isEqualTo("app=web");
+            assertThat(copy.getLimit()).isEqualTo(10);
         }
     }
 
@@ -105,6 +124,7 @@ class ListOptionsTest {
                     .limit(50)
                     .continueToken("abc123")
                     .resourceVersion("12345")
+                    .resourceVersionMatch(ListOptions.RESOURCE_VERSION_MATCH_EXACT)
                     .build();
 
             assertThat(options.getLabelSelector()).isEqualTo("app=myapp");
@@ -112,6 +132,7 @@ class ListOptionsTest {
             assertThat(options.getLimit()).isEqualTo(50);
             assertThat(options.getContinueToken()).isEqualTo("abc123");
             assertThat(options.getResourceVersion()).isEqualTo("12345");
+            assertThat(options.getResourceVersionMatch()).isEqualTo("Exact");
         }
 
         @Test
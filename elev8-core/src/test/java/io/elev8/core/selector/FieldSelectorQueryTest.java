@@ -0,0 +1,123 @@
+package io.elev8.core.selector;
+
+import io.elev8.core.selector.FieldSelectorQuery.Operator;
+import io.elev8.core.selector.FieldSelectorQuery.Requirement;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class FieldSelectorQueryTest {
+
+    private static final Function<String, Function<? super Map<String, String>, String>> ACCESSORS =
+            field -> field.startsWith("unsupported") ? null : object -> object.get(field);
+
+    @Nested
+    class Building {
+
+        @Test
+        void shouldProduceQueryString() {
+            final FieldSelectorQuery query = FieldSelectorQuery.builder()
+                    .equals("metadata.name", "web")
+                    .notEquals("status.phase", "Failed")
+                    .build();
+
+            assertThat(query.toQueryString()).isEqualTo("metadata.name=web,status.phase!=Failed");
+            assertThat(query.toString()).isEqualTo(query.toQueryString());
+        }
+
+        @Test
+        void shouldCreateFromStaticFactories() {
+            assertThat(FieldSelectorQuery.equals("spec.nodeName", "node-1").toQueryString())
+                    .isEqualTo("spec.nodeName=node-1");
+            assertThat(FieldSelectorQuery.notEquals("spec.nodeName", "").toQueryString())
+                    .isEqualTo("spec.nodeName!=");
+        }
+
+        @Test
+        void shouldRejectInvalidRequirements() {
+            assertThatThrownBy(() -> FieldSelectorQuery.builder().equals("", "x"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> FieldSelectorQuery.builder().equals("metadata.name", null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class Parsing {
+
+        @Test
+        void shouldParseOperators() {
+            final FieldSelectorQuery query = FieldSelectorQuery.parse(
+                    "metadata.namespace = default, status.phase==Running,spec.nodeName!=");
+
+            assertThat(query.getRequirements())
+                    .extracting(Requirement::getField, Requirement::getOperator, Requirement::getValue)
+                    .containsExactly(
+                            tuple("metadata.namespace", Operator.EQUALS, "default"),
+                            tuple("status.phase", Operator.EQUALS, "Running"),
+                            tuple("spec.nodeName", Operator.NOT_EQUALS, ""));
+        }
+
+        @Test
+        void shouldParseEmptySelector() {
+            assertThat(FieldSelectorQuery.parse(null).isEmpty()).isTrue();
+            assertThat(FieldSelectorQuery.parse("").isEmpty()).isTrue();
+        }
+
+        @Test
+        void shouldRejectMalformedSelectors() {
+            for (final String selector : List.of("metadata.name", "metadata.name in (a)", "a=b,", "=b")) {
+                assertThatThrownBy(() -> FieldSelectorQuery.parse(selector))
+                        .as(selector)
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("Invalid selector");
+            }
+        }
+    }
+
+    @Nested
+    class Compilation {
+
+        @Test
+        void shouldMatchEqualityAndInequality() {
+            final Predicate<Map<String, String>> matcher =
+                    FieldSelectorQuery.parse("metadata.name=web,status.phase!=Failed").compile(ACCESSORS);
+
+            assertThat(matcher.test(Map.of("metadata.name", "web", "status.phase", "Running"))).isTrue();
+            assertThat(matcher.test(Map.of("metadata.name", "web", "status.phase", "Failed"))).isFalse();
+            assertThat(matcher.test(Map.of("metadata.name", "api"))).isFalse();
+        }
+
+        @Test
+        void shouldCompareMissingFieldsAsEmptyString() {
+            final Predicate<Map<String, String>> unscheduled =
+                    FieldSelectorQuery.parse("spec.nodeName=").compile(ACCESSORS);
+            final Predicate<Map<String, String>> scheduled =
+                    FieldSelectorQuery.parse("spec.nodeName!=").compile(ACCESSORS);
+
+            assertThat(unscheduled.test(Map.of())).isTrue();
+            assertThat(scheduled.test(Map.of())).isFalse();
+            assertThat(scheduled.test(Map.of("spec.nodeName", "node-1"))).isTrue();
+        }
+
+        @Test
+        void shouldMatchEverythingWhenEmpty() {
+            assertThat(FieldSelectorQuery.parse("").compile(ACCESSORS).test(Map.of())).isTrue();
+        }
+
+        @Test
+        void shouldRejectUnsupportedFields() {
+            assertThatThrownBy(() -> FieldSelectorQuery.parse("unsupported.field=x").compile(ACCESSORS))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("unsupported.field");
+        }
+    }
+}
@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -422,4 +424,146 @@ class LabelSelectorQueryTest {
             assertThat(requirement.getValues()).isEmpty();
         }
     }
+
+    @Nested
+    class Matching {
+
+        private final Map<String, String> labels = Map.of("app", "web", "env", "prod");
+
+        @Test
+        void shouldMatchEverythingWhenEmpty() {
+            assertThat(LabelSelectorQuery.builder().build().matches(labels)).isTrue();
+            assertThat(LabelSelectorQuery.builder().build().matches(null)).isTrue();
+        }
+
+        @Test
+        void shouldMatchEquality() {
+            assertThat(LabelSelectorQuery.equals("app", "web").matches(labels)).isTrue();
+            assertThat(LabelSelectorQuery.equals("app", "api").matches(labels)).isFalse();
+            assertThat(LabelSelectorQuery.equals("tier", "web").matches(labels)).isFalse();
+        }
+
+        @Test
+        void shouldMatchNotEqualsWhenLabelIsMissing() {
+            assertThat(LabelSelectorQuery.notEquals("app", "web").matches(labels)).isFalse();
+            assertThat(LabelSelectorQuery.notEquals("app", "api").matches(labels)).isTrue();
+            assertThat(LabelSelectorQuery.notEquals("tier", "web").matches(labels)).isTrue();
+        }
+
+        @Test
+        void shouldMatchSetRequirements() {
+            assertThat(LabelSelectorQuery.in("env", "staging", "prod").matches(labels)).isTrue();
+            assertThat(LabelSelectorQuery.in("env", "staging").matches(labels)).isFalse();
+            assertThat(LabelSelectorQuery.notIn("env", "staging", "prod").matches(labels)).isFalse();
+            assertThat(LabelSelectorQuery.notIn("tier", "backend").matches(labels)).isTrue();
+        }
+
+        @Test
+        void shouldMatchExistence() {
+            assertThat(LabelSelectorQuery.exists("app").matches(labels)).isTrue();
+            assertThat(LabelSelectorQuery.exists("tier").matches(null)).isFalse();
+            assertThat(LabelSelectorQuery.notExists("tier").matches(labels)).isTrue();
+            assertThat(LabelSelectorQuery.notExists("app").matches(labels)).isFalse();
+        }
+
+        @Test
+        void shouldRequireAllRequirements() {
+            final LabelSelectorQuery query = LabelSelectorQuery.builder()
+                    .equals("app", "web")
+                    .in("env", "staging")
+                    .build();
+
+            assertThat(query.matches(labels)).isFalse();
+            assertThat(query.matches(Map.of("app", "web", "env", "staging"))).isTrue();
+        }
+    }
+
+    @Nested
+    class Parsing {
+
+        @Test
+        void shouldParseAllOperators() {
+            final LabelSelectorQuery query = LabelSelectorQuery.parse(
+                    "app=web, tier==frontend,env!=dev,zone in (a, b),region notin (x),managed,!canary");
+
+            assertThat(query.getRequirements())
+                    .extracting(Requirement::getOperator)
+                    .containsExactly(Operator.EQUALS, Operator.EQUALS, Operator.NOT_EQUALS, Operator.IN,
+                            Operator.NOT_IN, Operator.EXISTS, Operator.NOT_EXISTS);
+            assertThat(query.toQueryString())
+                    .isEqualTo("app=web,tier=frontend,env!=dev,zone in (a,b),region notin (x),managed,!canary");
+        }
+
+        @Test
+        void shouldRoundTripQueryString() {
+            final LabelSelectorQuery query = LabelSelectorQuery.builder()
+                    .equals("app.kubernetes.io/name", "shop")
+                    .notIn("env", "dev", "test")
+                    .notExists("legacy")
+                    .build();
+
+            assertThat(LabelSelectorQuery.parse(query.toQueryString()).toQueryString())
+                    .isEqualTo(query.toQueryString());
+        }
+
+        @Test
+        void shouldParseEmptySelector() {
+            assertThat(LabelSelectorQuery.parse(null).isEmpty()).isTrue();
+            assertThat(LabelSelectorQuery.parse("  ").isEmpty()).isTrue();
+        }
+
+        @Test
+        void shouldParseEmptyValue() {
+            final LabelSelectorQuery query = LabelSelectorQuery.parse("app=");
+
+            assertThat(query.getRequirements().get(0).getValues()).containsExactly("");
+        }
+
+        @Test
+        void shouldNotTreatKeyStartingWithInAsOperator() {
+            final LabelSelectorQuery query = LabelSelectorQuery.parse("internal,index=1");
+
+            assertThat(query.getRequirements())
+                    .extracting(Requirement::getKey)
+                    .containsExactly("internal", "index");
+        }
+
+        @Test
+        void shouldRejectMalformedSelectors() {
+            for (final String selector : List.of("app=web,", ",app", "app in (a", "app in a", "!", "app=web tier=x")) {
+                assertThatThrownBy(() -> LabelSelectorQuery.parse(selector))
+                        .as(selector)
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("Invalid selector");
+            }
+        }
+    }
+
+    @Nested
+    class Compilation {
+
+        @Test
+        void shouldAgreeWithMatches() {
+            final List<LabelSelectorQuery> queries = List.of(
+                    LabelSelectorQuery.parse(""),
+                    LabelSelectorQuery.parse("app=web"),
+                    LabelSelectorQuery.parse("app!=web"),
+                    LabelSelectorQuery.parse("env in (prod,staging),app"),
+                    LabelSelectorQuery.parse("env notin (prod,staging),!tier"));
+            final List<Map<String, String>> labelSets = List.of(
+                    Map.of(),
+                    Map.of("app", "web"),
+                    Map.of("app", "api", "env", "prod"),
+                    Map.of("app", "web", "env", "staging", "tier", "db"),
+                    Map.of("env", "dev"));
+
+            for (final LabelSelectorQuery query : queries) {
+                final Predicate<Map<String, String>> compiled = query.compile();
+                for (final Map<String, String> labels : labelSets) {
+                    assertThat(compiled.test(labels)).as(query + " on " + labels).isEqualTo(query.matches(labels));
+                }
+                assertThat(compiled.test(null)).isEqualTo(query.matches(null));
+            }
+        }
+    }
 }
@@ -0,0 +1,107 @@
+package io.elev8.core.watch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventRingBufferTest {
+
+    @Test
+    void shouldRejectOfferWhenFull() {
+        final EventRingBuffer<String> buffer = new EventRingBuffer<>(3);
+
+        assertThat(buffer.offer("a")).isTrue();
+        assertThat(buffer.offer("b")).isTrue();
+        assertThat(buffer.offer("c")).isTrue();
+        assertThat(buffer.offer("d")).isFalse();
+        assertThat(buffer.size()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldKeepFifoOrderAcrossWrapAround() {
+        final EventRingBuffer<Integer> buffer = new EventRingBuffer<>(3);
+        final List<Integer> taken = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+            if (i % 2 == 1) {
+                taken.add(buffer.poll());
+                taken.add(buffer.poll());
+            }
+        }
+
+        assertThat(taken).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    void shouldTransferAllElementsBetweenThreadsInOrder() throws InterruptedException {
+        final EventRingBuffer<Integer> buffer = new EventRingBuffer<>(16);
+        final int count = 100_000;
+        final Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!buffer.offer(i)) {
+                    buffer.awaitSpace(() -> false);
+                }
+            }
+        });
+        producer.start();
+
+        final List<Integer> received = new ArrayList<>(count);
+        while (received.size() < count) {
+            final Integer element = buffer.poll();
+            if (element != null) {
+                received.add(element);
+            } else {
+                buffer.awaitElement(() -> false, 1_000_000L);
+            }
+        }
+        producer.join(1000);
+
+        for (int i = 0; i < count; i++) {
+            assertThat(received.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void shouldLetProducerDiscardOldestWhileConsumerPolls() throws InterruptedException {
+        final EventRingBuffer<Integer> buffer = new EventRingBuffer<>(4);
+        final int count = 100_000;
+        final List<Integer> received = new ArrayList<>();
+        final Thread consumer = new Thread(() -> {
+            Integer last = -1;
+            while (last != count - 1) {
+                final Integer element = buffer.poll();
+                if (element != null) {
+                    received.add(element);
+                    last = element;
+                }
+            }
+        });
+        consumer.start();
+
+        int discarded = 0;
+        for (int i = 0; i < count; i++) {
+            while (!buffer.offer(i)) {
+                if (buffer.poll() != null) {
+                    discarded++;
+                }
+            }
+        }
+        consumer.join(5000);
+
+        assertThat(consumer.isAlive()).isFalse();
+        assertThat(received).isSorted().doesNotHaveDuplicates();
+        assertThat(received.size() + discarded).isEqualTo(count);
+    }
+
+    @Test
+    void shouldRejectNonPositiveCapacity() {
+        assertThatThrownBy(() -> new EventRingBuffer<>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -166,6 +166,72 @@ class ResourceChangeStreamTest {
             assertThat(stream.next().getResource()).isEqualTo("second");
             assertThat(stream.hasNext()).isFalse();
         }
+
+        @Test
+        void shouldWakeWaitingConsumerOnEnqueue() throws InterruptedException {
+            final CountDownLatch received = new CountDownLatch(1);
+            final Thread consumer = new Thread(() -> {
+                stream.next();
+                received.countDown();
+            });
+            consumer.start();
+            Thread.sleep(50);
+
+            stream.enqueue(createEvent(ResourceChangeType.CREATED, "late"));
+
+            assertThat(received.await(1, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        void shouldWakeWaitingConsumerOnClose() throws InterruptedException {
+            final AtomicBoolean noSuchElement = new AtomicBoolean();
+            final Thread consumer = new Thread(() -> {
+                try {
+                    stream.next();
+                } catch (NoSuchElementException e) {
+                    noSuchElement.set(true);
+                }
+            });
+            consumer.start();
+            Thread.sleep(50);
+
+            stream.close();
+            consumer.join(1000);
+
+            assertThat(consumer.isAlive()).isFalse();
+            assertThat(noSuchElement).isTrue();
+        }
+    }
+
+    @Nested
+    class DrainTo {
+
+        @Test
+        void shouldDrainUpToMaxEventsInOrder() {
+            for (int i = 0; i < 5; i++) {
+                stream.enqueue(createEvent(ResourceChangeType.CREATED, "event-" + i));
+            }
+            final List<ResourceChangeEvent<String>> batch = new ArrayList<>();
+
+            assertThat(stream.drainTo(batch, 3)).isEqualTo(3);
+
+            assertThat(batch).extracting(ResourceChangeEvent::getResource)
+                    .containsExactly("event-0", "event-1", "event-2");
+            assertThat(stream.getQueueSize()).isEqualTo(2);
+        }
+
+        @Test
+        void shouldReturnZeroWhenEmpty() {
+            assertThat(stream.drainTo(new ArrayList<>(), 10)).isZero();
+        }
+
+        @Test
+        void shouldThrowWhenErrorOccurred() {
+            stream.setError(new RuntimeException("test error"));
+
+            assertThatThrownBy(() -> stream.drainTo(new ArrayList<>(), 10))
+                    .isInstanceOf(WatchStreamException.class);
+        }
     }
 
     @Nested
@@ -338,6 +404,111 @@ class ResourceChangeStreamTest {
         }
     }
 
+    @Nested
+    class Overflow {
+
+        @Test
+        void shouldDropOldestWhenFull() {
+            final ResourceChangeStream<String> s = new ResourceChangeStream<>(2, OverflowPolicy.DROP_OLDEST, null, null);
+
+            s.enqueue(createEvent(ResourceChangeType.CREATED, "a"));
+            s.enqueue(createEvent(ResourceChangeType.CREATED, "b"));
+            s.enqueue(createEvent(ResourceChangeType.CREATED, "c"));
+
+            assertThat(s.getQueueSize()).isEqualTo(2);
+            assertThat(s.getDroppedEventCount()).isEqualTo(1);
+            assertThat(s.next().getResource()).isEqualTo("b");
+            assertThat(s.next().getResource()).isEqualTo("c");
+            s.close();
+        }
+
+        @Test
+        void shouldCoalescePendingUpdatesForSameKey() {
+            final ResourceChangeStream<String> s = coalescing(10);
+
+            s.enqueue(updateEvent("a:2", "a:1", "2"));
+            s.enqueue(updateEvent("b:2", "b:1", "3"));
+            s.enqueue(updateEvent("a:3", "a:2", "4"));
+            s.enqueue(updateEvent("a:4", "a:3", "5"));
+
+            assertThat(s.getQueueSize()).isEqualTo(2);
+            final ResourceChangeEvent<String> first = s.next();
+            assertThat(first.getResource()).isEqualTo("a:4");
+            assertThat(first.getPreviousResource()).isEqualTo("a:1");
+            assertThat(first.getResourceVersion()).isEqualTo("5");
+            assertThat(s.next().getResource()).isEqualTo("b:2");
+            s.close();
+        }
+
+        @Test
+        void shouldNotCoalesceUpdateAlreadyConsumed() {
+            final ResourceChangeStream<String> s = coalescing(10);
+
+            s.enqueue(updateEvent("a:2", "a:1", "2"));
+            assertThat(s.next().getResource()).isEqualTo("a:2");
+            s.enqueue(updateEvent("a:3", "a:2", "3"));
+
+            final ResourceChangeEvent<String> next = s.next();
+            assertThat(next.getResource()).isEqualTo("a:3");
+            assertThat(next.getPreviousResource()).isEqualTo("a:2");
+            s.close();
+        }
+
+        @Test
+        void shouldKeepOrderAroundOtherEventTypes() {
+            final ResourceChangeStream<String> s = coalescing(10);
+
+            s.enqueue(updateEvent("a:2", "a:1", "2"));
+            s.enqueue(ResourceChangeEvent.<String>builder()
+                    .type(ResourceChangeType.DELETED)
+                    .previousResource("a:2")
+                    .build());
+            s.enqueue(createEvent(ResourceChangeType.CREATED, "a:3"));
+            s.enqueue(updateEvent("a:4", "a:3", "5"));
+
+            assertThat(s.getQueueSize()).isEqualTo(4);
+            assertThat(s.next().getType()).isEqualTo(ResourceChangeType.UPDATED);
+            assertThat(s.next().getType()).isEqualTo(ResourceChangeType.DELETED);
+            assertThat(s.next().getType()).isEqualTo(ResourceChangeType.CREATED);
+            assertThat(s.next().getResource()).isEqualTo("a:4");
+            s.close();
+        }
+
+        @Test
+        void shouldBoundQueueByDistinctKeysUnderChurn() throws InterruptedException {
+            final ResourceChangeStream<String> s = coalescing(4);
+            final Thread producer = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    s.enqueue(updateEvent("key-" + (i % 3) + ":" + i, null, String.valueOf(i)));
+                }
+                s.signalClose();
+            });
+            producer.start();
+            producer.join(5000);
+
+            assertThat(producer.isAlive()).isFalse();
+            assertThat(s.getQueueSize()).isLessThanOrEqualTo(3);
+            final List<String> latest = new ArrayList<>();
+            s.forEach(event -> latest.add(event.getResource()));
+            assertThat(latest).containsExactlyInAnyOrder("key-0:9999", "key-1:9997", "key-2:9998");
+        }
+
+        private ResourceChangeStream<String> coalescing(final int capacity) {
+            return new ResourceChangeStream<>(capacity, OverflowPolicy.COALESCE_BY_KEY,
+                    resource -> resource.substring(0, resource.indexOf(':')), null);
+        }
+
+        private ResourceChangeEvent<String> updateEvent(final String resource, final String previous,
+                                                        final String resourceVersion) {
+            return ResourceChangeEvent.<String>builder()
+                    .type(ResourceChangeType.UPDATED)
+                    .resource(resource)
+                    .previousResource(previous)
+                    .resourceVersion(resourceVersion)
+                    .build();
+        }
+    }
+
     @Nested
     class QueueSize {
 
@@ -384,6 +555,43 @@ class ResourceChangeStreamTest {
             assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
             assertThat(consumed).hasSize(100);
         }
+
+        @Test
+        void shouldBlockProducerWhenFullUntilConsumed() throws InterruptedException {
+            final ResourceChangeStream<String> small = new ResourceChangeStream<>(2, null);
+            final List<String> consumed = new ArrayList<>();
+            final Thread producer = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    small.enqueue(createEvent(ResourceChangeType.CREATED, "event-" + i));
+                }
+                small.signalClose();
+            });
+            producer.start();
+
+            while (small.hasNext()) {
+                assertThat(small.getQueueSize()).isLessThanOrEqualTo(2);
+                consumed.add(small.next().getResource());
+            }
+
+            producer.join(1000);
+            assertThat(consumed).hasSize(1000);
+            assertThat(consumed.get(999)).isEqualTo("event-999");
+        }
+
+        @Test
+        void shouldReleaseBlockedProducerOnClose() throws InterruptedException {
+            final ResourceChangeStream<String> small = new ResourceChangeStream<>(1, null);
+            small.enqueue(createEvent(ResourceChangeType.CREATED, "first"));
+            final Thread producer = new Thread(() -> small.enqueue(createEvent(ResourceChangeType.CREATED, "second")));
+            producer.start();
+            Thread.sleep(50);
+
+            small.close();
+            producer.join(1000);
+
+            assertThat(producer.isAlive()).isFalse();
+            assertThat(small.getQueueSize()).isEqualTo(1);
+        }
     }
 
     private ResourceChangeEvent<String> createEvent(final ResourceChangeType type, final String resource) {
@@ -23,6 +23,12 @@ class StreamOptionsTest {
             assertThat(options.isTrackPreviousState()).isTrue();
         }
 
+        @Test
+        void shouldBlockOnOverflowByDefault() {
+            final StreamOptions options = StreamOptions.defaults();
+            assertThat(options.getOverflowPolicy()).isEqualTo(OverflowPolicy.BLOCK);
+        }
+
         @Test
         void shouldHaveDefaultWatchOptions() {
             final StreamOptions options = StreamOptions.defaults();
@@ -75,6 +81,23 @@ class StreamOptionsTest {
         }
     }
 
+    @Nested
+    class WithOverflowPolicy {
+
+        @Test
+        void shouldSetOverflowPolicy() {
+            final StreamOptions options = StreamOptions.withOverflowPolicy(OverflowPolicy.COALESCE_BY_KEY);
+
+            assertThat(options.getOverflowPolicy()).isEqualTo(OverflowPolicy.COALESCE_BY_KEY);
+            assertThat(options.getQueueCapacity()).isEqualTo(1000);
+        }
+
+        @Test
+        void shouldFallBackToBlockForNull() {
+            assertThat(StreamOptions.withOverflowPolicy(null).getOverflowPolicy()).isEqualTo(OverflowPolicy.BLOCK);
+        }
+    }
+
     @Nested
     class WithLabelSelector {
 
@@ -90,4 +90,29 @@ class WatchOptionsTest {
         assertEquals(300, options.getTimeoutSeconds());
         assertTrue(options.getAllowWatchBookmarks());
     }
+
+    @Test
+    void testWithInitialEvents() {
+        final WatchOptions options = WatchOptions.builder()
+                .resourceVersion("12345")
+                .allowWatchBookmarks(false)
+                .labelSelector("app=myapp")
+                .build()
+                .withInitialEvents();
+
+        assertNull(options.getResourceVersion());
+        assertTrue(options.getAllowWatchBookmarks());
+        assertTrue(options.getSendInitialEvents());
+        assertEquals(WatchOptions.RESOURCE_VERSION_MATCH_NOT_OLDER_THAN, options.getResourceVersionMatch());
+        assertEquals("app=myapp", options.getLabelSelector());
+        assertEquals(300, options.getTimeoutSeconds());
+    }
+
+    @Test
+    void testDefaultsDoNotRequestInitialEvents() {
+        final WatchOptions options = WatchOptions.defaults();
+
+        assertNull(options.getSendInitialEvents());
+        assertNull(options.getResourceVersionMatch());
+    }
 }
@@ -1,5 +1,6 @@
 package io.elev8.reactor;
 
+import io.elev8.core.http.StreamHandle;
 import io.elev8.core.list.ListOptions;
 import io.elev8.core.patch.ApplyOptions;
 import io.elev8.core.patch.PatchOptions;
@@ -10,11 +11,13 @@ import io.elev8.resources.ClusterResourceManager;
 import io.elev8.resources.KubernetesResource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Abstract base implementation of ReactiveClusterResourceManager that wraps a synchronous ClusterResourceManager.
@@ -105,11 +108,19 @@ public class AbstractReactiveClusterResourceManager<T extends KubernetesResource
                 }
             };
 
-            sink.onCancel(watcher::close);
-            sink.onDispose(watcher::close);
+            final AtomicReference<StreamHandle> handle = new AtomicReference<>();
+            final Disposable stop = () -> {
+                watcher.close();
+                closeHandle(handle.get());
+            };
+            sink.onCancel(stop);
+            sink.onDispose(stop);
 
             try {
-                delegate.watch(options, watcher);
+                handle.set(delegate.watch(options, watcher));
+                if (sink.isCancelled()) {
+                    closeHandle(handle.get());
+                }
             } catch (Exception e) {
                 sink.error(e);
             }
@@ -129,4 +140,10 @@ public class AbstractReactiveClusterResourceManager<T extends KubernetesResource
     public ClusterResourceManager<T> getDelegate() {
         return delegate;
     }
+
+    private static void closeHandle(final StreamHandle handle) {
+        if (handle != null) {
+            handle.close();
+        }
+    }
 }
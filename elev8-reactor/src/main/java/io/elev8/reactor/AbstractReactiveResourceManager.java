@@ -1,5 +1,6 @@
 package io.elev8.reactor;
 
+import io.elev8.core.http.StreamHandle;
 import io.elev8.core.list.ListOptions;
 import io.elev8.core.patch.ApplyOptions;
 import io.elev8.core.patch.PatchOptions;
@@ -10,11 +11,13 @@ import io.elev8.resources.KubernetesResource;
 import io.elev8.resources.ResourceManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Abstract base implementation of ReactiveResourceManager that wraps a synchronous ResourceManager.
@@ -116,11 +119,19 @@ public class AbstractReactiveResourceManager<T extends KubernetesResource> imple
                 }
             };
 
-            sink.onCancel(watcher::close);
-            sink.onDispose(watcher::close);
+            final AtomicReference<StreamHandle> handle = new AtomicReference<>();
+            final Disposable stop = () -> {
+                watcher.close();
+                closeHandle(handle.get());
+            };
+            sink.onCancel(stop);
+            sink.onDispose(stop);
 
             try {
-                delegate.watch(namespace, options, watcher);
+                handle.set(delegate.watch(namespace, options, watcher));
+                if (sink.isCancelled()) {
+                    closeHandle(handle.get());
+                }
             } catch (Exception e) {
                 sink.error(e);
             }
@@ -153,11 +164,19 @@ public class AbstractReactiveResourceManager<T extends KubernetesResource> imple
                 }
             };
 
-            sink.onCancel(watcher::close);
-            sink.onDispose(watcher::close);
+            final AtomicReference<StreamHandle> handle = new AtomicReference<>();
+            final Disposable stop = () -> {
+                watcher.close();
+                closeHandle(handle.get());
+            };
+            sink.onCancel(stop);
+            sink.onDispose(stop);
 
             try {
-                delegate.watchAllNamespaces(options, watcher);
+                handle.set(delegate.watchAllNamespaces(options, watcher));
+                if (sink.isCancelled()) {
+                    closeHandle(handle.get());
+                }
             } catch (Exception e) {
                 sink.error(e);
             }
@@ -177,4 +196,10 @@ public class AbstractReactiveResourceManager<T extends KubernetesResource> imple
     public ResourceManager<T> getDelegate() {
         return delegate;
     }
+
+    private static void closeHandle(final StreamHandle handle) {
+        if (handle != null) {
+            handle.close();
+        }
+    }
 }
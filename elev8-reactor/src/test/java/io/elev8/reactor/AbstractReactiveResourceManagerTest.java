@@ -1,5 +1,6 @@
 package io.elev8.reactor;
 
+import io.elev8.core.http.StreamHandle;
 import io.elev8.core.list.ListOptions;
 import io.elev8.core.patch.ApplyOptions;
 import io.elev8.core.patch.PatchOptions;
@@ -229,6 +230,25 @@ class AbstractReactiveResourceManagerTest {
                 .verifyComplete();
     }
 
+    @Test
+    void shouldCancelWatchRequestWhenSubscriptionIsCancelled() throws ResourceException {
+        final StreamHandle handle = mock(StreamHandle.class);
+        final WatchOptions options = WatchOptions.defaults();
+
+        doAnswer(invocation -> {
+            final Watcher<TestResource> watcher = invocation.getArgument(2);
+            watcher.onEvent(WatchEvent.of(WatchEventType.ADDED, resource1));
+            return handle;
+        }).when(delegate).watch(eq("default"), eq(options), any());
+
+        StepVerifier.create(manager.watch("default", options))
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+
+        verify(handle, timeout(1000).atLeastOnce()).close();
+    }
+
     @Test
     void shouldWatchAllNamespaces() throws ResourceException {
         when(resource1.getNamespace()).thenReturn("ns1");
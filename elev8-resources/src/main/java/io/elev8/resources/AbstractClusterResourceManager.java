@@ -1,21 +1,23 @@
 package io.elev8.resources;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import io.elev8.core.client.KubernetesClient;
 import io.elev8.core.client.KubernetesClientException;
 import io.elev8.core.http.HttpClient;
 import io.elev8.core.http.HttpResponse;
+import io.elev8.core.http.StreamHandle;
 import io.elev8.core.list.ListOptions;
 import io.elev8.core.patch.ApplyOptions;
 import io.elev8.core.patch.PatchOptions;
 import io.elev8.core.watch.ResourceChangeStream;
 import io.elev8.core.watch.StreamOptions;
-import io.elev8.core.watch.WatchEvent;
 import io.elev8.core.watch.WatchOptions;
 import io.elev8.core.watch.Watcher;
+import io.elev8.resources.metadata.ClusterPartialObjectMetadataManager;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Abstract base class for managing cluster-scoped Kubernetes resources.
@@ -29,6 +31,8 @@ public abstract class AbstractClusterResourceManager<T extends KubernetesResourc
     protected final KubernetesClient client;
     protected final Class<T> resourceClass;
     protected final String apiPath;
+    private final ResourceCodec<T> codec;
+    private final StreamingListDecoder<T> listDecoder;
 
     protected AbstractClusterResourceManager(final KubernetesClient client,
                                             final Class<T> resourceClass,
@@ -36,6 +40,8 @@ public abstract class AbstractClusterResourceManager<T extends KubernetesResourc
         this.client = client;
         this.resourceClass = resourceClass;
         this.apiPath = apiPath;
+        this.codec = ResourceCodec.forType(resourceClass);
+        this.listDecoder = new StreamingListDecoder<>(resourceClass);
     }
 
     @Override
@@ -52,9 +58,7 @@ public abstract class AbstractClusterResourceManager<T extends KubernetesResourc
                         response.getStatusCode());
             }
 
-            final ResourceList<T> resourceList = AbstractResource.getObjectMapper().readValue(
-                    response.getBody(),
-                    new TypeReference<ResourceList<T>>() {});
+            final ResourceList<T> resourceList = codec.readList(response.getBody());
 
             return resourceList.getItems();
 
@@ -79,9 +83,7 @@ public abstract class AbstractClusterResourceManager<T extends KubernetesResourc
                         response.getStatusCode());
             }
 
-            final ResourceList<T> resourceList = AbstractResource.getObjectMapper().readValue(
-                    response.getBody(),
-                    new TypeReference<ResourceList<T>>() {});
+            final ResourceList<T> resourceList = codec.readList(response.getBody());
 
             return resourceList.getItems();
 
@@ -92,6 +94,14 @@ public abstract class AbstractClusterResourceManager<T extends KubernetesResourc
         }
     }
 
+    @Override
+    public ResourceList.ListMetadata listStreaming(final ListOptions options, final Consumer<? super T> consumer)
+            throws ResourceException {
+        final String path = buildClusterPath();
+        log.debug("Streaming cluster resource list at path: {}", path);
+        return listDecoder.list(client, path, options, consumer);
+    }
+
     @Override
     public T get(final String name) throws ResourceException {
         try {
@@ -239,67 +249,154 @@ public abstract class AbstractClusterResourceManager<T extends KubernetesResourc
         }
     }
 
+    @Override
+    public CompletableFuture<List<T>> listAsync(final ListOptions options) {
+        final String path = buildClusterPath();
+        log.debug("Listing cluster resources asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.getAsync(path, options), "Failed to list resources", response -> {
+            if (!response.isSuccessful()) {
+                throw new ResourceException(
+                        "Failed to list resources: " + response.getBody(),
+                        response.getStatusCode());
+            }
+
+            final ResourceList<T> resourceList = codec.readList(response.getBody());
+
+            return resourceList.getItems();
+        });
+    }
+
+    @Override
+    public CompletableFuture<T> getAsync(final String name) {
+        final String path = buildResourcePath(name);
+        log.debug("Getting cluster resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.getAsync(path), "Failed to get resource", response -> {
+            if (response.isNotFound()) {
+                throw new ResourceException("Resource not found: " + name, 404);
+            }
+
+            if (!response.isSuccessful()) {
+                throw new ResourceException(
+                        "Failed to get resource: " + response.getBody(),
+                        response.getStatusCode());
+            }
+
+            return AbstractResource.fromJson(response.getBody(), resourceClass);
+        });
+    }
+
+    @Override
+    public CompletableFuture<T> createAsync(final T resource) {
+        final String path = buildClusterPath();
+        log.debug("Creating cluster resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.postAsync(path, resource.toJson()), "Failed to create resource",
+                response -> {
+                    if (!response.isSuccessful()) {
+                        throw new ResourceException(
+                                "Failed to create resource: " + response.getBody(),
+                                response.getStatusCode());
+                    }
+
+                    return AbstractResource.fromJson(response.getBody(), resourceClass);
+                });
+    }
+
+    @Override
+    public CompletableFuture<T> updateAsync(final T resource) {
+        final String name = resource.getName();
+        if (name == null) {
+            return CompletableFuture.failedFuture(new ResourceException("Resource name is required for update"));
+        }
+
+        final String path = buildResourcePath(name);
+        log.debug("Updating cluster resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.putAsync(path, resource.toJson()), "Failed to update resource",
+                response -> {
+                    if (!response.isSuccessful()) {
+                        throw new ResourceException(
+                                "Failed to update resource: " + response.getBody(),
+                                response.getStatusCode());
+                    }
+
+                    return AbstractResource.fromJson(response.getBody(), resourceClass);
+                });
+    }
+
+    @Override
+    public CompletableFuture<T> patchAsync(final String name, final PatchOptions options,
+                                             final String patchBody) {
+        final String path = buildResourcePath(name);
+        log.debug("Patching cluster resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.patchAsync(path, options, patchBody), "Failed to patch cluster resource",
+                response -> {
+                    if (!response.isSuccessful()) {
+                        throw new ResourceException(
+                                "Failed to patch resource: " + response.getBody(),
+                                response.getStatusCode());
+                    }
+
+                    return AbstractResource.fromJson(response.getBody(), resourceClass);
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(final String name) {
+        final String path = buildResourcePath(name);
+        log.debug("Deleting cluster resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.deleteAsync(path), "Failed to delete resource", response -> {
+            if (!response.isSuccessful() && !response.isNotFound()) {
+                throw new ResourceException(
+                        "Failed to delete resource: " + response.getBody(),
+                        response.getStatusCode());
+            }
+            return null;
+        });
+    }
+
     @Override
     public String getApiPath() {
         return apiPath;
     }
 
+    /**
+     * Returns a read-only manager for the same resource type that lists and watches only the
+     * metadata of each object, for informers and lists that do not need spec or status.
+     *
+     * @return the metadata-only manager
+     */
+    public ClusterPartialObjectMetadataManager metadataOnly() {
+        return new ClusterPartialObjectMetadataManager(client, apiPath, getResourceTypePlural());
+    }
+
     @Override
-    public void watch(final WatchOptions options, final Watcher<T> watcher) throws ResourceException {
+    public StreamHandle watch(final WatchOptions options, final Watcher<T> watcher) throws ResourceException {
         try {
             final String path = buildClusterPath();
             log.debug("Watching cluster resources at path: {}", path);
 
-            final HttpClient.StreamHandler handler = new HttpClient.StreamHandler() {
-                @Override
-                public void onLine(final String line) {
-                    try {
-                        final WatchEvent<T> event = AbstractResource.getObjectMapper().readValue(
-                                line,
-                                AbstractResource.getObjectMapper().getTypeFactory()
-                                        .constructParametricType(WatchEvent.class, resourceClass));
-                        watcher.onEvent(event);
-                    } catch (Exception e) {
-                        log.error("Failed to parse watch event", e);
-                        watcher.onError(e);
-                    }
-                }
-
-                @Override
-                public void onError(final Exception exception) {
-                    watcher.onError(exception);
-                }
-
-                @Override
-                public void onClose() {
-                    watcher.onClose();
-                }
-            };
+            final HttpClient.StreamHandler handler =
+                    WatchEventDecoder.streamHandler(resourceClass, options, watcher);
 
-            client.watch(path, options, handler);
+            return client.watch(path, options, handler);
 
         } catch (KubernetesClientException e) {
+            if (e.hasStatusCode()) {
+                throw new ResourceException("Failed to watch cluster resources", e.getStatusCode(), e);
+            }
             throw new ResourceException("Failed to watch cluster resources", e);
         }
     }
 
     @Override
     public ResourceChangeStream<T> stream(final StreamOptions options) throws ResourceException {
-        final StreamOptions effectiveOptions = options != null ? options : StreamOptions.defaults();
-        final ResourceChangeStream<T> stream = new ResourceChangeStream<>(
-                effectiveOptions.getQueueCapacity(),
-                () -> {}
-        );
-
-        final WatchStreamAdapter<T> adapter = new WatchStreamAdapter<>(
-                stream,
-                effectiveOptions.isTrackPreviousState()
-        );
-
         log.debug("Starting resource change stream for cluster-scoped resources");
-        watch(effectiveOptions.getWatchOptions(), adapter);
-
-        return stream;
+        return WatchStreamAdapter.open(options, (watchOptions, watcher) -> watch(watchOptions, watcher));
     }
 
     /**
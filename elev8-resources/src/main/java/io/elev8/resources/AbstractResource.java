@@ -34,14 +34,14 @@ public abstract class AbstractResource implements KubernetesResource {
     @Override
     public String toJson() {
         try {
-            return OBJECT_MAPPER.writeValueAsString(this);
+            return ResourceCodec.forType(getClass()).writer().writeValueAsString(this);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to serialize resource to JSON", e);
         }
     }
 
     /**
-     * Parse a resource from JSON.
+     * Parse a resource from JSON with the cached reader of the resource type.
      *
      * @param json JSON string
      * @param clazz resource class
@@ -50,7 +50,7 @@ public abstract class AbstractResource implements KubernetesResource {
      */
     public static <T extends KubernetesResource> T fromJson(String json, Class<T> clazz) {
         try {
-            return OBJECT_MAPPER.readValue(json, clazz);
+            return ResourceCodec.forType(clazz).read(json);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to parse resource from JSON", e);
         }
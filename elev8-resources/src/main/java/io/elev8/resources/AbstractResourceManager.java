@@ -1,21 +1,23 @@
 package io.elev8.resources;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import io.elev8.core.client.KubernetesClient;
 import io.elev8.core.client.KubernetesClientException;
 import io.elev8.core.http.HttpClient;
 import io.elev8.core.http.HttpResponse;
+import io.elev8.core.http.StreamHandle;
 import io.elev8.core.list.ListOptions;
 import io.elev8.core.patch.ApplyOptions;
 import io.elev8.core.patch.PatchOptions;
 import io.elev8.core.watch.ResourceChangeStream;
 import io.elev8.core.watch.StreamOptions;
-import io.elev8.core.watch.WatchEvent;
 import io.elev8.core.watch.WatchOptions;
 import io.elev8.core.watch.Watcher;
+import io.elev8.resources.metadata.PartialObjectMetadataManager;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Slf4j
 public abstract class AbstractResourceManager<T extends KubernetesResource> implements ResourceManager<T> {
@@ -23,11 +25,15 @@ public abstract class AbstractResourceManager<T extends KubernetesResource> impl
     protected final KubernetesClient client;
     protected final Class<T> resourceClass;
     protected final String apiPath;
+    private final ResourceCodec<T> codec;
+    private final StreamingListDecoder<T> listDecoder;
 
     protected AbstractResourceManager(final KubernetesClient client, final Class<T> resourceClass, final String apiPath) {
         this.client = client;
         this.resourceClass = resourceClass;
         this.apiPath = apiPath;
+        this.codec = ResourceCodec.forType(resourceClass);
+        this.listDecoder = new StreamingListDecoder<>(resourceClass);
     }
 
     @Override
@@ -44,9 +50,7 @@ public abstract class AbstractResourceManager<T extends KubernetesResource> impl
                         response.getStatusCode());
             }
 
-            final ResourceList<T> resourceList = AbstractResource.getObjectMapper().readValue(
-                    response.getBody(),
-                    new TypeReference<ResourceList<T>>() {});
+            final ResourceList<T> resourceList = codec.readList(response.getBody());
 
             return resourceList.getItems();
 
@@ -71,9 +75,7 @@ public abstract class AbstractResourceManager<T extends KubernetesResource> impl
                         response.getStatusCode());
             }
 
-            final ResourceList<T> resourceList = AbstractResource.getObjectMapper().readValue(
-                    response.getBody(),
-                    new TypeReference<ResourceList<T>>() {});
+            final ResourceList<T> resourceList = codec.readList(response.getBody());
 
             return resourceList.getItems();
 
@@ -98,9 +100,7 @@ public abstract class AbstractResourceManager<T extends KubernetesResource> impl
                         response.getStatusCode());
             }
 
-            final ResourceList<T> resourceList = AbstractResource.getObjectMapper().readValue(
-                    response.getBody(),
-                    new TypeReference<ResourceList<T>>() {});
+            final ResourceList<T> resourceList = codec.readList(response.getBody());
 
             return resourceList.getItems();
 
@@ -125,9 +125,7 @@ public abstract class AbstractResourceManager<T extends KubernetesResource> impl
                         response.getStatusCode());
             }
 
-            final ResourceList<T> resourceList = AbstractResource.getObjectMapper().readValue(
-                    response.getBody(),
-                    new TypeReference<ResourceList<T>>() {});
+            final ResourceList<T> resourceList = codec.readList(response.getBody());
 
             return resourceList.getItems();
 
@@ -138,6 +136,22 @@ public abstract class AbstractResourceManager<T extends KubernetesResource> impl
         }
     }
 
+    @Override
+    public ResourceList.ListMetadata listStreaming(final String namespace, final ListOptions options,
+                                                   final Consumer<? super T> consumer) throws ResourceException {
+        final String path = buildNamespacePath(namespace);
+        log.debug("Streaming resource list at path: {}", path);
+        return listDecoder.list(client, path, options, consumer);
+    }
+
+    @Override
+    public ResourceList.ListMetadata listAllNamespacesStreaming(final ListOptions options,
+                                                                final Consumer<? super T> consumer)
+            throws ResourceException {
+        log.debug("Streaming resource list across all namespaces at path: {}", apiPath);
+        return listDecoder.list(client, apiPath, options, consumer);
+    }
+
     @Override
     public T get(String namespace, String name) throws ResourceException {
         try {
@@ -291,87 +305,175 @@ public abstract class AbstractResourceManager<T extends KubernetesResource> impl
         }
     }
 
+    @Override
+    public CompletableFuture<List<T>> listAsync(final String namespace, final ListOptions options) {
+        final String path = buildNamespacePath(namespace);
+        log.debug("Listing resources asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.getAsync(path, options), "Failed to list resources", response -> {
+            if (!response.isSuccessful()) {
+                throw new ResourceException(
+                        "Failed to list resources: " + response.getBody(),
+                        response.getStatusCode());
+            }
+
+            final ResourceList<T> resourceList = codec.readList(response.getBody());
+
+            return resourceList.getItems();
+        });
+    }
+
+    @Override
+    public CompletableFuture<T> getAsync(final String namespace, final String name) {
+        final String path = buildResourcePath(namespace, name);
+        log.debug("Getting resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.getAsync(path), "Failed to get resource", response -> {
+            if (response.isNotFound()) {
+                throw new ResourceException("Resource not found: " + name, 404);
+            }
+
+            if (!response.isSuccessful()) {
+                throw new ResourceException(
+                        "Failed to get resource: " + response.getBody(),
+                        response.getStatusCode());
+            }
+
+            return AbstractResource.fromJson(response.getBody(), resourceClass);
+        });
+    }
+
+    @Override
+    public CompletableFuture<T> createAsync(final T resource) {
+        final String namespace = resource.getNamespace();
+        if (namespace == null) {
+            return CompletableFuture.failedFuture(
+                    new ResourceException("Resource namespace is required for creation"));
+        }
+
+        final String path = buildNamespacePath(namespace);
+        log.debug("Creating resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.postAsync(path, resource.toJson()), "Failed to create resource",
+                response -> {
+                    if (!response.isSuccessful()) {
+                        throw new ResourceException(
+                                "Failed to create resource: " + response.getBody(),
+                                response.getStatusCode());
+                    }
+
+                    return AbstractResource.fromJson(response.getBody(), resourceClass);
+                });
+    }
+
+    @Override
+    public CompletableFuture<T> updateAsync(final T resource) {
+        final String namespace = resource.getNamespace();
+        final String name = resource.getName();
+        if (namespace == null || name == null) {
+            return CompletableFuture.failedFuture(
+                    new ResourceException("Resource namespace and name are required for update"));
+        }
+
+        final String path = buildResourcePath(namespace, name);
+        log.debug("Updating resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.putAsync(path, resource.toJson()), "Failed to update resource",
+                response -> {
+                    if (!response.isSuccessful()) {
+                        throw new ResourceException(
+                                "Failed to update resource: " + response.getBody(),
+                                response.getStatusCode());
+                    }
+
+                    return AbstractResource.fromJson(response.getBody(), resourceClass);
+                });
+    }
+
+    @Override
+    public CompletableFuture<T> patchAsync(final String namespace, final String name, final PatchOptions options,
+                                             final String patchBody) {
+        final String path = buildResourcePath(namespace, name);
+        log.debug("Patching resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.patchAsync(path, options, patchBody), "Failed to patch resource",
+                response -> {
+                    if (!response.isSuccessful()) {
+                        throw new ResourceException(
+                                "Failed to patch resource: " + response.getBody(),
+                                response.getStatusCode());
+                    }
+
+                    return AbstractResource.fromJson(response.getBody(), resourceClass);
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(final String namespace, final String name) {
+        final String path = buildResourcePath(namespace, name);
+        log.debug("Deleting resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.deleteAsync(path), "Failed to delete resource", response -> {
+            if (!response.isSuccessful() && !response.isNotFound()) {
+                throw new ResourceException(
+                        "Failed to delete resource: " + response.getBody(),
+                        response.getStatusCode());
+            }
+            return null;
+        });
+    }
+
     @Override
     public String getApiPath() {
         return apiPath;
     }
 
+    /**
+     * Returns a read-only manager for the same resource type that lists and watches only the
+     * metadata of each object, for informers and lists that do not need spec or status.
+     *
+     * @return the metadata-only manager
+     */
+    public PartialObjectMetadataManager metadataOnly() {
+        return new PartialObjectMetadataManager(client, apiPath, getResourceTypePlural());
+    }
+
     @Override
-    public void watch(final String namespace, final WatchOptions options, final Watcher<T> watcher)
+    public StreamHandle watch(final String namespace, final WatchOptions options, final Watcher<T> watcher)
             throws ResourceException {
         try {
             final String path = buildNamespacePath(namespace);
             log.debug("Watching resources at path: {}", path);
 
-            final HttpClient.StreamHandler handler = new HttpClient.StreamHandler() {
-                @Override
-                public void onLine(final String line) {
-                    try {
-                        final WatchEvent<T> event = AbstractResource.getObjectMapper().readValue(
-                                line,
-                                AbstractResource.getObjectMapper().getTypeFactory()
-                                        .constructParametricType(WatchEvent.class, resourceClass));
-                        watcher.onEvent(event);
-                    } catch (Exception e) {
-                        log.error("Failed to parse watch event", e);
-                        watcher.onError(e);
-                    }
-                }
-
-                @Override
-                public void onError(final Exception exception) {
-                    watcher.onError(exception);
-                }
+            final HttpClient.StreamHandler handler =
+                    WatchEventDecoder.streamHandler(resourceClass, options, watcher);
 
-                @Override
-                public void onClose() {
-                    watcher.onClose();
-                }
-            };
-
-            client.watch(path, options, handler);
+            return client.watch(path, options, handler);
 
         } catch (KubernetesClientException e) {
+            if (e.hasStatusCode()) {
+                throw new ResourceException("Failed to watch resources", e.getStatusCode(), e);
+            }
             throw new ResourceException("Failed to watch resources", e);
         }
     }
 
     @Override
-    public void watchAllNamespaces(final WatchOptions options, final Watcher<T> watcher)
+    public StreamHandle watchAllNamespaces(final WatchOptions options, final Watcher<T> watcher)
             throws ResourceException {
         try {
             final String path = apiPath;
             log.debug("Watching resources across all namespaces at path: {}", path);
 
-            final HttpClient.StreamHandler handler = new HttpClient.StreamHandler() {
-                @Override
-                public void onLine(final String line) {
-                    try {
-                        final WatchEvent<T> event = AbstractResource.getObjectMapper().readValue(
-                                line,
-                                AbstractResource.getObjectMapper().getTypeFactory()
-                                        .constructParametricType(WatchEvent.class, resourceClass));
-                        watcher.onEvent(event);
-                    } catch (Exception e) {
-                        log.error("Failed to parse watch event", e);
-                        watcher.onError(e);
-                    }
-                }
-
-                @Override
-                public void onError(final Exception exception) {
-                    watcher.onError(exception);
-                }
-
-                @Override
-                public void onClose() {
-                    watcher.onClose();
-                }
-            };
+            final HttpClient.StreamHandler handler =
+                    WatchEventDecoder.streamHandler(resourceClass, options, watcher);
 
-            client.watch(path, options, handler);
+            return client.watch(path, options, handler);
 
         } catch (KubernetesClientException e) {
+            if (e.hasStatusCode()) {
+                throw new ResourceException("Failed to watch resources", e.getStatusCode(), e);
+            }
             throw new ResourceException("Failed to watch resources", e);
         }
     }
@@ -379,41 +481,15 @@ public abstract class AbstractResourceManager<T extends KubernetesResource> impl
     @Override
     public ResourceChangeStream<T> stream(final String namespace, final StreamOptions options)
             throws ResourceException {
-        final StreamOptions effectiveOptions = options != null ? options : StreamOptions.defaults();
-        final ResourceChangeStream<T> stream = new ResourceChangeStream<>(
-                effectiveOptions.getQueueCapacity(),
-                () -> {}
-        );
-
-        final WatchStreamAdapter<T> adapter = new WatchStreamAdapter<>(
-                stream,
-                effectiveOptions.isTrackPreviousState()
-        );
-
         log.debug("Starting resource change stream for namespace: {}", namespace);
-        watch(namespace, effectiveOptions.getWatchOptions(), adapter);
-
-        return stream;
+        return WatchStreamAdapter.open(options, (watchOptions, watcher) -> watch(namespace, watchOptions, watcher));
     }
 
     @Override
     public ResourceChangeStream<T> streamAllNamespaces(final StreamOptions options)
             throws ResourceException {
-        final StreamOptions effectiveOptions = options != null ? options : StreamOptions.defaults();
-        final ResourceChangeStream<T> stream = new ResourceChangeStream<>(
-                effectiveOptions.getQueueCapacity(),
-                () -> {}
-        );
-
-        final WatchStreamAdapter<T> adapter = new WatchStreamAdapter<>(
-                stream,
-                effectiveOptions.isTrackPreviousState()
-        );
-
         log.debug("Starting resource change stream for all namespaces");
-        watchAllNamespaces(effectiveOptions.getWatchOptions(), adapter);
-
-        return stream;
+        return WatchStreamAdapter.open(options, (watchOptions, watcher) -> watchAllNamespaces(watchOptions, watcher));
     }
 
     protected String buildNamespacePath(final String namespace) {
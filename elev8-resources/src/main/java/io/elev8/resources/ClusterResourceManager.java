@@ -1,5 +1,6 @@
 package io.elev8.resources;
 
+import io.elev8.core.http.StreamHandle;
 import io.elev8.core.list.ListOptions;
 import io.elev8.core.patch.ApplyOptions;
 import io.elev8.core.patch.PatchOptions;
@@ -9,6 +10,9 @@ import io.elev8.core.watch.WatchOptions;
 import io.elev8.core.watch.Watcher;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Interface for managing cluster-scoped Kubernetes resources.
@@ -36,6 +40,32 @@ public interface ClusterResourceManager<T extends KubernetesResource> {
      */
     List<T> list(ListOptions options) throws ResourceException;
 
+    /**
+     * List resources in the cluster, decoding the response incrementally.
+     * Each item is handed to the consumer as soon as it has been parsed from the response
+     * stream, so the complete list is never held in memory at once.
+     *
+     * @param options list options for filtering and pagination (may be null)
+     * @param consumer receives each resource in response order
+     * @return the list metadata (resourceVersion and continue token), or null if absent
+     * @throws ResourceException if the operation fails
+     */
+    ResourceList.ListMetadata listStreaming(ListOptions options, Consumer<? super T> consumer)
+            throws ResourceException;
+
+    /**
+     * List resources page by page as a lazy stream.
+     * The next page is fetched in the background while the current one is consumed,
+     * and an expired continue token (410) restarts the list without returning duplicates.
+     * Close the stream to stop fetching early.
+     *
+     * @param pageSize the maximum number of resources requested per page
+     * @return a lazy stream of resources; page failures surface as {@link PagedListException}
+     */
+    default Stream<T> listPaged(final int pageSize) {
+        return new PagedResourceIterator<T>(this::listStreaming, pageSize).stream();
+    }
+
     /**
      * Get a specific resource by name.
      *
@@ -97,6 +127,57 @@ public interface ClusterResourceManager<T extends KubernetesResource> {
      */
     T apply(String name, ApplyOptions options, String manifest) throws ResourceException;
 
+    /**
+     * List resources asynchronously.
+     * The request does not block the calling thread; cancelling the returned future cancels the HTTP call.
+     *
+     * @param options list options for filtering and pagination (may be null)
+     * @return a future completed with the resources, or exceptionally with a {@link ResourceException}
+     */
+    CompletableFuture<List<T>> listAsync(ListOptions options);
+
+    /**
+     * Get a specific resource by name asynchronously.
+     *
+     * @param name the resource name
+     * @return a future completed with the resource, or exceptionally with a {@link ResourceException}
+     */
+    CompletableFuture<T> getAsync(String name);
+
+    /**
+     * Create a new resource asynchronously.
+     *
+     * @param resource the resource to create
+     * @return a future completed with the created resource, or exceptionally with a {@link ResourceException}
+     */
+    CompletableFuture<T> createAsync(T resource);
+
+    /**
+     * Update an existing resource asynchronously.
+     *
+     * @param resource the resource to update
+     * @return a future completed with the updated resource, or exceptionally with a {@link ResourceException}
+     */
+    CompletableFuture<T> updateAsync(T resource);
+
+    /**
+     * Patch an existing cluster-scoped resource asynchronously.
+     *
+     * @param name the resource name
+     * @param options patch options specifying patch type and behavior
+     * @param patchBody the patch content (format depends on patch type)
+     * @return a future completed with the patched resource, or exceptionally with a {@link ResourceException}
+     */
+    CompletableFuture<T> patchAsync(String name, PatchOptions options, String patchBody);
+
+    /**
+     * Delete a resource asynchronously.
+     *
+     * @param name the resource name
+     * @return a future completed once the resource is deleted, or exceptionally with a {@link ResourceException}
+     */
+    CompletableFuture<Void> deleteAsync(String name);
+
     /**
      * Get the API path for this resource type.
      *
@@ -110,9 +191,10 @@ public interface ClusterResourceManager<T extends KubernetesResource> {
      *
      * @param options watch options for configuring the watch behavior
      * @param watcher the callback to handle watch events
+     * @return a handle that cancels the watch when closed
      * @throws ResourceException if the watch operation fails
      */
-    void watch(WatchOptions options, Watcher<T> watcher) throws ResourceException;
+    StreamHandle watch(WatchOptions options, Watcher<T> watcher) throws ResourceException;
 
     /**
      * Stream resource change events for cluster-scoped resources.
@@ -2,10 +2,7 @@ package io.elev8.resources;
 
 import io.elev8.resources.informer.Informer;
 import io.elev8.resources.informer.InformerOptions;
-import io.elev8.core.watch.ResourceChangeStream;
-
-import java.util.Collections;
-import java.util.List;
+import io.elev8.resources.informer.ListerWatcher;
 
 /**
  * Factory utility for creating Informers from ResourceManagers.
@@ -51,14 +48,13 @@ public final class Informers {
 
         final InformerOptions effectiveOptions = options != null ? options : InformerOptions.defaults();
 
-        return new Informer<>(
-                () -> safeList(() -> manager.list(namespace)),
-                () -> safeStream(() -> manager.stream(namespace, effectiveOptions.getStreamOptions()))
-        );
+        return measured(new Informer<>(ListerWatcher.forNamespace(manager, namespace, effectiveOptions),
+                effectiveOptions.isWatchList()), effectiveOptions);
     }
 
     /**
      * Creates an Informer for resources across all namespaces.
+     * If {@link InformerOptions#getShardNamespaces()} is set, the initial list is sharded by namespace.
      *
      * @param manager the resource manager
      * @param options informer options
@@ -75,10 +71,8 @@ public final class Informers {
 
         final InformerOptions effectiveOptions = options != null ? options : InformerOptions.defaults();
 
-        return new Informer<>(
-                () -> safeList(manager::listAllNamespaces),
-                () -> safeStream(() -> manager.streamAllNamespaces(effectiveOptions.getStreamOptions()))
-        );
+        return measured(new Informer<>(ListerWatcher.forAllNamespaces(manager, effectiveOptions),
+                effectiveOptions.isWatchList()), effectiveOptions);
     }
 
     /**
@@ -99,35 +93,13 @@ public final class Informers {
 
         final InformerOptions effectiveOptions = options != null ? options : InformerOptions.defaults();
 
-        return new Informer<>(
-                () -> safeList(manager::list),
-                () -> safeStream(() -> manager.stream(effectiveOptions.getStreamOptions()))
-        );
-    }
-
-    @FunctionalInterface
-    private interface ListSupplier<T> {
-        List<T> get() throws ResourceException;
-    }
-
-    @FunctionalInterface
-    private interface StreamSupplier<T> {
-        ResourceChangeStream<T> get() throws ResourceException;
+        return measured(new Informer<>(ListerWatcher.forClusterResource(manager, effectiveOptions),
+                effectiveOptions.isWatchList()), effectiveOptions);
     }
 
-    private static <T> List<T> safeList(final ListSupplier<T> supplier) {
-        try {
-            return supplier.get();
-        } catch (ResourceException e) {
-            throw new InformerException("Failed to list resources", e);
-        }
-    }
-
-    private static <T> ResourceChangeStream<T> safeStream(final StreamSupplier<T> supplier) {
-        try {
-            return supplier.get();
-        } catch (ResourceException e) {
-            throw new InformerException("Failed to start resource stream", e);
-        }
+    private static <T extends KubernetesResource> Informer<T> measured(final Informer<T> informer,
+                                                                       final InformerOptions options) {
+        informer.setMetrics(options.getMetrics());
+        return informer;
     }
 }
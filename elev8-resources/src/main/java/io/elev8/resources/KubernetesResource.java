@@ -1,5 +1,7 @@
 package io.elev8.resources;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Base interface for all Kubernetes resources.
  */
@@ -34,19 +36,21 @@ public interface KubernetesResource {
     String toJson();
 
     /**
-     * Get the resource name.
+     * Get the resource name. Shorthand for {@code metadata.name}, not serialized.
      *
      * @return the resource name
      */
+    @JsonIgnore
     default String getName() {
         return getMetadata() != null ? getMetadata().getName() : null;
     }
 
     /**
-     * Get the resource namespace.
+     * Get the resource namespace. Shorthand for {@code metadata.namespace}, not serialized.
      *
      * @return the resource namespace
      */
+    @JsonIgnore
     default String getNamespace() {
         return getMetadata() != null ? getMetadata().getNamespace() : null;
     }
@@ -0,0 +1,28 @@
+package io.elev8.resources;
+
+/**
+ * Runtime exception thrown when a page of a paginated list cannot be retrieved.
+ * This wraps the checked {@link ResourceException} raised while iterating a
+ * {@link PagedResourceIterator}, since {@link java.util.Iterator} cannot throw checked exceptions.
+ */
+public class PagedListException extends RuntimeException {
+
+    /**
+     * Constructs a new PagedListException with the specified message.
+     *
+     * @param message the detail message
+     */
+    public PagedListException(final String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new PagedListException with the specified message and cause.
+     *
+     * @param message the detail message
+     * @param cause the cause of this exception
+     */
+    public PagedListException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,225 @@
+package io.elev8.resources;
+
+import io.elev8.core.list.ListOptions;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy iterator over a paginated Kubernetes list.
+ * Pages are requested with {@code limit} and {@code continue}; while page N is being consumed,
+ * page N+1 is already being fetched and decoded in the background, so at most two pages are held
+ * in memory at any time.
+ *
+ * <p>If the API server rejects a continue token as expired (HTTP 410 Gone), the list is restarted
+ * from the beginning. The API server returns items in key order ({@code namespace/name}), so items up to
+ * and including the last one already fetched are skipped and no resource is returned twice.</p>
+ *
+ * <p>Failures are surfaced from {@link #hasNext()} and {@link #next()} as {@link PagedListException}.
+ * Close the iterator (or the stream returned by {@link #stream()}) to abandon an in-flight prefetch.</p>
+ *
+ * @param <T> the resource type
+ */
+@Slf4j
+public final class PagedResourceIterator<T extends KubernetesResource> implements Iterator<T>, AutoCloseable {
+
+    private static final int HTTP_GONE = 410;
+    private static final int MAX_RESTARTS = 3;
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Fetches a single page of resources, handing each decoded item to the consumer.
+     *
+     * @param <T> the resource type
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+
+        /**
+         * Fetch one page of the list.
+         *
+         * @param options list options carrying the page size and continue token
+         * @param consumer receives each resource of the page in order
+         * @return the list metadata of the page, or null if absent
+         * @throws ResourceException if the page cannot be retrieved
+         */
+        ResourceList.ListMetadata fetch(ListOptions options, Consumer<? super T> consumer) throws ResourceException;
+    }
+
+    private final PageFetcher<T> fetcher;
+    private final int pageSize;
+
+    private Iterator<T> current = Collections.emptyIterator();
+    private CompletableFuture<Page<T>> pending;
+    private boolean started;
+    private int restarts;
+
+    /**
+     * Create a new paged iterator.
+     *
+     * @param fetcher fetches one page of resources
+     * @param pageSize the maximum number of resources requested per page
+     */
+    public PagedResourceIterator(final PageFetcher<T> fetcher, final int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+        this.fetcher = fetcher;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!started) {
+            started = true;
+            pending = prefetch(new Page<>(List.of(), null, null, null));
+        }
+
+        while (!current.hasNext()) {
+            if (pending == null) {
+                return false;
+            }
+            final Page<T> page = await(pending);
+            pending = page.continueToken() != null ? prefetch(page) : null;
+            current = page.items().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Stop iterating and abandon any page that is still being prefetched.
+     */
+    @Override
+    public void close() {
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+        started = true;
+        current = Collections.emptyIterator();
+    }
+
+    /**
+     * Expose this iterator as a sequential stream. Closing the stream closes the iterator.
+     *
+     * @return a lazy stream over all resources of the list
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(this::close);
+    }
+
+    private CompletableFuture<Page<T>> prefetch(final Page<T> previous) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return fetchAfter(previous);
+            } catch (ResourceException e) {
+                throw new CompletionException(e);
+            }
+        }, PREFETCH_EXECUTOR);
+    }
+
+    private Page<T> fetchAfter(final Page<T> previous) throws ResourceException {
+        String continueToken = previous.continueToken();
+        String skipThrough = previous.skipThrough();
+
+        while (true) {
+            final PageCollector<T> collector = new PageCollector<>(skipThrough, previous.lastKey());
+            try {
+                final ResourceList.ListMetadata metadata = fetcher.fetch(ListOptions.builder()
+                        .limit(pageSize)
+                        .continueToken(continueToken)
+                        .build(), collector);
+
+                final String nextToken = metadata != null ? metadata.getContinueToken() : null;
+                return new Page<>(collector.items, emptyToNull(nextToken), collector.skipThrough, collector.lastKey);
+
+            } catch (ResourceException e) {
+                if (continueToken == null || !isGone(e) || ++restarts > MAX_RESTARTS) {
+                    throw e;
+                }
+                log.debug("Continue token expired, restarting list after key: {}", previous.lastKey());
+                continueToken = null;
+                skipThrough = previous.lastKey();
+            }
+        }
+    }
+
+    private Page<T> await(final CompletableFuture<Page<T>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PagedListException("Interrupted while waiting for the next page", e);
+        } catch (ExecutionException e) {
+            throw new PagedListException("Failed to fetch the next page", e.getCause());
+        }
+    }
+
+    private static boolean isGone(final ResourceException e) {
+        return e.hasStatusCode() && e.getStatusCode() == HTTP_GONE;
+    }
+
+    private static String emptyToNull(final String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static String keyOf(final KubernetesResource resource) {
+        final String namespace = resource.getNamespace();
+        return namespace != null ? namespace + "/" + resource.getName() : resource.getName();
+    }
+
+    private record Page<T>(List<T> items, String continueToken, String skipThrough, String lastKey) {}
+
+    /**
+     * Collects the items of one page, dropping those already returned before a restart.
+     */
+    private static final class PageCollector<T extends KubernetesResource> implements Consumer<T> {
+
+        private final List<T> items = new ArrayList<>();
+        private String skipThrough;
+        private String lastKey;
+
+        private PageCollector(final String skipThrough, final String lastKey) {
+            this.skipThrough = skipThrough;
+            this.lastKey = lastKey;
+        }
+
+        @Override
+        public void accept(final T item) {
+            final String key = keyOf(item);
+            if (skipThrough != null) {
+                if (key == null || key.compareTo(skipThrough) <= 0) {
+                    return;
+                }
+                skipThrough = null;
+            }
+            items.add(item);
+            lastKey = key;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package io.elev8.resources;
+
+import io.elev8.core.http.HttpClient;
+import io.elev8.core.watch.WatchEvent;
+import io.elev8.core.watch.Watcher;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Decodes the lines of a watch response on several threads and delivers the results in stream order.
+ *
+ * <p>The reader thread only frames lines: each line is queued for decoding and appended to the delivery
+ * queue. Up to {@code parallelism} decoder tasks deserialize queued lines concurrently. Whichever task
+ * finds the head of the delivery queue decoded passes it, and every decoded line behind it, to the
+ * watcher. Delivery is serialized, so the watcher is never called concurrently, and events arrive in
+ * the order the API server sent them. This keeps the order per object as well as the order of
+ * resourceVersions across objects, which informers rely on when they resume a watch.</p>
+ *
+ * <p>At most 64 lines per decoder are in flight; beyond that the reader blocks, which applies
+ * backpressure to the connection. Errors and the close of the stream are delivered after all lines
+ * received before them.</p>
+ *
+ * @param <T> the type of Kubernetes resource being watched
+ */
+@Slf4j
+public final class ParallelWatchEventDecoder<T extends KubernetesResource> implements HttpClient.StreamHandler {
+
+    private static final int WINDOW_PER_DECODER = 64;
+    private static final Executor DECODE_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("watch-decoder-", 0).factory());
+
+    private final WatchEventDecoder<T> decoder;
+    private final Watcher<T> watcher;
+    private final Executor executor;
+    private final int parallelism;
+    private final Semaphore window;
+
+    private final Queue<Slot<T>> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<Slot<T>> undecoded = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger decoders = new AtomicInteger();
+    private final AtomicBoolean delivering = new AtomicBoolean();
+
+    /**
+     * Creates a parallel decoder running on virtual threads.
+     *
+     * @param decoder decodes a single line
+     * @param watcher the watcher receiving events and errors in stream order
+     * @param parallelism the maximum number of lines decoded concurrently
+     */
+    public ParallelWatchEventDecoder(final WatchEventDecoder<T> decoder, final Watcher<T> watcher,
+                                     final int parallelism) {
+        this(decoder, watcher, parallelism, DECODE_EXECUTOR);
+    }
+
+    /**
+     * Creates a parallel decoder running on the given executor.
+     *
+     * @param decoder decodes a single line
+     * @param watcher the watcher receiving events and errors in stream order
+     * @param parallelism the maximum number of lines decoded concurrently
+     * @param executor runs the decoder tasks
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public ParallelWatchEventDecoder(final WatchEventDecoder<T> decoder, final Watcher<T> watcher,
+                                     final int parallelism, final Executor executor) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.decoder = decoder;
+        this.watcher = watcher;
+        this.parallelism = parallelism;
+        this.executor = executor;
+        this.window = new Semaphore(parallelism * WINDOW_PER_DECODER);
+    }
+
+    @Override
+    public void onLine(final String line) {
+        try {
+            window.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        final Slot<T> slot = new Slot<>(line);
+        pending.add(slot);
+        undecoded.add(slot);
+        startDecoder();
+    }
+
+    @Override
+    public void onError(final Exception exception) {
+        pending.add(Slot.decoded(target -> target.onError(exception)));
+        deliver();
+    }
+
+    @Override
+    public void onClose() {
+        pending.add(Slot.decoded(Watcher::onClose));
+        deliver();
+    }
+
+    private void startDecoder() {
+        while (true) {
+            final int active = decoders.get();
+            if (active >= parallelism) {
+                return;
+            }
+            if (decoders.compareAndSet(active, active + 1)) {
+                executor.execute(this::runDecoder);
+                return;
+            }
+        }
+    }
+
+    private void runDecoder() {
+        try {
+            Slot<T> slot;
+            while ((slot = undecoded.poll()) != null) {
+                slot.complete(decode(slot.line));
+                deliver();
+            }
+        } finally {
+            decoders.decrementAndGet();
+        }
+        // A line queued while this task was exiting may have found all decoders busy.
+        if (!undecoded.isEmpty()) {
+            startDecoder();
+        }
+    }
+
+    private Consumer<Watcher<T>> decode(final String line) {
+        final Capture<T> capture = new Capture<>();
+        try {
+            decoder.decode(line, capture);
+        } catch (RuntimeException e) {
+            log.error("Failed to decode watch event", e);
+            return target -> target.onError(e);
+        }
+        return capture.delivery;
+    }
+
+    private void deliver() {
+        while (delivering.compareAndSet(false, true)) {
+            try {
+                Slot<T> head;
+                while ((head = pending.peek()) != null && head.isDecoded()) {
+                    pending.poll();
+                    try {
+                        head.deliverTo(watcher);
+                    } catch (RuntimeException e) {
+                        log.error("Error in watcher", e);
+                    } finally {
+                        if (head.line != null) {
+                            window.release();
+                        }
+                    }
+                }
+            } finally {
+                delivering.set(false);
+            }
+            // Another thread may have decoded the head after the loop above gave up on it.
+            final Slot<T> head = pending.peek();
+            if (head == null || !head.isDecoded()) {
+                return;
+            }
+        }
+    }
+
+    private static final class Slot<T> {
+        private final String line;
+        private volatile Consumer<Watcher<T>> delivery;
+        private volatile boolean decoded;
+
+        private Slot(final String line) {
+            this.line = line;
+        }
+
+        private static <T> Slot<T> decoded(final Consumer<Watcher<T>> delivery) {
+            final Slot<T> slot = new Slot<>(null);
+            slot.complete(delivery);
+            return slot;
+        }
+
+        private void complete(final Consumer<Watcher<T>> result) {
+            this.delivery = result;
+            this.decoded = true;
+        }
+
+        private boolean isDecoded() {
+            return decoded;
+        }
+
+        private void deliverTo(final Watcher<T> target) {
+            if (delivery != null) {
+                delivery.accept(target);
+            }
+        }
+    }
+
+    /**
+     * Records what the decoder would have passed to the watcher, to be replayed in stream order.
+     */
+    private static final class Capture<T> implements Watcher<T> {
+        private Consumer<Watcher<T>> delivery;
+
+        @Override
+        public void onEvent(final WatchEvent<T> event) {
+            delivery = target -> target.onEvent(event);
+        }
+
+        @Override
+        public void onError(final Exception exception) {
+            delivery = target -> target.onError(exception);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package io.elev8.resources;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.elev8.core.watch.WatchEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cached Jackson readers and writers for one resource type.
+ *
+ * <p>A codec holds an {@link ObjectReader} for {@code T}, {@code ResourceList<T>} and
+ * {@code WatchEvent<T>}, and an {@link ObjectWriter} for {@code T}, all built once from the shared
+ * {@link AbstractResource#getObjectMapper() ObjectMapper}. The parametric types are constructed and
+ * the root (de)serializers resolved when the codec is created, so decoding a list, a single resource
+ * or a watch line does no type-factory or serializer-cache lookups. Codecs are shared per type through
+ * {@link #forType(Class)}; resource managers obtain theirs on construction, which warms up every type
+ * a client exposes before the first request.</p>
+ *
+ * <p>Like the shared ObjectMapper, readers reject properties the resource classes do not declare;
+ * {@link #setFailOnUnknownProperties(boolean)} makes them ignore such properties instead.
+ * {@link #registerBlackbird()} registers Jackson's Blackbird module, which replaces reflective
+ * property access with generated lambdas, when it is on the classpath. Both apply to codecs created
+ * afterwards, so configure them before creating clients or managers.</p>
+ *
+ * @param <T> the resource type
+ */
+@Slf4j
+public final class ResourceCodec<T extends KubernetesResource> {
+
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+    private static final Map<Class<?>, ResourceCodec<?>> CODECS = new ConcurrentHashMap<>();
+
+    private static volatile boolean failOnUnknownProperties = true;
+
+    private final Class<T> resourceClass;
+    private final ObjectReader reader;
+    private final ObjectReader listReader;
+    private final ObjectReader watchEventReader;
+    private final ObjectWriter writer;
+
+    private ResourceCodec(final ObjectMapper objectMapper, final Class<T> resourceClass,
+                          final boolean failOnUnknown) {
+        this.resourceClass = resourceClass;
+        final JavaType listType =
+                objectMapper.getTypeFactory().constructParametricType(ResourceList.class, resourceClass);
+        final JavaType eventType =
+                objectMapper.getTypeFactory().constructParametricType(WatchEvent.class, resourceClass);
+        this.reader = configure(objectMapper.readerFor(resourceClass), failOnUnknown);
+        this.listReader = configure(objectMapper.readerFor(listType), failOnUnknown);
+        this.watchEventReader = configure(objectMapper.readerFor(eventType), failOnUnknown);
+        this.writer = objectMapper.writerFor(resourceClass);
+    }
+
+    /**
+     * Returns the shared codec for a resource type, creating and warming it up on first use.
+     *
+     * @param resourceClass the resource class
+     * @param <T> the resource type
+     * @return the codec
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends KubernetesResource> ResourceCodec<T> forType(final Class<T> resourceClass) {
+        return (ResourceCodec<T>) CODECS.computeIfAbsent(resourceClass, type ->
+                new ResourceCodec<>(AbstractResource.getObjectMapper(), resourceClass, failOnUnknownProperties));
+    }
+
+    /**
+     * Creates the codecs for the given resource types ahead of their first use.
+     *
+     * @param resourceClasses the resource classes
+     */
+    @SafeVarargs
+    public static void warmUp(final Class<? extends KubernetesResource>... resourceClasses) {
+        for (final Class<? extends KubernetesResource> resourceClass : resourceClasses) {
+            forType(resourceClass);
+        }
+    }
+
+    /**
+     * Sets whether codecs created from now on reject properties the resource classes do not declare.
+     * Defaults to true. Clears the cached codecs.
+     *
+     * @param fail true to fail on unknown properties
+     */
+    public static void setFailOnUnknownProperties(final boolean fail) {
+        failOnUnknownProperties = fail;
+        CODECS.clear();
+    }
+
+    /**
+     * Registers Jackson's Blackbird module on the shared ObjectMapper if
+     * {@code com.fasterxml.jackson.module:jackson-module-blackbird} is on the classpath, and clears the
+     * cached codecs. Blackbird generates accessors for properties instead of calling them reflectively,
+     * which speeds up binding of large resources.
+     *
+     * @return true if the module was registered, false if it is not on the classpath
+     */
+    public static boolean registerBlackbird() {
+        final Module module;
+        try {
+            module = (Module) Class.forName(BLACKBIRD_MODULE).getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            log.debug("Blackbird module not on the classpath");
+            return false;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("Failed to create the Blackbird module: {}", e.getMessage());
+            return false;
+        }
+        AbstractResource.getObjectMapper().registerModule(module);
+        CODECS.clear();
+        log.info("Registered the Blackbird module on the resource ObjectMapper");
+        return true;
+    }
+
+    /**
+     * Decodes a single resource.
+     *
+     * @param json the JSON document
+     * @return the resource
+     * @throws JsonProcessingException if the document cannot be decoded
+     */
+    public T read(final String json) throws JsonProcessingException {
+        return reader.readValue(json);
+    }
+
+    /**
+     * Decodes a list of resources.
+     *
+     * @param json the JSON list document
+     * @return the list
+     * @throws JsonProcessingException if the document cannot be decoded
+     */
+    public ResourceList<T> readList(final String json) throws JsonProcessingException {
+        return listReader.readValue(json);
+    }
+
+    /**
+     * Decodes one line of a watch response.
+     *
+     * @param line the JSON-encoded watch event
+     * @return the watch event
+     * @throws JsonProcessingException if the line cannot be decoded
+     */
+    public WatchEvent<T> readWatchEvent(final String line) throws JsonProcessingException {
+        return watchEventReader.readValue(line);
+    }
+
+    /**
+     * Encodes a resource.
+     *
+     * @param resource the resource
+     * @return the JSON document
+     * @throws JsonProcessingException if the resource cannot be encoded
+     */
+    public String write(final T resource) throws JsonProcessingException {
+        return writer.writeValueAsString(resource);
+    }
+
+    /**
+     * Returns the reader for single resources.
+     *
+     * @return the reader
+     */
+    public ObjectReader reader() {
+        return reader;
+    }
+
+    /**
+     * Returns the reader for {@code ResourceList<T>}.
+     *
+     * @return the reader
+     */
+    public ObjectReader listReader() {
+        return listReader;
+    }
+
+    /**
+     * Returns the reader for {@code WatchEvent<T>}.
+     *
+     * @return the reader
+     */
+    public ObjectReader watchEventReader() {
+        return watchEventReader;
+    }
+
+    /**
+     * Returns the writer for single resources.
+     *
+     * @return the writer
+     */
+    public ObjectWriter writer() {
+        return writer;
+    }
+
+    /**
+     * Returns the resource class this codec reads and writes.
+     *
+     * @return the resource class
+     */
+    public Class<T> getResourceClass() {
+        return resourceClass;
+    }
+
+    private static ObjectReader configure(final ObjectReader reader, final boolean failOnUnknown) {
+        return failOnUnknown
+                ? reader.with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                : reader.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+}
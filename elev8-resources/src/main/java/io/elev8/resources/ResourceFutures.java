@@ -0,0 +1,79 @@
+package io.elev8.resources;
+
+import io.elev8.core.http.HttpResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Helpers for the asynchronous resource manager operations.
+ * Maps the HTTP response of a {@link io.elev8.core.client.KubernetesClient} future into a
+ * resource result, completing exceptionally with {@link ResourceException} on failure,
+ * and propagates cancellation of the resulting future back to the HTTP call.
+ */
+public final class ResourceFutures {
+
+    private ResourceFutures() {
+    }
+
+    /**
+     * Maps a successful HTTP response to a result.
+     *
+     * @param <R> the result type
+     */
+    @FunctionalInterface
+    public interface ResponseMapper<R> {
+
+        /**
+         * Convert the response into a result.
+         *
+         * @param response the HTTP response
+         * @return the result
+         * @throws Exception if the response indicates a failure or cannot be decoded
+         */
+        R map(HttpResponse response) throws Exception;
+    }
+
+    /**
+     * Map the response of an asynchronous HTTP call.
+     * A {@link ResourceException} thrown by the mapper completes the result as is; any other failure,
+     * including a failed HTTP call, is wrapped in a ResourceException with the given message.
+     * Cancelling the returned future cancels the HTTP call.
+     *
+     * @param call the asynchronous HTTP call
+     * @param failureMessage the message used when wrapping failures
+     * @param mapper converts the HTTP response into the result
+     * @param <R> the result type
+     * @return a future completed with the mapped result
+     */
+    public static <R> CompletableFuture<R> map(final CompletableFuture<HttpResponse> call,
+                                               final String failureMessage,
+                                               final ResponseMapper<R> mapper) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+
+        call.whenComplete((response, error) -> {
+            if (error != null) {
+                result.completeExceptionally(new ResourceException(failureMessage, unwrap(error)));
+                return;
+            }
+            try {
+                result.complete(mapper.map(response));
+            } catch (ResourceException e) {
+                result.completeExceptionally(e);
+            } catch (Exception e) {
+                result.completeExceptionally(new ResourceException(failureMessage, e));
+            }
+        });
+
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -1,6 +1,8 @@
 package io.elev8.resources;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -19,8 +21,11 @@ public class ResourceList<T extends KubernetesResource> {
     @Data
     @NoArgsConstructor
     @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class ListMetadata {
         String resourceVersion;
+
+        @JsonProperty("continue")
         String continueToken;
     }
 }
@@ -1,5 +1,6 @@
 package io.elev8.resources;
 
+import io.elev8.core.http.StreamHandle;
 import io.elev8.core.list.ListOptions;
 import io.elev8.core.patch.ApplyOptions;
 import io.elev8.core.patch.PatchOptions;
@@ -9,6 +10,9 @@ import io.elev8.core.watch.WatchOptions;
 import io.elev8.core.watch.Watcher;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Generic interface for managing Kubernetes resources with CRUD operations.
@@ -53,6 +57,59 @@ public interface ResourceManager<T extends KubernetesResource> {
      */
     List<T> listAllNamespaces(ListOptions options) throws ResourceException;
 
+    /**
+     * List resources in the namespace, decoding the response incrementally.
+     * Each item is handed to the consumer as soon as it has been parsed from the response
+     * stream, so the complete list is never held in memory at once.
+     * Pass {@code store::add} to populate an informer {@link io.elev8.resources.informer.Store} directly.
+     *
+     * @param namespace the namespace to list resources from
+     * @param options list options for filtering and pagination (may be null)
+     * @param consumer receives each resource in response order
+     * @return the list metadata (resourceVersion and continue token), or null if absent
+     * @throws ResourceException if the operation fails
+     */
+    ResourceList.ListMetadata listStreaming(String namespace, ListOptions options, Consumer<? super T> consumer)
+            throws ResourceException;
+
+    /**
+     * List resources across all namespaces, decoding the response incrementally.
+     * Each item is handed to the consumer as soon as it has been parsed from the response stream.
+     *
+     * @param options list options for filtering and pagination (may be null)
+     * @param consumer receives each resource in response order
+     * @return the list metadata (resourceVersion and continue token), or null if absent
+     * @throws ResourceException if the operation fails
+     */
+    ResourceList.ListMetadata listAllNamespacesStreaming(ListOptions options, Consumer<? super T> consumer)
+            throws ResourceException;
+
+    /**
+     * List resources in the namespace page by page as a lazy stream.
+     * The next page is fetched in the background while the current one is consumed,
+     * and an expired continue token (410) restarts the list without returning duplicates.
+     * Close the stream to stop fetching early.
+     *
+     * @param namespace the namespace to list resources from
+     * @param pageSize the maximum number of resources requested per page
+     * @return a lazy stream of resources; page failures surface as {@link PagedListException}
+     */
+    default Stream<T> listPaged(final String namespace, final int pageSize) {
+        return new PagedResourceIterator<T>(
+                (options, consumer) -> listStreaming(namespace, options, consumer), pageSize).stream();
+    }
+
+    /**
+     * List resources across all namespaces page by page as a lazy stream.
+     *
+     * @param pageSize the maximum number of resources requested per page
+     * @return a lazy stream of resources; page failures surface as {@link PagedListException}
+     * @see #listPaged(String, int)
+     */
+    default Stream<T> listAllNamespacesPaged(final int pageSize) {
+        return new PagedResourceIterator<T>(this::listAllNamespacesStreaming, pageSize).stream();
+    }
+
     /**
      * Get a specific resource by name.
      *
@@ -118,6 +175,61 @@ public interface ResourceManager<T extends KubernetesResource> {
      */
     T apply(String namespace, String name, ApplyOptions options, String manifest) throws ResourceException;
 
+    /**
+     * List resources in the namespace asynchronously.
+     * The request does not block the calling thread; cancelling the returned future cancels the HTTP call.
+     *
+     * @param namespace the namespace to list resources from
+     * @param options list options for filtering and pagination (may be null)
+     * @return a future completed with the resources, or exceptionally with a {@link ResourceException}
+     */
+    CompletableFuture<List<T>> listAsync(String namespace, ListOptions options);
+
+    /**
+     * Get a specific resource by name asynchronously.
+     *
+     * @param namespace the namespace
+     * @param name the resource name
+     * @return a future completed with the resource, or exceptionally with a {@link ResourceException}
+     */
+    CompletableFuture<T> getAsync(String namespace, String name);
+
+    /**
+     * Create a new resource asynchronously.
+     *
+     * @param resource the resource to create
+     * @return a future completed with the created resource, or exceptionally with a {@link ResourceException}
+     */
+    CompletableFuture<T> createAsync(T resource);
+
+    /**
+     * Update an existing resource asynchronously.
+     *
+     * @param resource the resource to update
+     * @return a future completed with the updated resource, or exceptionally with a {@link ResourceException}
+     */
+    CompletableFuture<T> updateAsync(T resource);
+
+    /**
+     * Patch an existing resource asynchronously.
+     *
+     * @param namespace the namespace
+     * @param name the resource name
+     * @param options patch options specifying patch type and behavior
+     * @param patchBody the patch content (format depends on patch type)
+     * @return a future completed with the patched resource, or exceptionally with a {@link ResourceException}
+     */
+    CompletableFuture<T> patchAsync(String namespace, String name, PatchOptions options, String patchBody);
+
+    /**
+     * Delete a resource asynchronously.
+     *
+     * @param namespace the namespace
+     * @param name the resource name
+     * @return a future completed once the resource is deleted, or exceptionally with a {@link ResourceException}
+     */
+    CompletableFuture<Void> deleteAsync(String namespace, String name);
+
     /**
      * Get the API path for this resource type.
      *
@@ -132,9 +244,10 @@ public interface ResourceManager<T extends KubernetesResource> {
      * @param namespace the namespace to watch resources in
      * @param options watch options for configuring the watch behavior
      * @param watcher the callback to handle watch events
+     * @return a handle that cancels the watch when closed
      * @throws ResourceException if the watch operation fails
      */
-    void watch(String namespace, WatchOptions options, Watcher<T> watcher) throws ResourceException;
+    StreamHandle watch(String namespace, WatchOptions options, Watcher<T> watcher) throws ResourceException;
 
     /**
      * Watch resources across all namespaces for changes.
@@ -142,9 +255,10 @@ public interface ResourceManager<T extends KubernetesResource> {
      *
      * @param options watch options for configuring the watch behavior
      * @param watcher the callback to handle watch events
+     * @return a handle that cancels the watch when closed
      * @throws ResourceException if the watch operation fails
      */
-    void watchAllNamespaces(WatchOptions options, Watcher<T> watcher) throws ResourceException;
+    StreamHandle watchAllNamespaces(WatchOptions options, Watcher<T> watcher) throws ResourceException;
 
     /**
      * Stream resource change events from a specific namespace.
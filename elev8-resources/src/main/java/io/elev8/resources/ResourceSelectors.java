@@ -0,0 +1,162 @@
+package io.elev8.resources;
+
+import io.elev8.core.selector.FieldSelectorQuery;
+import io.elev8.core.selector.LabelSelectorQuery;
+import io.elev8.core.watch.ResourceChangeEvent;
+import io.elev8.resources.generic.GenericKubernetesResource;
+import io.elev8.resources.namespace.Namespace;
+import io.elev8.resources.persistentvolume.PersistentVolume;
+import io.elev8.resources.persistentvolumeclaim.PersistentVolumeClaim;
+import io.elev8.resources.pod.Pod;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Compiles label and field selectors into predicates over resources, for filtering watch events,
+ * informer caches and lists on the client side with the same semantics as the API server.
+ *
+ * <p>Compiling does the parsing and the lookup of field accessors once; the resulting predicate
+ * allocates nothing per test.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Predicate<KubernetesResource> runningOnNode = ResourceSelectors.compile(
+ *         "app=web,tier in (frontend,backend)",
+ *         "spec.nodeName=node-1,status.phase=Running");
+ *
+ * stream.stream(ResourceSelectors.forEvents(runningOnNode))
+ *         .forEach(event -> handle(event.getResource()));
+ * }</pre>
+ *
+ * <p>Supported field paths: {@value #METADATA_NAME}, {@value #METADATA_NAMESPACE},
+ * {@value #STATUS_PHASE} (Pod, Namespace, PersistentVolume, PersistentVolumeClaim and generic
+ * resources) and {@value #SPEC_NODE_NAME} (Pod and generic resources).</p>
+ */
+public final class ResourceSelectors {
+
+    public static final String METADATA_NAME = "metadata.name";
+    public static final String METADATA_NAMESPACE = "metadata.namespace";
+    public static final String STATUS_PHASE = "status.phase";
+    public static final String SPEC_NODE_NAME = "spec.nodeName";
+
+    private static final Map<String, Function<KubernetesResource, String>> FIELD_ACCESSORS = Map.of(
+            METADATA_NAME, KubernetesResource::getName,
+            METADATA_NAMESPACE, KubernetesResource::getNamespace,
+            STATUS_PHASE, ResourceSelectors::statusPhase,
+            SPEC_NODE_NAME, ResourceSelectors::specNodeName
+    );
+
+    private ResourceSelectors() {
+    }
+
+    /**
+     * Parses and compiles a label selector and a field selector. Both must match.
+     *
+     * @param labelSelector the label selector string (null or blank to match all labels)
+     * @param fieldSelector the field selector string (null or blank to match all fields)
+     * @return the compiled predicate
+     * @throws IllegalArgumentException if a selector is invalid or uses an unsupported field
+     */
+    public static Predicate<KubernetesResource> compile(final String labelSelector, final String fieldSelector) {
+        return compile(LabelSelectorQuery.parse(labelSelector), FieldSelectorQuery.parse(fieldSelector));
+    }
+
+    /**
+     * Compiles a label selector and a field selector. Both must match.
+     *
+     * @param labels the label selector (null to match all labels)
+     * @param fields the field selector (null to match all fields)
+     * @return the compiled predicate
+     * @throws IllegalArgumentException if the field selector uses an unsupported field
+     */
+    public static Predicate<KubernetesResource> compile(final LabelSelectorQuery labels,
+                                                        final FieldSelectorQuery fields) {
+        final boolean anyLabels = labels != null && !labels.isEmpty();
+        final boolean anyFields = fields != null && !fields.isEmpty();
+        if (anyLabels && anyFields) {
+            final Predicate<KubernetesResource> labelMatcher = compile(labels);
+            final Predicate<KubernetesResource> fieldMatcher = compile(fields);
+            return resource -> fieldMatcher.test(resource) && labelMatcher.test(resource);
+        }
+        if (anyLabels) {
+            return compile(labels);
+        }
+        if (anyFields) {
+            return compile(fields);
+        }
+        return resource -> true;
+    }
+
+    /**
+     * Compiles a label selector into a predicate over the labels of a resource.
+     *
+     * @param labels the label selector
+     * @return the compiled predicate
+     */
+    public static Predicate<KubernetesResource> compile(final LabelSelectorQuery labels) {
+        final Predicate<Map<String, String>> matcher = labels.compile();
+        return resource -> matcher.test(resource.getMetadata() != null ? resource.getMetadata().getLabels() : null);
+    }
+
+    /**
+     * Compiles a field selector into a predicate over the supported fields of a resource.
+     *
+     * @param fields the field selector
+     * @return the compiled predicate
+     * @throws IllegalArgumentException if the selector uses an unsupported field
+     */
+    public static Predicate<KubernetesResource> compile(final FieldSelectorQuery fields) {
+        return fields.compile(FIELD_ACCESSORS::get);
+    }
+
+    /**
+     * Adapts a resource predicate to change events, for {@code ResourceChangeStream.stream(Predicate)}.
+     * The event's resource is tested, or the previous resource for events that carry no resource.
+     *
+     * @param predicate the resource predicate
+     * @param <T> the resource type
+     * @return the event predicate
+     */
+    public static <T extends KubernetesResource> Predicate<ResourceChangeEvent<T>> forEvents(
+            final Predicate<? super KubernetesResource> predicate) {
+        return event -> {
+            final T resource = event.getResource() != null ? event.getResource() : event.getPreviousResource();
+            return resource != null && predicate.test(resource);
+        };
+    }
+
+    private static String statusPhase(final KubernetesResource resource) {
+        if (resource instanceof Pod pod) {
+            return pod.getStatus() != null ? pod.getStatus().getPhase() : null;
+        }
+        if (resource instanceof Namespace namespace) {
+            return namespace.getStatus() != null ? namespace.getStatus().getPhase() : null;
+        }
+        if (resource instanceof PersistentVolumeClaim claim) {
+            return claim.getStatus() != null ? claim.getStatus().getPhase() : null;
+        }
+        if (resource instanceof PersistentVolume volume) {
+            return volume.getStatus() != null ? volume.getStatus().getPhase() : null;
+        }
+        if (resource instanceof GenericKubernetesResource generic) {
+            return generic.getStatus() != null ? asString(generic.getStatus().get("phase")) : null;
+        }
+        return null;
+    }
+
+    private static String specNodeName(final KubernetesResource resource) {
+        if (resource instanceof Pod pod) {
+            return pod.getSpec() != null ? pod.getSpec().getNodeName() : null;
+        }
+        if (resource instanceof GenericKubernetesResource generic) {
+            return generic.getSpec() != null ? asString(generic.getSpec().get("nodeName")) : null;
+        }
+        return null;
+    }
+
+    private static String asString(final Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
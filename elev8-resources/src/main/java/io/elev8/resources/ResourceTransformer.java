@@ -0,0 +1,44 @@
+package io.elev8.resources;
+
+/**
+ * Rewrites a resource right after it is decoded from a list or watch response, before it is cached.
+ * Informers use it to drop fields they never read, such as large annotations or status blocks, so
+ * that the cache holds less memory.
+ *
+ * <p>The resource has just been decoded and is not shared yet, so a transformer may modify it in
+ * place and return it. It must return a resource of the same class, never null. Transformers run on
+ * the thread that reads the response and should be cheap.</p>
+ *
+ * <p>{@link ResourceTransformers} provides the common cases.</p>
+ *
+ * @param <T> the resource type
+ */
+@FunctionalInterface
+public interface ResourceTransformer<T extends KubernetesResource> {
+
+    /**
+     * Transforms a freshly decoded resource.
+     *
+     * @param resource the resource
+     * @return the transformed resource, usually the same instance
+     */
+    T transform(T resource);
+
+    /**
+     * Applies a transformer that accepts a supertype of the resource type. Transformers return a
+     * resource of the class they were given, so the result is cast back.
+     *
+     * @param transformer the transformer, or null for none
+     * @param resource the resource
+     * @param <T> the resource type
+     * @return the transformed resource
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends KubernetesResource> T apply(final ResourceTransformer<? super T> transformer,
+                                                  final T resource) {
+        if (transformer == null || resource == null) {
+            return resource;
+        }
+        return (T) transformer.transform(resource);
+    }
+}
@@ -0,0 +1,331 @@
+package io.elev8.resources;
+
+import io.elev8.resources.crd.CustomResourceDefinition;
+import io.elev8.resources.cronjob.CronJob;
+import io.elev8.resources.daemonset.DaemonSet;
+import io.elev8.resources.deployment.Deployment;
+import io.elev8.resources.generic.GenericKubernetesResource;
+import io.elev8.resources.horizontalpodautoscaler.HorizontalPodAutoscaler;
+import io.elev8.resources.ingress.Ingress;
+import io.elev8.resources.job.Job;
+import io.elev8.resources.namespace.Namespace;
+import io.elev8.resources.persistentvolume.PersistentVolume;
+import io.elev8.resources.persistentvolumeclaim.PersistentVolumeClaim;
+import io.elev8.resources.pod.Container;
+import io.elev8.resources.pod.Pod;
+import io.elev8.resources.pod.PodSpec;
+import io.elev8.resources.pod.PodStatus;
+import io.elev8.resources.poddisruptionbudget.PodDisruptionBudget;
+import io.elev8.resources.replicaset.ReplicaSet;
+import io.elev8.resources.resourcequota.ResourceQuota;
+import io.elev8.resources.service.Service;
+import io.elev8.resources.serviceaccount.ServiceAccount;
+import io.elev8.resources.statefulset.StatefulSet;
+import io.elev8.resources.verticalpodautoscaler.VerticalPodAutoscaler;
+import io.elev8.resources.volumesnapshot.VolumeSnapshot;
+import io.elev8.resources.volumesnapshotcontent.VolumeSnapshotContent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Built-in {@link ResourceTransformer}s for trimming resources and sharing their repeated values
+ * before they are cached.
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * SharedIndexInformer<Pod> informer = factory.forResource(Pod.class)
+ *         .withResourceManager(podManager)
+ *         .withTransform(ResourceTransformers.chain(
+ *                 ResourceTransformers.dropLastAppliedConfiguration(),
+ *                 ResourceTransformers.dropStatus()))
+ *         .build();
+ * }</pre>
+ *
+ * <p>{@code metadata.managedFields} needs no transformer: {@link Metadata} does not model it, so it
+ * is discarded while decoding.</p>
+ *
+ * <p>The transformers returned here implement {@code equals}, so two informers configured with
+ * equal transformers can share one cache.</p>
+ */
+public final class ResourceTransformers {
+
+    /**
+     * Annotation in which {@code kubectl apply} stores the full applied manifest.
+     */
+    public static final String LAST_APPLIED_CONFIGURATION_ANNOTATION =
+            "kubectl.kubernetes.io/last-applied-configuration";
+
+    private ResourceTransformers() {
+    }
+
+    /**
+     * Removes the {@value #LAST_APPLIED_CONFIGURATION_ANNOTATION} annotation, which holds a full copy
+     * of the manifest for every object managed with {@code kubectl apply}.
+     *
+     * @return the transformer
+     */
+    public static ResourceTransformer<KubernetesResource> dropLastAppliedConfiguration() {
+        return dropAnnotations(LAST_APPLIED_CONFIGURATION_ANNOTATION);
+    }
+
+    /**
+     * Removes the given annotations.
+     *
+     * @param keys the annotation keys
+     * @return the transformer
+     */
+    public static ResourceTransformer<KubernetesResource> dropAnnotations(final String... keys) {
+        return new DropAnnotations(Set.copyOf(Arrays.asList(keys)));
+    }
+
+    /**
+     * Clears the status of the built-in resources that have one and of generic resources. Other
+     * resources are left unchanged.
+     *
+     * @return the transformer
+     */
+    public static ResourceTransformer<KubernetesResource> dropStatus() {
+        return DropStatus.INSTANCE;
+    }
+
+    /**
+     * Replaces repeated strings with one canonical instance from the {@link StringInterner#shared()
+     * shared interner}. See {@link #internStrings(StringInterner)}.
+     *
+     * @return the transformer
+     */
+    public static ResourceTransformer<KubernetesResource> internStrings() {
+        return internStrings(StringInterner.shared());
+    }
+
+    /**
+     * Replaces repeated strings with one canonical instance from the given interner, so that an
+     * informer holding thousands of resources keeps one copy of each namespace, label, image or node
+     * name instead of one per resource.
+     *
+     * <p>Covers {@code apiVersion}, {@code kind}, the namespace, labels and annotations of every
+     * resource; the container names, images and pull policies, node, service account, restart policy,
+     * phase and host IP of Pods; and every string in the spec and status of generic resources.
+     * Unique values such as names, UIDs and resource versions are left alone.</p>
+     *
+     * @param interner the interner
+     * @return the transformer
+     */
+    public static ResourceTransformer<KubernetesResource> internStrings(final StringInterner interner) {
+        return new InternStrings(Objects.requireNonNull(interner, "interner"));
+    }
+
+    /**
+     * Combines transformers, which are applied in the given order.
+     *
+     * @param transformers the transformers
+     * @return the combined transformer
+     */
+    @SafeVarargs
+    public static ResourceTransformer<KubernetesResource> chain(
+            final ResourceTransformer<KubernetesResource>... transformers) {
+        return new Chain(List.of(transformers));
+    }
+
+    private record DropAnnotations(Set<String> keys) implements ResourceTransformer<KubernetesResource> {
+
+        @Override
+        public KubernetesResource transform(final KubernetesResource resource) {
+            final Metadata metadata = resource.getMetadata();
+            if (metadata == null || metadata.getAnnotations() == null || metadata.getAnnotations().isEmpty()) {
+                return resource;
+            }
+            final Map<String, String> annotations = metadata.getAnnotations();
+            if (Collections.disjoint(annotations.keySet(), keys)) {
+                return resource;
+            }
+            final Map<String, String> kept = new HashMap<>(annotations);
+            kept.keySet().removeAll(keys);
+            metadata.setAnnotations(Collections.unmodifiableMap(kept));
+            return resource;
+        }
+    }
+
+    private enum DropStatus implements ResourceTransformer<KubernetesResource> {
+        INSTANCE;
+
+        @Override
+        public KubernetesResource transform(final KubernetesResource resource) {
+            if (resource instanceof Pod pod) {
+                pod.setStatus(null);
+            } else if (resource instanceof CustomResourceDefinition definition) {
+                definition.setStatus(null);
+            } else if (resource instanceof CronJob cronJob) {
+                cronJob.setStatus(null);
+            } else if (resource instanceof DaemonSet daemonSet) {
+                daemonSet.setStatus(null);
+            } else if (resource instanceof Deployment deployment) {
+                deployment.setStatus(null);
+            } else if (resource instanceof HorizontalPodAutoscaler autoscaler) {
+                autoscaler.setStatus(null);
+            } else if (resource instanceof Ingress ingress) {
+                ingress.setStatus(null);
+            } else if (resource instanceof Job job) {
+                job.setStatus(null);
+            } else if (resource instanceof Namespace namespace) {
+                namespace.setStatus(null);
+            } else if (resource instanceof PersistentVolume volume) {
+                volume.setStatus(null);
+            } else if (resource instanceof PersistentVolumeClaim claim) {
+                claim.setStatus(null);
+            } else if (resource instanceof PodDisruptionBudget budget) {
+                budget.setStatus(null);
+            } else if (resource instanceof ReplicaSet replicaSet) {
+                replicaSet.setStatus(null);
+            } else if (resource instanceof ResourceQuota quota) {
+                quota.setStatus(null);
+            } else if (resource instanceof Service service) {
+                service.setStatus(null);
+            } else if (resource instanceof ServiceAccount serviceAccount) {
+                serviceAccount.setStatus(null);
+            } else if (resource instanceof StatefulSet statefulSet) {
+                statefulSet.setStatus(null);
+            } else if (resource instanceof VerticalPodAutoscaler verticalAutoscaler) {
+                verticalAutoscaler.setStatus(null);
+            } else if (resource instanceof VolumeSnapshot snapshot) {
+                snapshot.setStatus(null);
+            } else if (resource instanceof VolumeSnapshotContent snapshotContent) {
+                snapshotContent.setStatus(null);
+            } else if (resource instanceof GenericKubernetesResource generic) {
+                generic.setStatus(null);
+            }
+            return resource;
+        }
+    }
+
+    private record InternStrings(StringInterner interner) implements ResourceTransformer<KubernetesResource> {
+
+        @Override
+        public KubernetesResource transform(final KubernetesResource resource) {
+            if (resource instanceof AbstractResource abstractResource) {
+                abstractResource.setApiVersion(interner.intern(abstractResource.getApiVersion()));
+                abstractResource.setKind(interner.intern(abstractResource.getKind()));
+            }
+            final Metadata metadata = resource.getMetadata();
+            if (metadata != null) {
+                metadata.setNamespace(interner.intern(metadata.getNamespace()));
+                metadata.setLabels(internMap(metadata.getLabels()));
+                metadata.setAnnotations(internMap(metadata.getAnnotations()));
+            }
+            if (resource instanceof Pod pod) {
+                internPodSpec(pod.getSpec());
+                internPodStatus(pod.getStatus());
+            } else if (resource instanceof GenericKubernetesResource generic) {
+                internValues(generic.getSpec());
+                internValues(generic.getStatus());
+            }
+            return resource;
+        }
+
+        private Map<String, String> internMap(final Map<String, String> map) {
+            if (map == null || map.isEmpty()) {
+                return map;
+            }
+            final Map<String, String> interned = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+            map.forEach((key, value) -> interned.put(interner.intern(key), interner.intern(value)));
+            return Collections.unmodifiableMap(interned);
+        }
+
+        private void internPodSpec(final PodSpec spec) {
+            if (spec == null) {
+                return;
+            }
+            internContainers(spec.getContainers());
+            internContainers(spec.getInitContainers());
+            spec.setNodeName(interner.intern(spec.getNodeName()));
+            spec.setServiceAccountName(interner.intern(spec.getServiceAccountName()));
+            spec.setRestartPolicy(interner.intern(spec.getRestartPolicy()));
+        }
+
+        private void internContainers(final List<Container> containers) {
+            if (containers == null) {
+                return;
+            }
+            for (final Container container : containers) {
+                container.setName(interner.intern(container.getName()));
+                container.setImage(interner.intern(container.getImage()));
+                container.setImagePullPolicy(interner.intern(container.getImagePullPolicy()));
+            }
+        }
+
+        private void internPodStatus(final PodStatus status) {
+            if (status == null) {
+                return;
+            }
+            status.setPhase(interner.intern(status.getPhase()));
+            status.setHostIP(interner.intern(status.getHostIP()));
+            if (status.getContainerStatuses() != null) {
+                for (final PodStatus.ContainerStatus containerStatus : status.getContainerStatuses()) {
+                    containerStatus.setName(interner.intern(containerStatus.getName()));
+                    containerStatus.setImage(interner.intern(containerStatus.getImage()));
+                    containerStatus.setImageID(interner.intern(containerStatus.getImageID()));
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object internValue(final Object value) {
+            if (value instanceof String string) {
+                return interner.intern(string);
+            }
+            if (value instanceof Map<?, ?> map) {
+                internValues((Map<String, Object>) map);
+            } else if (value instanceof List<?> list) {
+                final ListIterator<Object> elements = ((List<Object>) list).listIterator();
+                while (elements.hasNext()) {
+                    final Object element = elements.next();
+                    final Object interned = internValue(element);
+                    if (interned != element) {
+                        elements.set(interned);
+                    }
+                }
+            }
+            return value;
+        }
+
+        private void internValues(final Map<String, Object> map) {
+            if (map != null) {
+                map.replaceAll((key, value) -> internValue(value));
+            }
+        }
+    }
+
+    private record Chain(List<ResourceTransformer<KubernetesResource>> transformers)
+            implements ResourceTransformer<KubernetesResource> {
+
+        private Chain {
+            final List<ResourceTransformer<KubernetesResource>> flattened = new ArrayList<>();
+            for (final ResourceTransformer<KubernetesResource> transformer : transformers) {
+                if (transformer instanceof Chain chain) {
+                    flattened.addAll(chain.transformers());
+                } else {
+                    flattened.add(transformer);
+                }
+            }
+            transformers = List.copyOf(flattened);
+        }
+
+        @Override
+        public KubernetesResource transform(final KubernetesResource resource) {
+            KubernetesResource result = resource;
+            for (final ResourceTransformer<KubernetesResource> transformer : transformers) {
+                result = transformer.transform(result);
+            }
+            return result;
+        }
+    }
+}
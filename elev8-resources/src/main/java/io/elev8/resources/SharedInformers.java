@@ -1,13 +1,12 @@
 package io.elev8.resources;
 
-import io.elev8.core.watch.ResourceChangeStream;
-import io.elev8.core.watch.StreamOptions;
 import io.elev8.resources.informer.DefaultSharedIndexInformer;
+import io.elev8.resources.informer.InformerMetrics;
 import io.elev8.resources.informer.InformerOptions;
+import io.elev8.resources.informer.ListerWatcher;
 import io.elev8.resources.informer.SharedIndexInformer;
 
 import java.time.Duration;
-import java.util.List;
 
 /**
  * Factory utility for creating standalone SharedInformers from ResourceManagers.
@@ -74,13 +73,12 @@ public final class SharedInformers {
         }
 
         final InformerOptions effectiveOptions = options != null ? options : InformerOptions.defaults();
-        final StreamOptions streamOptions = effectiveOptions.getStreamOptions();
 
-        return new DefaultSharedIndexInformer<>(
-                () -> safeList(() -> manager.list(namespace)),
-                () -> safeStream(() -> manager.stream(namespace, streamOptions)),
-                resyncPeriod
-        );
+        return measured(new DefaultSharedIndexInformer<>(
+                ListerWatcher.forNamespace(manager, namespace, effectiveOptions),
+                resyncPeriod,
+                effectiveOptions.isWatchList()
+        ), effectiveOptions);
     }
 
     /**
@@ -100,6 +98,7 @@ public final class SharedInformers {
 
     /**
      * Creates a SharedIndexInformer for resources across all namespaces with resync.
+     * If {@link InformerOptions#getShardNamespaces()} is set, the initial list is sharded by namespace.
      *
      * @param manager the resource manager
      * @param options informer options
@@ -117,13 +116,12 @@ public final class SharedInformers {
         }
 
         final InformerOptions effectiveOptions = options != null ? options : InformerOptions.defaults();
-        final StreamOptions streamOptions = effectiveOptions.getStreamOptions();
 
-        return new DefaultSharedIndexInformer<>(
-                () -> safeList(manager::listAllNamespaces),
-                () -> safeStream(() -> manager.streamAllNamespaces(streamOptions)),
-                resyncPeriod
-        );
+        return measured(new DefaultSharedIndexInformer<>(
+                ListerWatcher.forAllNamespaces(manager, effectiveOptions),
+                resyncPeriod,
+                effectiveOptions.isWatchList()
+        ), effectiveOptions);
     }
 
     /**
@@ -160,38 +158,20 @@ public final class SharedInformers {
         }
 
         final InformerOptions effectiveOptions = options != null ? options : InformerOptions.defaults();
-        final StreamOptions streamOptions = effectiveOptions.getStreamOptions();
 
-        return new DefaultSharedIndexInformer<>(
-                () -> safeList(manager::list),
-                () -> safeStream(() -> manager.stream(streamOptions)),
-                resyncPeriod
-        );
+        return measured(new DefaultSharedIndexInformer<>(
+                ListerWatcher.forClusterResource(manager, effectiveOptions),
+                resyncPeriod,
+                effectiveOptions.isWatchList()
+        ), effectiveOptions);
     }
 
-    @FunctionalInterface
-    private interface ListSupplier<T> {
-        List<T> get() throws ResourceException;
-    }
-
-    @FunctionalInterface
-    private interface StreamSupplier<T> {
-        ResourceChangeStream<T> get() throws ResourceException;
-    }
-
-    private static <T> List<T> safeList(final ListSupplier<T> supplier) {
-        try {
-            return supplier.get();
-        } catch (ResourceException e) {
-            throw new InformerException("Failed to list resources", e);
-        }
-    }
-
-    private static <T> ResourceChangeStream<T> safeStream(final StreamSupplier<T> supplier) {
-        try {
-            return supplier.get();
-        } catch (ResourceException e) {
-            throw new InformerException("Failed to start resource stream", e);
+    private static <T extends KubernetesResource> SharedIndexInformer<T> measured(
+            final DefaultSharedIndexInformer<T> informer,
+            final InformerOptions options) {
+        if (options.getMetrics() != null && options.getMetrics() != InformerMetrics.NOOP) {
+            informer.enableMetrics(options.getMetrics(), options.getCacheSampleInterval());
         }
+        return informer;
     }
 }
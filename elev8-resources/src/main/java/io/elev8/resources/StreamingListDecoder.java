@@ -0,0 +1,127 @@
+package io.elev8.resources;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.elev8.core.client.KubernetesClient;
+import io.elev8.core.client.KubernetesClientException;
+import io.elev8.core.http.HttpResponse;
+import io.elev8.core.list.ListOptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Decodes Kubernetes list responses incrementally using Jackson's streaming parser.
+ * Each element of the {@code items} array is bound and handed to a consumer as soon as it
+ * has been read, so only one item is materialized at a time regardless of the list size.
+ *
+ * <p>The list metadata ({@code resourceVersion} and {@code continue}) is returned once the
+ * whole document has been read.</p>
+ *
+ * @param <T> the resource type of the list items
+ */
+public final class StreamingListDecoder<T extends KubernetesResource> {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader itemReader;
+
+    /**
+     * Creates a decoder using the shared resource ObjectMapper and the cached reader of the
+     * resource type, see {@link ResourceCodec}.
+     *
+     * @param resourceClass the class of the list items
+     */
+    public StreamingListDecoder(final Class<T> resourceClass) {
+        this(AbstractResource.getObjectMapper(), ResourceCodec.forType(resourceClass).reader());
+    }
+
+    /**
+     * Creates a decoder with a custom ObjectMapper.
+     *
+     * @param objectMapper the mapper used to bind each item
+     * @param resourceClass the class of the list items
+     */
+    public StreamingListDecoder(final ObjectMapper objectMapper, final Class<T> resourceClass) {
+        this(objectMapper, objectMapper.readerFor(resourceClass));
+    }
+
+    private StreamingListDecoder(final ObjectMapper objectMapper, final ObjectReader itemReader) {
+        this.objectMapper = objectMapper;
+        this.itemReader = itemReader;
+    }
+
+    /**
+     * Sends a list request and decodes the response body as it is read from the connection, passing
+     * each item to the consumer.
+     *
+     * @param client the client to send the request with
+     * @param path the collection path
+     * @param options list options for filtering and pagination (may be null)
+     * @param consumer receives each decoded item in document order
+     * @return the list metadata, or null if the document had none
+     * @throws ResourceException if the request fails or the server rejects it
+     */
+    public ResourceList.ListMetadata list(final KubernetesClient client, final String path,
+                                          final ListOptions options, final Consumer<? super T> consumer)
+            throws ResourceException {
+        final AtomicReference<ResourceList.ListMetadata> metadata = new AtomicReference<>();
+        try {
+            final HttpResponse response = client.getStreaming(path, options,
+                    body -> metadata.set(decode(body, consumer)));
+
+            if (!response.isSuccessful()) {
+                throw new ResourceException(
+                        "Failed to list resources: " + response.getBody(),
+                        response.getStatusCode());
+            }
+
+            return metadata.get();
+
+        } catch (KubernetesClientException e) {
+            throw new ResourceException("Failed to list resources", e);
+        }
+    }
+
+    /**
+     * Reads a list document from the stream, passing each item to the consumer.
+     *
+     * @param body the list response body
+     * @param consumer receives each decoded item in document order
+     * @return the list metadata, or null if the document had none
+     * @throws IOException if the document cannot be read or is not a JSON object
+     */
+    public ResourceList.ListMetadata decode(final InputStream body, final Consumer<? super T> consumer)
+            throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object at the start of the list response");
+            }
+
+            ResourceList.ListMetadata metadata = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.currentName();
+                final JsonToken valueToken = parser.nextToken();
+
+                if ("items".equals(field) && valueToken == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        final T item = itemReader.readValue(parser);
+                        if (item != null) {
+                            consumer.accept(item);
+                        }
+                    }
+                } else if ("metadata".equals(field) && valueToken == JsonToken.START_OBJECT) {
+                    metadata = objectMapper.readValue(parser, ResourceList.ListMetadata.class);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            return metadata;
+        }
+    }
+}
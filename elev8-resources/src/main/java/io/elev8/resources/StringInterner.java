@@ -0,0 +1,96 @@
+package io.elev8.resources;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free cache that maps equal strings to one canonical instance, so that values
+ * repeated across many cached resources (namespaces, label values, images, node names) are held in
+ * memory once.
+ *
+ * <p>Unlike {@link String#intern()}, the table has a fixed number of slots and forgets entries: each
+ * string hashes to one slot and replaces whatever string was there before. A string that has been
+ * evicted is simply cached again the next time it is seen, so the interner never grows and never
+ * changes what a caller observes, only how many copies exist. Strings longer than the maximum length
+ * are returned as they are, because long values are rarely repeated and comparing them is not free.</p>
+ *
+ * <p>Safe for use by any number of threads. Two threads racing on the same slot may each keep their
+ * own instance, which only costs one duplicate.</p>
+ */
+public final class StringInterner {
+
+    /**
+     * Number of slots of the {@link #shared()} interner.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /**
+     * Longest string the {@link #shared()} interner canonicalizes.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 256;
+
+    private static final StringInterner SHARED = new StringInterner(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+
+    private final AtomicReferenceArray<String> table;
+    private final int mask;
+    private final int maxLength;
+
+    /**
+     * Creates an interner.
+     *
+     * @param capacity the number of slots, rounded up to a power of two
+     * @param maxLength the longest string to canonicalize
+     * @throws IllegalArgumentException if capacity is not positive or maxLength is negative
+     */
+    public StringInterner(final int capacity, final int maxLength) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30, got " + capacity);
+        }
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("Max length must not be negative, got " + maxLength);
+        }
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.table = new AtomicReferenceArray<>(Math.max(size, 1));
+        this.mask = table.length() - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the interner shared by {@link ResourceTransformers#internStrings()}, with
+     * {@value #DEFAULT_CAPACITY} slots and a maximum length of {@value #DEFAULT_MAX_LENGTH}.
+     *
+     * @return the shared interner
+     */
+    public static StringInterner shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the canonical instance of a string: a previously seen equal string if one is still in
+     * the table, otherwise the given string, which becomes the canonical instance.
+     *
+     * @param value the string (may be null)
+     * @return an equal string, or null if value is null
+     */
+    public String intern(final String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        final int hash = value.hashCode();
+        final int slot = (hash ^ (hash >>> 16)) & mask;
+        final String cached = table.get(slot);
+        if (cached != null && cached.equals(value)) {
+            return cached;
+        }
+        table.lazySet(slot, value);
+        return value;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return table.length();
+    }
+}
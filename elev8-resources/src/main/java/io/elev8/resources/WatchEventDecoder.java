@@ -0,0 +1,124 @@
+package io.elev8.resources;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.elev8.core.http.HttpClient;
+import io.elev8.core.watch.WatchEvent;
+import io.elev8.core.watch.WatchEventType;
+import io.elev8.core.watch.WatchOptions;
+import io.elev8.core.watch.WatchStreamException;
+import io.elev8.core.watch.Watcher;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decodes the lines of a watch response into {@link WatchEvent}s for a resource type.
+ *
+ * <p>ERROR events carry a {@code Status} object rather than a resource. They are reported to the
+ * watcher through {@link Watcher#onError(Exception)} as a {@link WatchStreamException} holding the
+ * status code and message, so callers can tell an expired resourceVersion (410 Gone) from other
+ * failures.</p>
+ *
+ * <p>{@link #streamHandler(Class, WatchOptions, Watcher)} decodes on the thread reading the stream, or
+ * with a {@link ParallelWatchEventDecoder} when {@link WatchOptions#getDecodeParallelism()} is above one.</p>
+ *
+ * @param <T> the type of Kubernetes resource being watched
+ */
+@Slf4j
+public final class WatchEventDecoder<T extends KubernetesResource> {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader eventReader;
+
+    /**
+     * Creates a decoder using the cached watch event reader of the resource type,
+     * see {@link ResourceCodec}.
+     *
+     * @param resourceClass the class of the watched resources
+     */
+    public WatchEventDecoder(final Class<T> resourceClass) {
+        this.objectMapper = AbstractResource.getObjectMapper();
+        this.eventReader = ResourceCodec.forType(resourceClass).watchEventReader();
+    }
+
+    /**
+     * Creates the stream handler for a watch response, decoding lines in parallel if the watch options
+     * ask for it.
+     *
+     * @param resourceClass the class of the watched resources
+     * @param options the watch options (may be null)
+     * @param watcher the watcher receiving events, errors and the close of the stream
+     * @param <T> the type of Kubernetes resource being watched
+     * @return the stream handler
+     */
+    public static <T extends KubernetesResource> HttpClient.StreamHandler streamHandler(
+            final Class<T> resourceClass,
+            final WatchOptions options,
+            final Watcher<T> watcher) {
+        final WatchEventDecoder<T> decoder = new WatchEventDecoder<>(resourceClass);
+        if (options != null && options.getDecodeParallelism() > 1) {
+            return new ParallelWatchEventDecoder<>(decoder, watcher, options.getDecodeParallelism());
+        }
+        return new HttpClient.StreamHandler() {
+            @Override
+            public void onLine(final String line) {
+                decoder.decode(line, watcher);
+            }
+
+            @Override
+            public void onError(final Exception exception) {
+                watcher.onError(exception);
+            }
+
+            @Override
+            public void onClose() {
+                watcher.onClose();
+            }
+        };
+    }
+
+    /**
+     * Decode one line of a watch response and deliver it to the watcher.
+     *
+     * @param line the JSON-encoded watch event
+     * @param watcher the watcher receiving the event or error
+     */
+    public void decode(final String line, final Watcher<T> watcher) {
+        final WatchEvent<T> event;
+        try {
+            event = eventReader.readValue(line);
+        } catch (Exception e) {
+            final WatchStreamException status = errorStatus(line);
+            if (status != null) {
+                watcher.onError(status);
+            } else {
+                log.error("Failed to parse watch event", e);
+                watcher.onError(e);
+            }
+            return;
+        }
+
+        if (event.isError()) {
+            final WatchStreamException status = errorStatus(line);
+            watcher.onError(status != null ? status : new WatchStreamException("Watch error event received"));
+            return;
+        }
+        watcher.onEvent(event);
+    }
+
+    private WatchStreamException errorStatus(final String line) {
+        try {
+            final JsonNode node = objectMapper.readTree(line);
+            if (!WatchEventType.ERROR.name().equals(node.path("type").asText())) {
+                return null;
+            }
+            final JsonNode status = node.path("object");
+            final String message = "Watch error event received: " + status.path("message").asText("");
+            return status.hasNonNull("code")
+                    ? new WatchStreamException(message, status.get("code").asInt())
+                    : new WatchStreamException(message);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
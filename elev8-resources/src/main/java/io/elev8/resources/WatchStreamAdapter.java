@@ -1,13 +1,19 @@
 package io.elev8.resources;
 
+import io.elev8.core.http.StreamHandle;
 import io.elev8.core.watch.ResourceChangeEvent;
 import io.elev8.core.watch.ResourceChangeStream;
+import io.elev8.core.watch.StreamOptions;
 import io.elev8.core.watch.WatchEvent;
+import io.elev8.core.watch.WatchOptions;
 import io.elev8.core.watch.WatchStreamException;
 import io.elev8.core.watch.Watcher;
+import io.elev8.resources.informer.InformerMetrics;
+import io.elev8.resources.informer.InformerOptions;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Internal adapter that bridges the callback-based Watcher interface to the
@@ -16,9 +22,13 @@ import java.util.Map;
  * <p>This adapter:</p>
  * <ul>
  *   <li>Receives WatchEvent callbacks from the Kubernetes watch API</li>
+ *   <li>Optionally applies the {@link ResourceTransformer} of an {@link InformerOptions} to each
+ *       received resource</li>
  *   <li>Converts them to ResourceChangeEvent instances</li>
  *   <li>Optionally tracks previous state for change detection</li>
  *   <li>Enqueues events to the ResourceChangeStream</li>
+ *   <li>Optionally reports each queued event and the queue depth to the {@link InformerMetrics} of an
+ *       {@link InformerOptions}</li>
  * </ul>
  *
  * @param <T> the type of Kubernetes resource being watched
@@ -28,6 +38,8 @@ public class WatchStreamAdapter<T extends KubernetesResource> implements Watcher
     private final ResourceChangeStream<T> stream;
     private final boolean trackPreviousState;
     private final Map<String, T> stateCache;
+    private final ResourceTransformer<? super T> transformer;
+    private final InformerMetrics metrics;
 
     /**
      * Creates a new WatchStreamAdapter.
@@ -36,16 +48,90 @@ public class WatchStreamAdapter<T extends KubernetesResource> implements Watcher
      * @param trackPreviousState whether to maintain a cache of previous resource states
      */
     public WatchStreamAdapter(final ResourceChangeStream<T> stream, final boolean trackPreviousState) {
+        this(stream, trackPreviousState, null);
+    }
+
+    /**
+     * Creates a new WatchStreamAdapter that applies the transformer of the given informer options to each
+     * received resource before it is cached as previous state or enqueued, and reports every queued event
+     * to their metrics.
+     *
+     * @param stream the stream to enqueue events to
+     * @param trackPreviousState whether to maintain a cache of previous resource states
+     * @param informerOptions supplies the transformer and the metrics (may be null for none)
+     */
+    public WatchStreamAdapter(final ResourceChangeStream<T> stream, final boolean trackPreviousState,
+                              final InformerOptions informerOptions) {
         this.stream = stream;
         this.trackPreviousState = trackPreviousState;
         this.stateCache = trackPreviousState ? new ConcurrentHashMap<>() : null;
+        this.transformer = informerOptions != null ? informerOptions.getTransform() : null;
+        this.metrics = informerOptions != null && informerOptions.getMetrics() != null
+                ? informerOptions.getMetrics()
+                : InformerMetrics.NOOP;
+    }
+
+    /**
+     * Starts a watch that feeds a new ResourceChangeStream.
+     * Closing the returned stream cancels the underlying watch request, releasing its connection
+     * and reader thread immediately.
+     *
+     * @param options stream options (may be null for defaults)
+     * @param starter starts the watch with the given watcher
+     * @param <T> the type of Kubernetes resource being watched
+     * @return the stream of change events
+     * @throws ResourceException if the watch cannot be started
+     */
+    public static <T extends KubernetesResource> ResourceChangeStream<T> open(final StreamOptions options,
+                                                                              final WatchStarter<T> starter)
+            throws ResourceException {
+        return open(options, starter, null);
+    }
+
+    /**
+     * Starts a watch that feeds a new ResourceChangeStream, applying the transformer of the given informer
+     * options to each received resource on the watch thread before it is cached as previous state or
+     * enqueued, and reporting every queued event and the resulting queue depth to their metrics.
+     *
+     * @param options stream options (may be null for defaults); used instead of those of informerOptions
+     * @param starter starts the watch with the given watcher
+     * @param informerOptions supplies the transformer and the metrics (may be null for none)
+     * @param <T> the type of Kubernetes resource being watched
+     * @return the stream of change events
+     * @throws ResourceException if the watch cannot be started
+     */
+    public static <T extends KubernetesResource> ResourceChangeStream<T> open(
+            final StreamOptions options,
+            final WatchStarter<T> starter,
+            final InformerOptions informerOptions) throws ResourceException {
+        final StreamOptions effectiveOptions = options != null ? options : StreamOptions.defaults();
+        final AtomicReference<StreamHandle> handle = new AtomicReference<>();
+        final ResourceChangeStream<T> stream = new ResourceChangeStream<>(
+                effectiveOptions.getQueueCapacity(),
+                effectiveOptions.getOverflowPolicy(),
+                WatchStreamAdapter::getCacheKey,
+                () -> closeHandle(handle.get())
+        );
+
+        final WatchStreamAdapter<T> adapter = new WatchStreamAdapter<>(
+                stream,
+                effectiveOptions.isTrackPreviousState(),
+                informerOptions
+        );
+
+        handle.set(starter.start(effectiveOptions.getWatchOptions(), adapter));
+        if (stream.isClosed()) {
+            closeHandle(handle.get());
+        }
+        return stream;
     }
 
     @Override
-    public void onEvent(final WatchEvent<T> event) {
-        if (event == null) {
+    public void onEvent(final WatchEvent<T> received) {
+        if (received == null) {
             return;
         }
+        final WatchEvent<T> event = transform(received);
 
         if (event.isError()) {
             stream.setError(new WatchStreamException("Watch error event received"));
@@ -53,7 +139,7 @@ public class WatchStreamAdapter<T extends KubernetesResource> implements Watcher
         }
 
         if (event.isBookmark()) {
-            stream.enqueue(ResourceChangeEvent.from(event, null));
+            enqueue(ResourceChangeEvent.from(event, null));
             return;
         }
 
@@ -70,7 +156,7 @@ public class WatchStreamAdapter<T extends KubernetesResource> implements Watcher
             }
         }
 
-        stream.enqueue(ResourceChangeEvent.from(event, previousState));
+        enqueue(ResourceChangeEvent.from(event, previousState));
     }
 
     @Override
@@ -94,13 +180,32 @@ public class WatchStreamAdapter<T extends KubernetesResource> implements Watcher
         }
     }
 
+    private void enqueue(final ResourceChangeEvent<T> event) {
+        stream.enqueue(event);
+        metrics.onWatchEventReceived(event.getType(), stream.getQueueSize());
+    }
+
+    private WatchEvent<T> transform(final WatchEvent<T> event) {
+        if (transformer == null || event.getObject() == null || event.isError() || event.isBookmark()) {
+            return event;
+        }
+        final T object = ResourceTransformer.apply(transformer, event.getObject());
+        return object == event.getObject() ? event : WatchEvent.of(event.getType(), object);
+    }
+
+    private static void closeHandle(final StreamHandle handle) {
+        if (handle != null) {
+            handle.close();
+        }
+    }
+
     /**
      * Generates a cache key for a resource based on its namespace and name.
      *
      * @param resource the resource to generate a key for
      * @return the cache key, or null if the resource has no name
      */
-    private String getCacheKey(final T resource) {
+    private static String getCacheKey(final KubernetesResource resource) {
         if (resource == null) {
             return null;
         }
@@ -111,4 +216,23 @@ public class WatchStreamAdapter<T extends KubernetesResource> implements Watcher
         final String namespace = resource.getNamespace();
         return namespace != null ? namespace + "/" + name : name;
     }
+
+    /**
+     * Starts a watch request that delivers events to the given watcher.
+     *
+     * @param <T> the type of Kubernetes resource being watched
+     */
+    @FunctionalInterface
+    public interface WatchStarter<T> {
+
+        /**
+         * Start the watch.
+         *
+         * @param options the watch options
+         * @param watcher the watcher receiving events
+         * @return a handle that cancels the watch when closed
+         * @throws ResourceException if the watch cannot be started
+         */
+        StreamHandle start(WatchOptions options, Watcher<T> watcher) throws ResourceException;
+    }
 }
@@ -1,6 +1,7 @@
 package io.elev8.resources.event;
 
 import io.elev8.core.client.KubernetesClient;
+import io.elev8.core.http.StreamHandle;
 import io.elev8.core.watch.Watcher;
 import io.elev8.resources.AbstractResourceManager;
 import io.elev8.resources.ObjectReference;
@@ -26,10 +27,11 @@ public final class EventManager extends AbstractResourceManager<Event> {
      * @param namespace the namespace to watch events in
      * @param options event-specific watch options for filtering
      * @param watcher the callback to handle watch events
+     * @return a handle that cancels the watch when closed
      * @throws ResourceException if the watch operation fails
      * @throws IllegalArgumentException if namespace, options, or watcher is null
      */
-    public void watch(final String namespace, final EventWatchOptions options, final Watcher<Event> watcher)
+    public StreamHandle watch(final String namespace, final EventWatchOptions options, final Watcher<Event> watcher)
             throws ResourceException {
         if (namespace == null) {
             throw new IllegalArgumentException("Namespace cannot be null");
@@ -40,7 +42,7 @@ public final class EventManager extends AbstractResourceManager<Event> {
         if (watcher == null) {
             throw new IllegalArgumentException("Watcher cannot be null");
         }
-        watch(namespace, options.toWatchOptions(), watcher);
+        return watch(namespace, options.toWatchOptions(), watcher);
     }
 
     /**
@@ -48,10 +50,11 @@ public final class EventManager extends AbstractResourceManager<Event> {
      *
      * @param options event-specific watch options for filtering
      * @param watcher the callback to handle watch events
+     * @return a handle that cancels the watch when closed
      * @throws ResourceException if the watch operation fails
      * @throws IllegalArgumentException if options or watcher is null
      */
-    public void watchAllNamespaces(final EventWatchOptions options, final Watcher<Event> watcher)
+    public StreamHandle watchAllNamespaces(final EventWatchOptions options, final Watcher<Event> watcher)
             throws ResourceException {
         if (options == null) {
             throw new IllegalArgumentException("EventWatchOptions cannot be null");
@@ -59,7 +62,7 @@ public final class EventManager extends AbstractResourceManager<Event> {
         if (watcher == null) {
             throw new IllegalArgumentException("Watcher cannot be null");
         }
-        watchAllNamespaces(options.toWatchOptions(), watcher);
+        return watchAllNamespaces(options.toWatchOptions(), watcher);
     }
 
     /**
@@ -68,10 +71,11 @@ public final class EventManager extends AbstractResourceManager<Event> {
      * @param namespace the namespace to watch events in
      * @param involvedObject the object reference to filter events by
      * @param watcher the callback to handle watch events
+     * @return a handle that cancels the watch when closed
      * @throws ResourceException if the watch operation fails
      * @throws IllegalArgumentException if namespace or watcher is null
      */
-    public void watchForObject(final String namespace, final ObjectReference involvedObject,
+    public StreamHandle watchForObject(final String namespace, final ObjectReference involvedObject,
             final Watcher<Event> watcher) throws ResourceException {
         if (namespace == null) {
             throw new IllegalArgumentException("Namespace cannot be null");
@@ -80,7 +84,7 @@ public final class EventManager extends AbstractResourceManager<Event> {
             throw new IllegalArgumentException("Watcher cannot be null");
         }
         final EventWatchOptions options = EventWatchOptions.forObject(involvedObject);
-        watch(namespace, options, watcher);
+        return watch(namespace, options, watcher);
     }
 
     /**
@@ -89,10 +93,11 @@ public final class EventManager extends AbstractResourceManager<Event> {
      * @param namespace the namespace containing the pod
      * @param podName the name of the pod to filter events by
      * @param watcher the callback to handle watch events
+     * @return a handle that cancels the watch when closed
      * @throws ResourceException if the watch operation fails
      * @throws IllegalArgumentException if namespace, podName, or watcher is null
      */
-    public void watchForPod(final String namespace, final String podName, final Watcher<Event> watcher)
+    public StreamHandle watchForPod(final String namespace, final String podName, final Watcher<Event> watcher)
             throws ResourceException {
         if (namespace == null) {
             throw new IllegalArgumentException("Namespace cannot be null");
@@ -108,7 +113,7 @@ public final class EventManager extends AbstractResourceManager<Event> {
                 .involvedObjectName(podName)
                 .involvedObjectNamespace(namespace)
                 .build();
-        watch(namespace, options, watcher);
+        return watch(namespace, options, watcher);
     }
 
     /**
@@ -116,10 +121,11 @@ public final class EventManager extends AbstractResourceManager<Event> {
      *
      * @param namespace the namespace to watch warning events in
      * @param watcher the callback to handle watch events
+     * @return a handle that cancels the watch when closed
      * @throws ResourceException if the watch operation fails
      * @throws IllegalArgumentException if namespace or watcher is null
      */
-    public void watchWarnings(final String namespace, final Watcher<Event> watcher) throws ResourceException {
+    public StreamHandle watchWarnings(final String namespace, final Watcher<Event> watcher) throws ResourceException {
         if (namespace == null) {
             throw new IllegalArgumentException("Namespace cannot be null");
         }
@@ -127,7 +133,7 @@ public final class EventManager extends AbstractResourceManager<Event> {
             throw new IllegalArgumentException("Watcher cannot be null");
         }
         final EventWatchOptions options = EventWatchOptions.forWarnings();
-        watch(namespace, options, watcher);
+        return watch(namespace, options, watcher);
     }
 
     /**
@@ -136,10 +142,11 @@ public final class EventManager extends AbstractResourceManager<Event> {
      * @param namespace the namespace to watch events in
      * @param reason the event reason to filter by (e.g., "Created", "Scheduled", "FailedMount")
      * @param watcher the callback to handle watch events
+     * @return a handle that cancels the watch when closed
      * @throws ResourceException if the watch operation fails
      * @throws IllegalArgumentException if namespace or watcher is null
      */
-    public void watchByReason(final String namespace, final String reason, final Watcher<Event> watcher)
+    public StreamHandle watchByReason(final String namespace, final String reason, final Watcher<Event> watcher)
             throws ResourceException {
         if (namespace == null) {
             throw new IllegalArgumentException("Namespace cannot be null");
@@ -148,7 +155,7 @@ public final class EventManager extends AbstractResourceManager<Event> {
             throw new IllegalArgumentException("Watcher cannot be null");
         }
         final EventWatchOptions options = EventWatchOptions.forReason(reason);
-        watch(namespace, options, watcher);
+        return watch(namespace, options, watcher);
     }
 
     /**
@@ -157,10 +164,11 @@ public final class EventManager extends AbstractResourceManager<Event> {
      * @param namespace the namespace to watch events in
      * @param controller the reporting controller to filter by (e.g., "kubelet", "kube-scheduler")
      * @param watcher the callback to handle watch events
+     * @return a handle that cancels the watch when closed
      * @throws ResourceException if the watch operation fails
      * @throws IllegalArgumentException if namespace, controller, or watcher is null
      */
-    public void watchByController(final String namespace, final String controller, final Watcher<Event> watcher)
+    public StreamHandle watchByController(final String namespace, final String controller, final Watcher<Event> watcher)
             throws ResourceException {
         if (namespace == null) {
             throw new IllegalArgumentException("Namespace cannot be null");
@@ -174,6 +182,6 @@ public final class EventManager extends AbstractResourceManager<Event> {
         final EventWatchOptions options = EventWatchOptions.builder()
                 .reportingController(controller)
                 .build();
-        watch(namespace, options, watcher);
+        return watch(namespace, options, watcher);
     }
 }
@@ -5,23 +5,28 @@ import io.elev8.core.client.KubernetesClient;
 import io.elev8.core.client.KubernetesClientException;
 import io.elev8.core.http.HttpClient;
 import io.elev8.core.http.HttpResponse;
+import io.elev8.core.http.StreamHandle;
 import io.elev8.core.list.ListOptions;
 import io.elev8.core.patch.ApplyOptions;
 import io.elev8.core.patch.PatchOptions;
 import io.elev8.core.watch.ResourceChangeStream;
 import io.elev8.core.watch.StreamOptions;
-import io.elev8.core.watch.WatchEvent;
 import io.elev8.core.watch.WatchOptions;
 import io.elev8.core.watch.Watcher;
 import io.elev8.resources.AbstractResource;
 import io.elev8.resources.ClusterResourceManager;
 import io.elev8.resources.ResourceException;
+import io.elev8.resources.ResourceFutures;
 import io.elev8.resources.ResourceList;
+import io.elev8.resources.StreamingListDecoder;
+import io.elev8.resources.WatchEventDecoder;
 import io.elev8.resources.WatchStreamAdapter;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Manager for cluster-scoped custom resources using dynamic typing.
@@ -30,6 +35,9 @@ import java.util.List;
 @Slf4j
 public final class GenericClusterResourceManager implements ClusterResourceManager<GenericKubernetesResource> {
 
+    private static final StreamingListDecoder<GenericKubernetesResource> LIST_DECODER =
+            new StreamingListDecoder<>(GenericKubernetesResource.class);
+
     private final KubernetesClient client;
 
     @Getter
@@ -124,6 +132,15 @@ public final class GenericClusterResourceManager implements ClusterResourceManag
         }
     }
 
+    @Override
+    public ResourceList.ListMetadata listStreaming(final ListOptions options,
+                                                   final Consumer<? super GenericKubernetesResource> consumer)
+            throws ResourceException {
+        final String path = buildClusterPath();
+        log.debug("Streaming generic cluster resource list at path: {}", path);
+        return LIST_DECODER.list(client, path, options, consumer);
+    }
+
     @Override
     public GenericKubernetesResource get(final String name) throws ResourceException {
         try {
@@ -273,49 +290,140 @@ public final class GenericClusterResourceManager implements ClusterResourceManag
         }
     }
 
+    @Override
+    public CompletableFuture<List<GenericKubernetesResource>> listAsync(final ListOptions options) {
+        final String path = buildClusterPath();
+        log.debug("Listing generic cluster resources asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.getAsync(path, options), "Failed to list resources", response -> {
+            if (!response.isSuccessful()) {
+                throw new ResourceException(
+                        "Failed to list resources: " + response.getBody(),
+                        response.getStatusCode());
+            }
+
+            final ResourceList<GenericKubernetesResource> resourceList = AbstractResource.getObjectMapper().readValue(
+                    response.getBody(),
+                    AbstractResource.getObjectMapper().getTypeFactory()
+                            .constructParametricType(ResourceList.class, GenericKubernetesResource.class));
+
+            return resourceList.getItems();
+        });
+    }
+
+    @Override
+    public CompletableFuture<GenericKubernetesResource> getAsync(final String name) {
+        final String path = buildResourcePath(name);
+        log.debug("Getting generic cluster resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.getAsync(path), "Failed to get resource", response -> {
+            if (response.isNotFound()) {
+                throw new ResourceException("Resource not found: " + name, 404);
+            }
+
+            if (!response.isSuccessful()) {
+                throw new ResourceException(
+                        "Failed to get resource: " + response.getBody(),
+                        response.getStatusCode());
+            }
+
+            return AbstractResource.fromJson(response.getBody(), GenericKubernetesResource.class);
+        });
+    }
+
+    @Override
+    public CompletableFuture<GenericKubernetesResource> createAsync(final GenericKubernetesResource resource) {
+        final String path = buildClusterPath();
+        log.debug("Creating generic cluster resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.postAsync(path, resource.toJson()), "Failed to create resource",
+                response -> {
+                    if (!response.isSuccessful()) {
+                        throw new ResourceException(
+                                "Failed to create resource: " + response.getBody(),
+                                response.getStatusCode());
+                    }
+
+                    return AbstractResource.fromJson(response.getBody(), GenericKubernetesResource.class);
+                });
+    }
+
+    @Override
+    public CompletableFuture<GenericKubernetesResource> updateAsync(final GenericKubernetesResource resource) {
+        final String name = resource.getName();
+        if (name == null) {
+            return CompletableFuture.failedFuture(new ResourceException("Resource name is required for update"));
+        }
+
+        final String path = buildResourcePath(name);
+        log.debug("Updating generic cluster resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.putAsync(path, resource.toJson()), "Failed to update resource",
+                response -> {
+                    if (!response.isSuccessful()) {
+                        throw new ResourceException(
+                                "Failed to update resource: " + response.getBody(),
+                                response.getStatusCode());
+                    }
+
+                    return AbstractResource.fromJson(response.getBody(), GenericKubernetesResource.class);
+                });
+    }
+
+    @Override
+    public CompletableFuture<GenericKubernetesResource> patchAsync(final String name, final PatchOptions options,
+                                             final String patchBody) {
+        final String path = buildResourcePath(name);
+        log.debug("Patching generic cluster resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.patchAsync(path, options, patchBody), "Failed to patch cluster resource",
+                response -> {
+                    if (!response.isSuccessful()) {
+                        throw new ResourceException(
+                                "Failed to patch resource: " + response.getBody(),
+                                response.getStatusCode());
+                    }
+
+                    return AbstractResource.fromJson(response.getBody(), GenericKubernetesResource.class);
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(final String name) {
+        final String path = buildResourcePath(name);
+        log.debug("Deleting generic cluster resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.deleteAsync(path), "Failed to delete resource", response -> {
+            if (!response.isSuccessful() && !response.isNotFound()) {
+                throw new ResourceException(
+                        "Failed to delete resource: " + response.getBody(),
+                        response.getStatusCode());
+            }
+            return null;
+        });
+    }
+
     @Override
     public String getApiPath() {
         return context.getApiPath();
     }
 
     @Override
-    public void watch(final WatchOptions options,
+    public StreamHandle watch(final WatchOptions options,
                       final Watcher<GenericKubernetesResource> watcher) throws ResourceException {
         try {
             final String path = buildClusterPath();
             log.debug("Watching generic cluster resources at path: {}", path);
 
-            final HttpClient.StreamHandler handler = new HttpClient.StreamHandler() {
-                @Override
-                public void onLine(final String line) {
-                    try {
-                        final WatchEvent<GenericKubernetesResource> event =
-                                AbstractResource.getObjectMapper().readValue(
-                                        line,
-                                        AbstractResource.getObjectMapper().getTypeFactory()
-                                                .constructParametricType(WatchEvent.class,
-                                                        GenericKubernetesResource.class));
-                        watcher.onEvent(event);
-                    } catch (Exception e) {
-                        log.error("Failed to parse watch event", e);
-                        watcher.onError(e);
-                    }
-                }
-
-                @Override
-                public void onError(final Exception exception) {
-                    watcher.onError(exception);
-                }
-
-                @Override
-                public void onClose() {
-                    watcher.onClose();
-                }
-            };
+            final HttpClient.StreamHandler handler =
+                    WatchEventDecoder.streamHandler(GenericKubernetesResource.class, options, watcher);
 
-            client.watch(path, options, handler);
+            return client.watch(path, options, handler);
 
         } catch (KubernetesClientException e) {
+            if (e.hasStatusCode()) {
+                throw new ResourceException("Failed to watch cluster resources", e.getStatusCode(), e);
+            }
             throw new ResourceException("Failed to watch cluster resources", e);
         }
     }
@@ -323,21 +431,8 @@ public final class GenericClusterResourceManager implements ClusterResourceManag
     @Override
     public ResourceChangeStream<GenericKubernetesResource> stream(final StreamOptions options)
             throws ResourceException {
-        final StreamOptions effectiveOptions = options != null ? options : StreamOptions.defaults();
-        final ResourceChangeStream<GenericKubernetesResource> stream = new ResourceChangeStream<>(
-                effectiveOptions.getQueueCapacity(),
-                () -> {}
-        );
-
-        final WatchStreamAdapter<GenericKubernetesResource> adapter = new WatchStreamAdapter<>(
-                stream,
-                effectiveOptions.isTrackPreviousState()
-        );
-
         log.debug("Starting generic cluster resource change stream");
-        watch(effectiveOptions.getWatchOptions(), adapter);
-
-        return stream;
+        return WatchStreamAdapter.open(options, (watchOptions, watcher) -> watch(watchOptions, watcher));
     }
 
     private String buildClusterPath() {
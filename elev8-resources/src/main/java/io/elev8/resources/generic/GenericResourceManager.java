@@ -5,23 +5,28 @@ import io.elev8.core.client.KubernetesClient;
 import io.elev8.core.client.KubernetesClientException;
 import io.elev8.core.http.HttpClient;
 import io.elev8.core.http.HttpResponse;
+import io.elev8.core.http.StreamHandle;
 import io.elev8.core.list.ListOptions;
 import io.elev8.core.patch.ApplyOptions;
 import io.elev8.core.patch.PatchOptions;
 import io.elev8.core.watch.ResourceChangeStream;
 import io.elev8.core.watch.StreamOptions;
-import io.elev8.core.watch.WatchEvent;
 import io.elev8.core.watch.WatchOptions;
 import io.elev8.core.watch.Watcher;
 import io.elev8.resources.AbstractResource;
 import io.elev8.resources.ResourceException;
+import io.elev8.resources.ResourceFutures;
 import io.elev8.resources.ResourceList;
 import io.elev8.resources.ResourceManager;
+import io.elev8.resources.StreamingListDecoder;
+import io.elev8.resources.WatchEventDecoder;
 import io.elev8.resources.WatchStreamAdapter;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Manager for namespace-scoped custom resources using dynamic typing.
@@ -30,6 +35,9 @@ import java.util.List;
 @Slf4j
 public final class GenericResourceManager implements ResourceManager<GenericKubernetesResource> {
 
+    private static final StreamingListDecoder<GenericKubernetesResource> LIST_DECODER =
+            new StreamingListDecoder<>(GenericKubernetesResource.class);
+
     private final KubernetesClient client;
 
     @Getter
@@ -181,6 +189,25 @@ public final class GenericResourceManager implements ResourceManager<GenericKube
         }
     }
 
+    @Override
+    public ResourceList.ListMetadata listStreaming(final String namespace,
+                                                   final ListOptions options,
+                                                   final Consumer<? super GenericKubernetesResource> consumer)
+            throws ResourceException {
+        final String path = buildNamespacePath(namespace);
+        log.debug("Streaming generic resource list at path: {}", path);
+        return LIST_DECODER.list(client, path, options, consumer);
+    }
+
+    @Override
+    public ResourceList.ListMetadata listAllNamespacesStreaming(
+            final ListOptions options,
+            final Consumer<? super GenericKubernetesResource> consumer) throws ResourceException {
+        final String path = context.getApiPath() + "/" + context.getPlural();
+        log.debug("Streaming generic resource list across all namespaces at path: {}", path);
+        return LIST_DECODER.list(client, path, options, consumer);
+    }
+
     @Override
     public GenericKubernetesResource get(final String namespace, final String name) throws ResourceException {
         try {
@@ -338,92 +365,169 @@ public final class GenericResourceManager implements ResourceManager<GenericKube
         }
     }
 
+    @Override
+    public CompletableFuture<List<GenericKubernetesResource>> listAsync(final String namespace, final ListOptions options) {
+        final String path = buildNamespacePath(namespace);
+        log.debug("Listing generic resources asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.getAsync(path, options), "Failed to list resources", response -> {
+            if (!response.isSuccessful()) {
+                throw new ResourceException(
+                        "Failed to list resources: " + response.getBody(),
+                        response.getStatusCode());
+            }
+
+            final ResourceList<GenericKubernetesResource> resourceList = AbstractResource.getObjectMapper().readValue(
+                    response.getBody(),
+                    AbstractResource.getObjectMapper().getTypeFactory()
+                            .constructParametricType(ResourceList.class, GenericKubernetesResource.class));
+
+            return resourceList.getItems();
+        });
+    }
+
+    @Override
+    public CompletableFuture<GenericKubernetesResource> getAsync(final String namespace, final String name) {
+        final String path = buildResourcePath(namespace, name);
+        log.debug("Getting generic resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.getAsync(path), "Failed to get resource", response -> {
+            if (response.isNotFound()) {
+                throw new ResourceException("Resource not found: " + name, 404);
+            }
+
+            if (!response.isSuccessful()) {
+                throw new ResourceException(
+                        "Failed to get resource: " + response.getBody(),
+                        response.getStatusCode());
+            }
+
+            return AbstractResource.fromJson(response.getBody(), GenericKubernetesResource.class);
+        });
+    }
+
+    @Override
+    public CompletableFuture<GenericKubernetesResource> createAsync(final GenericKubernetesResource resource) {
+        final String namespace = resource.getNamespace();
+        if (namespace == null) {
+            return CompletableFuture.failedFuture(
+                    new ResourceException("Resource namespace is required for creation"));
+        }
+
+        final String path = buildNamespacePath(namespace);
+        log.debug("Creating generic resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.postAsync(path, resource.toJson()), "Failed to create resource",
+                response -> {
+                    if (!response.isSuccessful()) {
+                        throw new ResourceException(
+                                "Failed to create resource: " + response.getBody(),
+                                response.getStatusCode());
+                    }
+
+                    return AbstractResource.fromJson(response.getBody(), GenericKubernetesResource.class);
+                });
+    }
+
+    @Override
+    public CompletableFuture<GenericKubernetesResource> updateAsync(final GenericKubernetesResource resource) {
+        final String namespace = resource.getNamespace();
+        final String name = resource.getName();
+        if (namespace == null || name == null) {
+            return CompletableFuture.failedFuture(
+                    new ResourceException("Resource namespace and name are required for update"));
+        }
+
+        final String path = buildResourcePath(namespace, name);
+        log.debug("Updating generic resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.putAsync(path, resource.toJson()), "Failed to update resource",
+                response -> {
+                    if (!response.isSuccessful()) {
+                        throw new ResourceException(
+                                "Failed to update resource: " + response.getBody(),
+                                response.getStatusCode());
+                    }
+
+                    return AbstractResource.fromJson(response.getBody(), GenericKubernetesResource.class);
+                });
+    }
+
+    @Override
+    public CompletableFuture<GenericKubernetesResource> patchAsync(final String namespace, final String name, final PatchOptions options,
+                                             final String patchBody) {
+        final String path = buildResourcePath(namespace, name);
+        log.debug("Patching generic resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.patchAsync(path, options, patchBody), "Failed to patch resource",
+                response -> {
+                    if (!response.isSuccessful()) {
+                        throw new ResourceException(
+                                "Failed to patch resource: " + response.getBody(),
+                                response.getStatusCode());
+                    }
+
+                    return AbstractResource.fromJson(response.getBody(), GenericKubernetesResource.class);
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(final String namespace, final String name) {
+        final String path = buildResourcePath(namespace, name);
+        log.debug("Deleting generic resource asynchronously at path: {}", path);
+
+        return ResourceFutures.map(client.deleteAsync(path), "Failed to delete resource", response -> {
+            if (!response.isSuccessful() && !response.isNotFound()) {
+                throw new ResourceException(
+                        "Failed to delete resource: " + response.getBody(),
+                        response.getStatusCode());
+            }
+            return null;
+        });
+    }
+
     @Override
     public String getApiPath() {
         return context.getApiPath();
     }
 
     @Override
-    public void watch(final String namespace,
+    public StreamHandle watch(final String namespace,
                       final WatchOptions options,
                       final Watcher<GenericKubernetesResource> watcher) throws ResourceException {
         try {
             final String path = buildNamespacePath(namespace);
             log.debug("Watching generic resources at path: {}", path);
 
-            final HttpClient.StreamHandler handler = new HttpClient.StreamHandler() {
-                @Override
-                public void onLine(final String line) {
-                    try {
-                        final WatchEvent<GenericKubernetesResource> event =
-                                AbstractResource.getObjectMapper().readValue(
-                                        line,
-                                        AbstractResource.getObjectMapper().getTypeFactory()
-                                                .constructParametricType(WatchEvent.class,
-                                                        GenericKubernetesResource.class));
-                        watcher.onEvent(event);
-                    } catch (Exception e) {
-                        log.error("Failed to parse watch event", e);
-                        watcher.onError(e);
-                    }
-                }
-
-                @Override
-                public void onError(final Exception exception) {
-                    watcher.onError(exception);
-                }
-
-                @Override
-                public void onClose() {
-                    watcher.onClose();
-                }
-            };
+            final HttpClient.StreamHandler handler =
+                    WatchEventDecoder.streamHandler(GenericKubernetesResource.class, options, watcher);
 
-            client.watch(path, options, handler);
+            return client.watch(path, options, handler);
 
         } catch (KubernetesClientException e) {
+            if (e.hasStatusCode()) {
+                throw new ResourceException("Failed to watch resources", e.getStatusCode(), e);
+            }
             throw new ResourceException("Failed to watch resources", e);
         }
     }
 
     @Override
-    public void watchAllNamespaces(final WatchOptions options,
+    public StreamHandle watchAllNamespaces(final WatchOptions options,
                                    final Watcher<GenericKubernetesResource> watcher) throws ResourceException {
         try {
             final String path = context.getApiPath() + "/" + context.getPlural();
             log.debug("Watching generic resources across all namespaces at path: {}", path);
 
-            final HttpClient.StreamHandler handler = new HttpClient.StreamHandler() {
-                @Override
-                public void onLine(final String line) {
-                    try {
-                        final WatchEvent<GenericKubernetesResource> event =
-                                AbstractResource.getObjectMapper().readValue(
-                                        line,
-                                        AbstractResource.getObjectMapper().getTypeFactory()
-                                                .constructParametricType(WatchEvent.class,
-                                                        GenericKubernetesResource.class));
-                        watcher.onEvent(event);
-                    } catch (Exception e) {
-                        log.error("Failed to parse watch event", e);
-                        watcher.onError(e);
-                    }
-                }
+            final HttpClient.StreamHandler handler =
+                    WatchEventDecoder.streamHandler(GenericKubernetesResource.class, options, watcher);
 
-                @Override
-                public void onError(final Exception exception) {
-                    watcher.onError(exception);
-                }
-
-                @Override
-                public void onClose() {
-                    watcher.onClose();
-                }
-            };
-
-            client.watch(path, options, handler);
+            return client.watch(path, options, handler);
 
         } catch (KubernetesClientException e) {
+            if (e.hasStatusCode()) {
+                throw new ResourceException("Failed to watch resources", e.getStatusCode(), e);
+            }
             throw new ResourceException("Failed to watch resources", e);
         }
     }
@@ -432,41 +536,15 @@ public final class GenericResourceManager implements ResourceManager<GenericKube
     public ResourceChangeStream<GenericKubernetesResource> stream(final String namespace,
                                                                   final StreamOptions options)
             throws ResourceException {
-        final StreamOptions effectiveOptions = options != null ? options : StreamOptions.defaults();
-        final ResourceChangeStream<GenericKubernetesResource> stream = new ResourceChangeStream<>(
-                effectiveOptions.getQueueCapacity(),
-                () -> {}
-        );
-
-        final WatchStreamAdapter<GenericKubernetesResource> adapter = new WatchStreamAdapter<>(
-                stream,
-                effectiveOptions.isTrackPreviousState()
-        );
-
         log.debug("Starting generic resource change stream for namespace: {}", namespace);
-        watch(namespace, effectiveOptions.getWatchOptions(), adapter);
-
-        return stream;
+        return WatchStreamAdapter.open(options, (watchOptions, watcher) -> watch(namespace, watchOptions, watcher));
     }
 
     @Override
     public ResourceChangeStream<GenericKubernetesResource> streamAllNamespaces(final StreamOptions options)
             throws ResourceException {
-        final StreamOptions effectiveOptions = options != null ? options : StreamOptions.defaults();
-        final ResourceChangeStream<GenericKubernetesResource> stream = new ResourceChangeStream<>(
-                effectiveOptions.getQueueCapacity(),
-                () -> {}
-        );
-
-        final WatchStreamAdapter<GenericKubernetesResource> adapter = new WatchStreamAdapter<>(
-                stream,
-                effectiveOptions.isTrackPreviousState()
-        );
-
         log.debug("Starting generic resource change stream for all namespaces");
-        watchAllNamespaces(effectiveOptions.getWatchOptions(), adapter);
-
-        return stream;
+        return WatchStreamAdapter.open(options, (watchOptions, watcher) -> watchAllNamespaces(watchOptions, watcher));
     }
 
     private String buildNamespacePath(final String namespace) {
@@ -1,21 +1,23 @@
 package io.elev8.resources.informer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.elev8.core.watch.ResourceChangeStream;
 import io.elev8.resources.KubernetesResource;
+import io.elev8.resources.ResourceCodec;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -25,22 +27,39 @@ import java.util.function.Supplier;
  * <p>This implementation uses composition to wrap the existing Informer class,
  * adding handler registration tracking and periodic resync capabilities.</p>
  *
+ * <p>Events are dispatched asynchronously: each registration gets its own bounded buffer and
+ * consumer (see {@link ResourceEventHandlerOptions}), so the informer thread only enqueues and a
+ * slow handler delays neither the other handlers nor the watch.</p>
+ *
+ * <p>With {@link #enableSnapshots(InformerSnapshot, Duration)} the cache and its resourceVersion are
+ * saved to a file periodically and on shutdown, and the next run starts from that file: it is synced
+ * as soon as the file is loaded and watches from the saved resourceVersion, relisting only if the
+ * server no longer has that version.</p>
+ *
+ * <p>With {@link #enableMetrics(InformerMetrics, Duration)} the informer reports event lag, watch
+ * reconnects, relists, store size, handler latency and an estimate of the cache size to an
+ * {@link InformerMetrics}.</p>
+ *
  * @param <T> the type of Kubernetes resource
  */
 @Slf4j
 public class DefaultSharedIndexInformer<T extends KubernetesResource> implements SharedIndexInformer<T> {
 
-    private final InMemoryIndexer<T> indexer;
+    private static final int CACHE_SAMPLE_SIZE = 64;
+
+    private final Indexer<T> indexer;
     private final Informer<T> delegate;
-    private final Set<DefaultEventHandlerRegistration<T>> handlers;
+    private final Map<DefaultEventHandlerRegistration<T>, HandlerDispatcher<T>> handlers;
     private final Map<DefaultEventHandlerRegistration<T>, ScheduledFuture<?>> resyncFutures;
     private final ReentrantReadWriteLock handlersLock;
     private final AtomicBoolean started;
     private final AtomicBoolean stopped;
-    private final AtomicReference<String> lastResourceVersion;
     private final Duration defaultResyncPeriod;
 
     private volatile ScheduledExecutorService resyncExecutor;
+    private volatile InformerSnapshot<T> snapshot;
+    private volatile Duration snapshotInterval;
+    private volatile Duration cacheSampleInterval;
 
     /**
      * Creates a new DefaultSharedIndexInformer.
@@ -53,14 +72,67 @@ public class DefaultSharedIndexInformer<T extends KubernetesResource> implements
             final Supplier<List<T>> listSupplier,
             final Supplier<ResourceChangeStream<T>> streamSupplier,
             final Duration defaultResyncPeriod) {
-        this.indexer = new InMemoryIndexer<>();
-        this.delegate = new Informer<>(indexer, listSupplier, streamSupplier);
-        this.handlers = ConcurrentHashMap.newKeySet();
+        this(new InMemoryIndexer<>(), indexer -> new Informer<>(indexer, listSupplier, streamSupplier),
+                defaultResyncPeriod);
+    }
+
+    /**
+     * Creates a new DefaultSharedIndexInformer that lists and watches through the given ListerWatcher,
+     * resuming watches from the last observed resourceVersion.
+     *
+     * @param listerWatcher lists resources and starts watches from a resourceVersion
+     * @param defaultResyncPeriod default resync period for handlers that don't specify one
+     */
+    public DefaultSharedIndexInformer(
+            final ListerWatcher<T> listerWatcher,
+            final Duration defaultResyncPeriod) {
+        this(listerWatcher, defaultResyncPeriod, false);
+    }
+
+    /**
+     * Creates a new DefaultSharedIndexInformer that lists and watches through the given ListerWatcher,
+     * optionally bootstrapping the cache from a WatchList stream instead of an initial LIST.
+     *
+     * @param listerWatcher lists resources and starts watches from a resourceVersion
+     * @param defaultResyncPeriod default resync period for handlers that don't specify one
+     * @param useWatchList true to stream the initial state, falling back to LIST when unsupported
+     */
+    public DefaultSharedIndexInformer(
+            final ListerWatcher<T> listerWatcher,
+            final Duration defaultResyncPeriod,
+            final boolean useWatchList) {
+        this(new InMemoryIndexer<>(), indexer -> new Informer<>(indexer, listerWatcher, useWatchList),
+                defaultResyncPeriod);
+    }
+
+    /**
+     * Creates a new DefaultSharedIndexInformer that caches into the given indexer, such as an
+     * {@link OffHeapIndexer}. The indexer must be empty and not used by anything else.
+     *
+     * @param indexer the indexer to cache resources in
+     * @param listerWatcher lists resources and starts watches from a resourceVersion
+     * @param defaultResyncPeriod default resync period for handlers that don't specify one
+     * @param useWatchList true to stream the initial state, falling back to LIST when unsupported
+     */
+    public DefaultSharedIndexInformer(
+            final Indexer<T> indexer,
+            final ListerWatcher<T> listerWatcher,
+            final Duration defaultResyncPeriod,
+            final boolean useWatchList) {
+        this(indexer, i -> new Informer<>(i, listerWatcher, useWatchList), defaultResyncPeriod);
+    }
+
+    private DefaultSharedIndexInformer(
+            final Indexer<T> indexer,
+            final Function<Indexer<T>, Informer<T>> informerFactory,
+            final Duration defaultResyncPeriod) {
+        this.indexer = indexer;
+        this.delegate = informerFactory.apply(indexer);
+        this.handlers = new ConcurrentHashMap<>();
         this.resyncFutures = new ConcurrentHashMap<>();
         this.handlersLock = new ReentrantReadWriteLock();
         this.started = new AtomicBoolean(false);
         this.stopped = new AtomicBoolean(false);
-        this.lastResourceVersion = new AtomicReference<>("");
         this.defaultResyncPeriod = defaultResyncPeriod != null ? defaultResyncPeriod : Duration.ZERO;
 
         registerDelegateHandler();
@@ -98,6 +170,66 @@ public class DefaultSharedIndexInformer<T extends KubernetesResource> implements
         indexer.addIndex(indexName, indexFunc);
     }
 
+    @Override
+    public void enableLabelIndex() {
+        if (started.get()) {
+            throw new IllegalStateException("Cannot add index after informer has started");
+        }
+        indexer.enableLabelIndex();
+    }
+
+    /**
+     * Saves the cache to a snapshot file at a fixed interval and on {@link #shutdown()}, and restores
+     * it from that file when the informer starts. Must be called before {@link #run()}.
+     *
+     * <p>A snapshot is taken while events keep arriving: the resourceVersion is read before the
+     * resources, so the saved resources are at least as new as the saved version. After a restart the
+     * watch may therefore replay a few changes that are already in the cache, which handlers see as
+     * repeated onAdd or onUpdate notifications. A snapshot that cannot be read is logged and ignored,
+     * and the informer lists as usual.</p>
+     *
+     * @param snapshot the snapshot file
+     * @param interval how often to save (zero or null to save only on shutdown)
+     * @throws IllegalArgumentException if snapshot is null
+     * @throws IllegalStateException if the informer has started
+     */
+    public void enableSnapshots(final InformerSnapshot<T> snapshot, final Duration interval) {
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Snapshot cannot be null");
+        }
+        if (started.get()) {
+            throw new IllegalStateException("Cannot enable snapshots after informer has started");
+        }
+        this.snapshot = snapshot;
+        this.snapshotInterval = interval;
+    }
+
+    /**
+     * Reports the informer's measurements to the given metrics. Must be called before {@link #run()}.
+     * Handlers added before this call are measured too.
+     *
+     * <p>Every {@code cacheSampleInterval} the size of the cache is estimated and reported through
+     * {@link InformerMetrics#onCacheBytes(long)}. For an {@link OffHeapIndexer} this is the exact size of
+     * the live records. For other indexers it is the encoded JSON size of a sample of up to 64
+     * resources, scaled to the store size; decoded objects typically take a few times more heap than
+     * their JSON, so treat it as a lower bound.</p>
+     *
+     * @param metrics the metrics
+     * @param cacheSampleInterval how often to estimate the cache size (zero or null to never estimate)
+     * @throws IllegalArgumentException if metrics is null
+     * @throws IllegalStateException if the informer has started
+     */
+    public void enableMetrics(final InformerMetrics metrics, final Duration cacheSampleInterval) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        if (started.get()) {
+            throw new IllegalStateException("Cannot enable metrics after informer has started");
+        }
+        delegate.setMetrics(metrics);
+        this.cacheSampleInterval = cacheSampleInterval;
+    }
+
     @Override
     public boolean hasSynced() {
         return delegate.hasSynced();
@@ -131,7 +263,7 @@ public class DefaultSharedIndexInformer<T extends KubernetesResource> implements
 
         handlersLock.writeLock().lock();
         try {
-            handlers.add(registration);
+            handlers.put(registration, new HandlerDispatcher<>(registration, effectiveOptions, delegate::getMetrics));
 
             if (delegate.hasSynced()) {
                 replayExistingResources(registration);
@@ -156,7 +288,10 @@ public class DefaultSharedIndexInformer<T extends KubernetesResource> implements
 
         handlersLock.writeLock().lock();
         try {
-            handlers.remove(reg);
+            final HandlerDispatcher<T> dispatcher = handlers.remove(reg);
+            if (dispatcher != null) {
+                dispatcher.close();
+            }
             final ScheduledFuture<?> future = resyncFutures.remove(reg);
             if (future != null) {
                 future.cancel(false);
@@ -171,7 +306,8 @@ public class DefaultSharedIndexInformer<T extends KubernetesResource> implements
 
     @Override
     public String getLastSyncResourceVersion() {
-        return lastResourceVersion.get();
+        final String resourceVersion = delegate.getLastSyncResourceVersion();
+        return resourceVersion != null ? resourceVersion : "";
     }
 
     @Override
@@ -186,7 +322,10 @@ public class DefaultSharedIndexInformer<T extends KubernetesResource> implements
         }
 
         initResyncExecutor();
+        restoreSnapshot();
         delegate.start();
+        scheduleSnapshots();
+        scheduleCacheSampling();
         log.info("SharedInformer started");
     }
 
@@ -209,10 +348,14 @@ public class DefaultSharedIndexInformer<T extends KubernetesResource> implements
             }
         }
 
+        saveSnapshot();
+
         handlersLock.writeLock().lock();
         try {
-            for (final DefaultEventHandlerRegistration<T> reg : handlers) {
-                reg.deactivate();
+            for (final Map.Entry<DefaultEventHandlerRegistration<T>, HandlerDispatcher<T>> entry
+                    : handlers.entrySet()) {
+                entry.getKey().deactivate();
+                entry.getValue().close();
             }
             handlers.clear();
             resyncFutures.clear();
@@ -233,15 +376,96 @@ public class DefaultSharedIndexInformer<T extends KubernetesResource> implements
         }
     }
 
-    private void replayExistingResources(final DefaultEventHandlerRegistration<T> registration) {
-        final ResourceEventHandler<T> handler = registration.getHandler();
-        for (final T resource : indexer.list()) {
+    private void restoreSnapshot() {
+        final InformerSnapshot<T> current = snapshot;
+        if (current == null) {
+            return;
+        }
+        try {
+            final InformerSnapshot.Contents<T> contents = current.load();
+            if (contents != null) {
+                delegate.restore(contents.getResources(), contents.getResourceVersion());
+                log.info("Restored {} resources at resourceVersion {} from {}",
+                        contents.getResources().size(), contents.getResourceVersion(), current.getFile());
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable informer snapshot {}: {}", current.getFile(), e.getMessage());
+        }
+    }
+
+    private void scheduleSnapshots() {
+        final Duration interval = snapshotInterval;
+        if (snapshot == null || interval == null || interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        final long periodMillis = interval.toMillis();
+        resyncExecutor.scheduleAtFixedRate(this::saveSnapshot, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void scheduleCacheSampling() {
+        final Duration interval = cacheSampleInterval;
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        final long periodMillis = interval.toMillis();
+        resyncExecutor.scheduleAtFixedRate(this::sampleCacheBytes, 0, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void sampleCacheBytes() {
+        if (!delegate.hasSynced()) {
+            return;
+        }
+        try {
+            delegate.getMetrics().onCacheBytes(estimateCacheBytes(indexer));
+        } catch (RuntimeException e) {
+            log.debug("Failed to estimate the cache size: {}", e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends KubernetesResource> long estimateCacheBytes(final Indexer<T> indexer) {
+        if (indexer instanceof OffHeapIndexer<T> offHeap) {
+            return offHeap.getLiveBytes();
+        }
+        final int size = indexer.size();
+        long sampledBytes = 0;
+        int sampled = 0;
+        for (final T resource : indexer.view()) {
+            if (sampled == CACHE_SAMPLE_SIZE) {
+                break;
+            }
             try {
-                handler.onAdd(resource);
-            } catch (Exception e) {
-                log.error("Error replaying existing resource to handler", e);
+                sampledBytes += ResourceCodec.forType((Class<T>) resource.getClass()).write(resource).length();
+                sampled++;
+            } catch (JsonProcessingException e) {
+                log.debug("Skipping a resource that cannot be encoded: {}", e.getMessage());
             }
         }
+        return sampled == 0 ? 0 : sampledBytes * size / sampled;
+    }
+
+    private void saveSnapshot() {
+        final InformerSnapshot<T> current = snapshot;
+        if (current == null || !delegate.hasSynced()) {
+            return;
+        }
+        final String resourceVersion = delegate.getLastSyncResourceVersion();
+        if (resourceVersion == null) {
+            return;
+        }
+        try {
+            current.save(resourceVersion, indexer.view());
+            log.debug("Saved informer snapshot at resourceVersion {} to {}", resourceVersion, current.getFile());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to save informer snapshot to {}: {}", current.getFile(), e.getMessage());
+        }
+    }
+
+    private void replayExistingResources(final DefaultEventHandlerRegistration<T> registration) {
+        final HandlerDispatcher<T> dispatcher = handlers.get(registration);
+        for (final T resource : indexer.view()) {
+            dispatcher.onAdd(resource);
+        }
     }
 
     private void scheduleResyncIfNeeded(final DefaultEventHandlerRegistration<T> registration) {
@@ -273,28 +497,31 @@ public class DefaultSharedIndexInformer<T extends KubernetesResource> implements
             return;
         }
 
-        final ResourceEventHandler<T> handler = registration.getHandler();
         log.debug("Performing resync for handler");
 
-        for (final T resource : indexer.list()) {
-            try {
-                handler.onUpdate(resource, resource);
-            } catch (Exception e) {
-                log.error("Error during resync", e);
+        // The write lock keeps live notifications from interleaving with the resync, so the handler
+        // never sees an older cached object after a newer one
+        handlersLock.writeLock().lock();
+        try {
+            final HandlerDispatcher<T> dispatcher = handlers.get(registration);
+            if (dispatcher == null) {
+                return;
             }
+            for (final T resource : indexer.view()) {
+                dispatcher.onUpdate(resource, resource);
+            }
+        } finally {
+            handlersLock.writeLock().unlock();
         }
     }
 
     private void dispatchOnAdd(final T resource) {
         handlersLock.readLock().lock();
         try {
-            for (final DefaultEventHandlerRegistration<T> registration : handlers) {
-                if (registration.isActive()) {
-                    try {
-                        registration.getHandler().onAdd(resource);
-                    } catch (Exception e) {
-                        log.error("Error in handler onAdd", e);
-                    }
+            for (final Map.Entry<DefaultEventHandlerRegistration<T>, HandlerDispatcher<T>> entry
+                    : handlers.entrySet()) {
+                if (entry.getKey().isActive()) {
+                    entry.getValue().onAdd(resource);
                 }
             }
         } finally {
@@ -305,13 +532,10 @@ public class DefaultSharedIndexInformer<T extends KubernetesResource> implements
     private void dispatchOnUpdate(final T oldResource, final T newResource) {
         handlersLock.readLock().lock();
         try {
-            for (final DefaultEventHandlerRegistration<T> registration : handlers) {
-                if (registration.isActive()) {
-                    try {
-                        registration.getHandler().onUpdate(oldResource, newResource);
-                    } catch (Exception e) {
-                        log.error("Error in handler onUpdate", e);
-                    }
+            for (final Map.Entry<DefaultEventHandlerRegistration<T>, HandlerDispatcher<T>> entry
+                    : handlers.entrySet()) {
+                if (entry.getKey().isActive()) {
+                    entry.getValue().onUpdate(oldResource, newResource);
                 }
             }
         } finally {
@@ -322,13 +546,10 @@ public class DefaultSharedIndexInformer<T extends KubernetesResource> implements
     private void dispatchOnDelete(final T resource) {
         handlersLock.readLock().lock();
         try {
-            for (final DefaultEventHandlerRegistration<T> registration : handlers) {
-                if (registration.isActive()) {
-                    try {
-                        registration.getHandler().onDelete(resource);
-                    } catch (Exception e) {
-                        log.error("Error in handler onDelete", e);
-                    }
+            for (final Map.Entry<DefaultEventHandlerRegistration<T>, HandlerDispatcher<T>> entry
+                    : handlers.entrySet()) {
+                if (entry.getKey().isActive()) {
+                    entry.getValue().onDelete(resource);
                 }
             }
         } finally {
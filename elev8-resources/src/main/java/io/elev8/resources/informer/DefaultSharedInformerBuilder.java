@@ -3,15 +3,12 @@ package io.elev8.resources.informer;
 import io.elev8.core.watch.StreamOptions;
 import io.elev8.core.watch.WatchOptions;
 import io.elev8.resources.ClusterResourceManager;
-import io.elev8.resources.InformerException;
 import io.elev8.resources.KubernetesResource;
-import io.elev8.resources.ResourceException;
 import io.elev8.resources.ResourceManager;
+import io.elev8.resources.ResourceTransformer;
 
+import java.nio.file.Path;
 import java.time.Duration;
-import java.util.Collections;
-import java.util.List;
-import java.util.function.Supplier;
 
 /**
  * Default implementation of SharedInformerBuilder.
@@ -30,6 +27,14 @@ public class DefaultSharedInformerBuilder<T extends KubernetesResource> implemen
     private String labelSelector;
     private String fieldSelector;
     private Duration resyncPeriod;
+    private boolean watchList;
+    private ResourceTransformer<? super T> transform;
+    private Path snapshotFile;
+    private Duration snapshotInterval;
+    private ClusterResourceManager<? extends KubernetesResource> shardNamespaces;
+    private int listParallelism;
+    private InformerMetrics metrics;
+    private Duration cacheSampleInterval;
     private ResourceManager<T> resourceManager;
     private ClusterResourceManager<T> clusterResourceManager;
 
@@ -77,6 +82,43 @@ public class DefaultSharedInformerBuilder<T extends KubernetesResource> implemen
         return this;
     }
 
+    @Override
+    public SharedInformerBuilder<T> withWatchList(final boolean watchList) {
+        this.watchList = watchList;
+        return this;
+    }
+
+    @Override
+    public SharedInformerBuilder<T> withTransform(final ResourceTransformer<? super T> transform) {
+        this.transform = transform;
+        return this;
+    }
+
+    @Override
+    public SharedInformerBuilder<T> withSnapshot(final Path file, final Duration interval) {
+        this.snapshotFile = file;
+        this.snapshotInterval = interval;
+        return this;
+    }
+
+    @Override
+    public SharedInformerBuilder<T> withShardedList(final ClusterResourceManager<? extends KubernetesResource> namespaces,
+                                                    final int parallelism) {
+        if (namespaces != null && parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.shardNamespaces = namespaces;
+        this.listParallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    public SharedInformerBuilder<T> withMetrics(final InformerMetrics metrics, final Duration cacheSampleInterval) {
+        this.metrics = metrics;
+        this.cacheSampleInterval = cacheSampleInterval;
+        return this;
+    }
+
     @Override
     public SharedInformerBuilder<T> withResourceManager(final ResourceManager<T> manager) {
         this.resourceManager = manager;
@@ -93,30 +135,19 @@ public class DefaultSharedInformerBuilder<T extends KubernetesResource> implemen
     public SharedIndexInformer<T> build() {
         validateConfiguration();
 
-        final SharedInformerKey key = new SharedInformerKey(
-                resourceClass,
-                namespace,
-                labelSelector,
-                fieldSelector
-        );
+        final InformerOptions options = buildInformerOptions();
+        final SharedInformerKey key = SharedInformerKey.of(resourceClass, namespace, options);
 
         final Duration effectiveResync = resyncPeriod != null ? resyncPeriod : defaultResyncPeriod;
-        final StreamOptions streamOptions = buildStreamOptions();
 
-        final Supplier<List<T>> listSupplier;
-        final Supplier<io.elev8.core.watch.ResourceChangeStream<T>> streamSupplier;
+        final ListerWatcher<T> listerWatcher;
 
         if (clusterResourceManager != null) {
-            listSupplier = () -> safeList(clusterResourceManager::list);
-            streamSupplier = () -> safeStream(() -> clusterResourceManager.stream(streamOptions));
+            listerWatcher = ListerWatcher.forClusterResource(clusterResourceManager, options);
         } else if (resourceManager != null) {
-            if (allNamespaces) {
-                listSupplier = () -> safeList(resourceManager::listAllNamespaces);
-                streamSupplier = () -> safeStream(() -> resourceManager.streamAllNamespaces(streamOptions));
-            } else {
-                listSupplier = () -> safeList(() -> resourceManager.list(namespace));
-                streamSupplier = () -> safeStream(() -> resourceManager.stream(namespace, streamOptions));
-            }
+            listerWatcher = allNamespaces
+                    ? ListerWatcher.forAllNamespaces(resourceManager, options)
+                    : ListerWatcher.forNamespace(resourceManager, namespace, options);
         } else {
             throw new IllegalStateException(
                     "No ResourceManager or ClusterResourceManager configured. " +
@@ -124,10 +155,16 @@ public class DefaultSharedInformerBuilder<T extends KubernetesResource> implemen
         }
 
         final DefaultSharedIndexInformer<T> informer = new DefaultSharedIndexInformer<>(
-                listSupplier,
-                streamSupplier,
-                effectiveResync
+                listerWatcher,
+                effectiveResync,
+                watchList
         );
+        if (snapshotFile != null) {
+            informer.enableSnapshots(new InformerSnapshot<>(snapshotFile, resourceClass), snapshotInterval);
+        }
+        if (metrics != null) {
+            informer.enableMetrics(metrics, cacheSampleInterval);
+        }
 
         return factory.registerInformer(key, informer);
     }
@@ -147,6 +184,23 @@ public class DefaultSharedInformerBuilder<T extends KubernetesResource> implemen
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private InformerOptions buildInformerOptions() {
+        final InformerOptions.InformerOptionsBuilder builder = InformerOptions.builder()
+                .streamOptions(buildStreamOptions())
+                .watchList(watchList)
+                // The transformer is only ever applied to resources of type T
+                .transform((ResourceTransformer<KubernetesResource>) transform)
+                .shardNamespaces(shardNamespaces);
+        if (shardNamespaces != null) {
+            builder.listParallelism(listParallelism);
+        }
+        if (metrics != null) {
+            builder.metrics(metrics);
+        }
+        return builder.build();
+    }
+
     private StreamOptions buildStreamOptions() {
         final WatchOptions.WatchOptionsBuilder watchBuilder = WatchOptions.builder();
 
@@ -161,30 +215,4 @@ public class DefaultSharedInformerBuilder<T extends KubernetesResource> implemen
                 .watchOptions(watchBuilder.build())
                 .build();
     }
-
-    @FunctionalInterface
-    private interface ListSupplier<T> {
-        List<T> get() throws ResourceException;
-    }
-
-    @FunctionalInterface
-    private interface StreamSupplier<T> {
-        io.elev8.core.watch.ResourceChangeStream<T> get() throws ResourceException;
-    }
-
-    private List<T> safeList(final ListSupplier<T> supplier) {
-        try {
-            return supplier.get();
-        } catch (ResourceException e) {
-            throw new InformerException("Failed to list resources", e);
-        }
-    }
-
-    private io.elev8.core.watch.ResourceChangeStream<T> safeStream(final StreamSupplier<T> supplier) {
-        try {
-            return supplier.get();
-        } catch (ResourceException e) {
-            throw new InformerException("Failed to start resource stream", e);
-        }
-    }
 }
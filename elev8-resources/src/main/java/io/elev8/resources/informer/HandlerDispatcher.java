@@ -0,0 +1,127 @@
+package io.elev8.resources.informer;
+
+import io.elev8.core.watch.ResourceChangeEvent;
+import io.elev8.core.watch.ResourceChangeStream;
+import io.elev8.core.watch.ResourceChangeType;
+import io.elev8.core.watch.WatchStreamException;
+import io.elev8.resources.KubernetesResource;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Delivers the events of one {@link DefaultEventHandlerRegistration} asynchronously.
+ * The informer thread enqueues each notification into a bounded buffer owned by this dispatcher,
+ * and a dedicated consumer calls the handler, so the informer only ever waits on a handler whose
+ * buffer is full under {@link io.elev8.core.watch.OverflowPolicy#BLOCK}.
+ * Notifications reach the handler in the order they were enqueued. The time the handler takes for
+ * each notification is reported to the informer's {@link InformerMetrics}.
+ *
+ * @param <T> the resource type
+ */
+@Slf4j
+final class HandlerDispatcher<T extends KubernetesResource> implements AutoCloseable {
+
+    private static final Executor DEFAULT_DISPATCH_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("informer-handler-", 0).factory());
+
+    private final DefaultEventHandlerRegistration<T> registration;
+    private final ResourceChangeStream<T> events;
+    private final Supplier<InformerMetrics> metrics;
+    private final String handlerName;
+
+    HandlerDispatcher(final DefaultEventHandlerRegistration<T> registration,
+                      final ResourceEventHandlerOptions options,
+                      final Supplier<InformerMetrics> metrics) {
+        this.registration = registration;
+        this.metrics = metrics;
+        this.handlerName = registration.getHandler().getClass().getName();
+        this.events = new ResourceChangeStream<>(
+                options.getBufferSize(),
+                options.getOverflowPolicy(),
+                resource -> InMemoryStore.keyFor(resource.getNamespace(), resource.getName()),
+                null
+        );
+        final Executor executor = options.getDispatchExecutor() != null
+                ? options.getDispatchExecutor()
+                : DEFAULT_DISPATCH_EXECUTOR;
+        executor.execute(this::drain);
+    }
+
+    void onAdd(final T resource) {
+        enqueue(ResourceChangeType.CREATED, resource, null);
+    }
+
+    void onUpdate(final T oldResource, final T newResource) {
+        enqueue(ResourceChangeType.UPDATED, newResource, oldResource);
+    }
+
+    void onDelete(final T resource) {
+        enqueue(ResourceChangeType.DELETED, null, resource);
+    }
+
+    /**
+     * Stops the consumer. Notifications still buffered are discarded.
+     */
+    @Override
+    public void close() {
+        events.close();
+    }
+
+    private void enqueue(final ResourceChangeType type, final T resource, final T previousResource) {
+        events.enqueue(ResourceChangeEvent.<T>builder()
+                .type(type)
+                .resource(resource)
+                .previousResource(previousResource)
+                .build());
+    }
+
+    private void drain() {
+        try {
+            while (events.hasNext()) {
+                final ResourceChangeEvent<T> event = events.next();
+                if (registration.isActive() && !events.isClosed()) {
+                    final long start = System.nanoTime();
+                    deliver(event);
+                    metrics.get().onHandlerDispatched(handlerName, System.nanoTime() - start,
+                            events.getQueueSize());
+                }
+            }
+        } catch (NoSuchElementException | WatchStreamException e) {
+            log.debug("Handler dispatcher stopped: {}", e.getMessage());
+        }
+    }
+
+    private void deliver(final ResourceChangeEvent<T> event) {
+        final ResourceEventHandler<T> handler = registration.getHandler();
+        switch (event.getType()) {
+            case CREATED -> {
+                try {
+                    handler.onAdd(event.getResource());
+                } catch (Exception e) {
+                    log.error("Error in handler onAdd", e);
+                }
+            }
+            case UPDATED -> {
+                try {
+                    handler.onUpdate(event.getPreviousResource(), event.getResource());
+                } catch (Exception e) {
+                    log.error("Error in handler onUpdate", e);
+                }
+            }
+            case DELETED -> {
+                try {
+                    handler.onDelete(event.getPreviousResource());
+                } catch (Exception e) {
+                    log.error("Error in handler onDelete", e);
+                }
+            }
+            case SYNC -> {
+                // not produced by the informer
+            }
+        }
+    }
+}
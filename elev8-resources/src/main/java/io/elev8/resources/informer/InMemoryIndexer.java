@@ -1,5 +1,6 @@
 package io.elev8.resources.informer;
 
+import io.elev8.core.selector.LabelSelectorQuery;
 import io.elev8.resources.KubernetesResource;
 
 import java.util.ArrayList;
@@ -15,7 +16,10 @@ import java.util.concurrent.ConcurrentHashMap;
  * with secondary indexing capabilities.
  *
  * <p>Indices are maintained automatically when resources are added, updated, or deleted.
- * All index operations are thread-safe using concurrent data structures.</p>
+ * All index operations are thread-safe using concurrent data structures. The indices are part of
+ * the same contents as the resources, so {@link #replace(List)} publishes the new resources and
+ * their indices together, and an index lookup resolves its keys against the contents it read them
+ * from.</p>
  *
  * <p>Example usage:</p>
  * <pre>{@code
@@ -29,13 +33,23 @@ import java.util.concurrent.ConcurrentHashMap;
  * List<Pod> podsOnNode = indexer.getByIndex("byNode", "node-1");
  * }</pre>
  *
+ * <p>{@link #enableLabelIndex()} additionally maintains an inverted index over labels, so that
+ * {@link #list(LabelSelectorQuery)} is answered with set lookups instead of a scan:</p>
+ * <pre>{@code
+ * indexer.enableLabelIndex();
+ * List<Pod> backends = indexer.list(LabelSelectorQuery.builder()
+ *         .equals("app", "shop")
+ *         .in("tier", "backend", "cache")
+ *         .build());
+ * }</pre>
+ *
  * @param <T> the type of Kubernetes resource stored
  */
 public class InMemoryIndexer<T extends KubernetesResource> extends InMemoryStore<T> implements Indexer<T> {
 
     private final Map<String, IndexFunc<T>> indexFunctions = new ConcurrentHashMap<>();
 
-    private final Map<String, Map<String, Set<String>>> indices = new ConcurrentHashMap<>();
+    private volatile boolean labelIndexed;
 
     @Override
     public void addIndex(final String indexName, final IndexFunc<T> indexFunc) {
@@ -45,31 +59,79 @@ public class InMemoryIndexer<T extends KubernetesResource> extends InMemoryStore
         if (indexFunc == null) {
             throw new IllegalArgumentException("Index function cannot be null");
         }
-        if (indexFunctions.containsKey(indexName)) {
-            throw new IllegalArgumentException("Index '" + indexName + "' already exists");
+
+        synchronized (writeLock()) {
+            if (indexFunctions.containsKey(indexName)) {
+                throw new IllegalArgumentException("Index '" + indexName + "' already exists");
+            }
+            state().addIndex(indexName, indexFunc);
+            indexFunctions.put(indexName, indexFunc);
         }
+    }
 
-        indexFunctions.put(indexName, indexFunc);
-        indices.put(indexName, new ConcurrentHashMap<>());
+    /**
+     * Maintains an inverted index from label key and value to resources, used by
+     * {@link #list(LabelSelectorQuery)}. Indexes the resources already in the store.
+     * Calling this again has no effect.
+     */
+    @Override
+    public void enableLabelIndex() {
+        synchronized (writeLock()) {
+            if (!labelIndexed) {
+                state().addLabelIndex();
+                labelIndexed = true;
+            }
+        }
+    }
+
+    /**
+     * Returns whether labels are indexed.
+     *
+     * @return true after {@link #enableLabelIndex()}
+     */
+    public boolean isLabelIndexEnabled() {
+        return labelIndexed;
+    }
 
-        for (final T resource : list()) {
-            updateIndexForResource(indexName, indexFunc, resource);
+    /**
+     * {@inheritDoc}
+     * With {@link #enableLabelIndex()} the selector is evaluated against the label index:
+     * the smallest candidate set named by an {@code =}, {@code in} or exists requirement is
+     * scanned and the remaining requirements are checked by lookups.
+     */
+    @Override
+    public List<T> list(final LabelSelectorQuery query) {
+        final StoreState<T> state = state();
+        final LabelIndex labelIndex = state.labelIndex();
+        if (labelIndex == null) {
+            return Indexer.super.list(query);
+        }
+        if (query == null) {
+            throw new IllegalArgumentException("Label selector cannot be null");
         }
+        final List<T> result = new ArrayList<>();
+        for (final String key : labelIndex.select(query, state::keys)) {
+            final T resource = state.get(key);
+            if (resource != null) {
+                result.add(resource);
+            }
+        }
+        return result;
     }
 
     @Override
     public List<T> getByIndex(final String indexName, final String indexValue) {
         validateIndexExists(indexName);
 
-        final Map<String, Set<String>> indexMap = indices.get(indexName);
-        final Set<String> keys = indexMap.get(indexValue);
+        final StoreState<T> state = state();
+        final Set<String> keys = state.index(indexName).get(indexValue);
         if (keys == null || keys.isEmpty()) {
             return Collections.emptyList();
         }
 
         final List<T> result = new ArrayList<>();
         for (final String key : keys) {
-            final T resource = getByKey(key);
+            final T resource = state.get(key);
             if (resource != null) {
                 result.add(resource);
             }
@@ -81,8 +143,7 @@ public class InMemoryIndexer<T extends KubernetesResource> extends InMemoryStore
     public List<String> getIndexKeys(final String indexName, final String indexValue) {
         validateIndexExists(indexName);
 
-        final Map<String, Set<String>> indexMap = indices.get(indexName);
-        final Set<String> keys = indexMap.get(indexValue);
+        final Set<String> keys = state().index(indexName).get(indexValue);
         if (keys == null || keys.isEmpty()) {
             return Collections.emptyList();
         }
@@ -93,7 +154,7 @@ public class InMemoryIndexer<T extends KubernetesResource> extends InMemoryStore
     public Set<String> getAllIndexValues(final String indexName) {
         validateIndexExists(indexName);
 
-        final Map<String, Set<String>> indexMap = indices.get(indexName);
+        final Map<String, Set<String>> indexMap = state().index(indexName);
         return Collections.unmodifiableSet(new HashSet<>(indexMap.keySet()));
     }
 
@@ -103,119 +164,8 @@ public class InMemoryIndexer<T extends KubernetesResource> extends InMemoryStore
     }
 
     @Override
-    public void add(final T resource) {
-        if (resource == null) {
-            return;
-        }
-
-        final String key = keyFor(resource.getNamespace(), resource.getName());
-        final T oldResource = getByKey(key);
-
-        if (oldResource != null) {
-            removeFromIndices(oldResource);
-        }
-
-        super.add(resource);
-        addToIndices(resource);
-    }
-
-    @Override
-    public void update(final T resource) {
-        add(resource);
-    }
-
-    @Override
-    public void delete(final T resource) {
-        if (resource == null) {
-            return;
-        }
-
-        removeFromIndices(resource);
-        super.delete(resource);
-    }
-
-    @Override
-    public void replace(final List<T> resources) {
-        clearIndices();
-        super.replace(resources);
-
-        if (resources != null) {
-            for (final T resource : resources) {
-                addToIndices(resource);
-            }
-        }
-    }
-
-    @Override
-    public void clear() {
-        clearIndices();
-        super.clear();
-    }
-
-    private void addToIndices(final T resource) {
-        final String key = keyFor(resource.getNamespace(), resource.getName());
-
-        for (final Map.Entry<String, IndexFunc<T>> entry : indexFunctions.entrySet()) {
-            final String indexName = entry.getKey();
-            final IndexFunc<T> indexFunc = entry.getValue();
-            final List<String> indexValues = indexFunc.index(resource);
-
-            if (indexValues != null) {
-                final Map<String, Set<String>> indexMap = indices.get(indexName);
-                for (final String indexValue : indexValues) {
-                    if (indexValue != null) {
-                        indexMap.computeIfAbsent(indexValue, k -> ConcurrentHashMap.newKeySet())
-                                .add(key);
-                    }
-                }
-            }
-        }
-    }
-
-    private void removeFromIndices(final T resource) {
-        final String key = keyFor(resource.getNamespace(), resource.getName());
-
-        for (final Map.Entry<String, IndexFunc<T>> entry : indexFunctions.entrySet()) {
-            final String indexName = entry.getKey();
-            final IndexFunc<T> indexFunc = entry.getValue();
-            final List<String> indexValues = indexFunc.index(resource);
-
-            if (indexValues != null) {
-                final Map<String, Set<String>> indexMap = indices.get(indexName);
-                for (final String indexValue : indexValues) {
-                    if (indexValue != null) {
-                        final Set<String> keys = indexMap.get(indexValue);
-                        if (keys != null) {
-                            keys.remove(key);
-                            if (keys.isEmpty()) {
-                                indexMap.remove(indexValue);
-                            }
-                        }
-                    }
-                }
-            }
-        }
-    }
-
-    private void updateIndexForResource(final String indexName, final IndexFunc<T> indexFunc, final T resource) {
-        final String key = keyFor(resource.getNamespace(), resource.getName());
-        final List<String> indexValues = indexFunc.index(resource);
-
-        if (indexValues != null) {
-            final Map<String, Set<String>> indexMap = indices.get(indexName);
-            for (final String indexValue : indexValues) {
-                if (indexValue != null) {
-                    indexMap.computeIfAbsent(indexValue, k -> ConcurrentHashMap.newKeySet())
-                            .add(key);
-                }
-            }
-        }
-    }
-
-    private void clearIndices() {
-        for (final Map<String, Set<String>> indexMap : indices.values()) {
-            indexMap.clear();
-        }
+    StoreState<T> emptyState() {
+        return new StoreState<>(indexFunctions, labelIndexed);
     }
 
     private void validateIndexExists(final String indexName) {
@@ -0,0 +1,325 @@
+package io.elev8.resources.informer;
+
+import io.elev8.core.watch.ResourceChangeType;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link InformerMetrics} that keeps counters, gauges and histograms in memory, without any
+ * dependency. Read them to export to a monitoring system, to expose on a health endpoint or in tests.
+ *
+ * <p>{@link #getTimeSinceLastEvent()} grows without bound when a watch is stuck; with bookmarks
+ * enabled even an idle watch receives an event every few minutes, so it is a simple alert condition.
+ * {@link #getCacheBytes()} together with {@link #getStoreSize()} gives the footprint per resource
+ * for sizing the heap.</p>
+ *
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * InMemoryInformerMetrics metrics = new InMemoryInformerMetrics();
+ * SharedIndexInformer<Pod> informer = SharedInformers.forAllNamespaces(podManager,
+ *         InformerOptions.builder().metrics(metrics).build());
+ * ...
+ * long p99LagMillis = TimeUnit.NANOSECONDS.toMillis(metrics.getEventLag().percentile(0.99));
+ * }</pre>
+ */
+public class InMemoryInformerMetrics implements InformerMetrics {
+
+    private final LongAdder watchEventsReceived = new LongAdder();
+    private final LongAdder eventsProcessed = new LongAdder();
+    private final LongAdder watchReconnects = new LongAdder();
+    private final LongAdder relists = new LongAdder();
+    private final Map<ResourceChangeType, LongAdder> eventsByType = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+    private final AtomicInteger storeSize = new AtomicInteger();
+    private final AtomicLong cacheBytes = new AtomicLong();
+    private final AtomicLong lastEventNanos = new AtomicLong(System.nanoTime());
+    private final Histogram eventLag = new Histogram();
+    private final Map<String, Histogram> handlerLatencies = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> handlerQueueDepths = new ConcurrentHashMap<>();
+
+    @Override
+    public void onWatchEventReceived(final ResourceChangeType type, final int depth) {
+        watchEventsReceived.increment();
+        queueDepth.set(depth);
+        maxQueueDepth.accumulate(depth);
+        lastEventNanos.set(System.nanoTime());
+    }
+
+    @Override
+    public void onEventProcessed(final ResourceChangeType type, final long lagNanos) {
+        eventsProcessed.increment();
+        eventsByType.computeIfAbsent(type, t -> new LongAdder()).increment();
+        eventLag.record(lagNanos);
+        lastEventNanos.set(System.nanoTime());
+    }
+
+    @Override
+    public void onWatchReconnect() {
+        watchReconnects.increment();
+    }
+
+    @Override
+    public void onRelist() {
+        relists.increment();
+    }
+
+    @Override
+    public void onStoreSize(final int size) {
+        storeSize.set(size);
+    }
+
+    @Override
+    public void onCacheBytes(final long bytes) {
+        cacheBytes.set(bytes);
+    }
+
+    @Override
+    public void onHandlerDispatched(final String handler, final long latencyNanos, final int depth) {
+        handlerLatencies.computeIfAbsent(handler, h -> new Histogram()).record(latencyNanos);
+        handlerQueueDepths.computeIfAbsent(handler, h -> new AtomicInteger()).set(depth);
+    }
+
+    /**
+     * Returns the number of events queued by the watch, including bookmarks.
+     *
+     * @return the number of events received
+     */
+    public long getWatchEventsReceived() {
+        return watchEventsReceived.sum();
+    }
+
+    /**
+     * Returns the number of events the informer has applied to its cache, including bookmarks.
+     *
+     * @return the number of events processed
+     */
+    public long getEventsProcessed() {
+        return eventsProcessed.sum();
+    }
+
+    /**
+     * Returns the number of events of one type the informer has applied to its cache.
+     *
+     * @param type the event type
+     * @return the number of events processed
+     */
+    public long getEventsProcessed(final ResourceChangeType type) {
+        final LongAdder count = eventsByType.get(type);
+        return count != null ? count.sum() : 0;
+    }
+
+    /**
+     * Returns the number of watches opened after the first one.
+     *
+     * @return the number of reconnects
+     */
+    public long getWatchReconnects() {
+        return watchReconnects.sum();
+    }
+
+    /**
+     * Returns the number of relists, not counting the initial list.
+     *
+     * @return the number of relists
+     */
+    public long getRelists() {
+        return relists.sum();
+    }
+
+    /**
+     * Returns the number of events waiting in the watch stream when the last event was queued.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns the largest queue depth seen.
+     *
+     * @return the maximum queue depth
+     */
+    public int getMaxQueueDepth() {
+        return (int) maxQueueDepth.get();
+    }
+
+    /**
+     * Returns the number of cached resources.
+     *
+     * @return the store size
+     */
+    public int getStoreSize() {
+        return storeSize.get();
+    }
+
+    /**
+     * Returns the last estimate of the memory held by the cache.
+     *
+     * @return the cache size in bytes, or 0 if none has been reported
+     */
+    public long getCacheBytes() {
+        return cacheBytes.get();
+    }
+
+    /**
+     * Returns the time since the watch last received or the informer last processed an event,
+     * or since this instance was created if there has been none.
+     *
+     * @return the time since the last event
+     */
+    public Duration getTimeSinceLastEvent() {
+        return Duration.ofNanos(System.nanoTime() - lastEventNanos.get());
+    }
+
+    /**
+     * Returns the distribution of the time from receiving an event on the watch to applying it.
+     *
+     * @return the event lag histogram, in nanoseconds
+     */
+    public Histogram getEventLag() {
+        return eventLag;
+    }
+
+    /**
+     * Returns the distribution of the time one handler takes per notification.
+     *
+     * @param handler the class name of the handler
+     * @return the latency histogram in nanoseconds, empty if the handler has not been called
+     */
+    public Histogram getHandlerLatency(final String handler) {
+        final Histogram histogram = handlerLatencies.get(handler);
+        return histogram != null ? histogram : new Histogram();
+    }
+
+    /**
+     * Returns the latency histograms of all handlers that have been called, by handler class name.
+     *
+     * @return an unmodifiable view of the histograms, in nanoseconds
+     */
+    public Map<String, Histogram> getHandlerLatencies() {
+        return Collections.unmodifiableMap(handlerLatencies);
+    }
+
+    /**
+     * Returns the number of notifications buffered for one handler after its last delivery.
+     *
+     * @param handler the class name of the handler
+     * @return the handler queue depth, or 0 if the handler has not been called
+     */
+    public int getHandlerQueueDepth(final String handler) {
+        final AtomicInteger depth = handlerQueueDepths.get(handler);
+        return depth != null ? depth.get() : 0;
+    }
+
+    /**
+     * A histogram of non-negative values with power-of-two buckets. Recording is lock-free; the
+     * reported percentiles are the upper bound of the bucket they fall into, so they are within a
+     * factor of two of the exact value.
+     */
+    public static final class Histogram {
+
+        private static final int BUCKETS = 64;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        /**
+         * Records one value. Negative values are recorded as 0.
+         *
+         * @param value the value
+         */
+        public void record(final long value) {
+            final long v = Math.max(0, value);
+            buckets.incrementAndGet(bucketOf(v));
+            count.increment();
+            sum.add(v);
+            max.accumulate(v);
+        }
+
+        /**
+         * Returns the number of recorded values.
+         *
+         * @return the count
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * Returns the sum of the recorded values.
+         *
+         * @return the sum
+         */
+        public long getSum() {
+            return sum.sum();
+        }
+
+        /**
+         * Returns the largest recorded value.
+         *
+         * @return the maximum, or 0 if nothing has been recorded
+         */
+        public long getMax() {
+            return max.get();
+        }
+
+        /**
+         * Returns the mean of the recorded values.
+         *
+         * @return the mean, or 0 if nothing has been recorded
+         */
+        public double getMean() {
+            final long n = count.sum();
+            return n == 0 ? 0 : (double) sum.sum() / n;
+        }
+
+        /**
+         * Returns an estimate of the value below which the given fraction of the recorded values fall.
+         *
+         * @param quantile the fraction, between 0 and 1, for example 0.99
+         * @return the estimate, never more than {@link #getMax()}, or 0 if nothing has been recorded
+         * @throws IllegalArgumentException if quantile is not between 0 and 1
+         */
+        public long percentile(final double quantile) {
+            if (quantile < 0 || quantile > 1) {
+                throw new IllegalArgumentException("Quantile must be between 0 and 1");
+            }
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                total += buckets.get(i);
+            }
+            if (total == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return Math.min(upperBoundOf(i), max.get());
+                }
+            }
+            return max.get();
+        }
+
+        private static int bucketOf(final long value) {
+            return Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(value));
+        }
+
+        private static long upperBoundOf(final int bucket) {
+            return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+        }
+    }
+}
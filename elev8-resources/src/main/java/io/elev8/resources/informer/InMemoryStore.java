@@ -3,28 +3,42 @@ package io.elev8.resources.informer;
 import io.elev8.resources.KubernetesResource;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * A thread-safe in-memory implementation of {@link Store} backed by a {@link ConcurrentHashMap}.
+ * A thread-safe in-memory implementation of {@link Store} backed by {@link ConcurrentHashMap}s.
  *
  * <p>Resources are keyed by namespace/name for namespace-scoped resources,
- * or just name for cluster-scoped resources.</p>
+ * or just name for cluster-scoped resources. Internally they are partitioned by namespace, so
+ * {@link #get(String, String)} builds no key string and {@link #list(String)} only visits the
+ * requested namespace.</p>
+ *
+ * <p>Writes are serialized. {@link #replace(List)} builds the new contents off to the side and
+ * publishes them in one step, so a concurrent reader sees either the previous or the new contents and
+ * never an empty or half-filled store. {@link #list()} and {@link #list(String)} copy the contents
+ * while writes are held off and return a point-in-time snapshot; all other reads never block and see
+ * concurrent adds and deletes as they happen.</p>
  *
  * @param <T> the type of Kubernetes resource stored
  */
 public class InMemoryStore<T extends KubernetesResource> implements Store<T> {
 
-    private final ConcurrentHashMap<String, T> items = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    private volatile StoreState<T> state = new StoreState<>(Map.of(), false);
 
     @Override
     public void add(final T resource) {
         if (resource == null) {
             return;
         }
-        final String key = generateKey(resource);
-        items.put(key, resource);
+        synchronized (writeLock) {
+            state.put(resource);
+        }
     }
 
     @Override
@@ -37,8 +51,9 @@ public class InMemoryStore<T extends KubernetesResource> implements Store<T> {
         if (resource == null) {
             return;
         }
-        final String key = generateKey(resource);
-        items.remove(key);
+        synchronized (writeLock) {
+            state.remove(resource);
+        }
     }
 
     @Override
@@ -46,8 +61,7 @@ public class InMemoryStore<T extends KubernetesResource> implements Store<T> {
         if (name == null) {
             return null;
         }
-        final String key = namespace != null ? namespace + "/" + name : name;
-        return items.get(key);
+        return state.get(namespace, name);
     }
 
     @Override
@@ -55,55 +69,105 @@ public class InMemoryStore<T extends KubernetesResource> implements Store<T> {
         if (key == null) {
             return null;
         }
-        return items.get(key);
+        return state.get(key);
     }
 
+    /**
+     * Returns a point-in-time copy of the contents. The copy is taken while writes are held off, so
+     * it never mixes resources from before and after a concurrent write.
+     *
+     * @return a list of all stored resources
+     */
     @Override
     public List<T> list() {
-        return new ArrayList<>(items.values());
+        synchronized (writeLock) {
+            return new ArrayList<>(state.values());
+        }
+    }
+
+    /**
+     * Returns a point-in-time copy of the resources in one namespace, taken while writes are held off.
+     *
+     * @param namespace the namespace (null for cluster-scoped resources)
+     * @return the resources in the namespace
+     */
+    @Override
+    public List<T> list(final String namespace) {
+        synchronized (writeLock) {
+            return new ArrayList<>(state.values(namespace));
+        }
+    }
+
+    /**
+     * Returns an unmodifiable, weakly consistent view of the current contents in constant time.
+     * The view stays bound to the contents it was taken from: once {@link #replace(List)} or
+     * {@link #clear()} publishes new contents, the view no longer changes. Until then it reflects
+     * concurrent adds and deletes, and its size is a separate counter that may briefly disagree with
+     * an iteration in progress.
+     *
+     * @return an unmodifiable view of the stored resources
+     */
+    @Override
+    public Collection<T> view() {
+        return Collections.unmodifiableCollection(state.values());
     }
 
     @Override
     public List<String> listKeys() {
-        return new ArrayList<>(items.keySet());
+        return new ArrayList<>(state.keys());
     }
 
     @Override
     public boolean containsKey(final String key) {
-        return key != null && items.containsKey(key);
+        return key != null && state.containsKey(key);
     }
 
     @Override
     public int size() {
-        return items.size();
+        return state.size();
     }
 
     @Override
     public void replace(final List<T> resources) {
-        items.clear();
-        if (resources != null) {
-            for (final T resource : resources) {
-                add(resource);
-            }
+        synchronized (writeLock) {
+            state = emptyState().putAll(resources);
         }
     }
 
     @Override
     public void clear() {
-        items.clear();
+        synchronized (writeLock) {
+            state = emptyState();
+        }
     }
 
     /**
-     * Generates the store key for a resource.
-     * Format: "namespace/name" for namespace-scoped resources, "name" for cluster-scoped.
+     * Creates an empty generation with the indices this store maintains. A plain store has none.
+     * Called with the write lock held.
      *
-     * @param resource the resource to generate a key for
-     * @return the store key
+     * @return the new state
      */
-    private String generateKey(final T resource) {
-        final String namespace = resource.getNamespace();
-        final String name = resource.getName();
-        return namespace != null ? namespace + "/" + name : name;
+    StoreState<T> emptyState() {
+        return new StoreState<>(Map.of(), false);
+    }
+
+    /**
+     * Returns the current contents. Callers that read several parts of the contents should
+     * read this once so that they all come from the same generation.
+     *
+     * @return the current state
+     */
+    StoreState<T> state() {
+        return state;
+    }
+
+    /**
+     * Returns the lock that serializes writes to this store.
+     *
+     * @return the write lock
+     */
+    Object writeLock() {
+        return writeLock;
     }
 
     /**
@@ -1,8 +1,11 @@
 package io.elev8.resources.informer;
 
+import io.elev8.core.selector.LabelSelectorQuery;
 import io.elev8.resources.KubernetesResource;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -80,4 +83,39 @@ public interface Indexer<T extends KubernetesResource> extends Store<T> {
      * @return immutable set of index names
      */
     Set<String> getIndexNames();
+
+    /**
+     * Maintains an inverted index over labels for {@link #list(LabelSelectorQuery)}, if the
+     * implementation has one. The default does nothing, so selectors are evaluated by a scan.
+     * Calling this again has no effect.
+     */
+    default void enableLabelIndex() {
+    }
+
+    /**
+     * Lists the resources whose labels match a selector, evaluated locally with the semantics of
+     * the Kubernetes API.
+     *
+     * <p>The default implementation tests every resource. {@link InMemoryIndexer} can answer from an
+     * inverted label index instead, see {@link InMemoryIndexer#enableLabelIndex()}.</p>
+     *
+     * @param query the label selector
+     * @return the matching resources, empty if none match
+     * @throws IllegalArgumentException if the query is null
+     */
+    default List<T> list(final LabelSelectorQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Label selector cannot be null");
+        }
+        final List<T> result = new ArrayList<>();
+        for (final T resource : view()) {
+            final Map<String, String> labels = resource.getMetadata() != null
+                    ? resource.getMetadata().getLabels()
+                    : null;
+            if (query.matches(labels)) {
+                result.add(resource);
+            }
+        }
+        return result;
+    }
 }
@@ -2,10 +2,20 @@ package io.elev8.resources.informer;
 
 import io.elev8.core.watch.ResourceChangeEvent;
 import io.elev8.core.watch.ResourceChangeStream;
+import io.elev8.core.watch.WatchOptions;
+import io.elev8.core.watch.WatchStreamException;
 import io.elev8.resources.KubernetesResource;
+import io.elev8.resources.Metadata;
+import io.elev8.resources.ResourceException;
+import io.elev8.resources.ResourceList;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
@@ -22,6 +32,31 @@ import java.util.function.Supplier;
  *   <li>WATCH for changes and dispatch events to handlers</li>
  * </ol>
  *
+ * <p>The informer tracks the latest resourceVersion seen in the list, in each event and in
+ * BOOKMARK events. Watches start, and reconnect, from that resourceVersion, so the API server
+ * only sends changes the cache has not seen yet. A full relist happens only when the API server
+ * reports the resourceVersion as expired (410 Gone).</p>
+ *
+ * <p>A relist is diffed against the store: only resources that were added, whose resourceVersion
+ * changed, or that disappeared are dispatched as onAdd, onUpdate and onDelete. The listed resources
+ * are published with a single {@link Store#replace(List)} before the deltas are dispatched, so readers
+ * see either the previous or the reconciled cache, never an empty or half-reconciled one.</p>
+ *
+ * <p>With WatchList enabled, the informer skips the initial LIST and opens a single watch with
+ * {@code sendInitialEvents=true}. The API server streams the current state as ADDED events and marks
+ * the end with a bookmark annotated {@value WatchOptions#INITIAL_EVENTS_END_ANNOTATION}, at which
+ * point the informer is synced and keeps consuming the same stream. Resources are applied one at a
+ * time instead of materializing a full list response. If the server rejects the request or the stream
+ * ends before the bookmark, the informer falls back to LIST then WATCH.</p>
+ *
+ * <p>{@link #restore(List, String)} seeds the cache from a previous run, for example from an
+ * {@link InformerSnapshot}. The informer then skips the initial LIST, is synced at once and watches
+ * from the restored resourceVersion; if that version has expired, the usual relist reconciles the
+ * cache with the server.</p>
+ *
+ * <p>{@link #setMetrics(InformerMetrics)} reports the lag of each event, watch reconnects, relists
+ * and the store size to an {@link InformerMetrics}.</p>
+ *
  * <p>Usage example:</p>
  * <pre>{@code
  * Informer<Pod> informer = Informers.forNamespace(podManager, "default", InformerOptions.defaults());
@@ -38,19 +73,26 @@ import java.util.function.Supplier;
 @Slf4j
 public class Informer<T extends KubernetesResource> implements AutoCloseable {
 
+    private static final int HTTP_GONE = 410;
+    private static final int MAX_EVENT_BATCH = 256;
+
     private final Store<T> store;
     private final List<ResourceEventHandler<T>> handlers = new CopyOnWriteArrayList<>();
-    private final Supplier<List<T>> listSupplier;
-    private final Supplier<ResourceChangeStream<T>> streamSupplier;
+    private final ListerWatcher<T> listerWatcher;
+    private final boolean useWatchList;
 
     private final AtomicBoolean running = new AtomicBoolean(false);
     private final AtomicBoolean synced = new AtomicBoolean(false);
 
     private volatile Thread eventProcessorThread;
     private volatile ResourceChangeStream<T> currentStream;
+    private volatile String lastSyncResourceVersion;
+    private volatile List<T> restoredResources;
+    private volatile InformerMetrics metrics = InformerMetrics.NOOP;
 
     /**
      * Creates a new Informer with the given suppliers for list and stream operations.
+     * The suppliers do not carry a resourceVersion, so every watch starts from the current state.
      *
      * @param listSupplier supplies the initial list of resources
      * @param streamSupplier supplies the resource change stream for watching
@@ -60,6 +102,26 @@ public class Informer<T extends KubernetesResource> implements AutoCloseable {
         this(new InMemoryStore<>(), listSupplier, streamSupplier);
     }
 
+    /**
+     * Creates a new Informer that lists and watches through the given ListerWatcher.
+     *
+     * @param listerWatcher lists resources and starts watches from a resourceVersion
+     */
+    public Informer(final ListerWatcher<T> listerWatcher) {
+        this(new InMemoryStore<>(), listerWatcher);
+    }
+
+    /**
+     * Creates a new Informer that lists and watches through the given ListerWatcher,
+     * optionally bootstrapping the cache from a WatchList stream instead of an initial LIST.
+     *
+     * @param listerWatcher lists resources and starts watches from a resourceVersion
+     * @param useWatchList true to stream the initial state, falling back to LIST when unsupported
+     */
+    public Informer(final ListerWatcher<T> listerWatcher, final boolean useWatchList) {
+        this(new InMemoryStore<>(), listerWatcher, useWatchList);
+    }
+
     /**
      * Creates a new Informer with a custom store.
      *
@@ -70,9 +132,31 @@ public class Informer<T extends KubernetesResource> implements AutoCloseable {
     public Informer(final Store<T> store,
                     final Supplier<List<T>> listSupplier,
                     final Supplier<ResourceChangeStream<T>> streamSupplier) {
+        this(store, fromSuppliers(listSupplier, streamSupplier));
+    }
+
+    /**
+     * Creates a new Informer with a custom store that lists and watches through the given ListerWatcher.
+     *
+     * @param store the store to use for caching resources
+     * @param listerWatcher lists resources and starts watches from a resourceVersion
+     */
+    public Informer(final Store<T> store, final ListerWatcher<T> listerWatcher) {
+        this(store, listerWatcher, false);
+    }
+
+    /**
+     * Creates a new Informer with a custom store, optionally bootstrapping the cache from a WatchList
+     * stream ({@link ListerWatcher#watchInitialEvents()}) instead of an initial LIST.
+     *
+     * @param store the store to use for caching resources
+     * @param listerWatcher lists resources and starts watches from a resourceVersion
+     * @param useWatchList true to stream the initial state, falling back to LIST when unsupported
+     */
+    public Informer(final Store<T> store, final ListerWatcher<T> listerWatcher, final boolean useWatchList) {
         this.store = store;
-        this.listSupplier = listSupplier;
-        this.streamSupplier = streamSupplier;
+        this.listerWatcher = listerWatcher;
+        this.useWatchList = useWatchList;
     }
 
     /**
@@ -98,6 +182,54 @@ public class Informer<T extends KubernetesResource> implements AutoCloseable {
         log.info("Informer started");
     }
 
+    /**
+     * Seeds the cache with resources saved by a previous run, to be applied by the next
+     * {@link #start()} in place of the initial list. The resources are put into the store and
+     * dispatched as onAdd, the informer is marked synced, and the watch resumes from the given
+     * resourceVersion.
+     *
+     * @param resources the saved resources
+     * @param resourceVersion the resourceVersion the resources are current as of
+     * @throws IllegalArgumentException if resources is null or resourceVersion is null or empty
+     * @throws IllegalStateException if the informer is running
+     */
+    public void restore(final List<T> resources, final String resourceVersion) {
+        if (resources == null) {
+            throw new IllegalArgumentException("Resources cannot be null");
+        }
+        if (resourceVersion == null || resourceVersion.isEmpty()) {
+            throw new IllegalArgumentException("Resource version cannot be null or empty");
+        }
+        if (running.get()) {
+            throw new IllegalStateException("Cannot restore a running informer");
+        }
+        this.lastSyncResourceVersion = resourceVersion;
+        this.restoredResources = resources;
+    }
+
+    /**
+     * Sets where the informer reports its measurements. Must be called before {@link #start()}.
+     * Defaults to {@link InformerMetrics#NOOP}.
+     *
+     * @param metrics the metrics, or null for none
+     * @throws IllegalStateException if the informer is running
+     */
+    public void setMetrics(final InformerMetrics metrics) {
+        if (running.get()) {
+            throw new IllegalStateException("Cannot set metrics on a running informer");
+        }
+        this.metrics = metrics != null ? metrics : InformerMetrics.NOOP;
+    }
+
+    /**
+     * Returns where the informer reports its measurements.
+     *
+     * @return the metrics, {@link InformerMetrics#NOOP} if none were set
+     */
+    public InformerMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Stops the informer gracefully.
      */
@@ -151,6 +283,16 @@ public class Informer<T extends KubernetesResource> implements AutoCloseable {
         return running.get();
     }
 
+    /**
+     * Returns the latest resourceVersion observed from the list, from events or from bookmarks.
+     * Watches resume from this version after a reconnect.
+     *
+     * @return the last sync resourceVersion, or null if none has been observed yet
+     */
+    public String getLastSyncResourceVersion() {
+        return lastSyncResourceVersion;
+    }
+
     /**
      * Returns the store containing cached resources.
      *
@@ -174,7 +316,7 @@ public class Informer<T extends KubernetesResource> implements AutoCloseable {
         handlers.add(handler);
 
         if (synced.get()) {
-            for (final T resource : store.list()) {
+            for (final T resource : store.view()) {
                 try {
                     handler.onAdd(resource);
                 } catch (Exception e) {
@@ -195,11 +337,22 @@ public class Informer<T extends KubernetesResource> implements AutoCloseable {
 
     private void runEventLoop() {
         try {
-            performInitialList();
-            synced.set(true);
-            log.info("Initial sync complete, {} resources cached", store.size());
+            final List<T> restored = restoredResources;
+            restoredResources = null;
+            if (restored != null) {
+                applyRestored(restored);
+                markSynced();
+                watchLoop(null);
+                return;
+            }
 
-            watchLoop();
+            final ResourceChangeStream<T> initialStream = useWatchList ? openInitialEventsStream() : null;
+            if (initialStream == null) {
+                performInitialList();
+                markSynced();
+            }
+
+            watchLoop(initialStream);
         } catch (Exception e) {
             if (running.get()) {
                 log.error("Error in informer event loop", e);
@@ -207,9 +360,27 @@ public class Informer<T extends KubernetesResource> implements AutoCloseable {
         }
     }
 
-    private void performInitialList() {
+    private ResourceChangeStream<T> openInitialEventsStream() {
+        try {
+            final ResourceChangeStream<T> stream = listerWatcher.watchInitialEvents();
+            log.debug("Streaming initial state with sendInitialEvents");
+            return stream;
+        } catch (UnsupportedOperationException | ResourceException e) {
+            log.info("WatchList not available, falling back to list then watch: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void markSynced() {
+        synced.set(true);
+        metrics.onStoreSize(store.size());
+        log.info("Initial sync complete, {} resources cached", store.size());
+    }
+
+    private void performInitialList() throws ResourceException {
         log.debug("Performing initial list...");
-        final List<T> resources = listSupplier.get();
+        final ResourceList<T> list = listerWatcher.list();
+        final List<T> resources = list != null ? list.getItems() : null;
 
         if (resources != null) {
             store.replace(resources);
@@ -218,26 +389,114 @@ public class Informer<T extends KubernetesResource> implements AutoCloseable {
                 dispatchOnAdd(resource);
             }
         }
+
+        lastSyncResourceVersion = listResourceVersion(list);
+    }
+
+    private void applyRestored(final List<T> resources) {
+        log.debug("Restoring {} resources at resourceVersion {}", resources.size(), lastSyncResourceVersion);
+        store.replace(resources);
+        for (final T resource : resources) {
+            dispatchOnAdd(resource);
+        }
+    }
+
+    private void relist() throws ResourceException {
+        log.debug("Relisting and diffing against the store...");
+        final ResourceList<T> list = listerWatcher.list();
+        final List<T> resources = list != null && list.getItems() != null ? list.getItems() : List.of();
+
+        final Map<ResourceKey, T> remaining = new HashMap<>();
+        for (final T resource : store.list()) {
+            remaining.put(ResourceKey.of(resource), resource);
+        }
+
+        final List<T> added = new ArrayList<>();
+        final List<Update<T>> updated = new ArrayList<>();
+        for (final T resource : resources) {
+            final T existing = remaining.remove(ResourceKey.of(resource));
+            if (existing == null) {
+                added.add(resource);
+            } else if (hasChanged(existing, resource)) {
+                updated.add(new Update<>(existing, resource));
+            }
+        }
+
+        store.replace(resources);
+
+        for (final T resource : added) {
+            dispatchOnAdd(resource);
+        }
+        for (final Update<T> update : updated) {
+            dispatchOnUpdate(update.oldResource(), update.newResource());
+        }
+        for (final T resource : remaining.values()) {
+            dispatchOnDelete(resource);
+        }
+
+        lastSyncResourceVersion = listResourceVersion(list);
+        metrics.onRelist();
+        metrics.onStoreSize(store.size());
+        log.info("Relist complete: {} added, {} updated, {} deleted, {} resources cached",
+                added.size(), updated.size(), remaining.size(), store.size());
     }
 
-    private void watchLoop() {
+    private void watchLoop(final ResourceChangeStream<T> initialStream) {
+        ResourceChangeStream<T> pendingStream = initialStream;
+        boolean relist = false;
+        boolean firstWatch = true;
         while (running.get()) {
             try {
-                currentStream = streamSupplier.get();
-                log.debug("Started watching for changes");
+                if (relist) {
+                    relist();
+                    relist = false;
+                    if (!synced.get()) {
+                        markSynced();
+                    }
+                }
 
-                for (final ResourceChangeEvent<T> event : currentStream) {
-                    if (!running.get()) {
-                        break;
+                if (pendingStream != null) {
+                    currentStream = pendingStream;
+                    pendingStream = null;
+                } else {
+                    if (!firstWatch) {
+                        metrics.onWatchReconnect();
                     }
-                    processEvent(event);
+                    currentStream = listerWatcher.watch(lastSyncResourceVersion);
+                    log.debug("Started watching for changes from resourceVersion {}", lastSyncResourceVersion);
+                }
+
+                final List<ResourceChangeEvent<T>> batch = new ArrayList<>(MAX_EVENT_BATCH);
+                while (running.get() && currentStream.hasNext()) {
+                    batch.add(currentStream.next());
+                    currentStream.drainTo(batch, MAX_EVENT_BATCH - 1);
+                    for (final ResourceChangeEvent<T> event : batch) {
+                        if (!running.get()) {
+                            break;
+                        }
+                        processEvent(event);
+                        recordEventMetrics(event);
+                        recordResourceVersion(event);
+                        if (!synced.get() && isInitialEventsEnd(event)) {
+                            markSynced();
+                        }
+                    }
+                    batch.clear();
+                    metrics.onStoreSize(store.size());
                 }
             } catch (Exception e) {
                 if (running.get()) {
-                    log.warn("Watch stream error, will reconnect: {}", e.getMessage());
-                    sleepBeforeReconnect();
+                    if (isGone(e)) {
+                        log.info("Resource version {} expired, relisting", lastSyncResourceVersion);
+                        lastSyncResourceVersion = null;
+                        relist = true;
+                    } else {
+                        log.warn("Watch stream error, will reconnect: {}", e.getMessage());
+                        sleepBeforeReconnect();
+                    }
                 }
             } finally {
+                firstWatch = false;
                 if (currentStream != null) {
                     try {
                         currentStream.close();
@@ -246,6 +505,11 @@ public class Informer<T extends KubernetesResource> implements AutoCloseable {
                     }
                 }
             }
+
+            if (!synced.get() && running.get()) {
+                log.info("Initial events stream ended before the end bookmark, falling back to list");
+                relist = true;
+            }
         }
     }
 
@@ -262,7 +526,10 @@ public class Informer<T extends KubernetesResource> implements AutoCloseable {
             }
             case UPDATED -> {
                 final T newResource = event.getResource();
-                final T oldResource = event.getPreviousResource();
+                // A resumed watch starts without previous state, so fall back to the cached object
+                final T oldResource = event.getPreviousResource() != null
+                        ? event.getPreviousResource()
+                        : store.get(newResource.getNamespace(), newResource.getName());
                 store.update(newResource);
                 dispatchOnUpdate(oldResource, newResource);
             }
@@ -277,6 +544,25 @@ public class Informer<T extends KubernetesResource> implements AutoCloseable {
         }
     }
 
+    private void recordEventMetrics(final ResourceChangeEvent<T> event) {
+        final InformerMetrics current = metrics;
+        if (current == InformerMetrics.NOOP || event == null) {
+            return;
+        }
+        final Instant received = event.getTimestamp();
+        final long lagNanos = received != null ? Duration.between(received, Instant.now()).toNanos() : 0;
+        current.onEventProcessed(event.getType(), lagNanos);
+    }
+
+    private void recordResourceVersion(final ResourceChangeEvent<T> event) {
+        if (event != null) {
+            final String resourceVersion = emptyToNull(event.getResourceVersion());
+            if (resourceVersion != null) {
+                lastSyncResourceVersion = resourceVersion;
+            }
+        }
+    }
+
     private void dispatchOnAdd(final T resource) {
         for (final ResourceEventHandler<T> handler : handlers) {
             try {
@@ -314,4 +600,76 @@ public class Informer<T extends KubernetesResource> implements AutoCloseable {
             Thread.currentThread().interrupt();
         }
     }
+
+    private static boolean isGone(final Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ResourceException e && e.hasStatusCode() && e.getStatusCode() == HTTP_GONE) {
+                return true;
+            }
+            if (cause instanceof WatchStreamException e && e.hasStatusCode() && e.getStatusCode() == HTTP_GONE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isInitialEventsEnd(final ResourceChangeEvent<? extends KubernetesResource> event) {
+        if (event == null || !event.isSync() || event.getResource() == null) {
+            return false;
+        }
+        final Metadata metadata = event.getResource().getMetadata();
+        return metadata != null && metadata.getAnnotations() != null
+                && "true".equals(metadata.getAnnotations().get(WatchOptions.INITIAL_EVENTS_END_ANNOTATION));
+    }
+
+    private boolean hasChanged(final T existing, final T resource) {
+        final String existingVersion = resourceVersionOf(existing);
+        final String resourceVersion = resourceVersionOf(resource);
+        if (existingVersion != null && resourceVersion != null) {
+            return !existingVersion.equals(resourceVersion);
+        }
+        return !existing.equals(resource);
+    }
+
+    private static String resourceVersionOf(final KubernetesResource resource) {
+        return resource.getMetadata() != null ? emptyToNull(resource.getMetadata().getResourceVersion()) : null;
+    }
+
+    private static String listResourceVersion(final ResourceList<?> list) {
+        final ResourceList.ListMetadata metadata = list != null ? list.getMetadata() : null;
+        return metadata != null ? emptyToNull(metadata.getResourceVersion()) : null;
+    }
+
+    private static String emptyToNull(final String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Identifies a resource by namespace and name, independent of the key format of the store.
+     */
+    private record ResourceKey(String namespace, String name) {
+        static ResourceKey of(final KubernetesResource resource) {
+            return new ResourceKey(resource.getNamespace(), resource.getName());
+        }
+    }
+
+    private record Update<T>(T oldResource, T newResource) {}
+
+    private static <T extends KubernetesResource> ListerWatcher<T> fromSuppliers(
+            final Supplier<List<T>> listSupplier,
+            final Supplier<ResourceChangeStream<T>> streamSupplier) {
+        return new ListerWatcher<>() {
+            @Override
+            public ResourceList<T> list() {
+                final ResourceList<T> list = new ResourceList<>();
+                list.setItems(listSupplier.get());
+                return list;
+            }
+
+            @Override
+            public ResourceChangeStream<T> watch(final String resourceVersion) {
+                return streamSupplier.get();
+            }
+        };
+    }
 }
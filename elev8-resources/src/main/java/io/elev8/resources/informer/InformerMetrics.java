@@ -0,0 +1,81 @@
+package io.elev8.resources.informer;
+
+import io.elev8.core.watch.ResourceChangeType;
+
+/**
+ * Receives measurements from one informer: its watch, its event loop, its cache and its handlers.
+ *
+ * <p>Implementations forward the measurements to a metrics library or keep them in memory, as
+ * {@link InMemoryInformerMetrics} does. Every method has an empty default, so an implementation only
+ * overrides what it records. Methods are called on the watch thread, the informer thread and the
+ * handler threads, possibly concurrently, and must be cheap and must not throw.</p>
+ *
+ * <p>An instance describes one informer, and therefore one resource type; give each informer its own
+ * instance to break measurements down by type.</p>
+ */
+public interface InformerMetrics {
+
+    /**
+     * Records nothing.
+     */
+    InformerMetrics NOOP = new InformerMetrics() {
+    };
+
+    /**
+     * Called on the watch thread after an event has been queued for the informer.
+     *
+     * @param type the type of the event
+     * @param queueDepth the number of events waiting in the stream after this one was queued
+     */
+    default void onWatchEventReceived(final ResourceChangeType type, final int queueDepth) {
+    }
+
+    /**
+     * Called after the informer has applied an event to its cache and dispatched it.
+     *
+     * @param type the type of the event
+     * @param lagNanos the time from receiving the event on the watch to applying it
+     */
+    default void onEventProcessed(final ResourceChangeType type, final long lagNanos) {
+    }
+
+    /**
+     * Called whenever the informer opens a watch after its first one, whether the previous watch
+     * failed, expired or was closed by the server.
+     */
+    default void onWatchReconnect() {
+    }
+
+    /**
+     * Called after the informer has relisted and reconciled its cache, for example because its
+     * resourceVersion expired.
+     */
+    default void onRelist() {
+    }
+
+    /**
+     * Called with the number of cached resources after the cache has changed.
+     *
+     * @param size the number of resources in the store
+     */
+    default void onStoreSize(final int size) {
+    }
+
+    /**
+     * Called with an estimate of the memory held by the cached resources.
+     *
+     * @param bytes the estimated size of the cache in bytes
+     */
+    default void onCacheBytes(final long bytes) {
+    }
+
+    /**
+     * Called on a handler thread after one notification has been delivered to an event handler.
+     *
+     * @param handler identifies the handler, the class name of the {@link ResourceEventHandler}
+     * @param latencyNanos the time the handler took
+     * @param queueDepth the number of notifications still buffered for the handler
+     */
+    default void onHandlerDispatched(final String handler, final long latencyNanos, final int queueDepth) {
+    }
+}
@@ -2,9 +2,14 @@ package io.elev8.resources.informer;
 
 import io.elev8.core.selector.LabelSelectorQuery;
 import io.elev8.core.watch.StreamOptions;
+import io.elev8.resources.ClusterResourceManager;
+import io.elev8.resources.KubernetesResource;
+import io.elev8.resources.ResourceTransformer;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.Duration;
+
 /**
  * Configuration options for creating an Informer.
  * Allows customization of streaming behavior and resource filtering.
@@ -20,6 +25,57 @@ public class InformerOptions {
     @Builder.Default
     private final StreamOptions streamOptions = StreamOptions.defaults();
 
+    /**
+     * Whether to bootstrap the cache from a WatchList stream ({@code sendInitialEvents=true})
+     * instead of an initial LIST. The API server streams the current state as individual events,
+     * avoiding one large list response. Falls back to LIST then WATCH when the server does not
+     * support it. Defaults to false.
+     */
+    @Builder.Default
+    private final boolean watchList = false;
+
+    /**
+     * Transformer applied to every listed and watched resource before it is cached, for example one
+     * of {@link io.elev8.resources.ResourceTransformers}. It runs on the watch thread, before the
+     * resource enters the informer's store and the stream's previous-state cache. Defaults to none.
+     */
+    private final ResourceTransformer<KubernetesResource> transform;
+
+    /**
+     * Lists the namespaces to shard the initial list of an all-namespaces informer by, for example a
+     * {@link io.elev8.resources.namespace.NamespaceManager}. When set, each namespace is listed in its own
+     * request, up to {@link #listParallelism} at a time, at one consistent resourceVersion. See
+     * {@link ListerWatcher#forAllNamespaces}. Defaults to none: a single all-namespaces list.
+     */
+    private final ClusterResourceManager<? extends KubernetesResource> shardNamespaces;
+
+    /**
+     * Maximum number of namespaces listed concurrently by a sharded initial list. Defaults to 8.
+     */
+    @Builder.Default
+    private final int listParallelism = 8;
+
+    /**
+     * Page size of each namespace list of a sharded initial list, or null to list each namespace in
+     * one request. Defaults to null.
+     */
+    private final Integer listPageSize;
+
+    /**
+     * Receives the informer's measurements: event lag, queue depth, watch reconnects, relists, store
+     * size, handler latency and cache size, for example an {@link InMemoryInformerMetrics}. Use one
+     * instance per informer. Defaults to {@link InformerMetrics#NOOP}.
+     */
+    @Builder.Default
+    private final InformerMetrics metrics = InformerMetrics.NOOP;
+
+    /**
+     * How often a shared informer estimates the size of its cache for {@link #metrics}, or zero to never
+     * estimate it. Defaults to one minute.
+     */
+    @Builder.Default
+    private final Duration cacheSampleInterval = Duration.ofMinutes(1);
+
     /**
      * Creates an InformerOptions instance with default settings.
      *
@@ -0,0 +1,183 @@
+package io.elev8.resources.informer;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import io.elev8.resources.KubernetesResource;
+import io.elev8.resources.ResourceCodec;
+import lombok.Getter;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A file holding the contents of an informer cache and the resourceVersion they were observed at,
+ * so that a restarted process can fill its cache from disk and resume watching instead of listing
+ * everything again. See {@link DefaultSharedIndexInformer#enableSnapshots(InformerSnapshot, java.time.Duration)}.
+ *
+ * <p>The file is a header followed by length-prefixed records, each the JSON of one resource, and a
+ * trailer with the record count:</p>
+ * <pre>
+ * magic "E8SN" | format version | resourceVersion length | resourceVersion (UTF-8)
+ * record length | record bytes   (repeated)
+ * 0 | record count
+ * </pre>
+ *
+ * <p>{@link #save} writes the records one after another to a temporary file next to the target and
+ * moves it into place atomically, so a crash while saving leaves the previous snapshot intact.
+ * {@link #load} memory-maps the file and decodes each record straight from the mapping. A file
+ * without a complete trailer, or written by another format version, is rejected.</p>
+ *
+ * @param <T> the type of Kubernetes resource stored
+ */
+public final class InformerSnapshot<T extends KubernetesResource> {
+
+    private static final int MAGIC = 0x4538534E;
+    private static final int FORMAT_VERSION = 1;
+    private static final int END_OF_RECORDS = 0;
+
+    @Getter
+    private final Path file;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    /**
+     * Creates a snapshot backed by the given file. The file need not exist yet.
+     *
+     * @param file the snapshot file
+     * @param resourceClass the class resources are decoded into
+     * @throws IllegalArgumentException if file or resourceClass is null
+     */
+    public InformerSnapshot(final Path file, final Class<T> resourceClass) {
+        if (file == null) {
+            throw new IllegalArgumentException("Snapshot file cannot be null");
+        }
+        if (resourceClass == null) {
+            throw new IllegalArgumentException("Resource class cannot be null");
+        }
+        this.file = file;
+        this.reader = ResourceCodec.forType(resourceClass).reader();
+        this.writer = ResourceCodec.forType(resourceClass).writer();
+    }
+
+    /**
+     * Writes the resources and the resourceVersion they are current as of, replacing any previous
+     * snapshot.
+     *
+     * @param resourceVersion the resourceVersion to resume watching from
+     * @param resources the cached resources
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if resourceVersion is null or empty
+     */
+    public void save(final String resourceVersion, final Collection<T> resources) throws IOException {
+        if (resourceVersion == null || resourceVersion.isEmpty()) {
+            throw new IllegalArgumentException("Resource version cannot be null or empty");
+        }
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+            final byte[] version = resourceVersion.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(version.length);
+            out.write(version);
+            int count = 0;
+            for (final T resource : resources) {
+                final byte[] record = writer.writeValueAsBytes(resource);
+                out.writeInt(record.length);
+                out.write(record);
+                count++;
+            }
+            out.writeInt(END_OF_RECORDS);
+            out.writeInt(count);
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the snapshot.
+     *
+     * @return the snapshot contents, or null if the file does not exist
+     * @throws IOException if the file cannot be read or is not a complete snapshot
+     */
+    public Contents<T> load() throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot " + file + " is larger than 2 GiB");
+            }
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            try {
+                return read(buffer);
+            } catch (RuntimeException e) {
+                throw new IOException("Snapshot " + file + " is corrupt", e);
+            }
+        }
+    }
+
+    private Contents<T> read(final ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC) {
+            throw new IOException("Not an informer snapshot: " + file);
+        }
+        final int formatVersion = buffer.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format version " + formatVersion + ": " + file);
+        }
+        final byte[] version = new byte[buffer.getInt()];
+        buffer.get(version);
+
+        final List<T> resources = new ArrayList<>();
+        int length;
+        while ((length = buffer.getInt()) != END_OF_RECORDS) {
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IOException("Truncated record in snapshot " + file);
+            }
+            resources.add(reader.readValue(new ByteBufferBackedInputStream(buffer.slice(buffer.position(), length))));
+            buffer.position(buffer.position() + length);
+        }
+        final int count = buffer.getInt();
+        if (count != resources.size()) {
+            throw new IOException("Snapshot " + file + " declares " + count + " records but holds " + resources.size());
+        }
+        return new Contents<>(new String(version, StandardCharsets.UTF_8), resources);
+    }
+
+    /**
+     * Resources read from a snapshot, with the resourceVersion they are current as of.
+     *
+     * @param <T> the type of Kubernetes resource
+     */
+    @Getter
+    public static final class Contents<T> {
+        private final String resourceVersion;
+        private final List<T> resources;
+
+        private Contents(final String resourceVersion, final List<T> resources) {
+            this.resourceVersion = resourceVersion;
+            this.resources = resources;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package io.elev8.resources.informer;
+
+import io.elev8.core.selector.LabelSelectorQuery;
+import io.elev8.core.selector.LabelSelectorQuery.Requirement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Inverted index over the labels of the resources in a {@link StoreState}: label key to value to
+ * resource keys, and label key to the keys of all resources that carry that label.
+ *
+ * <p>{@link #select} evaluates a {@link LabelSelectorQuery} with set operations. The requirements
+ * that can only match labelled resources ({@code =}, {@code in}, exists) each name a candidate set;
+ * the smallest one is scanned and every other requirement is checked by hash lookups. A selector made
+ * only of negative requirements ({@code !=}, {@code notin}, {@code !key}) has to start from all
+ * resources.</p>
+ *
+ * <p>Like {@link ResourceIndex}, the index keeps the labels each key was indexed under, so that
+ * updates only touch the buckets of labels that changed and deletes need not look at the resource.
+ * Must only be modified by one thread at a time; reads may happen concurrently.</p>
+ */
+final class LabelIndex {
+
+    private final Map<String, Map<String, Set<String>>> keysByLabel = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> keysByLabelKey = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> labelsByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Indexes the labels of a resource that was added or updated.
+     *
+     * @param key the resource key
+     * @param labels the labels of the new state (may be null)
+     */
+    void put(final String key, final Map<String, String> labels) {
+        final Map<String, String> newLabels = copyOf(labels);
+        final Map<String, String> oldLabels = newLabels.isEmpty()
+                ? labelsByKey.remove(key)
+                : labelsByKey.put(key, newLabels);
+        if (oldLabels != null) {
+            if (oldLabels.equals(newLabels)) {
+                return;
+            }
+            for (final Map.Entry<String, String> label : oldLabels.entrySet()) {
+                if (!label.getValue().equals(newLabels.get(label.getKey()))) {
+                    removeLabel(key, label.getKey(), label.getValue(), !newLabels.containsKey(label.getKey()));
+                }
+            }
+        }
+        for (final Map.Entry<String, String> label : newLabels.entrySet()) {
+            final String oldValue = oldLabels != null ? oldLabels.get(label.getKey()) : null;
+            if (!label.getValue().equals(oldValue)) {
+                addLabel(key, label.getKey(), label.getValue());
+            }
+        }
+    }
+
+    /**
+     * Removes a resource from the index.
+     *
+     * @param key the resource key
+     */
+    void remove(final String key) {
+        final Map<String, String> oldLabels = labelsByKey.remove(key);
+        if (oldLabels != null) {
+            for (final Map.Entry<String, String> label : oldLabels.entrySet()) {
+                removeLabel(key, label.getKey(), label.getValue(), true);
+            }
+        }
+    }
+
+    /**
+     * Returns the keys of the resources whose labels satisfy the selector.
+     *
+     * @param query the selector
+     * @param allKeys supplies the keys of all resources, used when no requirement narrows the candidates
+     * @return the matching keys
+     */
+    Collection<String> select(final LabelSelectorQuery query, final Supplier<Collection<String>> allKeys) {
+        final List<Requirement> positive = new ArrayList<>();
+        final List<Requirement> negative = new ArrayList<>();
+        for (final Requirement requirement : query.getRequirements()) {
+            switch (requirement.getOperator()) {
+                case EQUALS, IN, EXISTS -> positive.add(requirement);
+                default -> negative.add(requirement);
+            }
+        }
+
+        final Collection<String> candidates;
+        if (positive.isEmpty()) {
+            candidates = allKeys.get();
+        } else {
+            positive.sort(Comparator.comparingInt(this::candidateCount));
+            candidates = candidates(positive.remove(0));
+        }
+
+        final List<String> result = new ArrayList<>();
+        for (final String key : candidates) {
+            if (matchesAll(key, positive) && matchesAll(key, negative)) {
+                result.add(key);
+            }
+        }
+        return result;
+    }
+
+    private int candidateCount(final Requirement requirement) {
+        if (requirement.getOperator() == LabelSelectorQuery.Operator.EXISTS) {
+            return keysByLabelKey.getOrDefault(requirement.getKey(), Collections.emptySet()).size();
+        }
+        final Map<String, Set<String>> byValue = keysByLabel.getOrDefault(requirement.getKey(), Collections.emptyMap());
+        int count = 0;
+        for (final String value : requirement.getValues()) {
+            count += byValue.getOrDefault(value, Collections.emptySet()).size();
+        }
+        return count;
+    }
+
+    private Collection<String> candidates(final Requirement requirement) {
+        if (requirement.getOperator() == LabelSelectorQuery.Operator.EXISTS) {
+            return keysByLabelKey.getOrDefault(requirement.getKey(), Collections.emptySet());
+        }
+        final Map<String, Set<String>> byValue = keysByLabel.getOrDefault(requirement.getKey(), Collections.emptyMap());
+        if (requirement.getValues().size() == 1) {
+            return byValue.getOrDefault(requirement.getValues().get(0), Collections.emptySet());
+        }
+        final Set<String> union = new HashSet<>();
+        for (final String value : requirement.getValues()) {
+            union.addAll(byValue.getOrDefault(value, Collections.emptySet()));
+        }
+        return union;
+    }
+
+    private boolean matchesAll(final String key, final List<Requirement> requirements) {
+        if (requirements.isEmpty()) {
+            return true;
+        }
+        final Map<String, String> labels = labelsByKey.getOrDefault(key, Collections.emptyMap());
+        for (final Requirement requirement : requirements) {
+            if (!requirement.matches(labels)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, String> copyOf(final Map<String, String> labels) {
+        if (labels == null || labels.isEmpty()) {
+            return Map.of();
+        }
+        final Map<String, String> copy = new HashMap<>(labels.size());
+        labels.forEach((labelKey, labelValue) -> {
+            if (labelKey != null && labelValue != null) {
+                copy.put(labelKey, labelValue);
+            }
+        });
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private void addLabel(final String key, final String labelKey, final String labelValue) {
+        keysByLabel.computeIfAbsent(labelKey, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(labelValue, v -> ConcurrentHashMap.newKeySet())
+                .add(key);
+        keysByLabelKey.computeIfAbsent(labelKey, k -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    private void removeLabel(final String key, final String labelKey, final String labelValue,
+                             final boolean labelRemoved) {
+        final Map<String, Set<String>> byValue = keysByLabel.get(labelKey);
+        if (byValue != null) {
+            byValue.computeIfPresent(labelValue, (v, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+            if (byValue.isEmpty()) {
+                keysByLabel.remove(labelKey, byValue);
+            }
+        }
+        if (labelRemoved) {
+            keysByLabelKey.computeIfPresent(labelKey, (k, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+}
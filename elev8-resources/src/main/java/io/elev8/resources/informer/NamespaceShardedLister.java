@@ -0,0 +1,204 @@
+package io.elev8.resources.informer;
+
+import io.elev8.core.list.ListOptions;
+import io.elev8.resources.ClusterResourceManager;
+import io.elev8.resources.KubernetesResource;
+import io.elev8.resources.ResourceException;
+import io.elev8.resources.ResourceList;
+import io.elev8.resources.ResourceManager;
+import io.elev8.resources.ResourceTransformer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lists namespaced resources across all namespaces as one request per namespace, with bounded parallelism.
+ *
+ * <p>The namespaces are listed first. Every namespace is then listed at exactly the resourceVersion of the
+ * namespace list ({@code resourceVersionMatch=Exact}), so all shards describe the same consistent snapshot
+ * and the merged result can be watched from that resourceVersion without missing or reordering changes.
+ * Namespaces created after the snapshot are covered by the watch. Each shard is decoded on its own thread.</p>
+ *
+ * <p>If the namespace list carries no resourceVersion, or the API server can no longer serve that version
+ * (410 Gone), the resources are listed with a single all-namespaces request instead.</p>
+ *
+ * @param <T> the type of Kubernetes resource
+ */
+@Slf4j
+final class NamespaceShardedLister<T extends KubernetesResource> {
+
+    private static final int HTTP_GONE = 410;
+    private static final Executor LIST_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("informer-list-", 0).factory());
+
+    private final ResourceManager<T> manager;
+    private final ClusterResourceManager<? extends KubernetesResource> namespaces;
+    private final ListOptions options;
+    private final ResourceTransformer<? super T> transformer;
+    private final int parallelism;
+    private final Integer pageSize;
+
+    /**
+     * Creates a sharded lister.
+     *
+     * @param manager the resource manager
+     * @param namespaces lists the namespaces to shard by; only the item names are used
+     * @param options list options carrying the label and field selectors
+     * @param transformer the transformer to apply, or null for none
+     * @param parallelism the maximum number of namespaces listed concurrently
+     * @param pageSize the page size of each namespace list, or null to list each namespace in one request
+     */
+    NamespaceShardedLister(final ResourceManager<T> manager,
+                           final ClusterResourceManager<? extends KubernetesResource> namespaces,
+                           final ListOptions options,
+                           final ResourceTransformer<? super T> transformer,
+                           final int parallelism,
+                           final Integer pageSize) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        if (pageSize != null && pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+        this.manager = manager;
+        this.namespaces = namespaces;
+        this.options = options;
+        this.transformer = transformer;
+        this.parallelism = parallelism;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Lists all resources, one namespace per request.
+     *
+     * @return the merged resources, carrying the resourceVersion of the snapshot
+     * @throws ResourceException if a list request fails
+     */
+    ResourceList<T> list() throws ResourceException {
+        final List<String> names = new ArrayList<>();
+        final ResourceList.ListMetadata namespaceMetadata =
+                namespaces.listStreaming(ListOptions.defaults(), namespace -> names.add(namespace.getName()));
+        final String resourceVersion = namespaceMetadata != null ? namespaceMetadata.getResourceVersion() : null;
+        if (resourceVersion == null || resourceVersion.isEmpty()) {
+            log.debug("Namespace list carries no resourceVersion, listing all namespaces at once");
+            return listAllNamespaces();
+        }
+
+        try {
+            return listShards(names, resourceVersion);
+        } catch (ResourceException e) {
+            if (e.hasStatusCode() && e.getStatusCode() == HTTP_GONE) {
+                log.info("Resource version {} expired during the sharded list, listing all namespaces at once",
+                        resourceVersion);
+                return listAllNamespaces();
+            }
+            throw e;
+        }
+    }
+
+    private ResourceList<T> listShards(final List<String> names, final String resourceVersion)
+            throws ResourceException {
+        log.debug("Listing {} namespaces at resourceVersion {} with parallelism {}",
+                names.size(), resourceVersion, parallelism);
+
+        final List<List<T>> shards = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            shards.add(null);
+        }
+        final AtomicInteger nextShard = new AtomicInteger();
+        final AtomicBoolean failed = new AtomicBoolean();
+        final AtomicReference<ResourceException> failure = new AtomicReference<>();
+
+        final Runnable worker = () -> {
+            int shard;
+            while (!failed.get() && (shard = nextShard.getAndIncrement()) < names.size()) {
+                try {
+                    shards.set(shard, listNamespace(names.get(shard), resourceVersion));
+                } catch (ResourceException e) {
+                    failure.compareAndSet(null, e);
+                    failed.set(true);
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null,
+                            new ResourceException("Failed to list namespace " + names.get(shard), e));
+                    failed.set(true);
+                }
+            }
+        };
+
+        final int workers = Math.min(parallelism, names.size());
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(CompletableFuture.runAsync(worker, LIST_EXECUTOR));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+        } catch (InterruptedException e) {
+            failed.set(true);
+            Thread.currentThread().interrupt();
+            throw new ResourceException("Interrupted while listing namespaces", e);
+        } catch (ExecutionException e) {
+            throw new ResourceException("Failed to list namespaces", e.getCause());
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        int size = 0;
+        for (final List<T> shard : shards) {
+            size += shard.size();
+        }
+        final List<T> items = new ArrayList<>(size);
+        for (final List<T> shard : shards) {
+            items.addAll(shard);
+        }
+
+        final ResourceList.ListMetadata metadata = new ResourceList.ListMetadata();
+        metadata.setResourceVersion(resourceVersion);
+        return toResourceList(metadata, items);
+    }
+
+    private List<T> listNamespace(final String namespace, final String resourceVersion) throws ResourceException {
+        final List<T> items = new ArrayList<>();
+        ListOptions pageOptions = options.toBuilder()
+                .limit(pageSize)
+                .resourceVersion(resourceVersion)
+                .resourceVersionMatch(ListOptions.RESOURCE_VERSION_MATCH_EXACT)
+                .build();
+        while (true) {
+            final ResourceList.ListMetadata metadata = manager.listStreaming(namespace, pageOptions,
+                    item -> items.add(ResourceTransformer.apply(transformer, item)));
+            final String continueToken = metadata != null ? metadata.getContinueToken() : null;
+            if (continueToken == null || continueToken.isEmpty()) {
+                return items;
+            }
+            // Later pages are served from the snapshot encoded in the continue token.
+            pageOptions = options.toBuilder()
+                    .limit(pageSize)
+                    .continueToken(continueToken)
+                    .build();
+        }
+    }
+
+    private ResourceList<T> listAllNamespaces() throws ResourceException {
+        final List<T> items = new ArrayList<>();
+        return toResourceList(manager.listAllNamespacesStreaming(options,
+                item -> items.add(ResourceTransformer.apply(transformer, item))), items);
+    }
+
+    private static <T extends KubernetesResource> ResourceList<T> toResourceList(
+            final ResourceList.ListMetadata metadata,
+            final List<T> items) {
+        final ResourceList<T> list = new ResourceList<>();
+        list.setMetadata(metadata);
+        list.setItems(items);
+        return list;
+    }
+}
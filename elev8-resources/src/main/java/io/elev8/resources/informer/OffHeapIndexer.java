@@ -0,0 +1,754 @@
+package io.elev8.resources.informer;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import io.elev8.core.selector.LabelSelectorQuery;
+import io.elev8.resources.KubernetesResource;
+import io.elev8.resources.ResourceCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * An {@link Indexer} that keeps each resource as JSON bytes in direct {@link ByteBuffer} chunks
+ * outside the Java heap, and decodes it again when it is read. Only the keys, the secondary indices
+ * and a small cache of recently used resources live on the heap, so a cache of hundreds of thousands
+ * of objects no longer makes the garbage collector trace and copy them.
+ *
+ * <p>The trade is CPU for memory: every write encodes the resource, and every read that misses the
+ * hot cache decodes it. {@link #get(String, String)}, {@link #getByKey(String)} and index lookups
+ * decode only what they return; {@link #view()} decodes lazily while it is iterated. Resources
+ * returned by reads are fresh copies unless they come from the hot cache, which holds the most
+ * recently written or read resources.</p>
+ *
+ * <p>Plug it into an informer through {@link Informer#Informer(Store, ListerWatcher)} or
+ * {@link DefaultSharedIndexInformer#DefaultSharedIndexInformer(Indexer, ListerWatcher, java.time.Duration, boolean)}:</p>
+ * <pre>{@code
+ * OffHeapIndexer<Pod> indexer = new OffHeapIndexer<>(Pod.class);
+ * SharedIndexInformer<Pod> informer = new DefaultSharedIndexInformer<>(
+ *         indexer, ListerWatcher.forNamespace(podManager, "default", null), Duration.ZERO, false);
+ * }</pre>
+ *
+ * <p>Updates and deletes leave the old bytes behind. Once more than half of the allocated space is
+ * garbage, the live records are copied into fresh chunks and the old chunks are released when the
+ * last reader that still refers to them is done. The hot cache only holds entries for current
+ * records: overwrites and deletes evict the old record, and compaction, {@link #replace(List)} and
+ * {@link #clear()} empty it, so it never keeps released chunks or deleted resources reachable.
+ * Direct memory is limited by {@code -XX:MaxDirectMemorySize}, which defaults to the maximum heap
+ * size.</p>
+ *
+ * <p>The watch stream keeps the previous state of changed objects on the heap to report it with
+ * updates; disable {@code StreamOptions.trackPreviousState} to keep all state off-heap, at the cost
+ * of updates arriving without the old object.</p>
+ *
+ * <p>Like {@link InMemoryIndexer}, writes are serialized, {@link #replace(List)} publishes the new
+ * contents and their indices in one step, {@link #list()} returns a point-in-time snapshot, and all
+ * other reads never block.</p>
+ *
+ * @param <T> the type of Kubernetes resource stored
+ */
+public class OffHeapIndexer<T extends KubernetesResource> implements Indexer<T> {
+
+    /**
+     * Default size of each direct buffer chunk, 4 MiB.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4 << 20;
+
+    /**
+     * Default number of decoded resources kept on the heap.
+     */
+    public static final int DEFAULT_HOT_CACHE_SIZE = 1024;
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final int chunkSize;
+    private final HotCache<T> hotCache;
+    private final Object writeLock = new Object();
+    private final Map<String, IndexFunc<T>> indexFunctions = new ConcurrentHashMap<>();
+
+    private volatile boolean labelIndexed;
+    private volatile Contents<T> contents;
+
+    /**
+     * Creates an indexer with {@value #DEFAULT_CHUNK_SIZE}-byte chunks and a hot cache of
+     * {@value #DEFAULT_HOT_CACHE_SIZE} resources.
+     *
+     * @param resourceClass the class resources are decoded into
+     */
+    public OffHeapIndexer(final Class<T> resourceClass) {
+        this(resourceClass, DEFAULT_CHUNK_SIZE, DEFAULT_HOT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates an indexer.
+     *
+     * @param resourceClass the class resources are decoded into
+     * @param chunkSize the size of each direct buffer chunk in bytes; larger resources get a chunk of their own
+     * @param hotCacheSize the number of decoded resources kept on the heap (0 to decode every read)
+     * @throws IllegalArgumentException if resourceClass is null, chunkSize is not positive or hotCacheSize is negative
+     */
+    public OffHeapIndexer(final Class<T> resourceClass, final int chunkSize, final int hotCacheSize) {
+        if (resourceClass == null) {
+            throw new IllegalArgumentException("Resource class cannot be null");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (hotCacheSize < 0) {
+            throw new IllegalArgumentException("Hot cache size cannot be negative");
+        }
+        this.reader = ResourceCodec.forType(resourceClass).reader();
+        this.writer = ResourceCodec.forType(resourceClass).writer();
+        this.chunkSize = chunkSize;
+        this.hotCache = new HotCache<>(hotCacheSize);
+        this.contents = emptyContents();
+    }
+
+    @Override
+    public void add(final T resource) {
+        if (resource == null || !StoreState.isStorable(resource)) {
+            return;
+        }
+        final byte[] bytes = encode(resource);
+        synchronized (writeLock) {
+            final Contents<T> current = contents;
+            final Record oldRecord = current.get(resource.getNamespace(), resource.getName());
+            final Record record = current.put(resource, bytes);
+            hotCache.remove(oldRecord);
+            hotCache.put(record, resource);
+            if (current.arena.needsCompaction()) {
+                current.compact(chunkSize);
+                hotCache.clear();
+            }
+        }
+    }
+
+    @Override
+    public void update(final T resource) {
+        add(resource);
+    }
+
+    @Override
+    public void delete(final T resource) {
+        if (resource == null || !StoreState.isStorable(resource)) {
+            return;
+        }
+        synchronized (writeLock) {
+            hotCache.remove(contents.remove(resource.getNamespace(), resource.getName()));
+        }
+    }
+
+    @Override
+    public T get(final String namespace, final String name) {
+        if (name == null) {
+            return null;
+        }
+        return decode(contents.get(namespace, name));
+    }
+
+    @Override
+    public T getByKey(final String key) {
+        if (key == null) {
+            return null;
+        }
+        return decode(contents.get(key));
+    }
+
+    /**
+     * Returns a point-in-time copy of the contents. The records are collected while writes are held
+     * off and decoded afterwards, so writers only wait for the copy of the record references.
+     *
+     * @return a list of all stored resources
+     */
+    @Override
+    public List<T> list() {
+        final List<Record> records;
+        synchronized (writeLock) {
+            records = new ArrayList<>(contents.records());
+        }
+        return decodeAll(records);
+    }
+
+    /**
+     * Returns a point-in-time copy of the resources in one namespace, collected like {@link #list()}.
+     *
+     * @param namespace the namespace (null for cluster-scoped resources)
+     * @return the resources in the namespace
+     */
+    @Override
+    public List<T> list(final String namespace) {
+        final List<Record> records;
+        synchronized (writeLock) {
+            records = new ArrayList<>(contents.records(namespace));
+        }
+        return decodeAll(records);
+    }
+
+    /**
+     * Returns an unmodifiable view of the current contents that decodes each resource as the
+     * iteration reaches it. Like {@link InMemoryStore#view()}, the view is weakly consistent and stays
+     * bound to the contents it was taken from once {@link #replace(List)} or {@link #clear()} publishes
+     * new ones.
+     *
+     * @return an unmodifiable view of the stored resources
+     */
+    @Override
+    public Collection<T> view() {
+        final Contents<T> current = contents;
+        return Collections.unmodifiableCollection(new AbstractCollection<>() {
+            @Override
+            public Iterator<T> iterator() {
+                final Iterator<Record> records = current.records().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return records.hasNext();
+                    }
+
+                    @Override
+                    public T next() {
+                        return decode(records.next());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return current.size();
+            }
+        });
+    }
+
+    @Override
+    public List<String> listKeys() {
+        return new ArrayList<>(contents.keys());
+    }
+
+    @Override
+    public boolean containsKey(final String key) {
+        return key != null && contents.get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return contents.size();
+    }
+
+    @Override
+    public void replace(final List<T> resources) {
+        synchronized (writeLock) {
+            final Contents<T> replacement = emptyContents();
+            if (resources != null) {
+                for (final T resource : resources) {
+                    if (StoreState.isStorable(resource)) {
+                        replacement.put(resource, encode(resource));
+                    }
+                }
+            }
+            final Contents<T> previous = contents;
+            contents = replacement;
+            retire(previous);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (writeLock) {
+            final Contents<T> previous = contents;
+            contents = emptyContents();
+            retire(previous);
+        }
+    }
+
+    @Override
+    public void addIndex(final String indexName, final IndexFunc<T> indexFunc) {
+        if (indexName == null || indexName.isEmpty()) {
+            throw new IllegalArgumentException("Index name cannot be null or empty");
+        }
+        if (indexFunc == null) {
+            throw new IllegalArgumentException("Index function cannot be null");
+        }
+
+        synchronized (writeLock) {
+            if (indexFunctions.containsKey(indexName)) {
+                throw new IllegalArgumentException("Index '" + indexName + "' already exists");
+            }
+            contents.addIndex(indexName, indexFunc, this::decode);
+            indexFunctions.put(indexName, indexFunc);
+        }
+    }
+
+    /**
+     * Maintains an inverted index from label key and value to resources, used by
+     * {@link #list(LabelSelectorQuery)}. Indexes the resources already in the store.
+     * Calling this again has no effect.
+     */
+    @Override
+    public void enableLabelIndex() {
+        synchronized (writeLock) {
+            if (!labelIndexed) {
+                contents.addLabelIndex(this::decode);
+                labelIndexed = true;
+            }
+        }
+    }
+
+    @Override
+    public List<T> list(final LabelSelectorQuery query) {
+        final Contents<T> current = contents;
+        final LabelIndex labelIndex = current.labelIndex;
+        if (labelIndex == null) {
+            return Indexer.super.list(query);
+        }
+        if (query == null) {
+            throw new IllegalArgumentException("Label selector cannot be null");
+        }
+        return decodeAll(current, labelIndex.select(query, current::keys));
+    }
+
+    @Override
+    public List<T> getByIndex(final String indexName, final String indexValue) {
+        validateIndexExists(indexName);
+
+        final Contents<T> current = contents;
+        final Set<String> keys = current.index(indexName).get(indexValue);
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return decodeAll(current, keys);
+    }
+
+    @Override
+    public List<String> getIndexKeys(final String indexName, final String indexValue) {
+        validateIndexExists(indexName);
+
+        final Set<String> keys = contents.index(indexName).get(indexValue);
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(keys);
+    }
+
+    @Override
+    public Set<String> getAllIndexValues(final String indexName) {
+        validateIndexExists(indexName);
+
+        return Collections.unmodifiableSet(new HashSet<>(contents.index(indexName).keySet()));
+    }
+
+    @Override
+    public Set<String> getIndexNames() {
+        return Collections.unmodifiableSet(new HashSet<>(indexFunctions.keySet()));
+    }
+
+    /**
+     * Returns the number of bytes of direct memory held by the current chunks, including space
+     * left behind by updates and deletes that has not been compacted yet.
+     *
+     * @return the allocated off-heap bytes
+     */
+    public long getAllocatedBytes() {
+        return contents.arena.allocatedBytes;
+    }
+
+    /**
+     * Returns the number of bytes taken by the encoded resources currently in the store.
+     *
+     * @return the live off-heap bytes
+     */
+    public long getLiveBytes() {
+        return contents.arena.liveBytes;
+    }
+
+    int hotCacheSize() {
+        return hotCache.size();
+    }
+
+    private Contents<T> emptyContents() {
+        return new Contents<>(indexFunctions, labelIndexed, new Arena(chunkSize));
+    }
+
+    private List<T> decodeAll(final Contents<T> current, final Collection<String> keys) {
+        final List<T> result = new ArrayList<>(keys.size());
+        for (final String key : keys) {
+            final T resource = decode(current.get(key));
+            if (resource != null) {
+                result.add(resource);
+            }
+        }
+        return result;
+    }
+
+    private byte[] encode(final T resource) {
+        try {
+            return writer.writeValueAsBytes(resource);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode " + resource.getKind() + " "
+                    + InMemoryStore.keyFor(resource.getNamespace(), resource.getName()), e);
+        }
+    }
+
+    private List<T> decodeAll(final List<Record> records) {
+        final List<T> result = new ArrayList<>(records.size());
+        for (final Record record : records) {
+            result.add(decode(record));
+        }
+        return result;
+    }
+
+    private T decode(final Record record) {
+        if (record == null) {
+            return null;
+        }
+        final T cached = hotCache.get(record);
+        if (cached != null) {
+            return cached;
+        }
+        final T resource;
+        try {
+            resource = reader.readValue(new ByteBufferBackedInputStream(
+                    record.chunk.slice(record.offset, record.length)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to decode stored resource", e);
+        }
+        hotCache.put(record, resource);
+        return resource;
+    }
+
+    /**
+     * Marks the records of replaced contents as retired and empties the hot cache, so that neither
+     * keeps the old chunks or decoded resources reachable. Called with the write lock held.
+     */
+    private void retire(final Contents<T> previous) {
+        for (final Record record : previous.records()) {
+            record.retired = true;
+        }
+        hotCache.clear();
+    }
+
+    private void validateIndexExists(final String indexName) {
+        if (!indexFunctions.containsKey(indexName)) {
+            throw new IllegalArgumentException("Index '" + indexName + "' does not exist");
+        }
+    }
+
+    /**
+     * Location of one encoded resource. Compared by identity: a resource that is rewritten gets a new
+     * record, so hot cache entries of older versions can never be returned for it. A record is retired
+     * once it is overwritten, deleted, compacted away or replaced; retired records are not cached.
+     */
+    private static final class Record {
+        private final ByteBuffer chunk;
+        private final int offset;
+        private final int length;
+        private volatile boolean retired;
+
+        private Record(final ByteBuffer chunk, final int offset, final int length) {
+            this.chunk = chunk;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Appends encoded resources to direct buffer chunks. Only used with the write lock held; the
+     * counters are volatile so that they can be read for monitoring.
+     */
+    private static final class Arena {
+        private final int chunkSize;
+        private ByteBuffer current;
+        private int position;
+        private volatile long allocatedBytes;
+        private volatile long liveBytes;
+
+        private Arena(final int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        Record write(final byte[] bytes) {
+            ensureSpace(bytes.length);
+            current.put(position, bytes);
+            return advance(bytes.length);
+        }
+
+        Record copy(final Record record) {
+            ensureSpace(record.length);
+            current.put(position, record.chunk, record.offset, record.length);
+            return advance(record.length);
+        }
+
+        void release(final Record record) {
+            record.retired = true;
+            liveBytes -= record.length;
+        }
+
+        boolean needsCompaction() {
+            final long garbage = allocatedBytes - liveBytes;
+            return garbage > chunkSize && garbage > liveBytes;
+        }
+
+        private void ensureSpace(final int length) {
+            if (current == null || current.capacity() - position < length) {
+                current = ByteBuffer.allocateDirect(Math.max(chunkSize, length));
+                position = 0;
+                allocatedBytes += current.capacity();
+            }
+        }
+
+        private Record advance(final int length) {
+            final Record record = new Record(current, position, length);
+            position += length;
+            liveBytes += length;
+            return record;
+        }
+    }
+
+    /**
+     * One generation of contents: the records by namespace and name, the secondary indices and the
+     * arena the records live in. Mirrors {@link StoreState}, with records in place of resources.
+     */
+    private static final class Contents<T extends KubernetesResource> {
+
+        private static final String CLUSTER_SCOPE = "";
+
+        private final ConcurrentHashMap<String, ConcurrentHashMap<String, Record>> namespaces =
+                new ConcurrentHashMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final ConcurrentHashMap<String, ResourceIndex<T>> indices = new ConcurrentHashMap<>();
+        private volatile LabelIndex labelIndex;
+        private volatile Arena arena;
+
+        private Contents(final Map<String, IndexFunc<T>> indexFunctions, final boolean labelIndexed,
+                         final Arena arena) {
+            for (final Map.Entry<String, IndexFunc<T>> entry : indexFunctions.entrySet()) {
+                indices.put(entry.getKey(), new ResourceIndex<>(entry.getValue()));
+            }
+            this.labelIndex = labelIndexed ? new LabelIndex() : null;
+            this.arena = arena;
+        }
+
+        Record get(final String namespace, final String name) {
+            final Map<String, Record> partition = namespaces.get(partitionOf(namespace));
+            return partition != null ? partition.get(name) : null;
+        }
+
+        Record get(final String key) {
+            final int separator = key.indexOf('/');
+            return separator < 0
+                    ? get(null, key)
+                    : get(key.substring(0, separator), key.substring(separator + 1));
+        }
+
+        Collection<Record> records() {
+            return new AbstractCollection<>() {
+                @Override
+                public Iterator<Record> iterator() {
+                    return namespaces.values().stream()
+                            .flatMap(partition -> partition.values().stream())
+                            .iterator();
+                }
+
+                @Override
+                public int size() {
+                    return size.get();
+                }
+            };
+        }
+
+        Collection<Record> records(final String namespace) {
+            final Map<String, Record> partition = namespaces.get(partitionOf(namespace));
+            return partition != null ? partition.values() : List.of();
+        }
+
+        List<String> keys() {
+            return namespaces.entrySet().stream()
+                    .flatMap(entry -> {
+                        final String namespace = CLUSTER_SCOPE.equals(entry.getKey()) ? null : entry.getKey();
+                        return entry.getValue().keySet().stream()
+                                .map(name -> InMemoryStore.keyFor(namespace, name));
+                    })
+                    .toList();
+        }
+
+        int size() {
+            return size.get();
+        }
+
+        Map<String, Set<String>> index(final String indexName) {
+            return indices.get(indexName).keysByValue();
+        }
+
+        Record put(final T resource, final byte[] bytes) {
+            final Record record = arena.write(bytes);
+            final Record oldRecord = namespaces
+                    .computeIfAbsent(partitionOf(resource.getNamespace()), namespace -> new ConcurrentHashMap<>())
+                    .put(resource.getName(), record);
+            if (oldRecord == null) {
+                size.incrementAndGet();
+            } else {
+                arena.release(oldRecord);
+            }
+            index(resource);
+            return record;
+        }
+
+        Record remove(final String namespace, final String name) {
+            final String partitionName = partitionOf(namespace);
+            final Map<String, Record> partition = namespaces.get(partitionName);
+            final Record oldRecord = partition != null ? partition.remove(name) : null;
+            if (oldRecord == null) {
+                return null;
+            }
+            arena.release(oldRecord);
+            size.decrementAndGet();
+            if (partition.isEmpty()) {
+                namespaces.remove(partitionName);
+            }
+            final LabelIndex labels = labelIndex;
+            if (indices.isEmpty() && labels == null) {
+                return oldRecord;
+            }
+            final String key = InMemoryStore.keyFor(namespace, name);
+            for (final ResourceIndex<T> index : indices.values()) {
+                index.remove(key);
+            }
+            if (labels != null) {
+                labels.remove(key);
+            }
+            return oldRecord;
+        }
+
+        /**
+         * Copies the live records into a new arena, so that the chunks of the old one can be freed
+         * once no reader holds a record that points into them.
+         */
+        void compact(final int chunkSize) {
+            final Arena compacted = new Arena(chunkSize);
+            for (final ConcurrentHashMap<String, Record> partition : namespaces.values()) {
+                partition.replaceAll((name, record) -> {
+                    record.retired = true;
+                    return compacted.copy(record);
+                });
+            }
+            arena = compacted;
+        }
+
+        void addIndex(final String indexName, final IndexFunc<T> indexFunc,
+                      final Function<Record, T> decoder) {
+            final ResourceIndex<T> index = new ResourceIndex<>(indexFunc);
+            for (final Record record : records()) {
+                final T resource = decoder.apply(record);
+                index.put(InMemoryStore.keyFor(resource.getNamespace(), resource.getName()), resource);
+            }
+            indices.put(indexName, index);
+        }
+
+        void addLabelIndex(final Function<Record, T> decoder) {
+            final LabelIndex labels = new LabelIndex();
+            for (final Record record : records()) {
+                final T resource = decoder.apply(record);
+                labels.put(InMemoryStore.keyFor(resource.getNamespace(), resource.getName()), labelsOf(resource));
+            }
+            labelIndex = labels;
+        }
+
+        private void index(final T resource) {
+            final LabelIndex labels = labelIndex;
+            if (indices.isEmpty() && labels == null) {
+                return;
+            }
+            final String key = InMemoryStore.keyFor(resource.getNamespace(), resource.getName());
+            for (final ResourceIndex<T> index : indices.values()) {
+                index.put(key, resource);
+            }
+            if (labels != null) {
+                labels.put(key, labelsOf(resource));
+            }
+        }
+
+        private static Map<String, String> labelsOf(final KubernetesResource resource) {
+            return resource.getMetadata() != null ? resource.getMetadata().getLabels() : null;
+        }
+
+        private static String partitionOf(final String namespace) {
+            return namespace != null ? namespace : CLUSTER_SCOPE;
+        }
+    }
+
+    /**
+     * Least recently used decoded resources, keyed by record. Retired records are never added, and a
+     * record retired while a reader decodes it is checked under the same lock its eviction takes.
+     */
+    private static final class HotCache<T> {
+        private final int capacity;
+        private final Map<Record, T> entries;
+
+        private HotCache(final int capacity) {
+            this.capacity = capacity;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Record, T> eldest) {
+                    return size() > HotCache.this.capacity;
+                }
+            };
+        }
+
+        T get(final Record record) {
+            if (capacity == 0) {
+                return null;
+            }
+            synchronized (entries) {
+                return entries.get(record);
+            }
+        }
+
+        void put(final Record record, final T resource) {
+            if (capacity == 0) {
+                return;
+            }
+            synchronized (entries) {
+                if (!record.retired) {
+                    entries.put(record, resource);
+                }
+            }
+        }
+
+        void remove(final Record record) {
+            if (capacity == 0 || record == null) {
+                return;
+            }
+            synchronized (entries) {
+                entries.remove(record);
+            }
+        }
+
+        void clear() {
+            if (capacity == 0) {
+                return;
+            }
+            synchronized (entries) {
+                entries.clear();
+            }
+        }
+
+        int size() {
+            synchronized (entries) {
+                return entries.size();
+            }
+        }
+    }
+}
@@ -1,17 +1,49 @@
 package io.elev8.resources.informer;
 
+import io.elev8.core.watch.OverflowPolicy;
+
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 /**
  * Configuration options for event handler registration.
- * Allows per-handler customization such as resync period.
+ * Allows per-handler customization such as resync period and how events are buffered
+ * for the handler.
+ *
+ * <p>Each handler registered with a {@link SharedIndexInformer} receives events through its own
+ * bounded buffer, drained by its own consumer, so a slow handler does not delay the others or the
+ * watch. {@link #withBufferSize(int)}, {@link #withOverflowPolicy(OverflowPolicy)} and
+ * {@link #withDispatchExecutor(Executor)} tune that buffer and consumer:</p>
+ * <pre>{@code
+ * informer.addEventHandler(handler, ResourceEventHandlerOptions.withResyncPeriod(Duration.ofMinutes(5))
+ *         .withBufferSize(10_000)
+ *         .withOverflowPolicy(OverflowPolicy.COALESCE_BY_KEY));
+ * }</pre>
  */
 public final class ResourceEventHandlerOptions {
 
+    /**
+     * Default number of events buffered per handler.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
     private final Duration resyncPeriod;
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor dispatchExecutor;
 
     private ResourceEventHandlerOptions(final Duration resyncPeriod) {
+        this(resyncPeriod, DEFAULT_BUFFER_SIZE, OverflowPolicy.BLOCK, null);
+    }
+
+    private ResourceEventHandlerOptions(final Duration resyncPeriod,
+                                        final int bufferSize,
+                                        final OverflowPolicy overflowPolicy,
+                                        final Executor dispatchExecutor) {
         this.resyncPeriod = resyncPeriod != null ? resyncPeriod : Duration.ZERO;
+        this.bufferSize = bufferSize > 0 ? bufferSize : DEFAULT_BUFFER_SIZE;
+        this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.BLOCK;
+        this.dispatchExecutor = dispatchExecutor;
     }
 
     /**
@@ -33,6 +65,66 @@ public final class ResourceEventHandlerOptions {
         return !resyncPeriod.isZero() && !resyncPeriod.isNegative();
     }
 
+    /**
+     * Returns the maximum number of events buffered for this handler.
+     *
+     * @return the buffer size
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Returns what happens when this handler falls behind and its buffer is full.
+     * {@link OverflowPolicy#BLOCK} holds up the informer until the handler catches up.
+     *
+     * @return the overflow policy
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Returns the executor that runs the consumer delivering events to this handler.
+     * The consumer occupies one thread for the lifetime of the registration.
+     *
+     * @return the executor, or null to use a dedicated virtual thread
+     */
+    public Executor getDispatchExecutor() {
+        return dispatchExecutor;
+    }
+
+    /**
+     * Returns a copy of these options with the given buffer size.
+     *
+     * @param size the maximum number of buffered events (zero or less for the default)
+     * @return the new options
+     */
+    public ResourceEventHandlerOptions withBufferSize(final int size) {
+        return new ResourceEventHandlerOptions(resyncPeriod, size, overflowPolicy, dispatchExecutor);
+    }
+
+    /**
+     * Returns a copy of these options with the given overflow policy.
+     *
+     * @param policy what to do when the buffer is full (null for {@link OverflowPolicy#BLOCK})
+     * @return the new options
+     */
+    public ResourceEventHandlerOptions withOverflowPolicy(final OverflowPolicy policy) {
+        return new ResourceEventHandlerOptions(resyncPeriod, bufferSize, policy, dispatchExecutor);
+    }
+
+    /**
+     * Returns a copy of these options that runs the handler's consumer on the given executor,
+     * for example a shared platform thread pool.
+     *
+     * @param executor the executor (null for a dedicated virtual thread)
+     * @return the new options
+     */
+    public ResourceEventHandlerOptions withDispatchExecutor(final Executor executor) {
+        return new ResourceEventHandlerOptions(resyncPeriod, bufferSize, overflowPolicy, executor);
+    }
+
     /**
      * Creates default options with no resync.
      *
@@ -54,6 +146,8 @@ public final class ResourceEventHandlerOptions {
 
     @Override
     public String toString() {
-        return "ResourceEventHandlerOptions{resyncPeriod=" + resyncPeriod + "}";
+        return "ResourceEventHandlerOptions{resyncPeriod=" + resyncPeriod
+                + ", bufferSize=" + bufferSize
+                + ", overflowPolicy=" + overflowPolicy + "}";
     }
 }
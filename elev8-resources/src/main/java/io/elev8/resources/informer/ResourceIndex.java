@@ -0,0 +1,115 @@
+package io.elev8.resources.informer;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One secondary index of a {@link StoreState}: index value to the keys of the resources that
+ * produce it, plus the reverse mapping from each key to the values it is indexed under.
+ *
+ * <p>The reverse mapping lets an update compare the new values against the stored ones and touch
+ * only the buckets that changed, and lets a delete clean up without running the index function
+ * again. An update that does not change the indexed values leaves the index untouched.</p>
+ *
+ * <p>Must only be modified by one thread at a time; reads may happen concurrently.</p>
+ *
+ * @param <T> the type of resource indexed
+ */
+final class ResourceIndex<T> {
+
+    private final IndexFunc<T> indexFunc;
+    private final Map<String, Set<String>> keysByValue = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> valuesByKey = new ConcurrentHashMap<>();
+
+    ResourceIndex(final IndexFunc<T> indexFunc) {
+        this.indexFunc = indexFunc;
+    }
+
+    /**
+     * Returns the keys indexed under each value.
+     *
+     * @return index value to resource keys
+     */
+    Map<String, Set<String>> keysByValue() {
+        return keysByValue;
+    }
+
+    /**
+     * Indexes a resource that was added or updated.
+     *
+     * @param key the resource key
+     * @param resource the new state of the resource
+     */
+    void put(final String key, final T resource) {
+        final Set<String> newValues = valuesOf(resource);
+        final Set<String> oldValues = newValues.isEmpty()
+                ? valuesByKey.remove(key)
+                : valuesByKey.put(key, newValues);
+        if (oldValues == null) {
+            for (final String value : newValues) {
+                addKey(value, key);
+            }
+            return;
+        }
+        if (oldValues.equals(newValues)) {
+            return;
+        }
+        for (final String value : oldValues) {
+            if (!newValues.contains(value)) {
+                removeKey(value, key);
+            }
+        }
+        for (final String value : newValues) {
+            if (!oldValues.contains(value)) {
+                addKey(value, key);
+            }
+        }
+    }
+
+    /**
+     * Removes a resource from the index.
+     *
+     * @param key the resource key
+     */
+    void remove(final String key) {
+        final Set<String> oldValues = valuesByKey.remove(key);
+        if (oldValues != null) {
+            for (final String value : oldValues) {
+                removeKey(value, key);
+            }
+        }
+    }
+
+    private Set<String> valuesOf(final T resource) {
+        final List<String> values = indexFunc.index(resource);
+        if (values == null || values.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (values.size() == 1) {
+            final String value = values.get(0);
+            return value != null ? Set.of(value) : Collections.emptySet();
+        }
+        final Set<String> result = new HashSet<>(values.size());
+        for (final String value : values) {
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    private void addKey(final String value, final String key) {
+        keysByValue.computeIfAbsent(value, v -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    private void removeKey(final String value, final String key) {
+        keysByValue.computeIfPresent(value, (v, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+}
@@ -31,6 +31,15 @@ public interface SharedIndexInformer<T extends KubernetesResource> extends Share
      */
     void addIndex(String indexName, IndexFunc<T> indexFunc);
 
+    /**
+     * Maintains an inverted label index in the backing store, so that
+     * {@link Indexer#list(io.elev8.core.selector.LabelSelectorQuery)} on {@link #getIndexer()} is
+     * answered without scanning the cache. Must be called before the informer is started.
+     *
+     * @throws IllegalStateException if the informer has already started
+     */
+    void enableLabelIndex();
+
     /**
      * {@inheritDoc}
      * Returns the indexer as the store (indexer extends store).
@@ -4,7 +4,9 @@ import io.elev8.core.selector.LabelSelectorQuery;
 import io.elev8.resources.ClusterResourceManager;
 import io.elev8.resources.KubernetesResource;
 import io.elev8.resources.ResourceManager;
+import io.elev8.resources.ResourceTransformer;
 
+import java.nio.file.Path;
 import java.time.Duration;
 
 /**
@@ -66,6 +68,62 @@ public interface SharedInformerBuilder<T extends KubernetesResource> {
      */
     SharedInformerBuilder<T> withResyncPeriod(Duration resyncPeriod);
 
+    /**
+     * Bootstraps the cache from a WatchList stream ({@code sendInitialEvents=true}) instead of an
+     * initial LIST. Falls back to LIST then WATCH when the API server does not support it.
+     *
+     * @param watchList true to stream the initial state
+     * @return this builder
+     */
+    SharedInformerBuilder<T> withWatchList(boolean watchList);
+
+    /**
+     * Transforms every listed and watched resource before it is cached, for example to drop large
+     * annotations or the status with {@link io.elev8.resources.ResourceTransformers}. The transformer
+     * runs on the watch thread. It is part of the informer's identity: builders with equal
+     * transformers share an informer, builders with different ones do not.
+     *
+     * @param transform the transformer, or null for none
+     * @return this builder
+     */
+    SharedInformerBuilder<T> withTransform(ResourceTransformer<? super T> transform);
+
+    /**
+     * Saves the informer's cache to a snapshot file at the given interval and on shutdown, and
+     * restores it from that file on start, so that a restarted process resumes watching instead of
+     * listing again. Only applies if this builder creates the informer rather than returning a shared
+     * one. See {@link DefaultSharedIndexInformer#enableSnapshots(InformerSnapshot, Duration)}.
+     *
+     * @param file the snapshot file, or null for none
+     * @param interval how often to save (zero or null to save only on shutdown)
+     * @return this builder
+     */
+    SharedInformerBuilder<T> withSnapshot(Path file, Duration interval);
+
+    /**
+     * Shards the initial list of an all-namespaces informer by namespace: each namespace is listed in
+     * its own request, up to {@code parallelism} at a time, at one consistent resourceVersion. Ignored
+     * for single-namespace and cluster-scoped informers. See
+     * {@link ListerWatcher#forAllNamespaces}.
+     *
+     * @param namespaces lists the namespaces to shard by, or null for a single all-namespaces list
+     * @param parallelism the maximum number of namespaces listed concurrently
+     * @return this builder
+     */
+    SharedInformerBuilder<T> withShardedList(ClusterResourceManager<? extends KubernetesResource> namespaces,
+                                             int parallelism);
+
+    /**
+     * Reports the informer's measurements to the given metrics, estimating the cache size at the given
+     * interval. Only applies if this builder creates the informer rather than returning a shared one.
+     * See {@link DefaultSharedIndexInformer#enableMetrics(InformerMetrics, Duration)}.
+     *
+     * @param metrics the metrics, or null for none
+     * @param cacheSampleInterval how often to estimate the cache size (zero or null to never estimate)
+     * @return this builder
+     */
+    SharedInformerBuilder<T> withMetrics(InformerMetrics metrics, Duration cacheSampleInterval);
+
     /**
      * Uses a custom ResourceManager for namespace-scoped API operations.
      *
@@ -1,5 +1,8 @@
 package io.elev8.resources.informer;
 
+import io.elev8.core.watch.StreamOptions;
+import io.elev8.core.watch.WatchOptions;
+
 import java.util.Objects;
 
 /**
@@ -12,16 +15,48 @@ public final class SharedInformerKey {
     private final String namespace;
     private final String labelSelector;
     private final String fieldSelector;
+    private final Object transform;
 
     public SharedInformerKey(
             final Class<?> resourceClass,
             final String namespace,
             final String labelSelector,
             final String fieldSelector) {
+        this(resourceClass, namespace, labelSelector, fieldSelector, null);
+    }
+
+    private SharedInformerKey(
+            final Class<?> resourceClass,
+            final String namespace,
+            final String labelSelector,
+            final String fieldSelector,
+            final Object transform) {
         this.resourceClass = Objects.requireNonNull(resourceClass, "resourceClass cannot be null");
         this.namespace = namespace;
         this.labelSelector = labelSelector;
         this.fieldSelector = fieldSelector;
+        this.transform = transform;
+    }
+
+    /**
+     * Creates a key for an informer configured with the given options. The selectors are taken from the
+     * stream options, and the transformer is part of the key: informers with different transformers cache
+     * different objects and are never shared.
+     *
+     * @param resourceClass the resource class
+     * @param namespace the namespace, or null for all namespaces
+     * @param options the informer options (may be null for defaults)
+     * @return the key
+     */
+    public static SharedInformerKey of(final Class<?> resourceClass, final String namespace,
+                                       final InformerOptions options) {
+        final InformerOptions effectiveOptions = options != null ? options : InformerOptions.defaults();
+        final StreamOptions streamOptions = effectiveOptions.getStreamOptions() != null
+                ? effectiveOptions.getStreamOptions()
+                : StreamOptions.defaults();
+        final WatchOptions watchOptions = streamOptions.getWatchOptions();
+        return new SharedInformerKey(resourceClass, namespace, watchOptions.getLabelSelector(),
+                watchOptions.getFieldSelector(), effectiveOptions.getTransform());
     }
 
     public Class<?> getResourceClass() {
@@ -40,6 +75,10 @@ public final class SharedInformerKey {
         return fieldSelector;
     }
 
+    public Object getTransform() {
+        return transform;
+    }
+
     public boolean isAllNamespaces() {
         return namespace == null;
     }
@@ -56,12 +95,13 @@ public final class SharedInformerKey {
         return Objects.equals(resourceClass, that.resourceClass)
                 && Objects.equals(namespace, that.namespace)
                 && Objects.equals(labelSelector, that.labelSelector)
-                && Objects.equals(fieldSelector, that.fieldSelector);
+                && Objects.equals(fieldSelector, that.fieldSelector)
+                && Objects.equals(transform, that.transform);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(resourceClass, namespace, labelSelector, fieldSelector);
+        return Objects.hash(resourceClass, namespace, labelSelector, fieldSelector, transform);
     }
 
     @Override
@@ -79,6 +119,9 @@ public final class SharedInformerKey {
         if (fieldSelector != null) {
             sb.append("[fields=").append(fieldSelector).append("]");
         }
+        if (transform != null) {
+            sb.append("[transform=").append(transform).append("]");
+        }
         return sb.toString();
     }
 }
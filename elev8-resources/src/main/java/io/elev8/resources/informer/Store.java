@@ -1,5 +1,8 @@
 package io.elev8.resources.informer;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -59,10 +62,59 @@ public interface Store<T> {
     /**
      * Lists all resources in the store.
      *
+     * <p>The returned list is a copy that later writes do not affect. The stores in this package take
+     * it while writes are held off, so it is a point-in-time snapshot.</p>
+     *
      * @return a list of all stored resources
      */
     List<T> list();
 
+    /**
+     * Lists the resources in one namespace.
+     *
+     * <p>The default implementation selects the matching keys from {@link #listKeys()}.
+     * {@link InMemoryStore} partitions its contents by namespace and answers in time proportional
+     * to the size of that namespace.</p>
+     *
+     * @param namespace the namespace (null for cluster-scoped resources)
+     * @return the resources in the namespace
+     */
+    default List<T> list(final String namespace) {
+        final List<T> result = new ArrayList<>();
+        for (final String key : listKeys()) {
+            final int separator = key.indexOf('/');
+            final boolean matches = namespace == null
+                    ? separator < 0
+                    : separator == namespace.length() && key.startsWith(namespace);
+            if (matches) {
+                final T resource = getByKey(key);
+                if (resource != null) {
+                    result.add(resource);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a read-only, weakly consistent view of the resources in the store that can be iterated
+     * without copying.
+     *
+     * <p>The view is not a point-in-time snapshot. It is bound to the contents current at the time of
+     * the call, so a later {@link #replace(List)} or {@link #clear()} does not affect it, but adds,
+     * updates and deletes applied to those contents may or may not be visible to an iteration in
+     * progress, and its size may briefly disagree with the number of resources an iteration returns.
+     * Iterating never throws {@link java.util.ConcurrentModificationException}. Use {@link #list()} for
+     * a point-in-time copy.</p>
+     *
+     * <p>The default implementation returns an unmodifiable copy of {@link #list()}.</p>
+     *
+     * @return an unmodifiable view of the stored resources
+     */
+    default Collection<T> view() {
+        return Collections.unmodifiableList(list());
+    }
+
     /**
      * Lists all keys in the store.
      *
@@ -0,0 +1,251 @@
+package io.elev8.resources.informer;
+
+import io.elev8.resources.KubernetesResource;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One generation of the contents of an {@link InMemoryStore}: the resources by namespace and name
+ * together with the secondary indices over them.
+ *
+ * <p>Resources are held in two levels, namespace to name to resource, so that a lookup by namespace
+ * and name needs no composite key string and listing one namespace only visits that namespace.
+ * Cluster-scoped resources share a partition under {@link #CLUSTER_SCOPE}. The secondary indices
+ * refer to resources by their {@link InMemoryStore#keyFor(String, String) composite key}.</p>
+ *
+ * <p>Incremental changes are applied to the current generation in place. {@link InMemoryStore#replace}
+ * builds a complete new generation off to the side and publishes it with a single volatile write, so
+ * readers see either the old or the new contents, never an empty or partially rebuilt cache, and an
+ * index lookup that resolves its keys against the same generation stays consistent.</p>
+ *
+ * @param <T> the type of Kubernetes resource stored
+ */
+@Slf4j
+final class StoreState<T extends KubernetesResource> {
+
+    /**
+     * Partition of cluster-scoped resources. Namespace names are never empty.
+     */
+    private static final String CLUSTER_SCOPE = "";
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, T>> namespaces = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final ConcurrentHashMap<String, ResourceIndex<T>> indices = new ConcurrentHashMap<>();
+    private volatile LabelIndex labelIndex;
+
+    /**
+     * Creates an empty generation.
+     *
+     * @param indexFunctions the secondary indices to maintain
+     * @param labelIndexed whether to maintain a {@link LabelIndex}
+     */
+    StoreState(final Map<String, IndexFunc<T>> indexFunctions, final boolean labelIndexed) {
+        for (final Map.Entry<String, IndexFunc<T>> entry : indexFunctions.entrySet()) {
+            indices.put(entry.getKey(), new ResourceIndex<>(entry.getValue()));
+        }
+        this.labelIndex = labelIndexed ? new LabelIndex() : null;
+    }
+
+    /**
+     * Adds the given resources. Used to fill a new generation before it is published.
+     *
+     * @param resources the resources (may be null)
+     * @return this generation
+     */
+    StoreState<T> putAll(final List<T> resources) {
+        if (resources != null) {
+            for (final T resource : resources) {
+                put(resource);
+            }
+        }
+        return this;
+    }
+
+    T get(final String namespace, final String name) {
+        final Map<String, T> partition = namespaces.get(partitionOf(namespace));
+        return partition != null ? partition.get(name) : null;
+    }
+
+    T get(final String key) {
+        final int separator = key.indexOf('/');
+        return separator < 0
+                ? get(null, key)
+                : get(key.substring(0, separator), key.substring(separator + 1));
+    }
+
+    boolean containsKey(final String key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a live view of all resources. The view reads the partitions as it iterates.
+     *
+     * @return the resources
+     */
+    Collection<T> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<T> iterator() {
+                return namespaces.values().stream().flatMap(partition -> partition.values().stream()).iterator();
+            }
+
+            @Override
+            public int size() {
+                return size.get();
+            }
+        };
+    }
+
+    /**
+     * Returns a live view of the resources in one namespace.
+     *
+     * @param namespace the namespace (null for cluster-scoped resources)
+     * @return the resources
+     */
+    Collection<T> values(final String namespace) {
+        final Map<String, T> partition = namespaces.get(partitionOf(namespace));
+        return partition != null ? partition.values() : List.of();
+    }
+
+    List<String> keys() {
+        return namespaces.entrySet().stream()
+                .flatMap(entry -> {
+                    final String namespace = CLUSTER_SCOPE.equals(entry.getKey()) ? null : entry.getKey();
+                    return entry.getValue().keySet().stream().map(name -> InMemoryStore.keyFor(namespace, name));
+                })
+                .toList();
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    Map<String, Set<String>> index(final String indexName) {
+        return indices.get(indexName).keysByValue();
+    }
+
+    /**
+     * Returns the label index.
+     *
+     * @return the label index, or null if labels are not indexed
+     */
+    LabelIndex labelIndex() {
+        return labelIndex;
+    }
+
+    /**
+     * Returns whether a resource can be keyed by namespace and name, and logs those that cannot.
+     * Resources without metadata or a name are skipped instead of reaching the partition maps,
+     * which do not accept null keys.
+     *
+     * @param resource the resource (may be null)
+     * @return true if the resource has a name
+     */
+    static boolean isStorable(final KubernetesResource resource) {
+        if (resource != null && resource.getName() != null) {
+            return true;
+        }
+        log.warn("Skipping {} without a name", resource != null ? resource.getKind() : "null resource");
+        return false;
+    }
+
+    /**
+     * Adds or replaces a resource and updates the indices.
+     *
+     * @param resource the resource
+     */
+    void put(final T resource) {
+        if (!isStorable(resource)) {
+            return;
+        }
+        final T oldResource = namespaces
+                .computeIfAbsent(partitionOf(resource.getNamespace()), namespace -> new ConcurrentHashMap<>())
+                .put(resource.getName(), resource);
+        if (oldResource == null) {
+            size.incrementAndGet();
+        }
+        final LabelIndex labels = labelIndex;
+        if (indices.isEmpty() && labels == null) {
+            return;
+        }
+        final String key = InMemoryStore.keyFor(resource.getNamespace(), resource.getName());
+        for (final ResourceIndex<T> index : indices.values()) {
+            index.put(key, resource);
+        }
+        if (labels != null) {
+            labels.put(key, labelsOf(resource));
+        }
+    }
+
+    /**
+     * Removes the resource with the same key and its index entries.
+     *
+     * @param resource the resource (used to extract the key)
+     */
+    void remove(final T resource) {
+        if (!isStorable(resource)) {
+            return;
+        }
+        final String namespace = partitionOf(resource.getNamespace());
+        final Map<String, T> partition = namespaces.get(namespace);
+        if (partition == null || partition.remove(resource.getName()) == null) {
+            return;
+        }
+        size.decrementAndGet();
+        if (partition.isEmpty()) {
+            namespaces.remove(namespace);
+        }
+        final LabelIndex labels = labelIndex;
+        if (indices.isEmpty() && labels == null) {
+            return;
+        }
+        final String key = InMemoryStore.keyFor(resource.getNamespace(), resource.getName());
+        for (final ResourceIndex<T> index : indices.values()) {
+            index.remove(key);
+        }
+        if (labels != null) {
+            labels.remove(key);
+        }
+    }
+
+    /**
+     * Builds an index over the current resources and publishes it.
+     *
+     * @param indexName the index name
+     * @param indexFunc the index function
+     */
+    void addIndex(final String indexName, final IndexFunc<T> indexFunc) {
+        final ResourceIndex<T> index = new ResourceIndex<>(indexFunc);
+        for (final T resource : values()) {
+            index.put(InMemoryStore.keyFor(resource.getNamespace(), resource.getName()), resource);
+        }
+        indices.put(indexName, index);
+    }
+
+    /**
+     * Builds a label index over the current resources and publishes it.
+     */
+    void addLabelIndex() {
+        final LabelIndex labels = new LabelIndex();
+        for (final T resource : values()) {
+            labels.put(InMemoryStore.keyFor(resource.getNamespace(), resource.getName()), labelsOf(resource));
+        }
+        labelIndex = labels;
+    }
+
+    private static Map<String, String> labelsOf(final KubernetesResource resource) {
+        return resource.getMetadata() != null ? resource.getMetadata().getLabels() : null;
+    }
+
+    private static String partitionOf(final String namespace) {
+        return namespace != null ? namespace : CLUSTER_SCOPE;
+    }
+}
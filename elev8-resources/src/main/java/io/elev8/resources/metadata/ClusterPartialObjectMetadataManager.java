@@ -0,0 +1,77 @@
+package io.elev8.resources.metadata;
+
+import io.elev8.core.client.KubernetesClient;
+import io.elev8.core.http.StreamHandle;
+import io.elev8.core.list.ListOptions;
+import io.elev8.core.watch.WatchOptions;
+import io.elev8.core.watch.Watcher;
+import io.elev8.resources.AbstractReadOnlyClusterResourceManager;
+import io.elev8.resources.ResourceException;
+import io.elev8.resources.ResourceList;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Read-only manager that lists and watches only the metadata of a cluster-scoped resource type.
+ * The cluster-scoped counterpart of {@link PartialObjectMetadataManager}.
+ *
+ * <pre>{@code
+ * ClusterPartialObjectMetadataManager nodes = nodeManager.metadataOnly();
+ *
+ * SharedIndexInformer<PartialObjectMetadata> informer =
+ *         SharedInformers.forClusterResource(nodes, InformerOptions.defaults());
+ * }</pre>
+ */
+public class ClusterPartialObjectMetadataManager
+        extends AbstractReadOnlyClusterResourceManager<PartialObjectMetadata> {
+
+    private final String resourceTypePlural;
+
+    /**
+     * Creates a manager for the resource type served at {@code apiPath/plural}.
+     *
+     * @param client the Kubernetes client
+     * @param apiPath the API path of the group and version, e.g. "/api/v1"
+     * @param resourceTypePlural the plural resource name, e.g. "nodes"
+     */
+    public ClusterPartialObjectMetadataManager(final KubernetesClient client, final String apiPath,
+                                               final String resourceTypePlural) {
+        super(client, PartialObjectMetadata.class, apiPath);
+        this.resourceTypePlural = resourceTypePlural;
+    }
+
+    @Override
+    public List<PartialObjectMetadata> list() throws ResourceException {
+        return list(null);
+    }
+
+    @Override
+    public List<PartialObjectMetadata> list(final ListOptions options) throws ResourceException {
+        return super.list(MetadataOnlyOptions.of(options));
+    }
+
+    @Override
+    public ResourceList.ListMetadata listStreaming(final ListOptions options,
+                                                   final Consumer<? super PartialObjectMetadata> consumer)
+            throws ResourceException {
+        return super.listStreaming(MetadataOnlyOptions.of(options), consumer);
+    }
+
+    @Override
+    public CompletableFuture<List<PartialObjectMetadata>> listAsync(final ListOptions options) {
+        return super.listAsync(MetadataOnlyOptions.of(options));
+    }
+
+    @Override
+    public StreamHandle watch(final WatchOptions options, final Watcher<PartialObjectMetadata> watcher)
+            throws ResourceException {
+        return super.watch(MetadataOnlyOptions.of(options), watcher);
+    }
+
+    @Override
+    protected String getResourceTypePlural() {
+        return resourceTypePlural;
+    }
+}
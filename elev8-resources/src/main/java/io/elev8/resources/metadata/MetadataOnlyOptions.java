@@ -0,0 +1,31 @@
+package io.elev8.resources.metadata;
+
+import io.elev8.core.list.ListOptions;
+import io.elev8.core.watch.WatchOptions;
+
+/**
+ * Copies list and watch options with metadata-only mode switched on.
+ */
+final class MetadataOnlyOptions {
+
+    private MetadataOnlyOptions() {
+    }
+
+    static ListOptions of(final ListOptions options) {
+        if (options != null && options.isMetadataOnly()) {
+            return options;
+        }
+        return (options != null ? options.toBuilder() : ListOptions.builder())
+                .metadataOnly(true)
+                .build();
+    }
+
+    static WatchOptions of(final WatchOptions options) {
+        if (options != null && options.isMetadataOnly()) {
+            return options;
+        }
+        return (options != null ? options.toBuilder() : WatchOptions.builder())
+                .metadataOnly(true)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package io.elev8.resources.metadata;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.elev8.resources.AbstractResource;
+import io.elev8.resources.Metadata;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The metadata of an object of any kind, without its spec or status, as served by the API server
+ * for requests that accept the meta.k8s.io/v1 PartialObjectMetadata representation.
+ *
+ * <p>Metadata-only lists and watches are much smaller to transfer, decode and cache than the full
+ * objects, which makes them the right choice for informers that only need names, labels,
+ * annotations or resource versions, for example over Secrets or ConfigMaps.</p>
+ *
+ * <p>Unknown properties are ignored, so a server that answers with the full object still decodes.</p>
+ *
+ * @see PartialObjectMetadataManager
+ * @see ClusterPartialObjectMetadataManager
+ */
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PartialObjectMetadata extends AbstractResource {
+
+    private static final String API_VERSION = "meta.k8s.io/v1";
+    private static final String KIND = "PartialObjectMetadata";
+
+    public PartialObjectMetadata() {
+        super(API_VERSION, KIND, null);
+    }
+
+    public PartialObjectMetadata(final Metadata metadata) {
+        super(API_VERSION, KIND, metadata);
+    }
+}
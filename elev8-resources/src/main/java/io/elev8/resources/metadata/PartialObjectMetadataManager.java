@@ -0,0 +1,106 @@
+package io.elev8.resources.metadata;
+
+import io.elev8.core.client.KubernetesClient;
+import io.elev8.core.http.StreamHandle;
+import io.elev8.core.list.ListOptions;
+import io.elev8.core.watch.WatchOptions;
+import io.elev8.core.watch.Watcher;
+import io.elev8.resources.AbstractReadOnlyResourceManager;
+import io.elev8.resources.ResourceException;
+import io.elev8.resources.ResourceList;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Read-only manager that lists and watches only the metadata of a namespace-scoped resource type.
+ * Every list and watch is sent with {@link ListOptions#isMetadataOnly()} or
+ * {@link WatchOptions#isMetadataOnly()} set, so the API server returns
+ * {@link PartialObjectMetadata} instead of the full objects.
+ *
+ * <p>Because it is a regular resource manager, it plugs into informers unchanged:</p>
+ * <pre>{@code
+ * PartialObjectMetadataManager secrets = secretManager.metadataOnly();
+ *
+ * SharedIndexInformer<PartialObjectMetadata> informer =
+ *         SharedInformers.forNamespace(secrets, "default", InformerOptions.defaults());
+ * }</pre>
+ *
+ * <p>Writes go through the typed manager of the resource.</p>
+ */
+public class PartialObjectMetadataManager extends AbstractReadOnlyResourceManager<PartialObjectMetadata> {
+
+    private final String resourceTypePlural;
+
+    /**
+     * Creates a manager for the resource type served at {@code apiPath/namespaces/{namespace}/plural}.
+     *
+     * @param client the Kubernetes client
+     * @param apiPath the API path of the group and version, e.g. "/api/v1" or "/apis/apps/v1"
+     * @param resourceTypePlural the plural resource name, e.g. "secrets"
+     */
+    public PartialObjectMetadataManager(final KubernetesClient client, final String apiPath,
+                                        final String resourceTypePlural) {
+        super(client, PartialObjectMetadata.class, apiPath);
+        this.resourceTypePlural = resourceTypePlural;
+    }
+
+    @Override
+    public List<PartialObjectMetadata> list(final String namespace) throws ResourceException {
+        return list(namespace, null);
+    }
+
+    @Override
+    public List<PartialObjectMetadata> list(final String namespace, final ListOptions options)
+            throws ResourceException {
+        return super.list(namespace, MetadataOnlyOptions.of(options));
+    }
+
+    @Override
+    public List<PartialObjectMetadata> listAllNamespaces() throws ResourceException {
+        return listAllNamespaces(null);
+    }
+
+    @Override
+    public List<PartialObjectMetadata> listAllNamespaces(final ListOptions options) throws ResourceException {
+        return super.listAllNamespaces(MetadataOnlyOptions.of(options));
+    }
+
+    @Override
+    public ResourceList.ListMetadata listStreaming(final String namespace, final ListOptions options,
+                                                   final Consumer<? super PartialObjectMetadata> consumer)
+            throws ResourceException {
+        return super.listStreaming(namespace, MetadataOnlyOptions.of(options), consumer);
+    }
+
+    @Override
+    public ResourceList.ListMetadata listAllNamespacesStreaming(final ListOptions options,
+                                                                final Consumer<? super PartialObjectMetadata> consumer)
+            throws ResourceException {
+        return super.listAllNamespacesStreaming(MetadataOnlyOptions.of(options), consumer);
+    }
+
+    @Override
+    public CompletableFuture<List<PartialObjectMetadata>> listAsync(final String namespace,
+                                                                    final ListOptions options) {
+        return super.listAsync(namespace, MetadataOnlyOptions.of(options));
+    }
+
+    @Override
+    public StreamHandle watch(final String namespace, final WatchOptions options,
+                              final Watcher<PartialObjectMetadata> watcher) throws ResourceException {
+        return super.watch(namespace, MetadataOnlyOptions.of(options), watcher);
+    }
+
+    @Override
+    public StreamHandle watchAllNamespaces(final WatchOptions options, final Watcher<PartialObjectMetadata> watcher)
+            throws ResourceException {
+        return super.watchAllNamespaces(MetadataOnlyOptions.of(options), watcher);
+    }
+
+    @Override
+    protected String getResourceTypePlural() {
+        return resourceTypePlural;
+    }
+}
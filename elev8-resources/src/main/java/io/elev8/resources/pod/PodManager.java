@@ -6,6 +6,7 @@ import io.elev8.core.exec.ExecOptions;
 import io.elev8.core.exec.ExecWatch;
 import io.elev8.core.exec.ExecWebSocketAdapter;
 import io.elev8.core.http.HttpClient;
+import io.elev8.core.http.StreamHandle;
 import io.elev8.core.logs.LogOptions;
 import io.elev8.core.logs.LogWatch;
 import io.elev8.core.portforward.PortForwardOptions;
@@ -36,9 +37,10 @@ public final class PodManager extends AbstractResourceManager<Pod> {
      * @param podName the name of the pod
      * @param options log options for configuring the log behavior
      * @param logWatch the callback to handle log lines
+     * @return a handle that stops the log stream when closed
      * @throws ResourceException if the log streaming fails
      */
-    public void logs(final String namespace, final String podName, final LogOptions options, final LogWatch logWatch)
+    public StreamHandle logs(final String namespace, final String podName, final LogOptions options, final LogWatch logWatch)
             throws ResourceException {
         try {
             final String path = buildNamespacePath(namespace) + "/" + podName + "/log";
@@ -61,7 +63,7 @@ public final class PodManager extends AbstractResourceManager<Pod> {
                 }
             };
 
-            client.logs(path, options, handler);
+            return client.logs(path, options, handler);
 
         } catch (KubernetesClientException e) {
             throw new ResourceException("Failed to stream pod logs", e);
@@ -77,9 +79,10 @@ public final class PodManager extends AbstractResourceManager<Pod> {
      * @param containerName the name of the container
      * @param options log options for configuring the log behavior
      * @param logWatch the callback to handle log lines
+     * @return a handle that stops the log stream when closed
      * @throws ResourceException if the log streaming fails
      */
-    public void logs(final String namespace, final String podName, final String containerName,
+    public StreamHandle logs(final String namespace, final String podName, final String containerName,
                     final LogOptions options, final LogWatch logWatch) throws ResourceException {
         final LogOptions containerOptions = LogOptions.builder()
                 .follow(options != null ? options.getFollow() : false)
@@ -92,7 +95,7 @@ public final class PodManager extends AbstractResourceManager<Pod> {
                 .container(containerName)
                 .build();
 
-        logs(namespace, podName, containerOptions, logWatch);
+        return logs(namespace, podName, containerOptions, logWatch);
     }
 
     /**
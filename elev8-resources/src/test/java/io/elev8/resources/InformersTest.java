@@ -2,19 +2,23 @@ package io.elev8.resources;
 
 import io.elev8.resources.informer.Informer;
 import io.elev8.resources.informer.InformerOptions;
+import io.elev8.core.http.StreamHandle;
 import io.elev8.core.watch.ResourceChangeStream;
 import io.elev8.core.watch.StreamOptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class InformersTest {
@@ -31,7 +35,6 @@ class InformersTest {
 
         @Test
         void shouldCreateInformerForNamespace() throws ResourceException {
-            when(manager.list("default")).thenReturn(List.of());
             when(manager.stream(eq("default"), any(StreamOptions.class)))
                     .thenReturn(mock(ResourceChangeStream.class));
 
@@ -65,7 +68,6 @@ class InformersTest {
 
         @Test
         void shouldHandleNullOptions() throws ResourceException {
-            when(manager.list("default")).thenReturn(List.of());
             when(manager.stream(eq("default"), any(StreamOptions.class)))
                     .thenReturn(mock(ResourceChangeStream.class));
 
@@ -87,7 +89,6 @@ class InformersTest {
 
         @Test
         void shouldCreateInformerForAllNamespaces() throws ResourceException {
-            when(manager.listAllNamespaces()).thenReturn(List.of());
             when(manager.streamAllNamespaces(any(StreamOptions.class)))
                     .thenReturn(mock(ResourceChangeStream.class));
 
@@ -118,7 +119,6 @@ class InformersTest {
 
         @Test
         void shouldCreateInformerForClusterResource() throws ResourceException {
-            when(manager.list()).thenReturn(List.of());
             when(manager.stream(any(StreamOptions.class)))
                     .thenReturn(mock(ResourceChangeStream.class));
 
@@ -137,13 +137,55 @@ class InformersTest {
         }
     }
 
+    @Nested
+    class Transform {
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldTransformListedResourcesAndWatchThroughTheTransformer() throws Exception {
+            final ResourceManager<TestResource> manager = mock(ResourceManager.class);
+            final TestResource resource = new TestResource();
+            resource.setMetadata(Metadata.builder()
+                    .namespace("default")
+                    .name("web")
+                    .annotation(ResourceTransformers.LAST_APPLIED_CONFIGURATION_ANNOTATION, "{}")
+                    .annotation("team", "platform")
+                    .build());
+            when(manager.listStreaming(eq("default"), any(), any())).thenAnswer(invocation -> {
+                final Consumer<TestResource> consumer = invocation.getArgument(2);
+                consumer.accept(resource);
+                return new ResourceList.ListMetadata();
+            });
+            when(manager.watch(eq("default"), any(), any())).thenReturn(mock(StreamHandle.class));
+
+            final Informer<TestResource> informer = Informers.forNamespace(manager, "default",
+                    InformerOptions.builder()
+                            .transform(ResourceTransformers.dropLastAppliedConfiguration())
+                            .build());
+
+            try {
+                informer.start();
+                for (int i = 0; i < 50 && !informer.hasSynced(); i++) {
+                    Thread.sleep(100);
+                }
+
+                assertThat(informer.hasSynced()).isTrue();
+                assertThat(informer.getStore().get("default", "web").getMetadata().getAnnotations())
+                        .containsOnlyKeys("team");
+                verify(manager, timeout(5000)).watch(eq("default"), any(), any());
+                verify(manager, never()).stream(any(), any());
+            } finally {
+                informer.stop();
+            }
+        }
+    }
+
     @Nested
     class ExceptionHandling {
         @Test
         @SuppressWarnings("unchecked")
         void shouldFailToSyncWhenListThrowsResourceException() throws ResourceException, InterruptedException {
             final ResourceManager<TestResource> manager = mock(ResourceManager.class);
-            when(manager.list("default")).thenThrow(new ResourceException("API error"));
+            when(manager.listStreaming(eq("default"), any(), any())).thenThrow(new ResourceException("API error"));
 
             final Informer<TestResource> informer = Informers.forNamespace(
                     manager, "default", InformerOptions.defaults()
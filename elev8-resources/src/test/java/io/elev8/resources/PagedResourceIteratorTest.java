@@ -0,0 +1,174 @@
+package io.elev8.resources;
+
+import io.elev8.core.list.ListOptions;
+import io.elev8.resources.generic.GenericKubernetesResource;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PagedResourceIteratorTest {
+
+    @Test
+    void shouldIterateAllPagesInOrder() {
+        final FakeServer server = new FakeServer(resources(7));
+
+        final List<String> names = new PagedResourceIterator<>(server, 3).stream()
+                .map(GenericKubernetesResource::getName)
+                .toList();
+
+        assertThat(names).containsExactly("res-0", "res-1", "res-2", "res-3", "res-4", "res-5", "res-6");
+        assertThat(server.requests).extracting(ListOptions::getLimit).containsOnly(3);
+        assertThat(server.requests).extracting(ListOptions::getContinueToken).containsExactly(null, "3", "6");
+    }
+
+    @Test
+    void shouldHandleEmptyList() {
+        final PagedResourceIterator<GenericKubernetesResource> iterator =
+                new PagedResourceIterator<>(new FakeServer(List.of()), 10);
+
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldNotFetchBeforeIterationStarts() {
+        final FakeServer server = new FakeServer(resources(3));
+
+        new PagedResourceIterator<>(server, 2);
+
+        assertThat(server.requests).isEmpty();
+    }
+
+    @Test
+    void shouldPrefetchNextPageWhileCurrentPageIsConsumed() throws InterruptedException {
+        final CountDownLatch secondPageRequested = new CountDownLatch(1);
+        final FakeServer server = new FakeServer(resources(4)) {
+            @Override
+            public ResourceList.ListMetadata fetch(final ListOptions options,
+                                                   final Consumer<? super GenericKubernetesResource> consumer)
+                    throws ResourceException {
+                if (options.getContinueToken() != null) {
+                    secondPageRequested.countDown();
+                }
+                return super.fetch(options, consumer);
+            }
+        };
+
+        final PagedResourceIterator<GenericKubernetesResource> iterator = new PagedResourceIterator<>(server, 2);
+        assertThat(iterator.next().getName()).isEqualTo("res-0");
+
+        assertThat(secondPageRequested.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldRestartWithoutDuplicatesWhenContinueTokenExpires() {
+        final FakeServer server = new FakeServer(resources(6));
+        server.expireTokenOnce = "4";
+
+        final List<String> names = new PagedResourceIterator<>(server, 2).stream()
+                .map(GenericKubernetesResource::getName)
+                .toList();
+
+        assertThat(names).containsExactly("res-0", "res-1", "res-2", "res-3", "res-4", "res-5");
+        assertThat(server.requests).extracting(ListOptions::getContinueToken)
+                .containsExactly(null, "2", "4", null, "2", "4");
+    }
+
+    @Test
+    void shouldGiveUpAfterRepeatedExpiredTokens() {
+        final FakeServer server = new FakeServer(resources(4));
+        server.alwaysExpire = true;
+
+        final PagedResourceIterator<GenericKubernetesResource> iterator = new PagedResourceIterator<>(server, 2);
+
+        assertThatThrownBy(() -> iterator.forEachRemaining(resource -> { }))
+                .isInstanceOf(PagedListException.class)
+                .hasCauseInstanceOf(ResourceException.class);
+    }
+
+    @Test
+    void shouldWrapFetchFailures() {
+        final PagedResourceIterator<GenericKubernetesResource> iterator = new PagedResourceIterator<>(
+                (options, consumer) -> {
+                    throw new ResourceException("Failed to list resources: boom", 500);
+                }, 5);
+
+        assertThatThrownBy(iterator::hasNext)
+                .isInstanceOf(PagedListException.class)
+                .hasRootCauseMessage("Failed to list resources: boom");
+    }
+
+    @Test
+    void shouldStopWhenStreamIsClosed() {
+        final FakeServer server = new FakeServer(resources(10));
+        final AtomicBoolean firstSeen = new AtomicBoolean();
+
+        try (Stream<GenericKubernetesResource> stream = new PagedResourceIterator<>(server, 2).stream()) {
+            firstSeen.set(stream.findFirst().isPresent());
+        }
+
+        assertThat(firstSeen).isTrue();
+        assertThat(server.requests.size()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectNonPositivePageSize() {
+        assertThatThrownBy(() -> new PagedResourceIterator<>(new FakeServer(List.of()), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<GenericKubernetesResource> resources(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> GenericKubernetesResource.builder()
+                        .apiVersion("v1")
+                        .kind("ConfigMap")
+                        .name("res-" + i)
+                        .namespace("default")
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Serves a sorted list in pages, using the start index as continue token.
+     */
+    private static class FakeServer implements PagedResourceIterator.PageFetcher<GenericKubernetesResource> {
+
+        private final List<GenericKubernetesResource> items;
+        private final List<ListOptions> requests = new CopyOnWriteArrayList<>();
+        private volatile String expireTokenOnce;
+        private volatile boolean alwaysExpire;
+
+        FakeServer(final List<GenericKubernetesResource> items) {
+            this.items = items;
+        }
+
+        @Override
+        public ResourceList.ListMetadata fetch(final ListOptions options,
+                                               final Consumer<? super GenericKubernetesResource> consumer)
+                throws ResourceException {
+            requests.add(options);
+            final String token = options.getContinueToken();
+            if (token != null && (alwaysExpire || token.equals(expireTokenOnce))) {
+                expireTokenOnce = null;
+                throw new ResourceException("Failed to list resources: continue token expired", 410);
+            }
+
+            final int start = token != null ? Integer.parseInt(token) : 0;
+            final int end = Math.min(start + options.getLimit(), items.size());
+            items.subList(start, end).forEach(consumer);
+
+            final ResourceList.ListMetadata metadata = new ResourceList.ListMetadata();
+            metadata.setContinueToken(end < items.size() ? String.valueOf(end) : null);
+            return metadata;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.elev8.resources;
+
+import io.elev8.core.http.HttpClient;
+import io.elev8.core.watch.WatchEvent;
+import io.elev8.core.watch.WatchOptions;
+import io.elev8.core.watch.WatchStreamException;
+import io.elev8.core.watch.Watcher;
+import io.elev8.resources.configmap.ConfigMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelWatchEventDecoderTest {
+
+    private final RecordingWatcher watcher = new RecordingWatcher();
+
+    @Test
+    void shouldDeliverEventsInStreamOrder() throws InterruptedException {
+        final ParallelWatchEventDecoder<ConfigMap> decoder =
+                new ParallelWatchEventDecoder<>(new WatchEventDecoder<>(ConfigMap.class), watcher, 4);
+
+        for (int i = 1; i <= 2000; i++) {
+            decoder.onLine(modified("cm-" + (i % 7), i));
+        }
+        decoder.onClose();
+
+        assertThat(watcher.closed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(watcher.events).hasSize(2000);
+        for (int i = 0; i < 2000; i++) {
+            assertThat(watcher.events.get(i).getObject().getMetadata().getResourceVersion())
+                    .isEqualTo(String.valueOf(i + 1));
+        }
+        assertThat(watcher.concurrentCalls.get()).isFalse();
+    }
+
+    @Test
+    void shouldDeliverErrorsInStreamOrder() throws InterruptedException {
+        final ParallelWatchEventDecoder<ConfigMap> decoder =
+                new ParallelWatchEventDecoder<>(new WatchEventDecoder<>(ConfigMap.class), watcher, 2);
+
+        decoder.onLine(modified("cm-1", 1));
+        decoder.onLine("{\"type\":\"ERROR\",\"object\":{\"kind\":\"Status\",\"code\":410}}");
+        decoder.onLine(modified("cm-2", 3));
+        decoder.onClose();
+
+        assertThat(watcher.closed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(watcher.calls).containsExactly("event:1", "error:410", "event:3", "close");
+    }
+
+    @Test
+    void shouldDeliverStreamErrorsAfterPendingLines() throws InterruptedException {
+        final ParallelWatchEventDecoder<ConfigMap> decoder =
+                new ParallelWatchEventDecoder<>(new WatchEventDecoder<>(ConfigMap.class), watcher, 2);
+
+        decoder.onLine(modified("cm-1", 1));
+        decoder.onError(new IllegalStateException("connection reset"));
+        decoder.onClose();
+
+        assertThat(watcher.closed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(watcher.calls).containsExactly("event:1", "error:connection reset", "close");
+    }
+
+    @Test
+    void shouldRejectNonPositiveParallelism() {
+        assertThatThrownBy(() ->
+                new ParallelWatchEventDecoder<>(new WatchEventDecoder<>(ConfigMap.class), watcher, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldDecodeInParallelOnlyWhenRequested() {
+        final HttpClient.StreamHandler sequential =
+                WatchEventDecoder.streamHandler(ConfigMap.class, WatchOptions.defaults(), watcher);
+        final HttpClient.StreamHandler parallel = WatchEventDecoder.streamHandler(ConfigMap.class,
+                WatchOptions.builder().decodeParallelism(4).build(), watcher);
+
+        assertThat(sequential).isNotInstanceOf(ParallelWatchEventDecoder.class);
+        assertThat(parallel).isInstanceOf(ParallelWatchEventDecoder.class);
+    }
+
+    private static String modified(final String name, final int resourceVersion) {
+        return "{\"type\":\"MODIFIED\",\"object\":{\"apiVersion\":\"v1\",\"kind\":\"ConfigMap\",\"metadata\":"
+                + "{\"name\":\"" + name + "\",\"namespace\":\"default\",\"resourceVersion\":\"" + resourceVersion
+                + "\"},\"data\":{\"key\":\"value-" + resourceVersion + "\"}}}";
+    }
+
+    private static final class RecordingWatcher implements Watcher<ConfigMap> {
+
+        private final List<WatchEvent<ConfigMap>> events = new CopyOnWriteArrayList<>();
+        private final List<String> calls = new CopyOnWriteArrayList<>();
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicBoolean concurrentCalls = new AtomicBoolean();
+
+        @Override
+        public void onEvent(final WatchEvent<ConfigMap> event) {
+            if (inFlight.incrementAndGet() > 1) {
+                concurrentCalls.set(true);
+            }
+            events.add(event);
+            calls.add("event:" + event.getObject().getMetadata().getResourceVersion());
+            inFlight.decrementAndGet();
+        }
+
+        @Override
+        public void onError(final Exception exception) {
+            calls.add(exception instanceof WatchStreamException e && e.hasStatusCode()
+                    ? "error:" + e.getStatusCode()
+                    : "error:" + exception.getMessage());
+        }
+
+        @Override
+        public void onClose() {
+            calls.add("close");
+            closed.countDown();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.elev8.resources;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.elev8.core.watch.WatchEvent;
+import io.elev8.resources.configmap.ConfigMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResourceCodecTest {
+
+    private static final String CONFIG_MAP = "{\"apiVersion\":\"v1\",\"kind\":\"ConfigMap\","
+            + "\"metadata\":{\"name\":\"cm-1\",\"namespace\":\"default\"},\"data\":{\"key\":\"value\"}}";
+
+    @AfterEach
+    void tearDown() {
+        ResourceCodec.setFailOnUnknownProperties(true);
+    }
+
+    @Test
+    void shouldShareOneCodecPerType() {
+        assertThat(ResourceCodec.forType(ConfigMap.class)).isSameAs(ResourceCodec.forType(ConfigMap.class));
+    }
+
+    @Test
+    void shouldReadAndWriteResources() throws JsonProcessingException {
+        final ResourceCodec<ConfigMap> codec = ResourceCodec.forType(ConfigMap.class);
+
+        final ConfigMap configMap = codec.read(CONFIG_MAP);
+
+        assertThat(configMap.getName()).isEqualTo("cm-1");
+        assertThat(configMap.getData()).isEqualTo(Map.of("key", "value"));
+        assertThat(codec.read(codec.write(configMap)).getData()).isEqualTo(Map.of("key", "value"));
+    }
+
+    @Test
+    void shouldReadLists() throws JsonProcessingException {
+        final ResourceList<ConfigMap> list = ResourceCodec.forType(ConfigMap.class).readList(
+                "{\"kind\":\"ConfigMapList\",\"metadata\":{\"resourceVersion\":\"42\"},\"items\":[" + CONFIG_MAP + "]}");
+
+        assertThat(list.getMetadata().getResourceVersion()).isEqualTo("42");
+        assertThat(list.getItems()).singleElement().extracting(ConfigMap::getName).isEqualTo("cm-1");
+    }
+
+    @Test
+    void shouldReadWatchEvents() throws JsonProcessingException {
+        final WatchEvent<ConfigMap> event = ResourceCodec.forType(ConfigMap.class)
+                .readWatchEvent("{\"type\":\"ADDED\",\"object\":" + CONFIG_MAP + "}");
+
+        assertThat(event.isAdded()).isTrue();
+        assertThat(event.getObject().getName()).isEqualTo("cm-1");
+    }
+
+    @Test
+    void shouldFailOnUnknownPropertiesByDefault() {
+        assertThatThrownBy(() -> ResourceCodec.forType(ConfigMap.class)
+                .read("{\"kind\":\"ConfigMap\",\"metadata\":{\"name\":\"cm-1\"},\"futureField\":true}"))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    @Test
+    void shouldIgnoreUnknownPropertiesWhenConfigured() throws JsonProcessingException {
+        ResourceCodec.setFailOnUnknownProperties(false);
+
+        final ConfigMap configMap = ResourceCodec.forType(ConfigMap.class)
+                .read("{\"kind\":\"ConfigMap\",\"metadata\":{\"name\":\"cm-1\"},\"futureField\":true}");
+
+        assertThat(configMap.getName()).isEqualTo("cm-1");
+    }
+
+    @Test
+    void shouldNotRegisterBlackbirdWhenAbsent() {
+        assertThat(ResourceCodec.registerBlackbird()).isFalse();
+    }
+}
@@ -0,0 +1,152 @@
+package io.elev8.resources;
+
+import io.elev8.core.selector.FieldSelectorQuery;
+import io.elev8.core.selector.LabelSelectorQuery;
+import io.elev8.core.watch.ResourceChangeEvent;
+import io.elev8.core.watch.ResourceChangeType;
+import io.elev8.resources.generic.GenericKubernetesResource;
+import io.elev8.resources.namespace.Namespace;
+import io.elev8.resources.namespace.NamespaceStatus;
+import io.elev8.resources.pod.Pod;
+import io.elev8.resources.pod.PodSpec;
+import io.elev8.resources.pod.PodStatus;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResourceSelectorsTest {
+
+    @Nested
+    class LabelSelectors {
+
+        @Test
+        void shouldMatchLabelsOfResource() {
+            final Predicate<KubernetesResource> matcher = ResourceSelectors.compile("app=web,tier in (a,b)", null);
+
+            assertThat(matcher.test(pod("web-1", Map.of("app", "web", "tier", "a"), null, null))).isTrue();
+            assertThat(matcher.test(pod("web-2", Map.of("app", "web", "tier", "c"), null, null))).isFalse();
+        }
+
+        @Test
+        void shouldTreatMissingLabelsAsEmpty() {
+            assertThat(ResourceSelectors.compile("!app", "").test(pod("bare", null, null, null))).isTrue();
+            assertThat(ResourceSelectors.compile("app", "").test(pod("bare", null, null, null))).isFalse();
+        }
+    }
+
+    @Nested
+    class FieldSelectors {
+
+        @Test
+        void shouldMatchMetadataFields() {
+            final Predicate<KubernetesResource> matcher =
+                    ResourceSelectors.compile(null, "metadata.name=web-1,metadata.namespace=default");
+
+            assertThat(matcher.test(pod("web-1", null, null, null))).isTrue();
+            assertThat(matcher.test(pod("web-2", null, null, null))).isFalse();
+        }
+
+        @Test
+        void shouldMatchPodPhaseAndNode() {
+            final Predicate<KubernetesResource> matcher =
+                    ResourceSelectors.compile(null, "status.phase=Running,spec.nodeName=node-1");
+
+            assertThat(matcher.test(pod("web-1", null, "node-1", "Running"))).isTrue();
+            assertThat(matcher.test(pod("web-1", null, "node-2", "Running"))).isFalse();
+            assertThat(matcher.test(pod("web-1", null, "node-1", "Pending"))).isFalse();
+        }
+
+        @Test
+        void shouldSelectUnscheduledPods() {
+            final Predicate<KubernetesResource> unscheduled = ResourceSelectors.compile(null, "spec.nodeName=");
+
+            assertThat(unscheduled.test(pod("pending", null, null, "Pending"))).isTrue();
+            assertThat(unscheduled.test(pod("running", null, "node-1", "Running"))).isFalse();
+        }
+
+        @Test
+        void shouldReadPhaseOfOtherKinds() {
+            final NamespaceStatus status = new NamespaceStatus();
+            status.setPhase("Terminating");
+            final Namespace namespace = Namespace.builder()
+                    .metadata(Metadata.builder().name("old").build())
+                    .status(status)
+                    .build();
+            final GenericKubernetesResource generic = GenericKubernetesResource.builder()
+                    .name("custom")
+                    .statusField("phase", "Ready")
+                    .specField("nodeName", "node-1")
+                    .build();
+
+            assertThat(ResourceSelectors.compile(FieldSelectorQuery.equals("status.phase", "Terminating"))
+                    .test(namespace)).isTrue();
+            assertThat(ResourceSelectors.compile(null, "status.phase=Ready,spec.nodeName=node-1").test(generic))
+                    .isTrue();
+        }
+
+        @Test
+        void shouldRejectUnsupportedField() {
+            assertThatThrownBy(() -> ResourceSelectors.compile(null, "spec.restartPolicy=Always"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("spec.restartPolicy");
+        }
+    }
+
+    @Nested
+    class Combined {
+
+        @Test
+        void shouldRequireBothSelectors() {
+            final Predicate<KubernetesResource> matcher = ResourceSelectors.compile(
+                    LabelSelectorQuery.equals("app", "web"), FieldSelectorQuery.equals("status.phase", "Running"));
+
+            assertThat(matcher.test(pod("a", Map.of("app", "web"), null, "Running"))).isTrue();
+            assertThat(matcher.test(pod("b", Map.of("app", "web"), null, "Failed"))).isFalse();
+            assertThat(matcher.test(pod("c", Map.of("app", "api"), null, "Running"))).isFalse();
+        }
+
+        @Test
+        void shouldMatchEverythingWithoutSelectors() {
+            assertThat(ResourceSelectors.compile((String) null, null).test(pod("a", null, null, null))).isTrue();
+        }
+
+        @Test
+        void shouldFilterEventsByResourceOrPreviousResource() {
+            final Predicate<ResourceChangeEvent<Pod>> matcher =
+                    ResourceSelectors.forEvents(ResourceSelectors.compile("app=web", null));
+            final Pod web = pod("web", Map.of("app", "web"), null, null);
+
+            assertThat(matcher.test(ResourceChangeEvent.<Pod>builder()
+                    .type(ResourceChangeType.CREATED).resource(web).build())).isTrue();
+            assertThat(matcher.test(ResourceChangeEvent.<Pod>builder()
+                    .type(ResourceChangeType.DELETED).previousResource(web).build())).isTrue();
+            assertThat(matcher.test(ResourceChangeEvent.<Pod>builder()
+                    .type(ResourceChangeType.SYNC).build())).isFalse();
+        }
+    }
+
+    private static Pod pod(final String name, final Map<String, String> labels,
+                           final String nodeName, final String phase) {
+        final Metadata.MetadataBuilder metadata = Metadata.builder().namespace("default").name(name);
+        if (labels != null) {
+            metadata.labels(labels);
+        }
+        final PodSpec spec = new PodSpec();
+        spec.setNodeName(nodeName);
+        final Pod pod = Pod.builder()
+                .metadata(metadata.build())
+                .spec(spec)
+                .build();
+        if (phase != null) {
+            final PodStatus status = new PodStatus();
+            status.setPhase(phase);
+            pod.setStatus(status);
+        }
+        return pod;
+    }
+}
@@ -0,0 +1,198 @@
+package io.elev8.resources;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.elev8.resources.configmap.ConfigMap;
+import io.elev8.resources.generic.GenericKubernetesResource;
+import io.elev8.resources.pod.Pod;
+import io.elev8.resources.pod.PodSpec;
+import io.elev8.resources.pod.PodStatus;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceTransformersTest {
+
+    @Nested
+    class DropAnnotations {
+
+        @Test
+        void shouldDropLastAppliedConfigurationOnly() {
+            final Pod pod = pod(Map.of(
+                    ResourceTransformers.LAST_APPLIED_CONFIGURATION_ANNOTATION, "{\"kind\":\"Pod\"}",
+                    "team", "platform"));
+
+            final KubernetesResource result = ResourceTransformers.dropLastAppliedConfiguration().transform(pod);
+
+            assertThat(result).isSameAs(pod);
+            assertThat(pod.getMetadata().getAnnotations()).containsOnly(Map.entry("team", "platform"));
+        }
+
+        @Test
+        void shouldLeaveAnnotationsUntouchedWhenAbsent() {
+            final Pod pod = pod(Map.of("team", "platform"));
+            final Map<String, String> annotations = pod.getMetadata().getAnnotations();
+
+            ResourceTransformers.dropAnnotations("a", "b").transform(pod);
+
+            assertThat(pod.getMetadata().getAnnotations()).isSameAs(annotations);
+        }
+
+        @Test
+        void shouldHandleResourcesWithoutMetadata() {
+            final ConfigMap configMap = new ConfigMap();
+
+            assertThat(ResourceTransformers.dropLastAppliedConfiguration().transform(configMap)).isSameAs(configMap);
+        }
+    }
+
+    @Nested
+    class DropStatus {
+
+        @Test
+        void shouldClearStatus() {
+            final Pod pod = pod(Map.of());
+            final PodStatus status = new PodStatus();
+            status.setPhase("Running");
+            pod.setStatus(status);
+
+            ResourceTransformers.dropStatus().transform(pod);
+
+            assertThat(pod.getStatus()).isNull();
+            assertThat(pod.getSpec()).isNotNull();
+        }
+
+        @Test
+        void shouldClearStatusOfGenericResources() {
+            final GenericKubernetesResource resource = new GenericKubernetesResource();
+            resource.setStatus(Map.of("phase", "Ready"));
+
+            ResourceTransformers.dropStatus().transform(resource);
+
+            assertThat(resource.getStatus()).isNull();
+        }
+
+        @Test
+        void shouldIgnoreResourcesWithoutStatus() {
+            final ConfigMap configMap = new ConfigMap();
+
+            assertThat(ResourceTransformers.dropStatus().transform(configMap)).isSameAs(configMap);
+        }
+    }
+
+    @Nested
+    class Chain {
+
+        @Test
+        void shouldApplyAllTransformersInOrder() {
+            final Pod pod = pod(Map.of(ResourceTransformers.LAST_APPLIED_CONFIGURATION_ANNOTATION, "{}"));
+            pod.setStatus(new PodStatus());
+
+            ResourceTransformers.chain(
+                    ResourceTransformers.dropLastAppliedConfiguration(),
+                    ResourceTransformers.dropStatus()).transform(pod);
+
+            assertThat(pod.getMetadata().getAnnotations()).isEmpty();
+            assertThat(pod.getStatus()).isNull();
+        }
+    }
+
+    @Nested
+    class InternStrings {
+
+        private static final String POD_JSON = """
+                {"apiVersion": "v1", "kind": "Pod",
+                 "metadata": {"name": "%s", "namespace": "payments",
+                              "labels": {"app": "checkout"}, "annotations": {"team": "platform"}},
+                 "spec": {"nodeName": "node-1", "restartPolicy": "Always",
+                          "containers": [{"name": "app", "image": "registry/checkout:1.2"}]},
+                 "status": {"phase": "Running", "hostIP": "10.0.0.1",
+                            "containerStatuses": [{"name": "app", "image": "registry/checkout:1.2"}]}}
+                """;
+
+        @Test
+        void shouldShareRepeatedValuesBetweenPods() throws JsonProcessingException {
+            final ResourceTransformer<KubernetesResource> intern =
+                    ResourceTransformers.internStrings(new StringInterner(1024, 256));
+            final Pod first = (Pod) intern.transform(decode(String.format(POD_JSON, "checkout-1"), Pod.class));
+            final Pod second = (Pod) intern.transform(decode(String.format(POD_JSON, "checkout-2"), Pod.class));
+
+            assertThat(second.getApiVersion()).isSameAs(first.getApiVersion());
+            assertThat(second.getNamespace()).isSameAs(first.getNamespace());
+            assertThat(second.getMetadata().getLabels().get("app"))
+                    .isSameAs(first.getMetadata().getLabels().get("app"));
+            assertThat(second.getMetadata().getAnnotations().get("team"))
+                    .isSameAs(first.getMetadata().getAnnotations().get("team"));
+            assertThat(second.getSpec().getNodeName()).isSameAs(first.getSpec().getNodeName());
+            assertThat(second.getSpec().getContainers().get(0).getImage())
+                    .isSameAs(first.getSpec().getContainers().get(0).getImage());
+            assertThat(second.getStatus().getContainerStatuses().get(0).getImage())
+                    .isSameAs(first.getSpec().getContainers().get(0).getImage());
+            assertThat(second.getStatus().getPhase()).isSameAs(first.getStatus().getPhase());
+            assertThat(second.getName()).isEqualTo("checkout-2");
+        }
+
+        @Test
+        void shouldInternNestedValuesOfGenericResources() throws JsonProcessingException {
+            final String json = """
+                    {"apiVersion": "example.io/v1", "kind": "Widget", "metadata": {"name": "w"},
+                     "spec": {"size": "large", "zones": ["eu-west-1a"], "owner": {"team": "platform"}}}
+                    """;
+            final ResourceTransformer<KubernetesResource> intern =
+                    ResourceTransformers.internStrings(new StringInterner(1024, 256));
+            final GenericKubernetesResource first =
+                    (GenericKubernetesResource) intern.transform(decode(json, GenericKubernetesResource.class));
+            final GenericKubernetesResource second =
+                    (GenericKubernetesResource) intern.transform(decode(json, GenericKubernetesResource.class));
+
+            assertThat(second.getSpec().get("size")).isSameAs(first.getSpec().get("size"));
+            assertThat(((List<?>) second.getSpec().get("zones")).get(0))
+                    .isSameAs(((List<?>) first.getSpec().get("zones")).get(0));
+            assertThat(((Map<?, ?>) second.getSpec().get("owner")).get("team"))
+                    .isSameAs(((Map<?, ?>) first.getSpec().get("owner")).get("team"));
+        }
+
+        @Test
+        void shouldKeepValuesEqual() {
+            final Pod pod = pod(Map.of("team", "platform"));
+
+            ResourceTransformers.internStrings().transform(pod);
+
+            assertThat(pod.getMetadata().getAnnotations()).containsOnly(Map.entry("team", "platform"));
+            assertThat(pod.getNamespace()).isEqualTo("default");
+        }
+
+        private <T extends KubernetesResource> T decode(final String json, final Class<T> type)
+                throws JsonProcessingException {
+            return AbstractResource.getObjectMapper().readValue(json, type);
+        }
+    }
+
+    @Test
+    void shouldCompareBuiltInTransformersByValue() {
+        assertThat(ResourceTransformers.dropLastAppliedConfiguration())
+                .isEqualTo(ResourceTransformers.dropAnnotations(
+                        ResourceTransformers.LAST_APPLIED_CONFIGURATION_ANNOTATION));
+        assertThat(ResourceTransformers.dropStatus()).isEqualTo(ResourceTransformers.dropStatus());
+        assertThat(ResourceTransformers.chain(ResourceTransformers.dropStatus()))
+                .isEqualTo(ResourceTransformers.chain(ResourceTransformers.dropStatus()))
+                .isNotEqualTo(ResourceTransformers.dropStatus());
+        assertThat(ResourceTransformers.internStrings())
+                .isEqualTo(ResourceTransformers.internStrings(StringInterner.shared()))
+                .isNotEqualTo(ResourceTransformers.internStrings(new StringInterner(16, 16)));
+    }
+
+    private static Pod pod(final Map<String, String> annotations) {
+        return Pod.builder()
+                .metadata(Metadata.builder()
+                        .namespace("default")
+                        .name("web")
+                        .annotations(annotations)
+                        .build())
+                .spec(new PodSpec())
+                .build();
+    }
+}
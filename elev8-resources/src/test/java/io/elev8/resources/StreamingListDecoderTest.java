@@ -0,0 +1,98 @@
+package io.elev8.resources;
+
+import io.elev8.resources.generic.GenericKubernetesResource;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingListDecoderTest {
+
+    private final StreamingListDecoder<GenericKubernetesResource> decoder =
+            new StreamingListDecoder<>(GenericKubernetesResource.class);
+
+    @Test
+    void shouldDecodeItemsInOrder() throws IOException {
+        final String json = """
+                {
+                    "apiVersion": "v1",
+                    "kind": "ConfigMapList",
+                    "metadata": {"resourceVersion": "1234"},
+                    "items": [
+                        {"apiVersion": "v1", "kind": "ConfigMap", "metadata": {"name": "a", "namespace": "default"}},
+                        {"apiVersion": "v1", "kind": "ConfigMap", "metadata": {"name": "b", "namespace": "default"}},
+                        {"apiVersion": "v1", "kind": "ConfigMap", "metadata": {"name": "c", "namespace": "other"}}
+                    ]
+                }
+                """;
+        final List<GenericKubernetesResource> items = new ArrayList<>();
+
+        final ResourceList.ListMetadata metadata = decoder.decode(toStream(json), items::add);
+
+        assertThat(items).extracting(GenericKubernetesResource::getName).containsExactly("a", "b", "c");
+        assertThat(items.get(2).getNamespace()).isEqualTo("other");
+        assertThat(metadata.getResourceVersion()).isEqualTo("1234");
+    }
+
+    @Test
+    void shouldReadMetadataAfterItems() throws IOException {
+        final String json = """
+                {
+                    "items": [{"apiVersion": "v1", "kind": "ConfigMap", "metadata": {"name": "a"}}],
+                    "metadata": {"resourceVersion": "99", "continue": "token-1", "remainingItemCount": 10}
+                }
+                """;
+        final List<GenericKubernetesResource> items = new ArrayList<>();
+
+        final ResourceList.ListMetadata metadata = decoder.decode(toStream(json), items::add);
+
+        assertThat(items).hasSize(1);
+        assertThat(metadata.getResourceVersion()).isEqualTo("99");
+        assertThat(metadata.getContinueToken()).isEqualTo("token-1");
+    }
+
+    @Test
+    void shouldSkipUnknownTopLevelFields() throws IOException {
+        final String json = """
+                {
+                    "extra": {"nested": [1, 2, {"deep": true}]},
+                    "items": [{"apiVersion": "v1", "kind": "ConfigMap", "metadata": {"name": "a"}}],
+                    "trailing": "value"
+                }
+                """;
+        final List<GenericKubernetesResource> items = new ArrayList<>();
+
+        final ResourceList.ListMetadata metadata = decoder.decode(toStream(json), items::add);
+
+        assertThat(items).hasSize(1);
+        assertThat(metadata).isNull();
+    }
+
+    @Test
+    void shouldHandleEmptyAndNullItems() throws IOException {
+        final List<GenericKubernetesResource> items = new ArrayList<>();
+
+        decoder.decode(toStream("{\"items\": []}"), items::add);
+        decoder.decode(toStream("{\"items\": null}"), items::add);
+
+        assertThat(items).isEmpty();
+    }
+
+    @Test
+    void shouldRejectNonObjectDocument() {
+        assertThatThrownBy(() -> decoder.decode(toStream("[]"), item -> { }))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Expected a JSON object");
+    }
+
+    private static InputStream toStream(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
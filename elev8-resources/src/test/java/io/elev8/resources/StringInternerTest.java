@@ -0,0 +1,62 @@
+package io.elev8.resources;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StringInternerTest {
+
+    @Test
+    void shouldReturnFirstInstanceForEqualStrings() {
+        final StringInterner interner = new StringInterner(64, 64);
+        final String first = new String("payments");
+        final String second = new String("payments");
+
+        assertThat(interner.intern(first)).isSameAs(first);
+        assertThat(interner.intern(second)).isSameAs(first);
+    }
+
+    @Test
+    void shouldReplaceEntryOnCollision() {
+        final StringInterner interner = new StringInterner(1, 64);
+        final String first = new String("a");
+        final String other = new String("b");
+        final String again = new String("a");
+
+        interner.intern(first);
+        interner.intern(other);
+
+        assertThat(interner.intern(again)).isSameAs(again).isEqualTo(first);
+    }
+
+    @Test
+    void shouldNotCacheLongStrings() {
+        final StringInterner interner = new StringInterner(64, 4);
+        final String first = new String("longer");
+        final String second = new String("longer");
+
+        interner.intern(first);
+
+        assertThat(interner.intern(second)).isSameAs(second);
+    }
+
+    @Test
+    void shouldPassNullThrough() {
+        assertThat(new StringInterner(8, 8).intern(null)).isNull();
+    }
+
+    @Test
+    void shouldRoundCapacityUpToPowerOfTwo() {
+        assertThat(new StringInterner(1, 8).capacity()).isEqualTo(1);
+        assertThat(new StringInterner(100, 8).capacity()).isEqualTo(128);
+        assertThat(new StringInterner(128, 8).capacity()).isEqualTo(128);
+        assertThat(StringInterner.shared().capacity()).isEqualTo(StringInterner.DEFAULT_CAPACITY);
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> new StringInterner(0, 8)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StringInterner(8, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,77 @@
+package io.elev8.resources;
+
+import io.elev8.core.watch.WatchEvent;
+import io.elev8.core.watch.WatchStreamException;
+import io.elev8.core.watch.Watcher;
+import io.elev8.resources.configmap.ConfigMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WatchEventDecoderTest {
+
+    private final WatchEventDecoder<ConfigMap> decoder = new WatchEventDecoder<>(ConfigMap.class);
+    private final RecordingWatcher watcher = new RecordingWatcher();
+
+    @Test
+    void shouldDecodeResourceEvent() {
+        decoder.decode("{\"type\":\"ADDED\",\"object\":{\"apiVersion\":\"v1\",\"kind\":\"ConfigMap\","
+                + "\"metadata\":{\"name\":\"cm-1\",\"namespace\":\"default\",\"resourceVersion\":\"42\"}}}", watcher);
+
+        assertThat(watcher.errors).isEmpty();
+        assertThat(watcher.events).hasSize(1);
+        assertThat(watcher.events.get(0).isAdded()).isTrue();
+        assertThat(watcher.events.get(0).getObject().getName()).isEqualTo("cm-1");
+    }
+
+    @Test
+    void shouldDecodeBookmarkEvent() {
+        decoder.decode("{\"type\":\"BOOKMARK\",\"object\":{\"apiVersion\":\"v1\",\"kind\":\"ConfigMap\","
+                + "\"metadata\":{\"resourceVersion\":\"99\"}}}", watcher);
+
+        assertThat(watcher.events).hasSize(1);
+        assertThat(watcher.events.get(0).isBookmark()).isTrue();
+        assertThat(watcher.events.get(0).getObject().getMetadata().getResourceVersion()).isEqualTo("99");
+    }
+
+    @Test
+    void shouldReportExpiredResourceVersionWithStatusCode() {
+        decoder.decode("{\"type\":\"ERROR\",\"object\":{\"kind\":\"Status\",\"apiVersion\":\"v1\","
+                + "\"metadata\":{},\"status\":\"Failure\",\"message\":\"too old resource version: 1 (5)\","
+                + "\"reason\":\"Expired\",\"code\":410}}", watcher);
+
+        assertThat(watcher.events).isEmpty();
+        assertThat(watcher.errors).singleElement()
+                .isInstanceOfSatisfying(WatchStreamException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(410);
+                    assertThat(e.getMessage()).contains("too old resource version");
+                });
+    }
+
+    @Test
+    void shouldReportMalformedLine() {
+        decoder.decode("not json", watcher);
+
+        assertThat(watcher.events).isEmpty();
+        assertThat(watcher.errors).singleElement().isNotInstanceOf(WatchStreamException.class);
+    }
+
+    private static final class RecordingWatcher implements Watcher<ConfigMap> {
+
+        private final List<WatchEvent<ConfigMap>> events = new ArrayList<>();
+        private final List<Exception> errors = new ArrayList<>();
+
+        @Override
+        public void onEvent(final WatchEvent<ConfigMap> event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onError(final Exception exception) {
+            errors.add(exception);
+        }
+    }
+}
@@ -1,18 +1,29 @@
 package io.elev8.resources;
 
+import io.elev8.core.http.StreamHandle;
+import io.elev8.core.watch.OverflowPolicy;
 import io.elev8.core.watch.ResourceChangeEvent;
 import io.elev8.core.watch.ResourceChangeStream;
 import io.elev8.core.watch.ResourceChangeType;
+import io.elev8.core.watch.StreamOptions;
 import io.elev8.core.watch.WatchEvent;
 import io.elev8.core.watch.WatchEventType;
+import io.elev8.core.watch.Watcher;
+import io.elev8.resources.informer.InformerOptions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 class WatchStreamAdapterTest {
 
@@ -132,6 +143,53 @@ class WatchStreamAdapterTest {
         }
     }
 
+    @Nested
+    class WithTransformer {
+
+        private final List<TestResource> transformed = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            adapter = new WatchStreamAdapter<>(stream, true, InformerOptions.builder()
+                    .transform(resource -> {
+                        final TestResource copy = new TestResource(resource.getNamespace(), resource.getName());
+                        transformed.add(copy);
+                        return copy;
+                    })
+                    .build());
+        }
+
+        @Test
+        void shouldEnqueueTransformedResource() throws InterruptedException {
+            adapter.onEvent(WatchEvent.of(WatchEventType.ADDED, new TestResource("default", "pod-1")));
+
+            final ResourceChangeEvent<TestResource> result = stream.poll(1, TimeUnit.SECONDS);
+            assertThat(result).isNotNull();
+            assertThat(result.getResource()).isSameAs(transformed.get(0));
+        }
+
+        @Test
+        void shouldCacheTransformedResourceAsPreviousState() throws InterruptedException {
+            adapter.onEvent(WatchEvent.of(WatchEventType.ADDED, new TestResource("default", "pod-1")));
+            stream.poll(1, TimeUnit.SECONDS);
+
+            adapter.onEvent(WatchEvent.of(WatchEventType.MODIFIED, new TestResource("default", "pod-1")));
+
+            final ResourceChangeEvent<TestResource> result = stream.poll(1, TimeUnit.SECONDS);
+            assertThat(result).isNotNull();
+            assertThat(result.getPreviousResource()).isSameAs(transformed.get(0));
+            assertThat(result.getResource()).isSameAs(transformed.get(1));
+        }
+
+        @Test
+        void shouldNotTransformBookmarks() throws InterruptedException {
+            adapter.onEvent(WatchEvent.of(WatchEventType.BOOKMARK, new TestResource("default", "pod-1")));
+
+            assertThat(stream.poll(1, TimeUnit.SECONDS)).isNotNull();
+            assertThat(transformed).isEmpty();
+        }
+    }
+
     @Nested
     class WithoutStateTracking {
 
@@ -237,6 +295,65 @@ class WatchStreamAdapterTest {
         }
     }
 
+    @Nested
+    class Open {
+
+        @Test
+        void shouldCancelWatchWhenStreamIsClosed() throws ResourceException {
+            final StreamHandle handle = mock(StreamHandle.class);
+            final AtomicReference<Watcher<TestResource>> watcherRef = new AtomicReference<>();
+
+            final ResourceChangeStream<TestResource> opened = WatchStreamAdapter.open(null, (options, watcher) -> {
+                watcherRef.set(watcher);
+                return handle;
+            });
+            assertThat(watcherRef.get()).isNotNull();
+            verify(handle, never()).close();
+
+            opened.close();
+
+            verify(handle).close();
+        }
+
+        @Test
+        void shouldCancelWatchWhenStreamClosedWhileStarting() throws ResourceException {
+            final StreamHandle handle = mock(StreamHandle.class);
+
+            WatchStreamAdapter.<TestResource>open(StreamOptions.defaults(), (options, watcher) -> {
+                watcher.onClose();
+                return handle;
+            });
+
+            verify(handle).close();
+        }
+
+        @Test
+        void shouldCoalesceUpdatesByNamespaceAndName() throws ResourceException {
+            final AtomicReference<Watcher<TestResource>> watcherRef = new AtomicReference<>();
+            final ResourceChangeStream<TestResource> opened = WatchStreamAdapter.open(
+                    StreamOptions.withOverflowPolicy(OverflowPolicy.COALESCE_BY_KEY),
+                    (options, watcher) -> {
+                        watcherRef.set(watcher);
+                        return mock(StreamHandle.class);
+                    });
+            final TestResource original = new TestResource("default", "pod-1");
+            final TestResource latest = new TestResource("default", "pod-1");
+
+            watcherRef.get().onEvent(WatchEvent.of(WatchEventType.ADDED, original));
+            watcherRef.get().onEvent(WatchEvent.of(WatchEventType.MODIFIED, new TestResource("default", "pod-1")));
+            watcherRef.get().onEvent(WatchEvent.of(WatchEventType.MODIFIED, new TestResource("other", "pod-1")));
+            watcherRef.get().onEvent(WatchEvent.of(WatchEventType.MODIFIED, latest));
+
+            assertThat(opened.getQueueSize()).isEqualTo(3);
+            opened.next();
+            final ResourceChangeEvent<TestResource> update = opened.next();
+            assertThat(update.getResource()).isSameAs(latest);
+            assertThat(update.getPreviousResource()).isSameAs(original);
+            assertThat(opened.next().getResource().getNamespace()).isEqualTo("other");
+            opened.close();
+        }
+    }
+
     private static class TestResource implements KubernetesResource {
         private final String namespace;
         private final String name;
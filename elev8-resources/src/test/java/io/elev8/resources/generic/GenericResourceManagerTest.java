@@ -1,17 +1,26 @@
 package io.elev8.resources.generic;
 
 import io.elev8.core.client.KubernetesClient;
+import io.elev8.core.http.HttpClient;
 import io.elev8.core.http.HttpResponse;
 import io.elev8.core.list.ListOptions;
 import io.elev8.core.patch.PatchOptions;
 import io.elev8.core.patch.PatchType;
 import io.elev8.core.patch.ApplyOptions;
 import io.elev8.resources.ResourceException;
+import io.elev8.resources.ResourceList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -192,6 +201,54 @@ class GenericResourceManagerTest {
         verify(client).get("/apis/stable.example.com/v1/crontabs", options);
     }
 
+    @Test
+    void shouldStreamListItemsToConsumer() throws Exception {
+        final String responseBody = """
+                {
+                    "apiVersion": "stable.example.com/v1",
+                    "kind": "CronTabList",
+                    "metadata": {"resourceVersion": "42", "continue": "next"},
+                    "items": [
+                        {
+                            "apiVersion": "stable.example.com/v1",
+                            "kind": "CronTab",
+                            "metadata": {"name": "cron1", "namespace": "default"}
+                        },
+                        {
+                            "apiVersion": "stable.example.com/v1",
+                            "kind": "CronTab",
+                            "metadata": {"name": "cron2", "namespace": "default"}
+                        }
+                    ]
+                }
+                """;
+
+        final ListOptions options = ListOptions.withLimit(2);
+        when(client.getStreaming(eq("/apis/stable.example.com/v1/namespaces/default/crontabs"), eq(options), any()))
+                .thenAnswer(invocation -> {
+                    final HttpClient.ResponseBodyConsumer consumer = invocation.getArgument(2);
+                    consumer.accept(new ByteArrayInputStream(responseBody.getBytes(StandardCharsets.UTF_8)));
+                    return new HttpResponse(200, "", Map.of());
+                });
+
+        final List<GenericKubernetesResource> received = new ArrayList<>();
+        final ResourceList.ListMetadata metadata = manager.listStreaming("default", options, received::add);
+
+        assertThat(received).extracting(GenericKubernetesResource::getName).containsExactly("cron1", "cron2");
+        assertThat(metadata.getResourceVersion()).isEqualTo("42");
+        assertThat(metadata.getContinueToken()).isEqualTo("next");
+    }
+
+    @Test
+    void shouldThrowWhenStreamingListFails() throws Exception {
+        when(client.getStreaming(eq("/apis/stable.example.com/v1/crontabs"), any(), any()))
+                .thenReturn(new HttpResponse(500, "boom", Map.of()));
+
+        assertThatThrownBy(() -> manager.listAllNamespacesStreaming(null, resource -> { }))
+                .isInstanceOf(ResourceException.class)
+                .hasMessageContaining("boom");
+    }
+
     @Test
     void shouldGetResourceByName() throws Exception {
         final String responseBody = """
@@ -229,6 +286,75 @@ class GenericResourceManagerTest {
                 .hasMessageContaining("not found");
     }
 
+    @Test
+    void shouldGetResourceAsync() {
+        final String responseBody = """
+                {
+                    "apiVersion": "stable.example.com/v1",
+                    "kind": "CronTab",
+                    "metadata": {"name": "my-cron", "namespace": "default"}
+                }
+                """;
+
+        when(client.getAsync("/apis/stable.example.com/v1/namespaces/default/crontabs/my-cron"))
+                .thenReturn(CompletableFuture.completedFuture(new HttpResponse(200, responseBody, Map.of())));
+
+        final CompletableFuture<GenericKubernetesResource> future = manager.getAsync("default", "my-cron");
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(1))
+                .extracting(GenericKubernetesResource::getName)
+                .isEqualTo("my-cron");
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWhenAsyncResourceNotFound() {
+        when(client.getAsync("/apis/stable.example.com/v1/namespaces/default/crontabs/missing"))
+                .thenReturn(CompletableFuture.completedFuture(new HttpResponse(404, "", Map.of())));
+
+        final CompletableFuture<GenericKubernetesResource> future = manager.getAsync("default", "missing");
+
+        assertThat(future).failsWithin(Duration.ofSeconds(1))
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isInstanceOf(ResourceException.class)
+                .withMessageContaining("not found");
+    }
+
+    @Test
+    void shouldListResourcesAsync() {
+        final String responseBody = """
+                {
+                    "apiVersion": "stable.example.com/v1",
+                    "kind": "CronTabList",
+                    "items": [
+                        {"apiVersion": "stable.example.com/v1", "kind": "CronTab", "metadata": {"name": "cron1"}},
+                        {"apiVersion": "stable.example.com/v1", "kind": "CronTab", "metadata": {"name": "cron2"}}
+                    ]
+                }
+                """;
+
+        when(client.getAsync("/apis/stable.example.com/v1/namespaces/default/crontabs", null))
+                .thenReturn(CompletableFuture.completedFuture(new HttpResponse(200, responseBody, Map.of())));
+
+        final CompletableFuture<List<GenericKubernetesResource>> future = manager.listAsync("default", null);
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(1))
+                .satisfies(items -> assertThat(items)
+                        .extracting(GenericKubernetesResource::getName)
+                        .containsExactly("cron1", "cron2"));
+    }
+
+    @Test
+    void shouldCancelHttpCallWhenAsyncOperationIsCancelled() {
+        final CompletableFuture<HttpResponse> call = new CompletableFuture<>();
+        when(client.deleteAsync("/apis/stable.example.com/v1/namespaces/default/crontabs/my-cron"))
+                .thenReturn(call);
+
+        manager.deleteAsync("default", "my-cron").cancel(true);
+
+        assertThat(call).isCancelled();
+    }
+
     @Test
     void shouldCreateResource() throws Exception {
         final String responseBody = """
@@ -1,5 +1,6 @@
 package io.elev8.resources.informer;
 
+import io.elev8.core.selector.LabelSelectorQuery;
 import io.elev8.resources.KubernetesResource;
 import io.elev8.resources.Metadata;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,12 +8,17 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -210,6 +216,15 @@ class InMemoryIndexerTest {
             assertThat(indexer.size()).isEqualTo(0);
         }
 
+        @Test
+        void shouldRemoveIndexEntriesOfStoredResourceOnDelete() {
+            indexer.add(createResource("default", "pod-1", "web"));
+
+            indexer.delete(createResource("default", "pod-1", "api"));
+
+            assertThat(indexer.getAllIndexValues("byLabel")).isEmpty();
+        }
+
         @Test
         void shouldCleanupEmptyIndexValues() {
             final TestResource r1 = createResource("default", "pod-1", "web");
@@ -220,6 +235,180 @@ class InMemoryIndexerTest {
         }
     }
 
+    @Nested
+    class IncrementalMaintenance {
+        @Test
+        void shouldRunIndexFunctionOncePerAddOrUpdateAndNeverOnDelete() {
+            final AtomicInteger calls = new AtomicInteger();
+            indexer.addIndex("byLabel", r -> {
+                calls.incrementAndGet();
+                return List.of(r.getLabel());
+            });
+
+            indexer.add(createResource("default", "pod-1", "web"));
+            indexer.update(createResource("default", "pod-1", "api"));
+            indexer.delete(createResource("default", "pod-1", "api"));
+
+            assertThat(calls.get()).isEqualTo(2);
+            assertThat(indexer.getAllIndexValues("byLabel")).isEmpty();
+        }
+
+        @Test
+        void shouldLeaveBucketsUntouchedWhenValuesDoNotChange() {
+            indexer.addIndex("byLabel", r -> List.of(r.getLabel()));
+            indexer.add(createResource("default", "pod-1", "web"));
+            final List<String> before = indexer.getIndexKeys("byLabel", "web");
+
+            final TestResource updated = createResource("default", "pod-1", "web");
+            indexer.update(updated);
+
+            assertThat(indexer.getIndexKeys("byLabel", "web")).isEqualTo(before);
+            assertThat(indexer.getByIndex("byLabel", "web")).containsExactly(updated);
+        }
+
+        @Test
+        void shouldOnlyMoveChangedValuesOfMultiValueIndex() {
+            indexer.addIndex("byTag", TestResource::getTags);
+            indexer.add(createResourceWithTags("default", "pod-1", List.of("a", "b", "c")));
+            indexer.add(createResourceWithTags("default", "pod-2", List.of("b")));
+
+            indexer.update(createResourceWithTags("default", "pod-1", List.of("b", "c", "d")));
+
+            assertThat(indexer.getIndexKeys("byTag", "a")).isEmpty();
+            assertThat(indexer.getIndexKeys("byTag", "b")).containsExactlyInAnyOrder("default/pod-1", "default/pod-2");
+            assertThat(indexer.getIndexKeys("byTag", "c")).containsExactly("default/pod-1");
+            assertThat(indexer.getIndexKeys("byTag", "d")).containsExactly("default/pod-1");
+            assertThat(indexer.getAllIndexValues("byTag")).containsExactlyInAnyOrder("b", "c", "d");
+        }
+
+        @Test
+        void shouldHandleDuplicateValuesFromIndexFunction() {
+            indexer.addIndex("byTag", TestResource::getTags);
+            final TestResource resource = createResourceWithTags("default", "pod-1", List.of("a", "a"));
+            indexer.add(resource);
+
+            assertThat(indexer.getByIndex("byTag", "a")).containsExactly(resource);
+
+            indexer.delete(resource);
+
+            assertThat(indexer.getAllIndexValues("byTag")).isEmpty();
+        }
+    }
+
+    @Nested
+    class LabelSelection {
+        @BeforeEach
+        void setUpLabels() {
+            indexer.add(createResourceWithLabels("web-1", Map.of("app", "shop", "tier", "web")));
+            indexer.add(createResourceWithLabels("web-2", Map.of("app", "shop", "tier", "web", "canary", "true")));
+            indexer.add(createResourceWithLabels("db-1", Map.of("app", "shop", "tier", "db")));
+            indexer.add(createResourceWithLabels("other", Map.of("app", "blog")));
+            indexer.add(createResourceWithLabels("bare", Map.of()));
+            indexer.enableLabelIndex();
+        }
+
+        @Test
+        void shouldIndexExistingResourcesWhenEnabled() {
+            assertThat(indexer.isLabelIndexEnabled()).isTrue();
+            assertThat(names(LabelSelectorQuery.equals("app", "shop"))).containsExactlyInAnyOrder("web-1", "web-2", "db-1");
+        }
+
+        @Test
+        void shouldIntersectPositiveRequirements() {
+            final LabelSelectorQuery query = LabelSelectorQuery.builder()
+                    .equals("app", "shop")
+                    .in("tier", "web", "cache")
+                    .exists("canary")
+                    .build();
+
+            assertThat(names(query)).containsExactly("web-2");
+        }
+
+        @Test
+        void shouldExcludeWithNegativeRequirements() {
+            final LabelSelectorQuery query = LabelSelectorQuery.builder()
+                    .equals("app", "shop")
+                    .notIn("tier", "db")
+                    .notExists("canary")
+                    .build();
+
+            assertThat(names(query)).containsExactly("web-1");
+        }
+
+        @Test
+        void shouldMatchResourcesWithoutTheLabelForNegativeOnlySelectors() {
+            assertThat(names(LabelSelectorQuery.notEquals("tier", "web")))
+                    .containsExactlyInAnyOrder("db-1", "other", "bare");
+        }
+
+        @Test
+        void shouldMatchEverythingForEmptySelector() {
+            assertThat(indexer.list(LabelSelectorQuery.builder().build())).hasSize(5);
+        }
+
+        @Test
+        void shouldFollowLabelChanges() {
+            indexer.update(createResourceWithLabels("web-1", Map.of("app", "shop", "tier", "cache")));
+            indexer.update(createResourceWithLabels("web-2", Map.of("app", "shop", "tier", "web")));
+            indexer.delete(createResourceWithLabels("db-1", Map.of()));
+
+            assertThat(names(LabelSelectorQuery.equals("tier", "web"))).containsExactly("web-2");
+            assertThat(names(LabelSelectorQuery.equals("tier", "cache"))).containsExactly("web-1");
+            assertThat(names(LabelSelectorQuery.exists("canary"))).isEmpty();
+            assertThat(names(LabelSelectorQuery.equals("tier", "db"))).isEmpty();
+        }
+
+        @Test
+        void shouldKeepLabelIndexAcrossReplaceAndClear() {
+            indexer.replace(List.of(createResourceWithLabels("new", Map.of("app", "shop"))));
+
+            assertThat(names(LabelSelectorQuery.equals("app", "shop"))).containsExactly("new");
+
+            indexer.clear();
+            indexer.add(createResourceWithLabels("after-clear", Map.of("app", "shop")));
+
+            assertThat(names(LabelSelectorQuery.equals("app", "shop"))).containsExactly("after-clear");
+        }
+
+        @Test
+        void shouldAgreeWithScanningEvaluation() {
+            final Random random = new Random(42);
+            final InMemoryIndexer<TestResource> scanning = new InMemoryIndexer<>();
+            scanning.replace(indexer.list());
+            final String[] values = {"a", "b", "c"};
+            for (int i = 0; i < 300; i++) {
+                final Map<String, String> labels = new HashMap<>();
+                for (final String key : List.of("x", "y", "z")) {
+                    if (random.nextInt(3) > 0) {
+                        labels.put(key, values[random.nextInt(values.length)]);
+                    }
+                }
+                final TestResource resource = createResourceWithLabels("pod-" + i, labels);
+                indexer.add(resource);
+                scanning.add(resource);
+            }
+            final List<LabelSelectorQuery> queries = List.of(
+                    LabelSelectorQuery.builder().equals("x", "a").notEquals("y", "b").build(),
+                    LabelSelectorQuery.builder().in("x", "a", "b").exists("z").build(),
+                    LabelSelectorQuery.builder().notIn("y", "a", "c").notExists("x").build(),
+                    LabelSelectorQuery.builder().exists("x").exists("y").equals("z", "c").build());
+
+            for (final LabelSelectorQuery query : queries) {
+                assertThat(indexer.list(query)).containsExactlyInAnyOrderElementsOf(scanning.list(query));
+            }
+        }
+
+        @Test
+        void shouldRejectNullSelector() {
+            assertThatThrownBy(() -> indexer.list((LabelSelectorQuery) null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        private List<String> names(final LabelSelectorQuery query) {
+            return indexer.list(query).stream().map(TestResource::getName).toList();
+        }
+    }
+
     @Nested
     class BulkOperations {
         @BeforeEach
@@ -344,6 +533,44 @@ class InMemoryIndexerTest {
             assertThat(indexer.size()).isEqualTo(threadCount * operationsPerThread);
         }
 
+        @Test
+        void shouldKeepIndexConsistentWithResourcesDuringReplace() throws InterruptedException {
+            indexer.addIndex("byLabel", r -> List.of(r.getLabel()));
+            final List<TestResource> web = new ArrayList<>();
+            final List<TestResource> api = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                web.add(createResource("default", "pod-" + i, "web"));
+                api.add(createResource("default", "pod-" + i, "api"));
+            }
+            indexer.replace(web);
+
+            final AtomicBoolean done = new AtomicBoolean();
+            final AtomicInteger inconsistentReads = new AtomicInteger();
+            final Thread reader = new Thread(() -> {
+                while (!done.get()) {
+                    final int webCount = indexer.getByIndex("byLabel", "web").size();
+                    final int apiCount = indexer.getByIndex("byLabel", "api").size();
+                    if (webCount != 0 && webCount != 200 || apiCount != 0 && apiCount != 200) {
+                        inconsistentReads.incrementAndGet();
+                    }
+                    for (final TestResource resource : indexer.getByIndex("byLabel", "web")) {
+                        if (!"web".equals(resource.getLabel())) {
+                            inconsistentReads.incrementAndGet();
+                        }
+                    }
+                }
+            });
+            reader.start();
+
+            for (int i = 0; i < 100; i++) {
+                indexer.replace(i % 2 == 0 ? api : web);
+            }
+            done.set(true);
+            reader.join(TimeUnit.SECONDS.toMillis(10));
+
+            assertThat(inconsistentReads.get()).isZero();
+        }
+
         @Test
         void shouldHandleConcurrentReadsAndWrites() throws InterruptedException {
             indexer.addIndex("byLabel", r -> List.of(r.getLabel()));
@@ -421,16 +648,28 @@ class InMemoryIndexerTest {
         return new TestResource(namespace, name, "default", tags);
     }
 
+    private TestResource createResourceWithLabels(final String name, final Map<String, String> labels) {
+        return new TestResource(Metadata.builder()
+                .namespace("default")
+                .name(name)
+                .labels(labels)
+                .build(), "default", List.of());
+    }
+
     static class TestResource implements KubernetesResource {
         private final Metadata metadata;
         private final String label;
         private final List<String> tags;
 
         TestResource(final String namespace, final String name, final String label, final List<String> tags) {
-            this.metadata = Metadata.builder()
+            this(Metadata.builder()
                     .namespace(namespace)
                     .name(name)
-                    .build();
+                    .build(), label, tags);
+        }
+
+        TestResource(final Metadata metadata, final String label, final List<String> tags) {
+            this.metadata = metadata;
             this.label = label;
             this.tags = new ArrayList<>(tags);
         }
@@ -0,0 +1,120 @@
+package io.elev8.resources.informer;
+
+import io.elev8.core.watch.ResourceChangeType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryInformerMetricsTest {
+
+    private final InMemoryInformerMetrics metrics = new InMemoryInformerMetrics();
+
+    @Nested
+    class Counters {
+        @Test
+        void shouldCountEventsReconnectsAndRelists() {
+            metrics.onWatchEventReceived(ResourceChangeType.CREATED, 3);
+            metrics.onWatchEventReceived(ResourceChangeType.UPDATED, 1);
+            metrics.onEventProcessed(ResourceChangeType.CREATED, 1_000);
+            metrics.onEventProcessed(ResourceChangeType.UPDATED, 2_000);
+            metrics.onEventProcessed(ResourceChangeType.UPDATED, 3_000);
+            metrics.onWatchReconnect();
+            metrics.onWatchReconnect();
+            metrics.onRelist();
+
+            assertThat(metrics.getWatchEventsReceived()).isEqualTo(2);
+            assertThat(metrics.getEventsProcessed()).isEqualTo(3);
+            assertThat(metrics.getEventsProcessed(ResourceChangeType.UPDATED)).isEqualTo(2);
+            assertThat(metrics.getEventsProcessed(ResourceChangeType.DELETED)).isZero();
+            assertThat(metrics.getWatchReconnects()).isEqualTo(2);
+            assertThat(metrics.getRelists()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldKeepLatestAndMaximumQueueDepth() {
+            metrics.onWatchEventReceived(ResourceChangeType.CREATED, 7);
+            metrics.onWatchEventReceived(ResourceChangeType.CREATED, 2);
+
+            assertThat(metrics.getQueueDepth()).isEqualTo(2);
+            assertThat(metrics.getMaxQueueDepth()).isEqualTo(7);
+        }
+
+        @Test
+        void shouldKeepLatestStoreSizeAndCacheBytes() {
+            metrics.onStoreSize(10);
+            metrics.onStoreSize(12);
+            metrics.onCacheBytes(4096);
+
+            assertThat(metrics.getStoreSize()).isEqualTo(12);
+            assertThat(metrics.getCacheBytes()).isEqualTo(4096);
+        }
+
+        @Test
+        void shouldResetTimeSinceLastEventOnEvents() throws InterruptedException {
+            Thread.sleep(50);
+            assertThat(metrics.getTimeSinceLastEvent().toMillis()).isGreaterThanOrEqualTo(50);
+
+            metrics.onWatchEventReceived(ResourceChangeType.SYNC, 0);
+
+            assertThat(metrics.getTimeSinceLastEvent().toMillis()).isLessThan(50);
+        }
+
+        @Test
+        void shouldTrackHandlersSeparately() {
+            metrics.onHandlerDispatched("a.Handler", 100, 4);
+            metrics.onHandlerDispatched("a.Handler", 300, 3);
+            metrics.onHandlerDispatched("b.Handler", 50, 0);
+
+            assertThat(metrics.getHandlerLatencies()).containsOnlyKeys("a.Handler", "b.Handler");
+            assertThat(metrics.getHandlerLatency("a.Handler").getCount()).isEqualTo(2);
+            assertThat(metrics.getHandlerLatency("a.Handler").getMax()).isEqualTo(300);
+            assertThat(metrics.getHandlerQueueDepth("a.Handler")).isEqualTo(3);
+            assertThat(metrics.getHandlerLatency("c.Handler").getCount()).isZero();
+            assertThat(metrics.getHandlerQueueDepth("c.Handler")).isZero();
+        }
+    }
+
+    @Nested
+    class Histograms {
+        private final InMemoryInformerMetrics.Histogram histogram = new InMemoryInformerMetrics.Histogram();
+
+        @Test
+        void shouldBeEmptyInitially() {
+            assertThat(histogram.getCount()).isZero();
+            assertThat(histogram.getMean()).isZero();
+            assertThat(histogram.percentile(0.99)).isZero();
+        }
+
+        @Test
+        void shouldTrackCountSumMeanAndMax() {
+            histogram.record(10);
+            histogram.record(30);
+            histogram.record(-5);
+
+            assertThat(histogram.getCount()).isEqualTo(3);
+            assertThat(histogram.getSum()).isEqualTo(40);
+            assertThat(histogram.getMax()).isEqualTo(30);
+            assertThat(histogram.getMean()).isEqualTo(40 / 3.0);
+        }
+
+        @Test
+        void shouldEstimatePercentilesWithinFactorOfTwo() {
+            for (int i = 1; i <= 1000; i++) {
+                histogram.record(i);
+            }
+
+            assertThat(histogram.percentile(0.5)).isBetween(500L, 1000L);
+            assertThat(histogram.percentile(0.99)).isBetween(990L, 1000L);
+            assertThat(histogram.percentile(1.0)).isEqualTo(1000);
+            assertThat(histogram.percentile(0)).isEqualTo(1);
+        }
+
+        @Test
+        void shouldRejectInvalidQuantiles() {
+            assertThatThrownBy(() -> histogram.percentile(1.5)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> histogram.percentile(-0.1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
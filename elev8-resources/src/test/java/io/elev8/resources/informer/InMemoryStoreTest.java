@@ -6,13 +6,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class InMemoryStoreTest {
 
@@ -51,6 +56,21 @@ class InMemoryStoreTest {
             store.add(null);
             assertThat(store.size()).isEqualTo(0);
         }
+
+        @Test
+        void shouldSkipResourcesWithoutName() {
+            final TestResource unnamed = createResource("default", null);
+            final TestResource withoutMetadata = new TestResource(null);
+
+            store.add(unnamed);
+            store.add(withoutMetadata);
+            store.delete(unnamed);
+            store.delete(withoutMetadata);
+            store.replace(List.of(createResource("default", "pod-1"), unnamed, withoutMetadata));
+
+            assertThat(store.size()).isEqualTo(1);
+            assertThat(store.listKeys()).containsExactly("default/pod-1");
+        }
     }
 
     @Nested
@@ -100,6 +120,88 @@ class InMemoryStoreTest {
         }
     }
 
+    @Nested
+    class NamespaceListing {
+        @Test
+        void shouldListOnlyRequestedNamespace() {
+            store.add(createResource("team-a", "pod-1"));
+            store.add(createResource("team-a", "pod-2"));
+            store.add(createResource("team-b", "pod-1"));
+            store.add(createClusterResource("node-1"));
+
+            assertThat(store.list("team-a"))
+                    .extracting(TestResource::getName)
+                    .containsExactlyInAnyOrder("pod-1", "pod-2");
+            assertThat(store.list("team-b")).hasSize(1);
+            assertThat(store.list("team-c")).isEmpty();
+        }
+
+        @Test
+        void shouldListClusterScopedResourcesForNullNamespace() {
+            store.add(createResource("default", "pod"));
+            store.add(createClusterResource("node-1"));
+
+            assertThat(store.list(null)).extracting(TestResource::getName).containsExactly("node-1");
+        }
+
+        @Test
+        void shouldNotConfuseNamespacesSharingAPrefix() {
+            store.add(createResource("team", "pod"));
+            store.add(createResource("team-a", "pod"));
+
+            assertThat(store.list("team")).hasSize(1);
+            assertThat(store.get("team-a", "pod")).isNotNull();
+            assertThat(store.getByKey("team-a/pod")).isNotNull();
+        }
+
+        @Test
+        void shouldReflectDeletesAndReAdds() {
+            final TestResource resource = createResource("team-a", "pod");
+            store.add(resource);
+            store.delete(resource);
+
+            assertThat(store.list("team-a")).isEmpty();
+            assertThat(store.size()).isZero();
+
+            store.add(resource);
+
+            assertThat(store.list("team-a")).containsExactly(resource);
+            assertThat(store.size()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldNotCountUpdatesTwice() {
+            store.add(createResource("team-a", "pod"));
+            store.update(createResource("team-a", "pod"));
+
+            assertThat(store.size()).isEqualTo(1);
+            assertThat(store.view()).hasSize(1);
+        }
+
+        @Test
+        void shouldMatchDefaultImplementation() {
+            store.add(createResource("team-a", "pod-1"));
+            store.add(createResource("team-ab", "pod-2"));
+            store.add(createClusterResource("node-1"));
+            final Store<TestResource> keyScanning = new Store<>() {
+                @Override public void add(final TestResource resource) { }
+                @Override public void update(final TestResource resource) { }
+                @Override public void delete(final TestResource resource) { }
+                @Override public TestResource get(final String namespace, final String name) { return null; }
+                @Override public TestResource getByKey(final String key) { return store.getByKey(key); }
+                @Override public List<TestResource> list() { return store.list(); }
+                @Override public List<String> listKeys() { return store.listKeys(); }
+                @Override public boolean containsKey(final String key) { return store.containsKey(key); }
+                @Override public int size() { return store.size(); }
+                @Override public void replace(final List<TestResource> resources) { }
+                @Override public void clear() { }
+            };
+
+            assertThat(keyScanning.list("team-a")).containsExactlyInAnyOrderElementsOf(store.list("team-a"));
+            assertThat(keyScanning.list(null)).containsExactlyInAnyOrderElementsOf(store.list(null));
+        }
+    }
+
     @Nested
     class DeleteOperations {
         @Test
@@ -192,6 +294,54 @@ class InMemoryStoreTest {
         }
     }
 
+    @Nested
+    class ViewOperations {
+        @Test
+        void shouldContainCurrentResources() {
+            store.add(createResource("default", "pod-1"));
+            store.add(createResource("default", "pod-2"));
+
+            assertThat(store.view())
+                    .extracting(TestResource::getName)
+                    .containsExactlyInAnyOrder("pod-1", "pod-2");
+        }
+
+        @Test
+        void shouldNotBeModifiable() {
+            store.add(createResource("default", "pod"));
+
+            final Collection<TestResource> view = store.view();
+
+            assertThatThrownBy(view::clear).isInstanceOf(UnsupportedOperationException.class);
+            assertThat(store.size()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldNotBeAffectedByReplace() {
+            store.add(createResource("default", "old-pod"));
+            final Collection<TestResource> view = store.view();
+
+            store.replace(List.of(createResource("default", "new-pod")));
+            store.add(createResource("default", "newer-pod"));
+
+            assertThat(view).extracting(TestResource::getName).containsExactly("old-pod");
+            assertThat(store.view())
+                    .extracting(TestResource::getName)
+                    .containsExactlyInAnyOrder("new-pod", "newer-pod");
+        }
+
+        @Test
+        void shouldNotBeAffectedByClear() {
+            store.add(createResource("default", "pod"));
+            final Collection<TestResource> view = store.view();
+
+            store.clear();
+
+            assertThat(view).hasSize(1);
+            assertThat(store.view()).isEmpty();
+        }
+    }
+
     @Nested
     class ContainsKeyOperations {
         @Test
@@ -254,6 +404,84 @@ class InMemoryStoreTest {
 
             assertThat(store.size()).isEqualTo(threads * operationsPerThread);
         }
+
+        @Test
+        void shouldNeverExposePartialContentsDuringReplace() throws InterruptedException {
+            final List<TestResource> first = createResources("a", 500);
+            final List<TestResource> second = createResources("b", 500);
+            store.replace(first);
+
+            final AtomicBoolean done = new AtomicBoolean();
+            final AtomicInteger partialReads = new AtomicInteger();
+            final Thread reader = new Thread(() -> {
+                while (!done.get()) {
+                    final int size = store.view().size();
+                    if (size != 500) {
+                        partialReads.incrementAndGet();
+                    }
+                }
+            });
+            reader.start();
+
+            for (int i = 0; i < 200; i++) {
+                store.replace(i % 2 == 0 ? second : first);
+            }
+            done.set(true);
+            reader.join(TimeUnit.SECONDS.toMillis(10));
+
+            assertThat(partialReads.get()).isZero();
+        }
+    }
+
+    @Nested
+    class SnapshotListing {
+        @Test
+        void shouldListPointInTimeSnapshot() throws InterruptedException {
+            final List<TestResource> base = new ArrayList<>();
+            for (int i = 0; i < 20_000; i++) {
+                base.add(createResource(i % 2 == 0 ? "ns-a" : "ns-z", "base-" + i));
+            }
+            store.replace(base);
+
+            final AtomicBoolean done = new AtomicBoolean();
+            final Thread writer = new Thread(() -> {
+                while (!done.get()) {
+                    for (final String namespace : List.of("ns-a", "ns-z")) {
+                        final TestResource moving = createResource(namespace, "moving");
+                        store.add(moving);
+                        store.delete(moving);
+                    }
+                }
+            });
+            writer.start();
+
+            int mixedReads = 0;
+            for (int i = 0; i < 200; i++) {
+                final long moving = store.list().stream()
+                        .filter(resource -> "moving".equals(resource.getName()))
+                        .count();
+                if (moving > 1) {
+                    mixedReads++;
+                }
+            }
+            done.set(true);
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+
+            assertThat(mixedReads).isZero();
+        }
+
+        @Test
+        void shouldNotBeAffectedByLaterWrites() {
+            store.add(createResource("default", "pod-1"));
+
+            final List<TestResource> namespaced = store.list("default");
+            final List<TestResource> all = store.list();
+            store.add(createResource("default", "pod-2"));
+            store.delete(createResource("default", "pod-1"));
+
+            assertThat(namespaced).extracting(TestResource::getName).containsExactly("pod-1");
+            assertThat(all).extracting(TestResource::getName).containsExactly("pod-1");
+        }
     }
 
     @Nested
@@ -269,6 +497,14 @@ class InMemoryStoreTest {
         }
     }
 
+    private List<TestResource> createResources(final String prefix, final int count) {
+        final List<TestResource> resources = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            resources.add(createResource("default", prefix + "-" + i));
+        }
+        return resources;
+    }
+
     private TestResource createResource(final String namespace, final String name) {
         return new TestResource(namespace, name);
     }
@@ -281,10 +517,14 @@ class InMemoryStoreTest {
         private final Metadata metadata;
 
         TestResource(final String namespace, final String name) {
-            this.metadata = Metadata.builder()
+            this(Metadata.builder()
                     .namespace(namespace)
                     .name(name)
-                    .build();
+                    .build());
+        }
+
+        TestResource(final Metadata metadata) {
+            this.metadata = metadata;
         }
 
         @Override
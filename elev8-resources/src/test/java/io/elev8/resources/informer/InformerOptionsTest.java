@@ -2,6 +2,7 @@ package io.elev8.resources.informer;
 
 import io.elev8.core.selector.LabelSelectorQuery;
 import io.elev8.core.watch.StreamOptions;
+import io.elev8.resources.ResourceTransformers;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -14,6 +15,16 @@ class InformerOptionsTest {
 
         assertThat(options).isNotNull();
         assertThat(options.getStreamOptions()).isNotNull();
+        assertThat(options.getTransform()).isNull();
+    }
+
+    @Test
+    void shouldCreateWithTransform() {
+        final InformerOptions options = InformerOptions.builder()
+                .transform(ResourceTransformers.dropStatus())
+                .build();
+
+        assertThat(options.getTransform()).isEqualTo(ResourceTransformers.dropStatus());
     }
 
     @Test
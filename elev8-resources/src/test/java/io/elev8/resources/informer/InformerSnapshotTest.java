@@ -0,0 +1,153 @@
+package io.elev8.resources.informer;
+
+import io.elev8.core.watch.ResourceChangeStream;
+import io.elev8.resources.Metadata;
+import io.elev8.resources.ResourceList;
+import io.elev8.resources.pod.Pod;
+import io.elev8.resources.pod.PodSpec;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InformerSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    class FileFormat {
+
+        @Test
+        void shouldRoundTripResourcesAndResourceVersion() throws IOException {
+            final InformerSnapshot<Pod> snapshot = new InformerSnapshot<>(directory.resolve("pods.snapshot"), Pod.class);
+
+            snapshot.save("1234", List.of(pod("a", "node-1"), pod("b", "node-2")));
+            final InformerSnapshot.Contents<Pod> contents = snapshot.load();
+
+            assertThat(contents.getResourceVersion()).isEqualTo("1234");
+            assertThat(contents.getResources()).extracting(Pod::getName).containsExactly("a", "b");
+            assertThat(contents.getResources().get(1).getSpec().getNodeName()).isEqualTo("node-2");
+        }
+
+        @Test
+        void shouldReplacePreviousSnapshot() throws IOException {
+            final InformerSnapshot<Pod> snapshot = new InformerSnapshot<>(directory.resolve("pods.snapshot"), Pod.class);
+
+            snapshot.save("1", List.of(pod("a", null), pod("b", null)));
+            snapshot.save("2", List.of(pod("c", null)));
+
+            assertThat(snapshot.load().getResources()).extracting(Pod::getName).containsExactly("c");
+            assertThat(Files.list(directory)).hasSize(1);
+        }
+
+        @Test
+        void shouldReturnNullWhenFileDoesNotExist() throws IOException {
+            assertThat(new InformerSnapshot<>(directory.resolve("missing"), Pod.class).load()).isNull();
+        }
+
+        @Test
+        void shouldRejectTruncatedFile() throws IOException {
+            final Path file = directory.resolve("pods.snapshot");
+            final InformerSnapshot<Pod> snapshot = new InformerSnapshot<>(file, Pod.class);
+            snapshot.save("1", List.of(pod("a", null), pod("b", null)));
+            final byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 20));
+
+            assertThatThrownBy(snapshot::load).isInstanceOf(IOException.class);
+        }
+
+        @Test
+        void shouldRejectOtherFiles() throws IOException {
+            final Path file = directory.resolve("other");
+            Files.writeString(file, "{\"items\": []}");
+
+            assertThatThrownBy(() -> new InformerSnapshot<>(file, Pod.class).load())
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("Not an informer snapshot");
+        }
+    }
+
+    @Nested
+    class WarmRestart {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldSaveOnShutdownAndResumeFromSnapshot() throws Exception {
+            final Path file = directory.resolve("pods.snapshot");
+            final ListerWatcher<Pod> first = mock(ListerWatcher.class);
+            when(first.list()).thenReturn(list("500", pod("a", "node-1")));
+            when(first.watch(any())).thenAnswer(invocation -> new ResourceChangeStream<Pod>(() -> { }));
+
+            final DefaultSharedIndexInformer<Pod> cold = new DefaultSharedIndexInformer<>(first, Duration.ZERO);
+            cold.enableSnapshots(new InformerSnapshot<>(file, Pod.class), null);
+            cold.run();
+            verify(first, timeout(5000)).watch("500");
+            cold.shutdown();
+
+            final ListerWatcher<Pod> second = mock(ListerWatcher.class);
+            when(second.watch(any())).thenAnswer(invocation -> new ResourceChangeStream<Pod>(() -> { }));
+
+            final DefaultSharedIndexInformer<Pod> warm = new DefaultSharedIndexInformer<>(second, Duration.ZERO);
+            warm.enableSnapshots(new InformerSnapshot<>(file, Pod.class), Duration.ofMinutes(5));
+            warm.run();
+            verify(second, timeout(5000)).watch("500");
+
+            assertThat(warm.hasSynced()).isTrue();
+            assertThat(warm.getIndexer().get("default", "a").getSpec().getNodeName()).isEqualTo("node-1");
+            verify(second, never()).list();
+            warm.shutdown();
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldListWhenSnapshotIsUnreadable() throws Exception {
+            final Path file = directory.resolve("pods.snapshot");
+            Files.writeString(file, "garbage");
+            final ListerWatcher<Pod> listerWatcher = mock(ListerWatcher.class);
+            when(listerWatcher.list()).thenReturn(list("700", pod("a", null)));
+            when(listerWatcher.watch(any())).thenAnswer(invocation -> new ResourceChangeStream<Pod>(() -> { }));
+
+            final DefaultSharedIndexInformer<Pod> informer = new DefaultSharedIndexInformer<>(listerWatcher, Duration.ZERO);
+            informer.enableSnapshots(new InformerSnapshot<>(file, Pod.class), null);
+            informer.run();
+
+            verify(listerWatcher, timeout(5000)).watch("700");
+            verify(listerWatcher).list();
+            informer.shutdown();
+        }
+    }
+
+    private static ResourceList<Pod> list(final String resourceVersion, final Pod... pods) {
+        final ResourceList.ListMetadata metadata = new ResourceList.ListMetadata();
+        metadata.setResourceVersion(resourceVersion);
+        final ResourceList<Pod> list = new ResourceList<>();
+        list.setMetadata(metadata);
+        list.setItems(List.of(pods));
+        return list;
+    }
+
+    private static Pod pod(final String name, final String nodeName) {
+        final PodSpec spec = new PodSpec();
+        spec.setNodeName(nodeName);
+        return Pod.builder()
+                .metadata(Metadata.builder().namespace("default").name(name).build())
+                .spec(spec)
+                .build();
+    }
+}
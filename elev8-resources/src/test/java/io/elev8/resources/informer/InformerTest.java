@@ -3,19 +3,29 @@ package io.elev8.resources.informer;
 import io.elev8.core.watch.ResourceChangeEvent;
 import io.elev8.core.watch.ResourceChangeStream;
 import io.elev8.core.watch.ResourceChangeType;
+import io.elev8.core.watch.WatchOptions;
+import io.elev8.core.watch.WatchStreamException;
 import io.elev8.resources.KubernetesResource;
 import io.elev8.resources.Metadata;
+import io.elev8.resources.ResourceException;
+import io.elev8.resources.ResourceList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -371,6 +381,437 @@ class InformerTest {
         }
     }
 
+    @Nested
+    class ResourceVersionTracking {
+        @Test
+        void shouldStartWatchFromListResourceVersion() throws InterruptedException {
+            final ScriptedListerWatcher listerWatcher = new ScriptedListerWatcher("100");
+
+            informer = new Informer<>(listerWatcher);
+            informer.start();
+            waitForSync();
+
+            assertThat(listerWatcher.awaitWatches(1)).isTrue();
+            assertThat(listerWatcher.watchVersions).containsExactly("100");
+            assertThat(informer.getLastSyncResourceVersion()).isEqualTo("100");
+
+            informer.stop();
+        }
+
+        @Test
+        void shouldResumeFromLastEventAndBookmarkWithoutRelisting() throws InterruptedException {
+            final ScriptedListerWatcher listerWatcher = new ScriptedListerWatcher("100");
+            listerWatcher.scripts.add(stream -> {
+                stream.enqueue(createEvent(
+                        ResourceChangeType.CREATED, createResource("default", "pod-1"), null, "101"));
+                stream.enqueue(createEvent(ResourceChangeType.SYNC, null, null, "105"));
+                stream.signalClose();
+            });
+
+            informer = new Informer<>(listerWatcher);
+            informer.start();
+
+            assertThat(listerWatcher.awaitWatches(2)).isTrue();
+            assertThat(listerWatcher.watchVersions).containsExactly("100", "105");
+            assertThat(listerWatcher.lists).hasValue(1);
+            assertThat(informer.getStore().get("default", "pod-1")).isNotNull();
+            assertThat(informer.getLastSyncResourceVersion()).isEqualTo("105");
+
+            informer.stop();
+        }
+
+        @Test
+        void shouldPassCachedResourceAsOldOnFirstUpdateOfResumedWatch() throws InterruptedException {
+            final ScriptedListerWatcher listerWatcher = new ScriptedListerWatcher("100");
+            listerWatcher.listResults.add(List.of(new TestResource("default", "pod-1", "100")));
+            listerWatcher.scripts.add(stream -> {
+                stream.enqueue(createEvent(ResourceChangeType.UPDATED,
+                        new TestResource("default", "pod-1", "101"), null, "101"));
+                stream.signalClose();
+            });
+            listerWatcher.scripts.add(stream -> stream.enqueue(createEvent(ResourceChangeType.UPDATED,
+                    new TestResource("default", "pod-1", "102"), null, "102")));
+
+            final List<String> updates = new CopyOnWriteArrayList<>();
+            final CountDownLatch updated = new CountDownLatch(2);
+            informer = new Informer<>(listerWatcher);
+            informer.addEventHandler(new ResourceEventHandler<>() {
+                @Override
+                public void onAdd(final TestResource resource) {
+                }
+
+                @Override
+                public void onUpdate(final TestResource oldResource, final TestResource newResource) {
+                    updates.add((oldResource != null ? oldResource.getMetadata().getResourceVersion() : null)
+                            + "->" + newResource.getMetadata().getResourceVersion());
+                    updated.countDown();
+                }
+
+                @Override
+                public void onDelete(final TestResource resource) {
+                }
+            });
+            informer.start();
+
+            assertThat(updated.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(listerWatcher.watchVersions).startsWith("100", "101");
+            assertThat(updates).containsExactly("100->101", "101->102");
+
+            informer.stop();
+        }
+
+        @Test
+        void shouldRelistWhenResourceVersionExpired() throws InterruptedException {
+            final ScriptedListerWatcher listerWatcher = new ScriptedListerWatcher("100", "200");
+            listerWatcher.scripts.add(stream -> stream.setError(
+                    new WatchStreamException("too old resource version: 100", 410)));
+
+            informer = new Informer<>(listerWatcher);
+            informer.start();
+
+            assertThat(listerWatcher.awaitWatches(2)).isTrue();
+            assertThat(listerWatcher.watchVersions).containsExactly("100", "200");
+            assertThat(listerWatcher.lists).hasValue(2);
+
+            informer.stop();
+        }
+
+        @Test
+        void shouldDispatchOnlyDeltasOnRelist() throws InterruptedException {
+            final ScriptedListerWatcher listerWatcher = new ScriptedListerWatcher("100", "200");
+            listerWatcher.listResults.add(List.of(
+                    new TestResource("default", "unchanged", "1"),
+                    new TestResource("default", "modified", "1"),
+                    new TestResource("default", "removed", "1")));
+            listerWatcher.listResults.add(List.of(
+                    new TestResource("default", "unchanged", "1"),
+                    new TestResource("default", "modified", "5"),
+                    new TestResource("default", "created", "6")));
+            listerWatcher.scripts.add(stream -> stream.setError(
+                    new WatchStreamException("too old resource version: 100", 410)));
+
+            final List<String> notifications = new CopyOnWriteArrayList<>();
+            informer = new Informer<>(listerWatcher);
+            informer.addEventHandler(new ResourceEventHandler<>() {
+                @Override
+                public void onAdd(final TestResource resource) {
+                    notifications.add("add:" + resource.getName());
+                }
+
+                @Override
+                public void onUpdate(final TestResource oldResource, final TestResource newResource) {
+                    notifications.add("update:" + newResource.getName());
+                }
+
+                @Override
+                public void onDelete(final TestResource resource) {
+                    notifications.add("delete:" + resource.getName());
+                }
+            });
+            informer.start();
+
+            assertThat(listerWatcher.awaitWatches(2)).isTrue();
+            assertThat(notifications.subList(3, notifications.size()))
+                    .containsExactlyInAnyOrder("add:created", "update:modified", "delete:removed");
+            assertThat(informer.getStore().listKeys())
+                    .containsExactlyInAnyOrder("default/unchanged", "default/modified", "default/created");
+            assertThat(informer.getStore().get("default", "modified").getMetadata().getResourceVersion())
+                    .isEqualTo("5");
+
+            informer.stop();
+        }
+
+        @Test
+        void shouldPublishRelistWithSingleReplace() throws InterruptedException {
+            final ScriptedListerWatcher listerWatcher = new ScriptedListerWatcher("100", "200");
+            listerWatcher.listResults.add(List.of(
+                    new TestResource("default", "modified", "1"),
+                    new TestResource("default", "removed", "1")));
+            listerWatcher.listResults.add(List.of(
+                    new TestResource("default", "modified", "5"),
+                    new TestResource("default", "created", "6")));
+            listerWatcher.scripts.add(stream -> stream.setError(
+                    new WatchStreamException("too old resource version: 100", 410)));
+            final List<String> writes = new CopyOnWriteArrayList<>();
+            final Store<TestResource> store = new InMemoryStore<>() {
+                @Override
+                public void add(final TestResource resource) {
+                    writes.add("add");
+                    super.add(resource);
+                }
+
+                @Override
+                public void delete(final TestResource resource) {
+                    writes.add("delete");
+                    super.delete(resource);
+                }
+
+                @Override
+                public void replace(final List<TestResource> resources) {
+                    writes.add("replace:" + resources.size());
+                    super.replace(resources);
+                }
+            };
+
+            informer = new Informer<>(store, listerWatcher);
+            informer.start();
+
+            assertThat(listerWatcher.awaitWatches(2)).isTrue();
+            assertThat(writes).containsExactly("replace:2", "replace:2");
+            assertThat(store.listKeys()).containsExactlyInAnyOrder("default/modified", "default/created");
+
+            informer.stop();
+        }
+    }
+
+    @Nested
+    class Restore {
+        @Test
+        void shouldSyncFromRestoredResourcesAndWatchFromTheirVersion() throws InterruptedException {
+            final ScriptedListerWatcher listerWatcher = new ScriptedListerWatcher("100");
+            final List<String> added = new CopyOnWriteArrayList<>();
+
+            informer = new Informer<>(listerWatcher);
+            informer.addEventHandler(new ResourceEventHandler<>() {
+                @Override
+                public void onAdd(final TestResource resource) {
+                    added.add(resource.getName());
+                }
+
+                @Override
+                public void onUpdate(final TestResource oldResource, final TestResource newResource) {
+                }
+
+                @Override
+                public void onDelete(final TestResource resource) {
+                }
+            });
+            informer.restore(List.of(new TestResource("default", "pod-1", "250")), "300");
+            informer.start();
+            waitForSync();
+
+            assertThat(listerWatcher.awaitWatches(1)).isTrue();
+            assertThat(informer.hasSynced()).isTrue();
+            assertThat(listerWatcher.lists).hasValue(0);
+            assertThat(listerWatcher.watchVersions).containsExactly("300");
+            assertThat(informer.getStore().get("default", "pod-1")).isNotNull();
+            assertThat(added).containsExactly("pod-1");
+
+            informer.stop();
+        }
+
+        @Test
+        void shouldRelistWhenRestoredVersionExpired() throws InterruptedException {
+            final ScriptedListerWatcher listerWatcher = new ScriptedListerWatcher("400");
+            listerWatcher.listResults.add(List.of(new TestResource("default", "pod-2", "350")));
+            listerWatcher.scripts.add(stream -> stream.setError(
+                    new WatchStreamException("too old resource version: 300", 410)));
+
+            informer = new Informer<>(listerWatcher);
+            informer.restore(List.of(new TestResource("default", "pod-1", "250")), "300");
+            informer.start();
+
+            assertThat(listerWatcher.awaitWatches(2)).isTrue();
+            assertThat(listerWatcher.watchVersions).containsExactly("300", "400");
+            assertThat(listerWatcher.lists).hasValue(1);
+            assertThat(informer.getStore().listKeys()).containsExactly("default/pod-2");
+
+            informer.stop();
+        }
+
+        @Test
+        void shouldRejectRestoreWithoutResourceVersion() {
+            informer = new Informer<>(new ScriptedListerWatcher("100"));
+
+            assertThatThrownBy(() -> informer.restore(List.of(), ""))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class WatchList {
+        @Test
+        void shouldSyncFromInitialEventsWithoutListing() throws InterruptedException {
+            final ScriptedListerWatcher listerWatcher = new ScriptedListerWatcher("100");
+            listerWatcher.initialEvents = stream -> {
+                stream.enqueue(createEvent(
+                        ResourceChangeType.CREATED, createResource("default", "pod-1"), null, "101"));
+                stream.enqueue(createEvent(
+                        ResourceChangeType.CREATED, createResource("default", "pod-2"), null, "102"));
+                stream.enqueue(createEvent(ResourceChangeType.SYNC, initialEventsEnd("300"), null, "300"));
+            };
+
+            informer = new Informer<>(listerWatcher, true);
+            informer.start();
+            waitForSync();
+
+            assertThat(informer.hasSynced()).isTrue();
+            assertThat(listerWatcher.lists).hasValue(0);
+            assertThat(listerWatcher.watchVersions).isEmpty();
+            assertThat(informer.getStore().listKeys()).containsExactlyInAnyOrder("default/pod-1", "default/pod-2");
+            assertThat(informer.getLastSyncResourceVersion()).isEqualTo("300");
+
+            informer.stop();
+        }
+
+        @Test
+        void shouldNotSyncBeforeInitialEventsEnd() throws InterruptedException {
+            final ScriptedListerWatcher listerWatcher = new ScriptedListerWatcher("100");
+            listerWatcher.initialEvents = stream -> {
+                stream.enqueue(createEvent(
+                        ResourceChangeType.CREATED, createResource("default", "pod-1"), null, "101"));
+                stream.enqueue(createEvent(ResourceChangeType.SYNC, createResource("default", "pod-1"), null, "150"));
+            };
+
+            informer = new Informer<>(listerWatcher, true);
+            informer.start();
+            for (int i = 0; i < 50 && !"150".equals(informer.getLastSyncResourceVersion()); i++) {
+                Thread.sleep(100);
+            }
+
+            assertThat(informer.getLastSyncResourceVersion()).isEqualTo("150");
+            assertThat(informer.hasSynced()).isFalse();
+            assertThat(informer.getStore().get("default", "pod-1")).isNotNull();
+
+            informer.stop();
+        }
+
+        @Test
+        void shouldFallBackToListWhenServerRejectsWatchList() throws InterruptedException {
+            final ScriptedListerWatcher listerWatcher = new ScriptedListerWatcher("100");
+            listerWatcher.initialEventsFailure = new ResourceException("sendInitialEvents is forbidden", 422);
+
+            informer = new Informer<>(listerWatcher, true);
+            informer.start();
+            waitForSync();
+
+            assertThat(informer.hasSynced()).isTrue();
+            assertThat(listerWatcher.awaitWatches(1)).isTrue();
+            assertThat(listerWatcher.lists).hasValue(1);
+            assertThat(listerWatcher.watchVersions).containsExactly("100");
+
+            informer.stop();
+        }
+
+        @Test
+        void shouldFallBackToListWhenWatchListIsUnsupported() throws InterruptedException {
+            final ScriptedListerWatcher listerWatcher = new ScriptedListerWatcher("100");
+
+            informer = new Informer<>(listerWatcher, true);
+            informer.start();
+            waitForSync();
+
+            assertThat(informer.hasSynced()).isTrue();
+            assertThat(listerWatcher.lists).hasValue(1);
+
+            informer.stop();
+        }
+
+        @Test
+        void shouldRelistWithoutDuplicatesWhenStreamEndsBeforeBookmark() throws InterruptedException {
+            final ScriptedListerWatcher listerWatcher = new ScriptedListerWatcher("200");
+            listerWatcher.initialEvents = stream -> {
+                stream.enqueue(createEvent(
+                        ResourceChangeType.CREATED, new TestResource("default", "pod-1", "1"), null, "1"));
+                stream.signalClose();
+            };
+            listerWatcher.listResults.add(List.of(
+                    new TestResource("default", "pod-1", "1"),
+                    new TestResource("default", "pod-2", "2")));
+
+            final List<String> added = new CopyOnWriteArrayList<>();
+            informer = new Informer<>(listerWatcher, true);
+            informer.addEventHandler(new ResourceEventHandler<>() {
+                @Override
+                public void onAdd(final TestResource resource) {
+                    added.add(resource.getName());
+                }
+
+                @Override
+                public void onUpdate(final TestResource oldResource, final TestResource newResource) {
+                }
+
+                @Override
+                public void onDelete(final TestResource resource) {
+                }
+            });
+            informer.start();
+            waitForSync();
+
+            assertThat(informer.hasSynced()).isTrue();
+            assertThat(listerWatcher.awaitWatches(1)).isTrue();
+            assertThat(added).containsExactly("pod-1", "pod-2");
+            assertThat(listerWatcher.watchVersions).containsExactly("200");
+
+            informer.stop();
+        }
+
+        private TestResource initialEventsEnd(final String resourceVersion) {
+            return new TestResource(Metadata.builder()
+                    .resourceVersion(resourceVersion)
+                    .annotation(WatchOptions.INITIAL_EVENTS_END_ANNOTATION, "true")
+                    .build());
+        }
+    }
+
+    @Nested
+    class Metrics {
+        @Test
+        void shouldReportEventsReconnectsAndStoreSize() throws InterruptedException {
+            final ScriptedListerWatcher listerWatcher = new ScriptedListerWatcher("100");
+            listerWatcher.scripts.add(stream -> {
+                stream.enqueue(createEvent(
+                        ResourceChangeType.CREATED, createResource("default", "pod-1"), null, "101"));
+                stream.enqueue(createEvent(ResourceChangeType.SYNC, null, null, "105"));
+                stream.signalClose();
+            });
+            final InMemoryInformerMetrics metrics = new InMemoryInformerMetrics();
+
+            informer = new Informer<>(listerWatcher);
+            informer.setMetrics(metrics);
+            informer.start();
+
+            assertThat(listerWatcher.awaitWatches(2)).isTrue();
+            assertThat(metrics.getEventsProcessed()).isEqualTo(2);
+            assertThat(metrics.getEventsProcessed(ResourceChangeType.CREATED)).isEqualTo(1);
+            assertThat(metrics.getEventLag().getCount()).isEqualTo(2);
+            assertThat(metrics.getWatchReconnects()).isEqualTo(1);
+            assertThat(metrics.getRelists()).isZero();
+            assertThat(metrics.getStoreSize()).isEqualTo(1);
+
+            informer.stop();
+        }
+
+        @Test
+        void shouldCountRelistsWhenResourceVersionExpired() throws InterruptedException {
+            final ScriptedListerWatcher listerWatcher = new ScriptedListerWatcher("100", "200");
+            listerWatcher.scripts.add(stream -> stream.setError(
+                    new WatchStreamException("too old resource version: 100", 410)));
+            final InMemoryInformerMetrics metrics = new InMemoryInformerMetrics();
+
+            informer = new Informer<>(listerWatcher);
+            informer.setMetrics(metrics);
+            informer.start();
+
+            assertThat(listerWatcher.awaitWatches(2)).isTrue();
+            assertThat(metrics.getRelists()).isEqualTo(1);
+            assertThat(metrics.getWatchReconnects()).isEqualTo(1);
+
+            informer.stop();
+        }
+
+        @Test
+        void shouldRejectMetricsWhileRunning() {
+            informer = createInformer();
+            informer.start();
+
+            assertThatThrownBy(() -> informer.setMetrics(new InMemoryInformerMetrics()))
+                    .isInstanceOf(IllegalStateException.class);
+
+            informer.stop();
+        }
+    }
+
     private Informer<TestResource> createInformer() {
         return new Informer<>(
                 () -> new ArrayList<>(initialResources),
@@ -400,14 +841,99 @@ class InformerTest {
                 .build();
     }
 
+    private ResourceChangeEvent<TestResource> createEvent(
+            final ResourceChangeType type,
+            final TestResource resource,
+            final TestResource previousResource,
+            final String resourceVersion) {
+        return ResourceChangeEvent.<TestResource>builder()
+                .type(type)
+                .resource(resource)
+                .previousResource(previousResource)
+                .resourceVersion(resourceVersion)
+                .timestamp(Instant.now())
+                .build();
+    }
+
+    /**
+     * Returns the queued list results with the given resourceVersions in turn and runs one script per watch.
+     * Watches without a script stay open until the informer closes them. Initial-events watches run the
+     * initialEvents script, fail with initialEventsFailure, or are unsupported when neither is set.
+     */
+    static class ScriptedListerWatcher implements ListerWatcher<TestResource> {
+        private final Deque<String> listVersions;
+        private final Queue<Consumer<ResourceChangeStream<TestResource>>> scripts = new ConcurrentLinkedQueue<>();
+        private final Queue<List<TestResource>> listResults = new ConcurrentLinkedQueue<>();
+        private final List<String> watchVersions = new CopyOnWriteArrayList<>();
+        private final AtomicInteger lists = new AtomicInteger();
+        private volatile Consumer<ResourceChangeStream<TestResource>> initialEvents;
+        private volatile ResourceException initialEventsFailure;
+
+        ScriptedListerWatcher(final String... listVersions) {
+            this.listVersions = new ArrayDeque<>(List.of(listVersions));
+        }
+
+        @Override
+        public ResourceList<TestResource> list() {
+            lists.incrementAndGet();
+            final ResourceList.ListMetadata metadata = new ResourceList.ListMetadata();
+            metadata.setResourceVersion(listVersions.size() > 1 ? listVersions.poll() : listVersions.peek());
+            final ResourceList<TestResource> list = new ResourceList<>();
+            list.setMetadata(metadata);
+            final List<TestResource> items = listResults.poll();
+            list.setItems(items != null ? items : List.of());
+            return list;
+        }
+
+        @Override
+        public ResourceChangeStream<TestResource> watch(final String resourceVersion) {
+            watchVersions.add(resourceVersion);
+            final ResourceChangeStream<TestResource> stream = new ResourceChangeStream<>(() -> {});
+            final Consumer<ResourceChangeStream<TestResource>> script = scripts.poll();
+            if (script != null) {
+                script.accept(stream);
+            }
+            return stream;
+        }
+
+        @Override
+        public ResourceChangeStream<TestResource> watchInitialEvents() throws ResourceException {
+            if (initialEventsFailure != null) {
+                throw initialEventsFailure;
+            }
+            if (initialEvents == null) {
+                return ListerWatcher.super.watchInitialEvents();
+            }
+            final ResourceChangeStream<TestResource> stream = new ResourceChangeStream<>(() -> {});
+            initialEvents.accept(stream);
+            return stream;
+        }
+
+        boolean awaitWatches(final int count) throws InterruptedException {
+            for (int i = 0; i < 50 && watchVersions.size() < count; i++) {
+                Thread.sleep(100);
+            }
+            return watchVersions.size() >= count;
+        }
+    }
+
     static class TestResource implements KubernetesResource {
         private final Metadata metadata;
 
         TestResource(final String namespace, final String name) {
-            this.metadata = Metadata.builder()
+            this(namespace, name, null);
+        }
+
+        TestResource(final String namespace, final String name, final String resourceVersion) {
+            this(Metadata.builder()
                     .namespace(namespace)
                     .name(name)
-                    .build();
+                    .resourceVersion(resourceVersion)
+                    .build());
+        }
+
+        TestResource(final Metadata metadata) {
+            this.metadata = metadata;
         }
 
         @Override
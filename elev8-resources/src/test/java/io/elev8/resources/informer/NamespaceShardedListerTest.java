@@ -0,0 +1,151 @@
+package io.elev8.resources.informer;
+
+import io.elev8.core.list.ListOptions;
+import io.elev8.resources.ClusterResourceManager;
+import io.elev8.resources.Metadata;
+import io.elev8.resources.ResourceException;
+import io.elev8.resources.ResourceList;
+import io.elev8.resources.ResourceManager;
+import io.elev8.resources.namespace.Namespace;
+import io.elev8.resources.pod.Container;
+import io.elev8.resources.pod.Pod;
+import io.elev8.resources.pod.PodSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NamespaceShardedListerTest {
+
+    private ResourceManager<Pod> pods;
+    private ClusterResourceManager<Namespace> namespaces;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws ResourceException {
+        pods = mock(ResourceManager.class);
+        namespaces = mock(ClusterResourceManager.class);
+        when(namespaces.listStreaming(any(), any())).thenAnswer(invocation -> {
+            final Consumer<Namespace> consumer = invocation.getArgument(1);
+            for (final String name : List.of("a", "b", "c")) {
+                consumer.accept(Namespace.builder().metadata(Metadata.builder().name(name).build()).build());
+            }
+            return listMetadata("500", null);
+        });
+    }
+
+    @Test
+    void shouldListEveryNamespaceAtTheNamespaceListResourceVersion() throws ResourceException {
+        when(pods.listStreaming(anyString(), any(), any())).thenAnswer(invocation -> {
+            final String namespace = invocation.getArgument(0);
+            final Consumer<Pod> consumer = invocation.getArgument(2);
+            consumer.accept(pod(namespace, namespace + "-1"));
+            consumer.accept(pod(namespace, namespace + "-2"));
+            return listMetadata("600", null);
+        });
+
+        final ResourceList<Pod> list = lister(2, null).list();
+
+        assertThat(list.getMetadata().getResourceVersion()).isEqualTo("500");
+        assertThat(list.getItems()).extracting(Pod::getName)
+                .containsExactly("a-1", "a-2", "b-1", "b-2", "c-1", "c-2");
+
+        final ArgumentCaptor<ListOptions> options = ArgumentCaptor.forClass(ListOptions.class);
+        verify(pods).listStreaming(eq("b"), options.capture(), any());
+        assertThat(options.getValue().getResourceVersion()).isEqualTo("500");
+        assertThat(options.getValue().getResourceVersionMatch()).isEqualTo(ListOptions.RESOURCE_VERSION_MATCH_EXACT);
+        assertThat(options.getValue().getLabelSelector()).isEqualTo("app=web");
+        verify(pods, never()).listAllNamespacesStreaming(any(), any());
+    }
+
+    @Test
+    void shouldFollowContinueTokensWithinANamespace() throws ResourceException {
+        final AtomicInteger pages = new AtomicInteger();
+        when(pods.listStreaming(anyString(), any(), any())).thenAnswer(invocation -> {
+            final String namespace = invocation.getArgument(0);
+            final ListOptions options = invocation.getArgument(1);
+            final Consumer<Pod> consumer = invocation.getArgument(2);
+            pages.incrementAndGet();
+            assertThat(options.getLimit()).isEqualTo(1);
+            if (options.getContinueToken() == null) {
+                consumer.accept(pod(namespace, "first"));
+                return listMetadata("500", namespace + "-next");
+            }
+            assertThat(options.getResourceVersion()).isNull();
+            consumer.accept(pod(namespace, "second"));
+            return listMetadata("500", null);
+        });
+
+        final ResourceList<Pod> list = lister(3, 1).list();
+
+        assertThat(list.getItems()).hasSize(6);
+        assertThat(pages.get()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldFallBackToASingleListWhenTheResourceVersionExpired() throws ResourceException {
+        when(pods.listStreaming(anyString(), any(), any()))
+                .thenThrow(new ResourceException("Gone", 410));
+        when(pods.listAllNamespacesStreaming(any(), any())).thenAnswer(invocation -> {
+            final Consumer<Pod> consumer = invocation.getArgument(1);
+            consumer.accept(pod("a", "a-1"));
+            return listMetadata("700", null);
+        });
+
+        final ResourceList<Pod> list = lister(2, null).list();
+
+        assertThat(list.getMetadata().getResourceVersion()).isEqualTo("700");
+        assertThat(list.getItems()).extracting(Pod::getName).containsExactly("a-1");
+    }
+
+    @Test
+    void shouldPropagateShardFailures() throws ResourceException {
+        when(pods.listStreaming(anyString(), any(), any()))
+                .thenThrow(new ResourceException("Forbidden", 403));
+
+        assertThatThrownBy(() -> lister(2, null).list())
+                .isInstanceOf(ResourceException.class)
+                .hasMessage("Forbidden");
+    }
+
+    @Test
+    void shouldRejectNonPositiveParallelism() {
+        assertThatThrownBy(() -> lister(0, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("parallelism");
+    }
+
+    private NamespaceShardedLister<Pod> lister(final int parallelism, final Integer pageSize) {
+        return new NamespaceShardedLister<>(pods, namespaces, ListOptions.withLabelSelector("app=web"), null,
+                parallelism, pageSize);
+    }
+
+    private static ResourceList.ListMetadata listMetadata(final String resourceVersion, final String continueToken) {
+        final ResourceList.ListMetadata metadata = new ResourceList.ListMetadata();
+        metadata.setResourceVersion(resourceVersion);
+        metadata.setContinueToken(continueToken);
+        return metadata;
+    }
+
+    private static Pod pod(final String namespace, final String name) {
+        return Pod.builder()
+                .metadata(Metadata.builder().namespace(namespace).name(name).build())
+                .spec(PodSpec.builder()
+                        .container(Container.builder().name("app").image("nginx:latest").build())
+                        .build())
+                .build();
+    }
+}
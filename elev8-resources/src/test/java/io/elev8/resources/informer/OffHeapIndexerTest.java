@@ -0,0 +1,253 @@
+package io.elev8.resources.informer;
+
+import io.elev8.core.selector.LabelSelectorQuery;
+import io.elev8.resources.Metadata;
+import io.elev8.resources.pod.Pod;
+import io.elev8.resources.pod.PodSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class OffHeapIndexerTest {
+
+    private OffHeapIndexer<Pod> indexer;
+
+    @BeforeEach
+    void setUp() {
+        indexer = new OffHeapIndexer<>(Pod.class, 1024, 0);
+    }
+
+    @Nested
+    class Storage {
+
+        @Test
+        void shouldRoundTripResources() {
+            indexer.add(pod("default", "web", "node-1", Map.of("app", "web")));
+
+            final Pod stored = indexer.get("default", "web");
+
+            assertThat(stored.getName()).isEqualTo("web");
+            assertThat(stored.getSpec().getNodeName()).isEqualTo("node-1");
+            assertThat(stored.getMetadata().getLabels()).containsEntry("app", "web");
+            assertThat(indexer.getByKey("default/web")).isNotNull();
+            assertThat(indexer.containsKey("default/web")).isTrue();
+            assertThat(indexer.getLiveBytes()).isPositive();
+        }
+
+        @Test
+        void shouldSkipResourcesWithoutName() {
+            final Pod unnamed = new Pod();
+            unnamed.setMetadata(Metadata.builder().namespace("default").build());
+            final Pod withoutMetadata = new Pod();
+
+            indexer.add(unnamed);
+            indexer.add(withoutMetadata);
+            indexer.delete(unnamed);
+            indexer.replace(List.of(pod("default", "web", "node-1", Map.of()), unnamed, withoutMetadata));
+
+            assertThat(indexer.size()).isEqualTo(1);
+            assertThat(indexer.listKeys()).containsExactly("default/web");
+        }
+
+        @Test
+        void shouldReturnFreshCopiesWithoutHotCache() {
+            indexer.add(pod("default", "web", "node-1", Map.of()));
+
+            assertThat(indexer.get("default", "web")).isNotSameAs(indexer.get("default", "web"));
+        }
+
+        @Test
+        void shouldServeRecentResourcesFromHotCache() {
+            final OffHeapIndexer<Pod> cached = new OffHeapIndexer<>(Pod.class, 1024, 16);
+            final Pod pod = pod("default", "web", "node-1", Map.of());
+            cached.add(pod);
+
+            assertThat(cached.get("default", "web")).isSameAs(pod);
+        }
+
+        @Test
+        void shouldNotServeStaleResourcesFromHotCache() {
+            final OffHeapIndexer<Pod> cached = new OffHeapIndexer<>(Pod.class, 1024, 16);
+            cached.add(pod("default", "web", "node-1", Map.of()));
+            cached.update(pod("default", "web", "node-2", Map.of()));
+
+            assertThat(cached.get("default", "web").getSpec().getNodeName()).isEqualTo("node-2");
+
+            cached.delete(pod("default", "web", null, Map.of()));
+
+            assertThat(cached.get("default", "web")).isNull();
+        }
+
+        @Test
+        void shouldOnlyCacheCurrentRecords() {
+            final OffHeapIndexer<Pod> cached = new OffHeapIndexer<>(Pod.class, 1024, 16);
+            cached.add(pod("default", "web", "node-1", Map.of()));
+            cached.update(pod("default", "web", "node-2", Map.of()));
+            cached.add(pod("default", "api", null, Map.of()));
+
+            assertThat(cached.hotCacheSize()).isEqualTo(2);
+
+            cached.delete(pod("default", "api", null, Map.of()));
+
+            assertThat(cached.hotCacheSize()).isEqualTo(1);
+
+            for (int i = 0; i < 200; i++) {
+                cached.update(pod("default", "web", "node-" + i, Map.of()));
+            }
+
+            assertThat(cached.hotCacheSize()).isLessThanOrEqualTo(1);
+
+            cached.replace(List.of(pod("default", "other", null, Map.of())));
+
+            assertThat(cached.hotCacheSize()).isZero();
+            assertThat(cached.get("default", "other").getName()).isEqualTo("other");
+            assertThat(cached.hotCacheSize()).isEqualTo(1);
+
+            cached.clear();
+
+            assertThat(cached.hotCacheSize()).isZero();
+        }
+
+        @Test
+        void shouldListByNamespaceAndKeys() {
+            indexer.add(pod("a", "one", null, Map.of()));
+            indexer.add(pod("a", "two", null, Map.of()));
+            indexer.add(pod("b", "three", null, Map.of()));
+
+            assertThat(indexer.size()).isEqualTo(3);
+            assertThat(indexer.list("a")).extracting(Pod::getName).containsExactlyInAnyOrder("one", "two");
+            assertThat(indexer.listKeys()).containsExactlyInAnyOrder("a/one", "a/two", "b/three");
+            assertThat(indexer.list()).hasSize(3);
+        }
+
+        @Test
+        void shouldKeepViewBoundToReplacedContents() {
+            indexer.add(pod("default", "old", null, Map.of()));
+            final Collection<Pod> view = indexer.view();
+
+            indexer.replace(List.of(pod("default", "new", null, Map.of())));
+
+            assertThat(view).extracting(Pod::getName).containsExactly("old");
+            assertThat(indexer.list()).extracting(Pod::getName).containsExactly("new");
+        }
+
+        @Test
+        void shouldCompactAfterManyUpdates() {
+            for (int i = 0; i < 200; i++) {
+                indexer.update(pod("default", "web", "node-" + i, Map.of()));
+            }
+
+            assertThat(indexer.size()).isEqualTo(1);
+            assertThat(indexer.get("default", "web").getSpec().getNodeName()).isEqualTo("node-199");
+            assertThat(indexer.getAllocatedBytes()).isLessThanOrEqualTo(4 * 1024);
+        }
+
+        @Test
+        void shouldStoreResourcesLargerThanAChunk() {
+            final Pod large = pod("default", "large", null, Map.of("data", "x".repeat(5000)));
+
+            indexer.add(large);
+
+            assertThat(indexer.get("default", "large").getMetadata().getLabels().get("data")).hasSize(5000);
+        }
+
+        @Test
+        void shouldClear() {
+            indexer.add(pod("default", "web", null, Map.of()));
+
+            indexer.clear();
+
+            assertThat(indexer.size()).isZero();
+            assertThat(indexer.get("default", "web")).isNull();
+        }
+    }
+
+    @Nested
+    class Indexing {
+
+        @Test
+        void shouldMaintainSecondaryIndices() {
+            indexer.add(pod("default", "a", "node-1", Map.of()));
+            indexer.addIndex("byNode", pod -> List.of(pod.getSpec().getNodeName()));
+            indexer.add(pod("default", "b", "node-1", Map.of()));
+            indexer.update(pod("default", "a", "node-2", Map.of()));
+
+            assertThat(indexer.getByIndex("byNode", "node-1")).extracting(Pod::getName).containsExactly("b");
+            assertThat(indexer.getIndexKeys("byNode", "node-2")).containsExactly("default/a");
+            assertThat(indexer.getAllIndexValues("byNode")).containsExactlyInAnyOrder("node-1", "node-2");
+
+            indexer.delete(pod("default", "b", null, Map.of()));
+
+            assertThat(indexer.getByIndex("byNode", "node-1")).isEmpty();
+        }
+
+        @Test
+        void shouldRebuildIndicesOnReplace() {
+            indexer.addIndex("byNode", pod -> List.of(pod.getSpec().getNodeName()));
+
+            indexer.replace(List.of(pod("default", "a", "node-3", Map.of())));
+
+            assertThat(indexer.getByIndex("byNode", "node-3")).extracting(Pod::getName).containsExactly("a");
+        }
+
+        @Test
+        void shouldAnswerLabelSelectorsFromLabelIndex() {
+            indexer.add(pod("default", "web", null, Map.of("app", "web")));
+            indexer.enableLabelIndex();
+            indexer.add(pod("default", "db", null, Map.of("app", "db")));
+
+            assertThat(indexer.list(LabelSelectorQuery.parse("app=db")))
+                    .extracting(Pod::getName).containsExactly("db");
+            assertThat(indexer.list(LabelSelectorQuery.parse("app in (web,db)"))).hasSize(2);
+        }
+
+        @Test
+        void shouldThrowForUnknownIndex() {
+            assertThatThrownBy(() -> indexer.getByIndex("missing", "x"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("does not exist");
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldServeAsSharedInformerIndexer() {
+        final DefaultSharedIndexInformer<Pod> informer = new DefaultSharedIndexInformer<>(
+                indexer, mock(ListerWatcher.class), null, false);
+
+        informer.enableLabelIndex();
+        indexer.add(pod("default", "web", null, Map.of("app", "web")));
+
+        assertThat(informer.getIndexer()).isSameAs(indexer);
+        assertThat(informer.getIndexer().list(LabelSelectorQuery.parse("app=web")))
+                .extracting(Pod::getName).containsExactly("web");
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> new OffHeapIndexer<>(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new OffHeapIndexer<>(Pod.class, 0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new OffHeapIndexer<>(Pod.class, 1024, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Pod pod(final String namespace, final String name, final String nodeName,
+                           final Map<String, String> labels) {
+        final PodSpec spec = new PodSpec();
+        spec.setNodeName(nodeName);
+        return Pod.builder()
+                .metadata(Metadata.builder().namespace(namespace).name(name).labels(labels).build())
+                .spec(spec)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package io.elev8.resources.informer;
 
+import io.elev8.core.watch.OverflowPolicy;
 import io.elev8.core.watch.ResourceChangeEvent;
 import io.elev8.core.watch.ResourceChangeStream;
 import io.elev8.core.watch.StreamOptions;
@@ -7,6 +8,7 @@ import io.elev8.resources.KubernetesResource;
 import io.elev8.resources.Metadata;
 import io.elev8.resources.ResourceException;
 import io.elev8.resources.ResourceManager;
+import io.elev8.resources.ResourceTransformers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,7 +16,6 @@ import org.junit.jupiter.api.Test;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -36,8 +37,6 @@ class SharedInformerFactoryTest {
     void setUp() throws ResourceException {
         factory = new DefaultSharedInformerFactory();
         mockManager = mock(ResourceManager.class);
-        when(mockManager.list(any())).thenReturn(List.of());
-        when(mockManager.listAllNamespaces()).thenReturn(List.of());
         when(mockManager.stream(any(), any())).thenReturn(new EmptyStream());
         when(mockManager.streamAllNamespaces(any())).thenReturn(new EmptyStream());
     }
@@ -146,6 +145,30 @@ class SharedInformerFactoryTest {
             assertThat(factory.getInformers()).hasSize(2);
         }
 
+        @Test
+        void shouldShareInformersOnlyForEqualTransforms() {
+            final SharedIndexInformer<TestResource> trimmed1 = factory.forResource(TestResource.class)
+                    .inNamespace("default")
+                    .withTransform(ResourceTransformers.dropLastAppliedConfiguration())
+                    .withResourceManager(mockManager)
+                    .build();
+
+            final SharedIndexInformer<TestResource> trimmed2 = factory.forResource(TestResource.class)
+                    .inNamespace("default")
+                    .withTransform(ResourceTransformers.dropLastAppliedConfiguration())
+                    .withResourceManager(mockManager)
+                    .build();
+
+            final SharedIndexInformer<TestResource> untrimmed = factory.forResource(TestResource.class)
+                    .inNamespace("default")
+                    .withResourceManager(mockManager)
+                    .build();
+
+            assertThat(trimmed1).isSameAs(trimmed2);
+            assertThat(untrimmed).isNotSameAs(trimmed1);
+            assertThat(factory.getInformers()).hasSize(2);
+        }
+
         @Test
         void shouldReturnExistingInformer() {
             factory.forResource(TestResource.class)
@@ -289,6 +312,25 @@ class SharedInformerFactoryTest {
             assertThat(key1).isNotEqualTo(key2);
         }
 
+        @Test
+        void keyOfOptionsShouldIncludeSelectorsAndTransform() {
+            final InformerOptions options = InformerOptions.builder()
+                    .streamOptions(StreamOptions.withLabelSelector("app=web"))
+                    .transform(ResourceTransformers.dropStatus())
+                    .build();
+
+            final SharedInformerKey key = SharedInformerKey.of(TestResource.class, "default", options);
+
+            assertThat(key.getLabelSelector()).isEqualTo("app=web");
+            assertThat(key).isNotEqualTo(new SharedInformerKey(TestResource.class, "default", "app=web", null));
+            assertThat(key).isEqualTo(SharedInformerKey.of(TestResource.class, "default", InformerOptions.builder()
+                    .streamOptions(StreamOptions.withLabelSelector("app=web"))
+                    .transform(ResourceTransformers.dropStatus())
+                    .build()));
+            assertThat(SharedInformerKey.of(TestResource.class, null, null))
+                    .isEqualTo(new SharedInformerKey(TestResource.class, null, null, null));
+        }
+
         @Test
         void keyToStringShouldBeReadable() {
             final SharedInformerKey key = new SharedInformerKey(
@@ -327,6 +369,27 @@ class SharedInformerFactoryTest {
 
             assertThat(options.getResyncPeriod()).isEqualTo(Duration.ZERO);
         }
+
+        @Test
+        void defaultsShouldBlockOnFullBuffer() {
+            final ResourceEventHandlerOptions options = ResourceEventHandlerOptions.defaults();
+
+            assertThat(options.getBufferSize()).isEqualTo(ResourceEventHandlerOptions.DEFAULT_BUFFER_SIZE);
+            assertThat(options.getOverflowPolicy()).isEqualTo(OverflowPolicy.BLOCK);
+            assertThat(options.getDispatchExecutor()).isNull();
+        }
+
+        @Test
+        void shouldConfigureBufferAndKeepResyncPeriod() {
+            final ResourceEventHandlerOptions options = ResourceEventHandlerOptions
+                    .withResyncPeriod(Duration.ofMinutes(1))
+                    .withBufferSize(16)
+                    .withOverflowPolicy(OverflowPolicy.COALESCE_BY_KEY);
+
+            assertThat(options.getResyncPeriod()).isEqualTo(Duration.ofMinutes(1));
+            assertThat(options.getBufferSize()).isEqualTo(16);
+            assertThat(options.getOverflowPolicy()).isEqualTo(OverflowPolicy.COALESCE_BY_KEY);
+        }
     }
 
     static class TestResource implements KubernetesResource {
@@ -5,6 +5,7 @@ import io.elev8.core.watch.ResourceChangeStream;
 import io.elev8.core.watch.ResourceChangeType;
 import io.elev8.resources.KubernetesResource;
 import io.elev8.resources.Metadata;
+import io.elev8.resources.ResourceList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,7 +15,10 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -77,6 +81,42 @@ class SharedInformerTest {
         }
     }
 
+    @Nested
+    class ResourceVersion {
+        @Test
+        void shouldReportEmptyResourceVersionBeforeSync() {
+            informer = createInformer();
+
+            assertThat(informer.getLastSyncResourceVersion()).isEmpty();
+        }
+
+        @Test
+        void shouldReportListResourceVersionAfterSync() throws InterruptedException {
+            informer = new DefaultSharedIndexInformer<>(new ListerWatcher<>() {
+                @Override
+                public ResourceList<TestResource> list() {
+                    final ResourceList.ListMetadata metadata = new ResourceList.ListMetadata();
+                    metadata.setResourceVersion("12345");
+                    final ResourceList<TestResource> list = new ResourceList<>();
+                    list.setMetadata(metadata);
+                    list.setItems(List.of(createResource("default", "pod-1")));
+                    return list;
+                }
+
+                @Override
+                public ResourceChangeStream<TestResource> watch(final String resourceVersion) {
+                    return new TestResourceChangeStream(List.of());
+                }
+            }, Duration.ZERO);
+            informer.run();
+            waitForSync();
+
+            assertThat(informer.getLastSyncResourceVersion()).isEqualTo("12345");
+
+            informer.shutdown();
+        }
+    }
+
     @Nested
     class IndexManagement {
         @Test
@@ -103,6 +143,19 @@ class SharedInformerTest {
             informer.shutdown();
         }
 
+        @Test
+        void shouldRejectEnablingLabelIndexAfterStart() throws InterruptedException {
+            informer = createInformer();
+            informer.run();
+            waitForSync();
+
+            assertThatThrownBy(() -> informer.enableLabelIndex())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("after informer has started");
+
+            informer.shutdown();
+        }
+
         @Test
         void shouldSupportIndexQueries() throws InterruptedException {
             initialResources.add(createResourceWithLabel("default", "pod-1", "web"));
@@ -300,6 +353,59 @@ class SharedInformerTest {
         }
     }
 
+    @Nested
+    class ReplayAndResync {
+        @Test
+        void shouldNeverEnterHandlerConcurrently() throws InterruptedException {
+            for (int i = 0; i < 20; i++) {
+                initialResources.add(createResource("default", "pod-" + i));
+            }
+            informer = new DefaultSharedIndexInformer<>(
+                    () -> new ArrayList<>(initialResources),
+                    () -> new TestResourceChangeStream(streamEvents),
+                    Duration.ofMillis(5)
+            );
+            final AtomicInteger inside = new AtomicInteger();
+            final AtomicInteger maxInside = new AtomicInteger();
+            final CountDownLatch resynced = new CountDownLatch(60);
+            final ResourceEventHandler<TestResource> handler = new ResourceEventHandler<>() {
+                @Override
+                public void onAdd(final TestResource resource) {
+                    enter();
+                }
+
+                @Override
+                public void onUpdate(final TestResource o, final TestResource n) {
+                    enter();
+                    resynced.countDown();
+                }
+
+                @Override
+                public void onDelete(final TestResource r) {
+                }
+
+                private void enter() {
+                    maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    inside.decrementAndGet();
+                }
+            };
+
+            informer.run();
+            waitForSync();
+            informer.addEventHandler(handler);
+
+            assertThat(resynced.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(maxInside.get()).isEqualTo(1);
+
+            informer.shutdown();
+        }
+    }
+
     @Nested
     class EventDispatching {
         @Test
@@ -453,6 +559,153 @@ class SharedInformerTest {
         }
     }
 
+    @Nested
+    class AsyncDispatch {
+        @Test
+        void shouldNotDelayFastHandlerBehindSlowHandler() throws InterruptedException {
+            for (int i = 0; i < 3; i++) {
+                initialResources.add(createResource("default", "pod-" + i));
+            }
+            final CountDownLatch releaseSlow = new CountDownLatch(1);
+            final CountDownLatch fastReceivedAll = new CountDownLatch(3);
+            final AtomicInteger slowReceived = new AtomicInteger();
+
+            informer = createInformer();
+            informer.addEventHandler(new ResourceEventHandler<>() {
+                @Override
+                public void onAdd(final TestResource resource) {
+                    try {
+                        releaseSlow.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    slowReceived.incrementAndGet();
+                }
+
+                @Override
+                public void onUpdate(final TestResource o, final TestResource n) {
+                }
+
+                @Override
+                public void onDelete(final TestResource r) {
+                }
+            });
+            informer.addEventHandler(new ResourceEventHandler<>() {
+                @Override
+                public void onAdd(final TestResource resource) {
+                    fastReceivedAll.countDown();
+                }
+
+                @Override
+                public void onUpdate(final TestResource o, final TestResource n) {
+                }
+
+                @Override
+                public void onDelete(final TestResource r) {
+                }
+            });
+
+            informer.run();
+
+            assertThat(fastReceivedAll.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(slowReceived.get()).isZero();
+            releaseSlow.countDown();
+
+            informer.shutdown();
+        }
+
+        @Test
+        void shouldDeliverEventsInOrderOnConfiguredExecutor() throws InterruptedException {
+            for (int i = 0; i < 5; i++) {
+                initialResources.add(createResource("default", "pod-" + i));
+            }
+            final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "custom-dispatch"));
+            final List<String> received = new CopyOnWriteArrayList<>();
+            final List<String> threads = new CopyOnWriteArrayList<>();
+            final CountDownLatch latch = new CountDownLatch(5);
+
+            informer = createInformer();
+            informer.addEventHandler(new ResourceEventHandler<>() {
+                @Override
+                public void onAdd(final TestResource resource) {
+                    received.add(resource.getName());
+                    threads.add(Thread.currentThread().getName());
+                    latch.countDown();
+                }
+
+                @Override
+                public void onUpdate(final TestResource o, final TestResource n) {
+                }
+
+                @Override
+                public void onDelete(final TestResource r) {
+                }
+            }, ResourceEventHandlerOptions.defaults().withDispatchExecutor(executor));
+
+            informer.run();
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(received).containsExactly("pod-0", "pod-1", "pod-2", "pod-3", "pod-4");
+            assertThat(threads).containsOnly("custom-dispatch");
+
+            informer.shutdown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Nested
+    class Metrics {
+        @Test
+        void shouldReportHandlerLatencyAndStoreSize() throws InterruptedException {
+            for (int i = 0; i < 3; i++) {
+                initialResources.add(createResource("default", "pod-" + i));
+            }
+            final InMemoryInformerMetrics metrics = new InMemoryInformerMetrics();
+            final ResourceEventHandler<TestResource> handler = createNoOpHandler();
+
+            informer = createInformer();
+            informer.addEventHandler(handler);
+            informer.enableMetrics(metrics, Duration.ZERO);
+            informer.run();
+            waitForSync();
+
+            final String handlerName = handler.getClass().getName();
+            for (int i = 0; i < 50 && metrics.getHandlerLatency(handlerName).getCount() < 3; i++) {
+                Thread.sleep(100);
+            }
+            assertThat(metrics.getHandlerLatency(handlerName).getCount()).isEqualTo(3);
+            assertThat(metrics.getHandlerLatencies()).containsOnlyKeys(handlerName);
+            assertThat(metrics.getStoreSize()).isEqualTo(3);
+
+            informer.shutdown();
+        }
+
+        @Test
+        void shouldRejectEnablingMetricsAfterStart() {
+            informer = createInformer();
+            informer.run();
+
+            assertThatThrownBy(() -> informer.enableMetrics(new InMemoryInformerMetrics(), Duration.ZERO))
+                    .isInstanceOf(IllegalStateException.class);
+
+            informer.shutdown();
+        }
+
+        @Test
+        void shouldEstimateCacheBytesFromSample() {
+            final InMemoryIndexer<TestResource> indexer = new InMemoryIndexer<>();
+            assertThat(DefaultSharedIndexInformer.estimateCacheBytes(indexer)).isZero();
+
+            indexer.add(createResource("default", "pod-1"));
+            final long one = DefaultSharedIndexInformer.estimateCacheBytes(indexer);
+            indexer.add(createResource("default", "pod-2"));
+
+            assertThat(one).isPositive();
+            assertThat(DefaultSharedIndexInformer.estimateCacheBytes(indexer)).isEqualTo(2 * one);
+        }
+    }
+
     private DefaultSharedIndexInformer<TestResource> createInformer() {
         return new DefaultSharedIndexInformer<>(
                 () -> new ArrayList<>(initialResources),
@@ -0,0 +1,207 @@
+package io.elev8.resources.metadata;
+
+import io.elev8.core.client.KubernetesClient;
+import io.elev8.core.http.HttpClient;
+import io.elev8.core.http.HttpResponse;
+import io.elev8.core.http.StreamHandle;
+import io.elev8.core.list.ListOptions;
+import io.elev8.core.watch.WatchEvent;
+import io.elev8.core.watch.WatchOptions;
+import io.elev8.core.watch.Watcher;
+import io.elev8.resources.ResourceException;
+import io.elev8.resources.ResourceList;
+import io.elev8.resources.namespace.NamespaceManager;
+import io.elev8.resources.secret.SecretManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PartialObjectMetadataManagerTest {
+
+    private static final String LIST_BODY = """
+            {
+                "apiVersion": "meta.k8s.io/v1",
+                "kind": "PartialObjectMetadataList",
+                "metadata": {"resourceVersion": "42"},
+                "items": [
+                    {
+                        "apiVersion": "meta.k8s.io/v1",
+                        "kind": "PartialObjectMetadata",
+                        "metadata": {
+                            "name": "token",
+                            "namespace": "default",
+                            "resourceVersion": "40",
+                            "labels": {"app": "web"},
+                            "ownerReferences": [{"kind": "ServiceAccount", "name": "default"}],
+                            "managedFields": [{"manager": "kubectl", "operation": "Update"}]
+                        }
+                    },
+                    {
+                        "apiVersion": "meta.k8s.io/v1",
+                        "kind": "PartialObjectMetadata",
+                        "metadata": {"name": "tls", "namespace": "default", "resourceVersion": "41"}
+                    }
+                ]
+            }
+            """;
+
+    private KubernetesClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = Mockito.mock(KubernetesClient.class);
+    }
+
+    @Nested
+    class NamespaceScoped {
+
+        private PartialObjectMetadataManager manager;
+
+        @BeforeEach
+        void setUp() {
+            manager = new SecretManager(client).metadataOnly();
+        }
+
+        @Test
+        void shouldUseTypedManagerPaths() {
+            assertThat(manager.getApiPath()).isEqualTo("/api/v1");
+        }
+
+        @Test
+        void shouldStreamListAsMetadataOnly() throws Exception {
+            final ArgumentCaptor<ListOptions> options = ArgumentCaptor.forClass(ListOptions.class);
+            when(client.getStreaming(eq("/api/v1/namespaces/default/secrets"), options.capture(), any()))
+                    .thenAnswer(invocation -> {
+                        final HttpClient.ResponseBodyConsumer consumer = invocation.getArgument(2);
+                        consumer.accept(new ByteArrayInputStream(LIST_BODY.getBytes(StandardCharsets.UTF_8)));
+                        return new HttpResponse(200, "", Map.of());
+                    });
+
+            final List<PartialObjectMetadata> received = new ArrayList<>();
+            final ResourceList.ListMetadata metadata = manager.listStreaming(
+                    "default", ListOptions.withLabelSelector("app=web"), received::add);
+
+            assertThat(options.getValue().isMetadataOnly()).isTrue();
+            assertThat(options.getValue().getLabelSelector()).isEqualTo("app=web");
+            assertThat(received).extracting(PartialObjectMetadata::getName).containsExactly("token", "tls");
+            assertThat(received.get(0).getMetadata().getLabels()).containsEntry("app", "web");
+            assertThat(received.get(0).getApiVersion()).isEqualTo("meta.k8s.io/v1");
+            assertThat(metadata.getResourceVersion()).isEqualTo("42");
+        }
+
+        @Test
+        void shouldListAsMetadataOnlyWithoutOptions() throws Exception {
+            final ArgumentCaptor<ListOptions> options = ArgumentCaptor.forClass(ListOptions.class);
+            when(client.get(eq("/api/v1/namespaces/default/secrets"), options.capture()))
+                    .thenReturn(new HttpResponse(200, LIST_BODY, Map.of()));
+
+            final List<PartialObjectMetadata> items = manager.list("default");
+
+            assertThat(options.getValue().isMetadataOnly()).isTrue();
+            assertThat(items).extracting(PartialObjectMetadata::getName).containsExactly("token", "tls");
+        }
+
+        @Test
+        void shouldDecodeFullObjectsFromServersWithoutMetadataSupport() throws Exception {
+            final String fullList = """
+                    {
+                        "apiVersion": "v1",
+                        "kind": "SecretList",
+                        "metadata": {"resourceVersion": "7"},
+                        "items": [
+                            {
+                                "apiVersion": "v1",
+                                "kind": "Secret",
+                                "metadata": {"name": "token", "namespace": "default"},
+                                "type": "Opaque",
+                                "data": {"key": "dmFsdWU="}
+                            }
+                        ]
+                    }
+                    """;
+            when(client.get(eq("/api/v1/namespaces/default/secrets"), any(ListOptions.class)))
+                    .thenReturn(new HttpResponse(200, fullList, Map.of()));
+
+            final List<PartialObjectMetadata> items = manager.list("default");
+
+            assertThat(items).extracting(PartialObjectMetadata::getName).containsExactly("token");
+        }
+
+        @Test
+        void shouldWatchAsMetadataOnly() throws Exception {
+            final ArgumentCaptor<WatchOptions> options = ArgumentCaptor.forClass(WatchOptions.class);
+            final ArgumentCaptor<HttpClient.StreamHandler> handler =
+                    ArgumentCaptor.forClass(HttpClient.StreamHandler.class);
+            when(client.watch(eq("/api/v1/namespaces/default/secrets"), options.capture(), handler.capture()))
+                    .thenReturn(Mockito.mock(StreamHandle.class));
+
+            final List<WatchEvent<PartialObjectMetadata>> events = new ArrayList<>();
+            final Watcher<PartialObjectMetadata> watcher = events::add;
+            manager.watch("default", WatchOptions.from("40"), watcher);
+            handler.getValue().onLine("""
+                    {"type":"MODIFIED","object":{"apiVersion":"meta.k8s.io/v1","kind":"PartialObjectMetadata",\
+                    "metadata":{"name":"token","namespace":"default","resourceVersion":"43"}}}""");
+
+            assertThat(options.getValue().isMetadataOnly()).isTrue();
+            assertThat(options.getValue().getResourceVersion()).isEqualTo("40");
+            assertThat(events).hasSize(1);
+            assertThat(events.get(0).getObject().getName()).isEqualTo("token");
+        }
+
+        @Test
+        void shouldRejectWrites() {
+            assertThatThrownBy(() -> manager.create(new PartialObjectMetadata()))
+                    .isInstanceOf(ResourceException.class)
+                    .hasMessageContaining("read-only");
+        }
+    }
+
+    @Nested
+    class ClusterScoped {
+
+        private ClusterPartialObjectMetadataManager manager;
+
+        @BeforeEach
+        void setUp() {
+            manager = new NamespaceManager(client).metadataOnly();
+        }
+
+        @Test
+        void shouldListAsMetadataOnly() throws Exception {
+            final ArgumentCaptor<ListOptions> options = ArgumentCaptor.forClass(ListOptions.class);
+            when(client.get(eq("/api/v1/namespaces"), options.capture()))
+                    .thenReturn(new HttpResponse(200, LIST_BODY, Map.of()));
+
+            final List<PartialObjectMetadata> items = manager.list();
+
+            assertThat(options.getValue().isMetadataOnly()).isTrue();
+            assertThat(items).hasSize(2);
+        }
+
+        @Test
+        void shouldWatchAsMetadataOnly() throws Exception {
+            final ArgumentCaptor<WatchOptions> options = ArgumentCaptor.forClass(WatchOptions.class);
+            when(client.watch(eq("/api/v1/namespaces"), options.capture(), any())).thenReturn(Mockito.mock(StreamHandle.class));
+
+            manager.watch(null, event -> { });
+
+            verify(client).watch(eq("/api/v1/namespaces"), any(), any());
+            assertThat(options.getValue().isMetadataOnly()).isTrue();
+        }
+    }
+}
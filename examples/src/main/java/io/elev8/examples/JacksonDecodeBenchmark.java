@@ -0,0 +1,126 @@
+package io.elev8.examples;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.elev8.core.watch.WatchEvent;
+import io.elev8.resources.AbstractResource;
+import io.elev8.resources.ResourceCodec;
+import io.elev8.resources.ResourceList;
+import io.elev8.resources.pod.Pod;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the decode throughput of Pod lists and Pod watch events through the shared ObjectMapper,
+ * constructing the parametric type for every document as the managers used to, with the cached
+ * readers of {@link ResourceCodec}.
+ *
+ * Each variant is warmed up first and then timed over several rounds; the best round is reported.
+ * Pass --blackbird to register Jackson's Blackbird module first (requires
+ * com.fasterxml.jackson.module:jackson-module-blackbird on the classpath).
+ *
+ * Usage: JacksonDecodeBenchmark [pod-count] [rounds] [--blackbird]
+ * Run with a fixed heap (for example -Xms1g -Xmx1g) for stable numbers.
+ */
+public class JacksonDecodeBenchmark {
+
+    private static final int LIST_SIZE = 500;
+
+    public static void main(String[] args) throws Exception {
+        int podCount = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        if (List.of(args).contains("--blackbird") && !ResourceCodec.registerBlackbird()) {
+            System.out.println("Blackbird is not on the classpath, running without it");
+        }
+
+        List<String> lists = new ArrayList<>();
+        List<String> events = new ArrayList<>(podCount);
+        StringBuilder list = new StringBuilder();
+        for (int i = 0; i < podCount; i++) {
+            String pod = podJson(i);
+            events.add("{\"type\":\"MODIFIED\",\"object\":" + pod + "}");
+            list.append(list.isEmpty() ? "" : ",").append(pod);
+            if ((i + 1) % LIST_SIZE == 0 || i == podCount - 1) {
+                lists.add("{\"apiVersion\":\"v1\",\"kind\":\"PodList\",\"metadata\":{\"resourceVersion\":\""
+                        + i + "\"},\"items\":[" + list + "]}");
+                list.setLength(0);
+            }
+        }
+
+        ObjectMapper mapper = AbstractResource.getObjectMapper();
+        ResourceCodec<Pod> codec = ResourceCodec.forType(Pod.class);
+
+        report("Pod lists, ObjectMapper", podCount, rounds, () -> {
+            int decoded = 0;
+            for (String document : lists) {
+                JavaType type = mapper.getTypeFactory().constructParametricType(ResourceList.class, Pod.class);
+                ResourceList<Pod> pods = mapper.readValue(document, type);
+                decoded += pods.getItems().size();
+            }
+            return decoded;
+        });
+        report("Pod lists, ResourceCodec", podCount, rounds, () -> {
+            int decoded = 0;
+            for (String document : lists) {
+                decoded += codec.readList(document).getItems().size();
+            }
+            return decoded;
+        });
+        report("Watch events, ObjectMapper", podCount, rounds, () -> {
+            int decoded = 0;
+            for (String line : events) {
+                JavaType type = mapper.getTypeFactory().constructParametricType(WatchEvent.class, Pod.class);
+                WatchEvent<Pod> event = mapper.readValue(line, type);
+                decoded += event.getObject() != null ? 1 : 0;
+            }
+            return decoded;
+        });
+        report("Watch events, ResourceCodec", podCount, rounds, () -> {
+            int decoded = 0;
+            for (String line : events) {
+                decoded += codec.readWatchEvent(line).getObject() != null ? 1 : 0;
+            }
+            return decoded;
+        });
+    }
+
+    private interface Decode {
+        int run() throws Exception;
+    }
+
+    private static void report(String name, int podCount, int rounds, Decode decode) throws Exception {
+        // Warm up so class loading and JIT do not skew the measurement
+        decode.run();
+        decode.run();
+
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            int decoded = decode.run();
+            best = Math.min(best, System.nanoTime() - start);
+            if (decoded != podCount) {
+                throw new IllegalStateException("Decoded " + decoded + " of " + podCount + " pods");
+            }
+        }
+        System.out.printf("%-30s %,12.0f pods/s%n", name + ":", podCount / (best / 1e9));
+    }
+
+    private static String podJson(int index) {
+        String app = "service-" + index % 400;
+        return """
+                {"apiVersion": "v1", "kind": "Pod",
+                 "metadata": {"name": "%1$s-%2$08x", "namespace": "team-%3$d",
+                              "uid": "00000000-0000-0000-0000-%2$012x", "resourceVersion": "%2$d",
+                              "labels": {"app.kubernetes.io/name": "%1$s", "environment": "production"},
+                              "annotations": {"prometheus.io/scrape": "true", "prometheus.io/port": "8080"}},
+                 "spec": {"nodeName": "node-%4$d", "serviceAccountName": "%1$s", "restartPolicy": "Always",
+                          "containers": [
+                            {"name": "app", "image": "registry.example.com/%1$s:v1", "imagePullPolicy": "IfNotPresent"}]},
+                 "status": {"phase": "Running", "podIP": "10.1.%5$d.%6$d",
+                            "containerStatuses": [
+                              {"name": "app", "ready": true, "restartCount": 0,
+                               "image": "registry.example.com/%1$s:v1"}]}}
+                """.formatted(app, index, index % 40, index % 200, (index / 256) % 256, index % 256);
+    }
+}
@@ -0,0 +1,118 @@
+package io.elev8.examples;
+
+import io.elev8.resources.AbstractResource;
+import io.elev8.resources.KubernetesResource;
+import io.elev8.resources.ResourceTransformer;
+import io.elev8.resources.ResourceTransformers;
+import io.elev8.resources.StringInterner;
+import io.elev8.resources.pod.Pod;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures how much heap a Pod informer cache saves with {@link ResourceTransformers#internStrings()}.
+ *
+ * Decodes the same set of synthetic Pods twice, once as decoded and once through the interning
+ * transformer, keeps them all reachable like an informer cache would, and reports the retained heap
+ * of each after a full GC. The Pods look like a typical cluster: a few dozen namespaces, deployments
+ * and images spread over a couple of hundred nodes.
+ *
+ * Usage: StringInterningBenchmark [pod-count]
+ * Run with a fixed heap (for example -Xms1g -Xmx1g) for stable numbers.
+ */
+public class StringInterningBenchmark {
+
+    private static final int NAMESPACES = 40;
+    private static final int DEPLOYMENTS_PER_NAMESPACE = 10;
+    private static final int NODES = 200;
+
+    public static void main(String[] args) throws Exception {
+        int podCount = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+
+        List<String> documents = new ArrayList<>(podCount);
+        for (int i = 0; i < podCount; i++) {
+            documents.add(podJson(i));
+        }
+
+        // Warm up the decoder so class loading and JIT do not skew the first measurement
+        decodeAll(documents.subList(0, Math.min(1_000, podCount)), null);
+
+        long plain = retainedBytes(documents, null);
+        long interned = retainedBytes(documents, ResourceTransformers.internStrings(
+                new StringInterner(StringInterner.DEFAULT_CAPACITY, StringInterner.DEFAULT_MAX_LENGTH)));
+
+        System.out.printf("Pods:                 %,d%n", podCount);
+        System.out.printf("Retained, decoded:    %,.1f MiB (%,d bytes per pod)%n", mib(plain), plain / podCount);
+        System.out.printf("Retained, interned:   %,.1f MiB (%,d bytes per pod)%n", mib(interned), interned / podCount);
+        System.out.printf("Saved:                %,.1f MiB (%.1f%%)%n",
+                mib(plain - interned), 100.0 * (plain - interned) / plain);
+    }
+
+    private static long retainedBytes(List<String> documents,
+                                      ResourceTransformer<KubernetesResource> transformer) throws Exception {
+        long before = usedHeapAfterGc();
+        List<Pod> cache = decodeAll(documents, transformer);
+        long after = usedHeapAfterGc();
+        if (cache.size() != documents.size()) {
+            throw new IllegalStateException("Decoded " + cache.size() + " of " + documents.size() + " pods");
+        }
+        return after - before;
+    }
+
+    private static List<Pod> decodeAll(List<String> documents,
+                                       ResourceTransformer<KubernetesResource> transformer) throws Exception {
+        List<Pod> pods = new ArrayList<>(documents.size());
+        for (String document : documents) {
+            Pod pod = AbstractResource.getObjectMapper().readValue(document, Pod.class);
+            pods.add(ResourceTransformer.apply(transformer, pod));
+        }
+        return pods;
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(50);
+            used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+
+    private static String podJson(int index) {
+        int namespace = index % NAMESPACES;
+        int deployment = (index / NAMESPACES) % DEPLOYMENTS_PER_NAMESPACE;
+        String app = "service-" + namespace + "-" + deployment;
+        String image = "123456789012.dkr.ecr.us-east-1.amazonaws.com/" + app + ":v1." + deployment;
+        String node = "ip-10-0-" + (index % NODES) / 256 + "-" + (index % NODES) % 256
+                + ".us-east-1.compute.internal";
+        return """
+                {"apiVersion": "v1", "kind": "Pod",
+                 "metadata": {"name": "%1$s-%2$08x", "namespace": "team-%3$d",
+                              "uid": "00000000-0000-0000-0000-%2$012x", "resourceVersion": "%2$d",
+                              "labels": {"app.kubernetes.io/name": "%1$s", "app.kubernetes.io/part-of": "team-%3$d",
+                                         "pod-template-hash": "%4$08x", "environment": "production"},
+                              "annotations": {"kubernetes.io/psp": "eks.privileged",
+                                              "prometheus.io/scrape": "true", "prometheus.io/port": "8080"}},
+                 "spec": {"nodeName": "%5$s", "serviceAccountName": "%1$s", "restartPolicy": "Always",
+                          "containers": [
+                            {"name": "app", "image": "%6$s", "imagePullPolicy": "IfNotPresent"},
+                            {"name": "envoy", "image": "public.ecr.aws/appmesh/aws-appmesh-envoy:v1.27.0.0",
+                             "imagePullPolicy": "IfNotPresent"}]},
+                 "status": {"phase": "Running", "hostIP": "10.0.%7$d.%8$d", "podIP": "10.1.%9$d.%10$d",
+                            "containerStatuses": [
+                              {"name": "app", "ready": true, "restartCount": 0, "image": "%6$s"},
+                              {"name": "envoy", "ready": true, "restartCount": 0,
+                               "image": "public.ecr.aws/appmesh/aws-appmesh-envoy:v1.27.0.0"}]}}
+                """.formatted(app, index, namespace, app.hashCode(), node, image,
+                (index % NODES) / 256, (index % NODES) % 256, (index / 256) % 256, index % 256);
+    }
+
+    private static double mib(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+}